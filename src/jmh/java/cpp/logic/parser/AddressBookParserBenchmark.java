@@ -0,0 +1,59 @@
+package cpp.logic.parser;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+import cpp.logic.commands.Command;
+
+/**
+ * Measures how long {@code AddressBookParser} takes to parse a command, for
+ * every command word.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class AddressBookParserBenchmark {
+
+    @Param({
+        "addcontact n/John Doe p/98765432 e/johnd@example.com a/311, Clementi Ave 2, #02-25 t/friends owesMoney",
+        "editcontact 2 n/James Lee e/jameslee@example.com",
+        "editclass 1 c/CS2103T T10 2",
+        "editass 1 ass/Assignment 2 d/20-12-2026 23:59",
+        "delete ct/1 2 3",
+        "clear",
+        "findcontact n/alice",
+        "findclass c/CS2103T",
+        "findass ds/31-12-2024 23:59 de/02-01-2025 23:59",
+        "list contacts",
+        "exit",
+        "help",
+        "addass ass/Assignment 4 d/15-01-2024 23:59 c/CS2103T T10 1 ct/4 5",
+        "allocass ass/Assignment 3 c/CS2103T T10 1 ct/1 2 3",
+        "unallocass ass/Assignment 3 c/CS2103T T10 1 ct/1 2 3",
+        "submit ass/Assignment 3 c/CS2103T T10 1 ct/1 2 3 d/21-02-2026 23:50",
+        "unsubmit ass/Assignment 3 c/CS2103T T10 1 ct/1 2 3",
+        "archiveass 1",
+        "unarchiveass 1",
+        "grade ass/Assignment 3 c/CS2103T T10 1 ct/1 2 3 s/67.9 d/21-02-2026 23:50",
+        "ungrade ass/Assignment 3 c/CS2103T T10 1 ct/1 2 3",
+        "addclass c/CS2103T T10 1 ct/1 2 3",
+        "allocclass c/CS2103T T10 1 ct/1 2 3",
+        "unallocclass c/CS2103T T10 1 ct/1 2 3",
+        "view ass/Assignment 1"
+    })
+    public String userInput;
+
+    private final AddressBookParser parser = new AddressBookParser();
+
+    @Benchmark
+    public Command parseCommand() throws Exception {
+        return this.parser.parseCommand(this.userInput);
+    }
+}
@@ -0,0 +1,82 @@
+package cpp.logic.parser;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Measures how long {@code ArgumentTokenizer} takes to split arguments by
+ * prefix. {@link #tokenizeLongArgs} tokenizes arguments of growing length,
+ * either a long list of contact indices or many repeated prefixes, where the
+ * time per item should stay flat, as the arguments are scanned once
+ * regardless of their length.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ArgumentTokenizerBenchmark {
+
+    private static final Prefix[] PREFIXES = {
+        CliSyntax.PREFIX_NAME, CliSyntax.PREFIX_PHONE, CliSyntax.PREFIX_EMAIL, CliSyntax.PREFIX_ADDRESS,
+        CliSyntax.PREFIX_TAG, CliSyntax.PREFIX_DATETIME, CliSyntax.PREFIX_DATETIME_START,
+        CliSyntax.PREFIX_DATETIME_END, CliSyntax.PREFIX_CLASS, CliSyntax.PREFIX_CONTACT,
+        CliSyntax.PREFIX_ASSIGNMENT, CliSyntax.PREFIX_SCORE, CliSyntax.PREFIX_STATUS
+    };
+
+    @Param({
+        " 1",
+        " ass/Assignment 3 c/CS2103T T10 1 ct/1 2 3 s/67.9 d/21-02-2026 23:50",
+        " n/John Doe p/98765432 e/johnd@example.com a/311, Clementi Ave 2, #02-25 t/friends owesMoney tutor"
+    })
+    public String argsString;
+
+    @Benchmark
+    public ArgumentMultimap tokenize() {
+        return ArgumentTokenizer.tokenize(this.argsString, ArgumentTokenizerBenchmark.PREFIXES);
+    }
+
+    @Benchmark
+    public ArgumentMultimap tokenizeLongArgs(LongArgs longArgs) {
+        return ArgumentTokenizer.tokenize(longArgs.argsString, ArgumentTokenizerBenchmark.PREFIXES);
+    }
+
+    /**
+     * Arguments with {@code itemCount} items, either contact indices, e.g.
+     * {@code ass/Assignment 1 c/CS2103T T10 ct/1 2 3 ... 500}, or tags, e.g.
+     * {@code n/John Doe t/tag1 t/tag2 ... t/tag500}.
+     */
+    @State(Scope.Benchmark)
+    public static class LongArgs {
+
+        @Param({"indices", "tags"})
+        public String shape;
+
+        @Param({"10", "100", "1000", "10000"})
+        public int itemCount;
+
+        private String argsString;
+
+        @Setup
+        public void setUp() {
+            boolean isIndices = this.shape.equals("indices");
+            StringBuilder builder = new StringBuilder(isIndices
+                    ? " ass/Assignment 1 c/CS2103T T10 ct/"
+                    : " n/John Doe");
+            for (int i = 1; i <= this.itemCount; i++) {
+                if (isIndices) {
+                    builder.append(i).append(' ');
+                } else {
+                    builder.append(' ').append(CliSyntax.PREFIX_TAG).append("tag").append(i);
+                }
+            }
+            this.argsString = builder.toString();
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package cpp.model;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import cpp.model.assignment.Assignment;
+import cpp.model.contact.Contact;
+import cpp.model.contact.ContactNameContainsKeywordsPredicate;
+import cpp.testutil.SyntheticData;
+
+/**
+ * Measures updating the predicates of the filtered lists in
+ * {@code ModelManager}, as the find and list commands do.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ModelManagerBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    public int contactCount;
+
+    private ModelManager model;
+
+    @Setup
+    public void setUp() {
+        this.model = new ModelManager(SyntheticData.getAddressBook(this.contactCount, 200, 50, 5), new UserPrefs());
+    }
+
+    /**
+     * Filters the contacts by name, then shows them all again.
+     */
+    @Benchmark
+    public int filterContactsByName() {
+        this.model.updateFilteredContactList(new ContactNameContainsKeywordsPredicate("Student 12"));
+        int matches = this.model.getFilteredContactList().size();
+        this.model.updateFilteredContactList(Model.PREDICATE_SHOW_ALL_CONTACTS);
+        return matches;
+    }
+
+    /**
+     * Filters the assignments by name, then shows them all again.
+     */
+    @Benchmark
+    public int filterAssignmentsByName() {
+        this.model.updateFilteredAssignmentList((Assignment assignment) ->
+                assignment.getName().fullName.startsWith("Assignment 1"));
+        int matches = this.model.getFilteredAssignmentList().size();
+        this.model.updateFilteredAssignmentList(Model.PREDICATE_SHOW_ALL_ASSIGNMENTS);
+        return matches;
+    }
+
+    /**
+     * Shows every contact again, when every contact is already shown.
+     */
+    @Benchmark
+    public int showAllContacts() {
+        this.model.updateFilteredContactList((Contact contact) -> true);
+        return this.model.getFilteredContactList().size();
+    }
+}
@@ -0,0 +1,49 @@
+package cpp.model.assignment;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import cpp.model.AddressBook;
+import cpp.testutil.SyntheticData;
+
+/**
+ * Measures registering and deregistering contact assignments with an
+ * {@code AssignmentManager} that already holds many of them.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class AssignmentManagerBenchmark {
+
+    @Param({"1000", "10000"})
+    public int contactCount;
+
+    private AssignmentManager assignmentManager;
+    private ContactAssignment newRow;
+
+    @Setup
+    public void setUp() {
+        AddressBook addressBook = SyntheticData.getAddressBook(this.contactCount, 20, 0, 10);
+        this.assignmentManager = new AssignmentManager(addressBook.getContactAssignmentList());
+        // the synthetic data only allocates each contact the 10 assignments after it
+        this.newRow = new ContactAssignment(SyntheticData.getId("assignment", 15), SyntheticData.getId("contact", 0));
+    }
+
+    /**
+     * Registers a new contact assignment, then deregisters it so that every
+     * invocation starts from the same state.
+     */
+    @Benchmark
+    public void registerThenDeregister() {
+        this.assignmentManager.registerContactAssignment(this.newRow);
+        this.assignmentManager.deregisterContactAssignment(this.newRow);
+    }
+}
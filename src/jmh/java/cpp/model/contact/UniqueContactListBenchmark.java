@@ -0,0 +1,64 @@
+package cpp.model.contact;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import cpp.testutil.SyntheticData;
+
+/**
+ * Measures {@code UniqueContactList} at different sizes.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class UniqueContactListBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    public int size;
+
+    private List<Contact> contacts;
+    private UniqueContactList filledList;
+    private Contact present;
+    private Contact absent;
+
+    @Setup
+    public void setUp() {
+        this.contacts = SyntheticData.getContacts(this.size + 1);
+        this.absent = this.contacts.remove(this.size);
+        this.present = this.contacts.get(this.size / 2);
+
+        this.filledList = new UniqueContactList();
+        this.filledList.setContacts(this.contacts);
+    }
+
+    /**
+     * Adds every contact to an empty list, one at a time.
+     */
+    @Benchmark
+    public UniqueContactList addAll() {
+        UniqueContactList list = new UniqueContactList();
+        for (Contact contact : this.contacts) {
+            list.add(contact);
+        }
+        return list;
+    }
+
+    @Benchmark
+    public boolean containsPresent() {
+        return this.filledList.contains(this.present);
+    }
+
+    @Benchmark
+    public boolean containsAbsent() {
+        return this.filledList.contains(this.absent);
+    }
+}
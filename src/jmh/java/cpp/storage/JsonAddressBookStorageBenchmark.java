@@ -0,0 +1,65 @@
+package cpp.storage;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import cpp.model.AddressBook;
+import cpp.model.ReadOnlyAddressBook;
+import cpp.testutil.SyntheticData;
+
+/**
+ * Measures reading and writing address books of different sizes with
+ * {@code JsonAddressBookStorage}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class JsonAddressBookStorageBenchmark {
+
+    @Param({"100", "1000", "10000"})
+    public int contactCount;
+
+    private Path folder;
+    private JsonAddressBookStorage readStorage;
+    private JsonAddressBookStorage writeStorage;
+    private AddressBook addressBook;
+
+    @Setup
+    public void setUp() throws IOException {
+        this.addressBook = SyntheticData.getAddressBook(this.contactCount, 40, this.contactCount / 20 + 1, 10);
+        this.folder = Files.createTempDirectory("JsonAddressBookStorageBenchmark");
+        this.readStorage = new JsonAddressBookStorage(this.folder.resolve("read.json"));
+        this.readStorage.saveAddressBook(this.addressBook);
+        this.writeStorage = new JsonAddressBookStorage(this.folder.resolve("write.json"));
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(this.readStorage.getAddressBookFilePath());
+        Files.deleteIfExists(this.writeStorage.getAddressBookFilePath());
+        Files.deleteIfExists(this.folder);
+    }
+
+    @Benchmark
+    public Optional<ReadOnlyAddressBook> read() throws Exception {
+        return this.readStorage.readAddressBook();
+    }
+
+    @Benchmark
+    public void write() throws IOException {
+        this.writeStorage.saveAddressBook(this.addressBook);
+    }
+}
@@ -0,0 +1,113 @@
+package cpp.testutil;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import cpp.model.AddressBook;
+import cpp.model.assignment.Assignment;
+import cpp.model.assignment.ContactAssignment;
+import cpp.model.classgroup.ClassGroup;
+import cpp.model.contact.Contact;
+
+/**
+ * A utility class that builds large address books for benchmarks.
+ * The same arguments always give the same data, including ids.
+ */
+public class SyntheticData {
+
+    private static final DateTimeFormatter DEADLINE_FORMATTER = DateTimeFormatter.ofPattern("dd-MM-yyyy HH:mm");
+    private static final LocalDateTime FIRST_DEADLINE = LocalDateTime.of(2026, 1, 12, 23, 59);
+
+    /**
+     * Returns an id that is the same every time it is asked for with the same
+     * {@code kind} and {@code index}.
+     */
+    public static String getId(String kind, int index) {
+        return UUID.nameUUIDFromBytes((kind + index).getBytes(StandardCharsets.UTF_8)).toString();
+    }
+
+    /**
+     * Returns {@code count} contacts with distinct names.
+     */
+    public static List<Contact> getContacts(int count) {
+        List<Contact> contacts = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            contacts.add(new ContactBuilder()
+                    .withId(SyntheticData.getId("contact", i))
+                    .withName("Student " + i)
+                    .withPhone(String.format("9%07d", i))
+                    .withEmail("student" + i + "@example.com")
+                    .withAddress("Block " + i + ", Clementi Ave 2")
+                    .withTags(i % 2 == 0 ? "even" : "odd")
+                    .build());
+        }
+        return contacts;
+    }
+
+    /**
+     * Returns {@code count} assignments with distinct names, due a week apart.
+     */
+    public static List<Assignment> getAssignments(int count) {
+        List<Assignment> assignments = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            assignments.add(new AssignmentBuilder()
+                    .withId(SyntheticData.getId("assignment", i))
+                    .withName("Assignment " + i)
+                    .withDeadline(SyntheticData.FIRST_DEADLINE.plusWeeks(i).format(SyntheticData.DEADLINE_FORMATTER))
+                    .build());
+        }
+        return assignments;
+    }
+
+    /**
+     * Returns {@code count} class groups with distinct names. The contacts are
+     * dealt out to the class groups in turn.
+     */
+    public static List<ClassGroup> getClassGroups(int count, List<Contact> contacts) {
+        List<ClassGroup> classGroups = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            List<String> contactIds = new ArrayList<>();
+            for (int j = i; j < contacts.size(); j += count) {
+                contactIds.add(contacts.get(j).getId());
+            }
+            classGroups.add(new ClassGroupBuilder()
+                    .withId(SyntheticData.getId("classgroup", i))
+                    .withName("Class " + i)
+                    .withContactIds(contactIds.toArray(String[]::new))
+                    .build());
+        }
+        return classGroups;
+    }
+
+    /**
+     * Returns an address book with {@code contactCount} contacts,
+     * {@code assignmentCount} assignments and {@code classGroupCount} class
+     * groups, where each contact is allocated up to
+     * {@code assignmentsPerContact} assignments.
+     */
+    public static AddressBook getAddressBook(int contactCount, int assignmentCount, int classGroupCount,
+            int assignmentsPerContact) {
+        List<Contact> contacts = SyntheticData.getContacts(contactCount);
+        List<Assignment> assignments = SyntheticData.getAssignments(assignmentCount);
+
+        List<ContactAssignment> contactAssignments = new ArrayList<>();
+        int allocations = Math.min(assignmentsPerContact, assignmentCount);
+        for (int i = 0; i < contactCount; i++) {
+            for (int j = 0; j < allocations; j++) {
+                Assignment assignment = assignments.get((i + j) % assignmentCount);
+                contactAssignments.add(new ContactAssignment(assignment.getId(), contacts.get(i).getId()));
+            }
+        }
+
+        AddressBook addressBook = new AddressBook();
+        addressBook.setContacts(contacts);
+        addressBook.setAssignments(assignments);
+        addressBook.setContactAssignments(contactAssignments);
+        addressBook.setClassGroups(SyntheticData.getClassGroups(classGroupCount, contacts));
+        return addressBook;
+    }
+}
@@ -18,6 +18,7 @@ public class AppParameters {
     private static final Logger logger = LogsCenter.getLogger(AppParameters.class);
 
     private Path configPath;
+    private Path startupProfilePath;
 
     public Path getConfigPath() {
         return this.configPath;
@@ -27,6 +28,14 @@ public class AppParameters {
         this.configPath = configPath;
     }
 
+    public Path getStartupProfilePath() {
+        return this.startupProfilePath;
+    }
+
+    public void setStartupProfilePath(Path startupProfilePath) {
+        this.startupProfilePath = startupProfilePath;
+    }
+
     /**
      * Parses the application command-line parameters.
      */
@@ -41,6 +50,15 @@ public class AppParameters {
         }
         appParameters.setConfigPath(configPathParameter != null ? Paths.get(configPathParameter) : null);
 
+        String startupProfilePathParameter = namedParameters.get("startup-profile");
+        if (startupProfilePathParameter != null && !FileUtil.isValidPath(startupProfilePathParameter)) {
+            AppParameters.logger.warning("Invalid startup profile path " + startupProfilePathParameter
+                    + ". The startup profile will not be saved.");
+            startupProfilePathParameter = null;
+        }
+        appParameters.setStartupProfilePath(
+                startupProfilePathParameter != null ? Paths.get(startupProfilePathParameter) : null);
+
         return appParameters;
     }
 
@@ -56,18 +74,20 @@ public class AppParameters {
         }
 
         AppParameters otherAppParameters = (AppParameters) other;
-        return Objects.equals(this.configPath, otherAppParameters.configPath);
+        return Objects.equals(this.configPath, otherAppParameters.configPath)
+                && Objects.equals(this.startupProfilePath, otherAppParameters.startupProfilePath);
     }
 
     @Override
     public int hashCode() {
-        return this.configPath.hashCode();
+        return Objects.hash(this.configPath, this.startupProfilePath);
     }
 
     @Override
     public String toString() {
         return new ToStringBuilder(this)
                 .add("configPath", this.configPath)
+                .add("startupProfilePath", this.startupProfilePath)
                 .toString();
     }
 }
@@ -0,0 +1,177 @@
+package cpp;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.logging.Level;
+
+import cpp.commons.core.Config;
+import cpp.commons.core.LogsCenter;
+import cpp.commons.core.StorageFormat;
+import cpp.logic.Logic;
+import cpp.logic.LogicManager;
+import cpp.logic.commands.exceptions.CommandException;
+import cpp.logic.parser.exceptions.ParseException;
+import cpp.model.AddressBook;
+import cpp.model.ModelManager;
+import cpp.model.UserPrefs;
+import cpp.model.util.SyntheticDataGenerator;
+import cpp.storage.AddressBookStorage;
+import cpp.storage.JsonUserPrefsStorage;
+import cpp.storage.StorageManager;
+
+/**
+ * Generates a large address book and measures how long commands take on it,
+ * without starting the GUI.
+ *
+ * The generated address book is written to {@code addressbook.json} in the
+ * output folder, with the same storage as the app and in the given format, and
+ * can be copied into {@code data/} to try it out in the app. Commands are read
+ * from a script with one command per line, or taken from a built-in mix of
+ * common commands, and run a number of rounds. The latency of each command
+ * word is then reported as percentiles.
+ *
+ * Usage: {@code java -cp cpp.jar cpp.LoadTest [--seed=42] [--contacts=2000]
+ * [--assignments=40] [--classes=20] [--allocation=0.8] [--submission=0.6]
+ * [--grade=0.5] [--rounds=20] [--script=FILE] [--output=FOLDER]
+ * [--format=json]}
+ */
+public class LoadTest {
+
+    public static final String MESSAGE_USAGE = "Usage: LoadTest [--seed=42] [--contacts=2000] [--assignments=40]"
+            + " [--classes=20] [--allocation=0.8] [--submission=0.6] [--grade=0.5] [--rounds=20]"
+            + " [--script=FILE] [--output=FOLDER] [--format=json|binary]";
+
+    // Refers to the names that SyntheticDataGenerator gives to assignments and class groups.
+    private static final List<String> DEFAULT_SCRIPT = List.of(
+            "list contacts",
+            "findcontact n/Tan",
+            "view ct/1",
+            "list contacts",
+            "editcontact 1 p/91234567",
+            "list assignments",
+            "findass ass/Assignment 1",
+            "view ass/Assignment 1",
+            "unallocass ass/Assignment 1 ct/1 2 3",
+            "allocass ass/Assignment 1 ct/1 2 3",
+            "submit ass/Assignment 1 ct/1 2 3",
+            "grade ass/Assignment 1 ct/1 2 3 s/75",
+            "ungrade ass/Assignment 1 ct/1 2 3",
+            "unsubmit ass/Assignment 1 ct/1 2 3",
+            "list classes",
+            "view c/Class 1",
+            "allocclass c/Class 1 ct/1 2 3",
+            "unallocclass c/Class 1 ct/1 2 3");
+
+    private static final double[] PERCENTILES = {50, 90, 99};
+    private static final double NANOS_PER_MILLI = 1_000_000.0;
+
+    /**
+     * Runs the load test with the given command-line arguments.
+     */
+    public static void main(String[] args) throws IOException {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            int separator = arg.indexOf('=');
+            if (!arg.startsWith("--") || separator < 0) {
+                System.err.println(LoadTest.MESSAGE_USAGE);
+                System.exit(1);
+            }
+            options.put(arg.substring(2, separator), arg.substring(separator + 1));
+        }
+
+        // Keep per-command logging out of the measurements.
+        Config config = new Config();
+        config.setLogLevel(Level.WARNING);
+        LogsCenter.init(config);
+
+        SyntheticDataGenerator generator = new SyntheticDataGenerator(
+                Long.parseLong(options.getOrDefault("seed", "42")))
+                .withCounts(Integer.parseInt(options.getOrDefault("contacts", "2000")),
+                        Integer.parseInt(options.getOrDefault("assignments", "40")),
+                        Integer.parseInt(options.getOrDefault("classes", "20")))
+                .withDensities(Double.parseDouble(options.getOrDefault("allocation", "0.8")),
+                        Double.parseDouble(options.getOrDefault("submission", "0.6")),
+                        Double.parseDouble(options.getOrDefault("grade", "0.5")));
+        int rounds = Integer.parseInt(options.getOrDefault("rounds", "20"));
+        List<String> script = options.containsKey("script")
+                ? LoadTest.readScript(Paths.get(options.get("script")))
+                : LoadTest.DEFAULT_SCRIPT;
+        Path outputFolder = Paths.get(options.getOrDefault("output", "build/loadtest"));
+        UserPrefs userPrefs = new UserPrefs();
+        userPrefs.setAddressBookFilePath(outputFolder.resolve("addressbook.json"));
+        userPrefs.setAddressBookFormat(StorageFormat.valueOf(
+                options.getOrDefault("format", "json").toUpperCase(Locale.ROOT)));
+
+        AddressBook addressBook = generator.generate();
+        AddressBookStorage addressBookStorage = StorageManager.createAddressBookStorage(userPrefs);
+        addressBookStorage.saveAddressBook(addressBook);
+        System.out.println("Generated " + generator + " to " + addressBookStorage.getAddressBookFilePath());
+
+        StorageManager storage = new StorageManager(addressBookStorage,
+                new JsonUserPrefsStorage(outputFolder.resolve("preferences.json")), true);
+        Logic logic = new LogicManager(new ModelManager(addressBook, userPrefs), storage);
+
+        Map<String, List<Long>> latencies = new LinkedHashMap<>();
+        Map<String, Integer> failures = new HashMap<>();
+        for (int round = 0; round < rounds; round++) {
+            for (String commandText : script) {
+                String commandWord = commandText.trim().split("\\s+")[0];
+                long start = System.nanoTime();
+                try {
+                    logic.execute(commandText);
+                } catch (CommandException | ParseException e) {
+                    failures.merge(commandWord, 1, Integer::sum);
+                }
+                latencies.computeIfAbsent(commandWord, unused -> new ArrayList<>()).add(System.nanoTime() - start);
+            }
+        }
+        storage.flushAddressBook();
+
+        System.out.println(String.format("%-14s %6s %7s %10s %10s %10s %10s", "command", "runs", "failed",
+                "p50 (ms)", "p90 (ms)", "p99 (ms)", "max (ms)"));
+        for (Map.Entry<String, List<Long>> entry : latencies.entrySet()) {
+            List<Long> sorted = new ArrayList<>(entry.getValue());
+            Collections.sort(sorted);
+            StringBuilder line = new StringBuilder(String.format("%-14s %6d %7d", entry.getKey(), sorted.size(),
+                    failures.getOrDefault(entry.getKey(), 0)));
+            for (double percentile : LoadTest.PERCENTILES) {
+                line.append(String.format(" %10.3f", LoadTest.getPercentile(sorted, percentile)
+                        / LoadTest.NANOS_PER_MILLI));
+            }
+            line.append(String.format(" %10.3f", sorted.get(sorted.size() - 1) / LoadTest.NANOS_PER_MILLI));
+            System.out.println(line);
+        }
+    }
+
+    /**
+     * Returns the commands in the script at {@code filePath}, leaving out blank
+     * lines and lines starting with {@code #}.
+     */
+    static List<String> readScript(Path filePath) throws IOException {
+        List<String> script = new ArrayList<>();
+        for (String line : Files.readAllLines(filePath)) {
+            if (!line.isBlank() && !line.trim().startsWith("#")) {
+                script.add(line.trim());
+            }
+        }
+        return script;
+    }
+
+    /**
+     * Returns the {@code percentile}th percentile of {@code sortedValues} by the
+     * nearest-rank method. {@code sortedValues} must be sorted and not empty.
+     */
+    static long getPercentile(List<Long> sortedValues, double percentile) {
+        int rank = (int) Math.ceil(percentile / 100 * sortedValues.size());
+        return sortedValues.get(Math.max(rank, 1) - 1);
+    }
+}
@@ -8,6 +8,7 @@ import java.util.logging.Logger;
 
 import cpp.commons.core.Config;
 import cpp.commons.core.LogsCenter;
+import cpp.commons.core.StartupProfiler;
 import cpp.commons.core.Version;
 import cpp.commons.exceptions.DataLoadingException;
 import cpp.commons.util.ConfigUtil;
@@ -23,7 +24,6 @@ import cpp.model.ReadOnlyUserPrefs;
 import cpp.model.UserPrefs;
 import cpp.model.util.SampleDataUtil;
 import cpp.storage.AddressBookStorage;
-import cpp.storage.JsonAddressBookStorage;
 import cpp.storage.JsonUserPrefsStorage;
 import cpp.storage.Storage;
 import cpp.storage.StorageManager;
@@ -48,6 +48,9 @@ public class MainApp extends Application {
     protected Model model;
     protected Config config;
 
+    private final StartupProfiler startupProfiler = new StartupProfiler();
+    private Path startupProfilePath;
+
     @Override
     public void init() throws Exception {
         MainApp.logger
@@ -55,20 +58,27 @@ public class MainApp extends Application {
         super.init();
 
         AppParameters appParameters = AppParameters.parse(this.getParameters());
+        this.startupProfilePath = appParameters.getStartupProfilePath();
         this.config = this.initConfig(appParameters.getConfigPath());
+        this.startupProfiler.record("config");
         this.initLogging(this.config);
+        this.startupProfiler.record("logging");
 
         UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(this.config.getUserPrefsFilePath());
         UserPrefs userPrefs = this.initPrefs(userPrefsStorage);
+        this.startupProfiler.record("preferences");
         ParserUtil.setDefaultZone(ZoneOffset.ofHours(userPrefs.getTimeZoneOffset()));
-        AddressBookStorage addressBookStorage = new JsonAddressBookStorage(userPrefs.getAddressBookFilePath());
-        this.storage = new StorageManager(addressBookStorage, userPrefsStorage);
+        AddressBookStorage addressBookStorage = StorageManager.createAddressBookStorage(userPrefs);
+        this.storage = new StorageManager(addressBookStorage, userPrefsStorage, true);
+        this.startupProfiler.record("storage");
 
         this.model = this.initModelManager(this.storage, userPrefs);
 
         this.logic = new LogicManager(this.model, this.storage);
+        this.startupProfiler.record("logic");
 
         this.ui = new UiManager(this.logic);
+        this.startupProfiler.record("ui");
     }
 
     /**
@@ -96,8 +106,11 @@ public class MainApp extends Application {
                     + " Will be starting with an empty AddressBook.");
             initialData = new AddressBook();
         }
+        this.startupProfiler.record("address book");
 
-        return new ModelManager(initialData, userPrefs);
+        Model initializedModel = new ModelManager(initialData, userPrefs);
+        this.startupProfiler.record("model");
+        return initializedModel;
     }
 
     private void initLogging(Config config) {
@@ -181,7 +194,27 @@ public class MainApp extends Application {
     @Override
     public void start(Stage primaryStage) {
         MainApp.logger.info("Starting ClassroomPlusPlus " + MainApp.VERSION);
+        this.startupProfiler.record("javafx launch");
         this.ui.start(primaryStage);
+        this.startupProfiler.record("main window");
+        this.reportStartup();
+    }
+
+    /**
+     * Logs how long each phase of startup took, and saves it to the startup
+     * profile file if one was given.
+     */
+    private void reportStartup() {
+        this.startupProfiler.log();
+        if (this.startupProfilePath == null) {
+            return;
+        }
+
+        try {
+            this.startupProfiler.saveAsJson(this.startupProfilePath);
+        } catch (IOException e) {
+            MainApp.logger.warning("Failed to save startup profile : " + StringUtil.getDetails(e));
+        }
     }
 
     @Override
@@ -193,5 +226,12 @@ public class MainApp extends Application {
         } catch (IOException e) {
             MainApp.logger.severe("Failed to save preferences " + StringUtil.getDetails(e));
         }
+        try {
+            this.storage.flushAddressBook();
+        } catch (IOException e) {
+            MainApp.logger.severe("Failed to save address book " + StringUtil.getDetails(e));
+        }
+        MainApp.logger.info("Address book writes this session: " + this.logic.getSavedWriteCount() + " saved, "
+                + this.logic.getSkippedWriteCount() + " skipped after read-only commands");
     }
 }
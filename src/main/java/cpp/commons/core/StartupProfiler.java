@@ -0,0 +1,189 @@
+package cpp.commons.core;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.LongSupplier;
+import java.util.logging.Logger;
+
+import cpp.commons.util.JsonUtil;
+import cpp.commons.util.ToStringBuilder;
+
+/**
+ * Records how long each phase of starting the application takes.
+ *
+ * A phase starts when the profiler is created or when the previous phase is
+ * recorded, and ends when it is recorded with {@link #record(String)}.
+ */
+public class StartupProfiler {
+
+    private static final Logger logger = LogsCenter.getLogger(StartupProfiler.class);
+
+    private static final long NANOS_PER_MILLI = 1_000_000L;
+
+    private final LongSupplier clock;
+    private final List<Phase> phases = new ArrayList<>();
+    private long phaseStart;
+
+    /**
+     * Creates a {@code StartupProfiler} whose first phase starts now.
+     */
+    public StartupProfiler() {
+        this(System::nanoTime);
+    }
+
+    /**
+     * Creates a {@code StartupProfiler} that reads the time in nanoseconds from
+     * {@code clock}.
+     */
+    StartupProfiler(LongSupplier clock) {
+        Objects.requireNonNull(clock);
+        this.clock = clock;
+        this.phaseStart = clock.getAsLong();
+    }
+
+    /**
+     * Ends the current phase, records it as {@code name}, and starts the next
+     * phase.
+     */
+    public void record(String name) {
+        Objects.requireNonNull(name);
+        long now = this.clock.getAsLong();
+        this.phases.add(new Phase(name, now - this.phaseStart));
+        this.phaseStart = now;
+    }
+
+    public List<Phase> getPhases() {
+        return Collections.unmodifiableList(this.phases);
+    }
+
+    /**
+     * Returns the total duration of the recorded phases, in nanoseconds.
+     */
+    public long getTotalNanos() {
+        long total = 0;
+        for (Phase phase : this.phases) {
+            total += phase.getDurationNanos();
+        }
+        return total;
+    }
+
+    /**
+     * Returns a single line listing the duration of every recorded phase.
+     */
+    public String getSummary() {
+        StringBuilder summary = new StringBuilder("Startup took ")
+                .append(StartupProfiler.toMillis(this.getTotalNanos())).append(" ms");
+        String separator = " (";
+        for (Phase phase : this.phases) {
+            summary.append(separator).append(phase.getName()).append(": ")
+                    .append(StartupProfiler.toMillis(phase.getDurationNanos())).append(" ms");
+            separator = ", ";
+        }
+        if (!this.phases.isEmpty()) {
+            summary.append(")");
+        }
+        return summary.toString();
+    }
+
+    /**
+     * Logs the duration of every recorded phase.
+     */
+    public void log() {
+        StartupProfiler.logger.info(this.getSummary());
+    }
+
+    /**
+     * Saves the recorded phases as Json to the file at {@code filePath}.
+     *
+     * @throws IOException if there was an error writing to the file
+     */
+    public void saveAsJson(Path filePath) throws IOException {
+        Objects.requireNonNull(filePath);
+        JsonUtil.saveJsonFile(new Report(this.getTotalNanos(), this.phases), filePath);
+    }
+
+    private static long toMillis(long nanos) {
+        return nanos / StartupProfiler.NANOS_PER_MILLI;
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("phases", this.phases)
+                .toString();
+    }
+
+    /**
+     * A recorded phase of startup. Immutable.
+     */
+    public static class Phase {
+
+        private final String name;
+        private final long durationNanos;
+
+        /**
+         * Creates a {@code Phase} called {@code name} that took
+         * {@code durationNanos} nanoseconds.
+         */
+        public Phase(String name, long durationNanos) {
+            Objects.requireNonNull(name);
+            this.name = name;
+            this.durationNanos = durationNanos;
+        }
+
+        public String getName() {
+            return this.name;
+        }
+
+        public long getDurationNanos() {
+            return this.durationNanos;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (other == this) {
+                return true;
+            }
+
+            // instanceof handles nulls
+            if (!(other instanceof Phase)) {
+                return false;
+            }
+
+            Phase otherPhase = (Phase) other;
+            return this.name.equals(otherPhase.name)
+                    && this.durationNanos == otherPhase.durationNanos;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(this.name, this.durationNanos);
+        }
+
+        @Override
+        public String toString() {
+            return new ToStringBuilder(this)
+                    .add("name", this.name)
+                    .add("durationNanos", this.durationNanos)
+                    .toString();
+        }
+    }
+
+    /**
+     * The Json form of the recorded phases.
+     */
+    private static class Report {
+
+        private final long totalNanos;
+        private final List<Phase> phases;
+
+        Report(long totalNanos, List<Phase> phases) {
+            this.totalNanos = totalNanos;
+            this.phases = new ArrayList<>(phases);
+        }
+    }
+}
@@ -0,0 +1,12 @@
+package cpp.commons.core;
+
+/**
+ * The formats the address book data file can be stored in. A data file in the
+ * other format is migrated to the chosen one when it is read.
+ */
+public enum StorageFormat {
+    /** Human-readable Json, with a change journal beside it. */
+    JSON,
+    /** Compact versioned binary snapshot. */
+    BINARY
+}
@@ -1,10 +1,18 @@
 package cpp.commons.util;
 
+import java.io.BufferedOutputStream;
+import java.io.FilterOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
 import java.nio.file.Files;
 import java.nio.file.InvalidPathException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
 
 /**
  * Writes and reads files
@@ -12,6 +20,8 @@ import java.nio.file.Paths;
 public class FileUtil {
 
     private static final String CHARSET = "UTF-8";
+    private static final String TEMP_SUFFIX = ".tmp";
+    private static final String BACKUP_SUFFIX = ".bak";
 
     public static boolean isFileExists(Path file) {
         return Files.exists(file) && Files.isRegularFile(file);
@@ -84,4 +94,136 @@ public class FileUtil {
         Files.write(file, content.getBytes(FileUtil.CHARSET));
     }
 
+    /**
+     * Writes the content produced by {@code writer} to {@code file} so that a
+     * crash at any point leaves either the old or the new content in the file,
+     * never a partial one.
+     * The content is written to a temporary file beside {@code file}, flushed to
+     * disk, and then renamed over {@code file}. Up to {@code backupCount}
+     * previous versions of {@code file} are kept.
+     *
+     * @see #replaceWithBackups(Path, Path, int)
+     */
+    public static void writeAtomically(Path file, int backupCount, OutputWriter writer) throws IOException {
+        Path tempFile = FileUtil.writeToTempFile(file, writer);
+        try {
+            FileUtil.replaceWithBackups(tempFile, file, backupCount);
+        } catch (IOException e) {
+            Files.deleteIfExists(tempFile);
+            throw e;
+        }
+    }
+
+    /**
+     * Writes the content produced by {@code writer} to a new temporary file in
+     * the same directory as {@code file}, and flushes it to disk.
+     * Creates the missing parent directories of {@code file}.
+     *
+     * @return the path of the temporary file.
+     */
+    public static Path writeToTempFile(Path file, OutputWriter writer) throws IOException {
+        Path directory = file.toAbsolutePath().getParent();
+        Files.createDirectories(directory);
+        Path tempFile = Files.createTempFile(directory, file.getFileName().toString(), FileUtil.TEMP_SUFFIX);
+
+        try (FileChannel channel = FileChannel.open(tempFile, StandardOpenOption.WRITE)) {
+            OutputStream out = new BufferedOutputStream(Channels.newOutputStream(channel));
+            writer.writeTo(new UnclosableOutputStream(out));
+            out.flush();
+            channel.force(true);
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(tempFile);
+            throw e;
+        }
+        return tempFile;
+    }
+
+    /**
+     * Renames {@code tempFile} over {@code file}, atomically where the file system
+     * supports it. The previous version of {@code file} becomes its first backup,
+     * and older backups are shifted along, keeping at most {@code backupCount}.
+     */
+    public static void replaceWithBackups(Path tempFile, Path file, int backupCount) throws IOException {
+        if (backupCount > 0 && Files.exists(file)) {
+            for (int i = backupCount - 1; i >= 1; i--) {
+                Path backup = FileUtil.getBackupPath(file, i);
+                if (Files.exists(backup)) {
+                    Files.move(backup, FileUtil.getBackupPath(file, i + 1), StandardCopyOption.REPLACE_EXISTING);
+                }
+            }
+            FileUtil.linkOrCopy(file, FileUtil.getBackupPath(file, 1));
+        }
+
+        try {
+            Files.move(tempFile, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(tempFile, file, StandardCopyOption.REPLACE_EXISTING);
+        }
+        FileUtil.forceDirectory(file.toAbsolutePath().getParent());
+    }
+
+    /**
+     * Returns the path of the {@code index}-th most recent backup of {@code file},
+     * starting from 1.
+     */
+    public static Path getBackupPath(Path file, int index) {
+        return file.resolveSibling(file.getFileName() + "." + index + FileUtil.BACKUP_SUFFIX);
+    }
+
+    /**
+     * Makes {@code target} refer to the current content of {@code source}. A hard
+     * link is used where possible, so that large files are not copied.
+     */
+    private static void linkOrCopy(Path source, Path target) throws IOException {
+        Files.deleteIfExists(target);
+        try {
+            Files.createLink(target, source);
+        } catch (IOException | UnsupportedOperationException e) {
+            Files.copy(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * Flushes the directory entry changes of {@code directory} to disk, so that a
+     * completed rename survives a crash. Not every platform allows this, in which
+     * case it is skipped.
+     */
+    private static void forceDirectory(Path directory) {
+        try (FileChannel channel = FileChannel.open(directory, StandardOpenOption.READ)) {
+            channel.force(true);
+        } catch (IOException e) {
+            // Directories cannot be opened for syncing on some platforms, e.g. Windows.
+        }
+    }
+
+    /**
+     * Writes content to an {@code OutputStream}.
+     */
+    @FunctionalInterface
+    public interface OutputWriter {
+        void writeTo(OutputStream out) throws IOException;
+    }
+
+    /**
+     * An {@code OutputStream} that only flushes the underlying stream when it is
+     * closed, so that writers which close their stream do not close the file
+     * before it is flushed to disk.
+     */
+    private static class UnclosableOutputStream extends FilterOutputStream {
+
+        UnclosableOutputStream(OutputStream out) {
+            super(out);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            this.out.write(b, off, len);
+        }
+
+        @Override
+        public void close() throws IOException {
+            this.out.flush();
+        }
+    }
+
 }
@@ -1,6 +1,8 @@
 package cpp.commons.util;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Objects;
@@ -10,6 +12,8 @@ import java.util.logging.Logger;
 
 import com.fasterxml.jackson.annotation.JsonAutoDetect;
 import com.fasterxml.jackson.annotation.PropertyAccessor;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.DeserializationFeature;
@@ -115,6 +119,34 @@ public class JsonUtil {
         return JsonUtil.objectMapper.writerWithDefaultPrettyPrinter().writeValueAsString(instance);
     }
 
+    /**
+     * Converts a given instance of a class into its JSON data string representation
+     * on a single line, without any pretty printing.
+     *
+     * @param instance The T object to be converted into the JSON string
+     * @param <T>      The generic type to create an instance of
+     * @return single-line JSON data representation of the given class instance
+     */
+    public static <T> String toCompactJsonString(T instance) throws JsonProcessingException {
+        return JsonUtil.objectMapper.writeValueAsString(instance);
+    }
+
+    /**
+     * Returns a parser that reads JSON tokens from {@code in}. Values can be
+     * bound to classes one at a time with {@link JsonParser#readValueAs(Class)}.
+     */
+    public static JsonParser createParser(InputStream in) throws IOException {
+        return JsonUtil.objectMapper.getFactory().createParser(in);
+    }
+
+    /**
+     * Returns a generator that writes JSON tokens to {@code out}. Objects can be
+     * written one at a time with {@link JsonGenerator#writeObject(Object)}.
+     */
+    public static JsonGenerator createGenerator(OutputStream out) throws IOException {
+        return JsonUtil.objectMapper.getFactory().createGenerator(out);
+    }
+
     /**
      * Contains methods that retrieve logging level from serialized string.
      */
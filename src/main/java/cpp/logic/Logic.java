@@ -31,6 +31,17 @@ public interface Logic {
      */
     CommandResult execute(String commandText) throws CommandException, ParseException;
 
+    /**
+     * Returns the number of commands after which the address book was saved.
+     */
+    int getSavedWriteCount();
+
+    /**
+     * Returns the number of read-only commands after which saving the address
+     * book was skipped.
+     */
+    int getSkippedWriteCount();
+
     /**
      * Returns the AddressBook.
      *
@@ -18,6 +18,7 @@ import cpp.model.ReadOnlyAddressBook;
 import cpp.model.assignment.Assignment;
 import cpp.model.assignment.ContactAssignmentWithAssignment;
 import cpp.model.assignment.ContactAssignmentWithContact;
+import cpp.model.assignment.exceptions.ContactAssignmentsNotLoadedException;
 import cpp.model.classgroup.ClassGroup;
 import cpp.model.contact.Contact;
 import cpp.model.view.ViewState;
@@ -40,6 +41,9 @@ public class LogicManager implements Logic {
     private final Storage storage;
     private final AddressBookParser addressBookParser;
 
+    private int savedWriteCount = 0;
+    private int skippedWriteCount = 0;
+
     /**
      * Constructs a {@code LogicManager} with the given {@code Model} and
      * {@code Storage}.
@@ -56,7 +60,18 @@ public class LogicManager implements Logic {
 
         CommandResult commandResult;
         Command command = this.addressBookParser.parseCommand(commandText);
-        commandResult = command.execute(this.model);
+        try {
+            commandResult = command.execute(this.model);
+        } catch (ContactAssignmentsNotLoadedException e) {
+            // Commands change the rows of archived assignments through the model, which refuses if they are missing.
+            throw new CommandException(e.getMessage(), e);
+        }
+
+        if (!command.isMutating()) {
+            this.skippedWriteCount++;
+            this.logWriteCounts();
+            return commandResult;
+        }
 
         try {
             this.storage.saveAddressBook(this.model.getAddressBook());
@@ -65,10 +80,27 @@ public class LogicManager implements Logic {
         } catch (IOException ioe) {
             throw new CommandException(String.format(LogicManager.FILE_OPS_ERROR_FORMAT, ioe.getMessage()), ioe);
         }
+        this.savedWriteCount++;
+        this.logWriteCounts();
 
         return commandResult;
     }
 
+    @Override
+    public int getSavedWriteCount() {
+        return this.savedWriteCount;
+    }
+
+    @Override
+    public int getSkippedWriteCount() {
+        return this.skippedWriteCount;
+    }
+
+    private void logWriteCounts() {
+        this.logger.fine("Address book writes: " + this.savedWriteCount + " saved, " + this.skippedWriteCount
+                + " skipped");
+    }
+
     @Override
     public ReadOnlyAddressBook getAddressBook() {
         return this.model.getAddressBook();
@@ -1,6 +1,5 @@
 package cpp.logic.commands;
 
-import java.util.List;
 import java.util.Objects;
 
 import cpp.commons.util.ToStringBuilder;
@@ -14,8 +13,6 @@ import cpp.model.assignment.ContactAssignment;
 import cpp.model.classgroup.ClassGroup;
 import cpp.model.classgroup.ClassGroupName;
 import cpp.model.contact.Contact;
-import cpp.model.util.AssignmentUtil;
-import cpp.model.util.ClassGroupUtil;
 
 /**
  * Adds a contact to the address book.
@@ -83,8 +80,7 @@ public class AddContactCommand extends Command {
         ClassGroup classGroupToAllocate = null;
 
         if (this.classGroupName != null) {
-            List<ClassGroup> classGroupList = model.getAddressBook().getClassGroupList();
-            classGroupToAllocate = ClassGroupUtil.findClassGroup(classGroupList, this.classGroupName);
+            classGroupToAllocate = model.getAddressBook().findClassGroupByName(this.classGroupName);
 
             if (classGroupToAllocate == null) {
                 throw new CommandException(Messages.MESSAGE_CLASS_GROUP_NOT_FOUND);
@@ -94,8 +90,7 @@ public class AddContactCommand extends Command {
         Assignment assignmentToAllocate = null;
 
         if (this.assignmentName != null) {
-            List<Assignment> assignmentList = model.getAddressBook().getAssignmentList();
-            assignmentToAllocate = AssignmentUtil.findAssignment(assignmentList, this.assignmentName);
+            assignmentToAllocate = model.getAddressBook().findAssignmentByName(this.assignmentName);
 
             if (assignmentToAllocate == null) {
                 throw new CommandException(Messages.MESSAGE_ASSIGNMENT_NOT_FOUND);
@@ -114,7 +109,7 @@ public class AddContactCommand extends Command {
 
         String allocatedClassGroupString = "";
         if (classGroupToAllocate != null) {
-            classGroupToAllocate.allocateContact(this.toAdd.getId());
+            model.allocateContactToClassGroup(classGroupToAllocate, this.toAdd);
             allocatedClassGroupString = String.format(AddContactCommand.MESSAGE_SUCCESS_CLASS_GROUP_ALLOCATION,
                     Messages.format(classGroupToAllocate));
         }
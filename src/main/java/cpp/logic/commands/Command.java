@@ -18,4 +18,12 @@ public abstract class Command {
      */
     public abstract CommandResult execute(Model model) throws CommandException;
 
+    /**
+     * Returns true if executing this command may change the address book, in
+     * which case the address book has to be saved afterwards.
+     */
+    public boolean isMutating() {
+        return true;
+    }
+
 }
@@ -17,4 +17,8 @@ public class ExitCommand extends Command {
                 CommandResult.ViewType.NONE, false, true);
     }
 
+    @Override
+    public boolean isMutating() {
+        return false;
+    }
 }
@@ -12,31 +12,50 @@ import cpp.model.assignment.AssignmentSearchPredicate;
  * Finds and lists all assignments in the address book using the {@code findass}
  * command.
  * <p>
- * Supports two search modes:
+ * Supports three search criteria, which can be combined:
  * <br>
  * - Name search: finds assignments whose names contain the specified search
- * string (case-insensitive, substring match).<br>
+ * string (case-insensitive, substring match), or do not if the search string
+ * is marked with {@code CliSyntax.NEGATION_MARKER}.<br>
  * - Deadline search: finds assignments whose deadline falls within the
- * specified date/time range.
+ * specified date/time range.<br>
+ * - Overdue search: finds assignments whose deadline has passed.
+ * <p>
+ * Alternatively, finds the specified number of assignments due next, on its
+ * own.
  */
 public class FindAssignmentCommand extends Command {
 
     public static final String COMMAND_WORD = "findass";
+    public static final String STATUS_OVERDUE = "overdue";
 
     public static final String MESSAGE_USAGE = FindAssignmentCommand.COMMAND_WORD
-            + ": Finds all assignments whose names contain the specified search string (case-insensitive) or "
+            + ": Finds all assignments whose names contain the specified search string (case-insensitive) and "
             + "whose deadlines fall within the specified range (inclusive) "
             + "and displays them as a list with index numbers.\n"
             + "Deadline can be of the format dd-MM-yyyy or dd-MM-yyyy HH:mm.\n"
-            + "Parameters (Option 1): " + CliSyntax.PREFIX_ASSIGNMENT + "ASSIGNMENT_NAME_SEARCH_STRING\n"
-            + "Parameters (Option 2): [" + CliSyntax.PREFIX_DATETIME_START + "DEADLINE_START] ["
-            + CliSyntax.PREFIX_DATETIME_END + "DEADLINE_END]\n"
-            + "Only one option can be used at a time. For Option 2, at least one of ["
-            + CliSyntax.PREFIX_DATETIME_START + "DEADLINE_START] or ["
-            + CliSyntax.PREFIX_DATETIME_END + "DEADLINE_END] must be provided.\n"
+            + "Parameters: [" + CliSyntax.PREFIX_ASSIGNMENT + "ASSIGNMENT_NAME_SEARCH_STRING] ["
+            + CliSyntax.PREFIX_DATETIME_START + "DEADLINE_START] ["
+            + CliSyntax.PREFIX_DATETIME_END + "DEADLINE_END] ["
+            + CliSyntax.PREFIX_STATUS + FindAssignmentCommand.STATUS_OVERDUE + "]\n"
+            + "At least one parameter must be provided, and assignments must match all of them. Start "
+            + "ASSIGNMENT_NAME_SEARCH_STRING with " + CliSyntax.NEGATION_MARKER
+            + " to find assignments whose names do not contain it instead.\n"
+            + "Alternatively: " + FindAssignmentCommand.COMMAND_WORD + " " + CliSyntax.PREFIX_NEXT + "COUNT "
+            + "lists the next COUNT assignments due, and cannot be combined with other parameters.\n"
             + "Example: " + FindAssignmentCommand.COMMAND_WORD + " " + CliSyntax.PREFIX_ASSIGNMENT + "Assignment 1\n"
             + "Example: " + FindAssignmentCommand.COMMAND_WORD + " " + CliSyntax.PREFIX_DATETIME_START + "01-01-2025 "
-            + CliSyntax.PREFIX_DATETIME_END + "31-12-2025 23:59";
+            + CliSyntax.PREFIX_DATETIME_END + "31-12-2025 23:59\n"
+            + "Example: " + FindAssignmentCommand.COMMAND_WORD + " " + CliSyntax.PREFIX_ASSIGNMENT
+            + CliSyntax.NEGATION_MARKER + "quiz " + CliSyntax.PREFIX_DATETIME_END + "31-12-2025\n"
+            + "Example: " + FindAssignmentCommand.COMMAND_WORD + " " + CliSyntax.PREFIX_STATUS
+            + FindAssignmentCommand.STATUS_OVERDUE + "\n"
+            + "Example: " + FindAssignmentCommand.COMMAND_WORD + " " + CliSyntax.PREFIX_NEXT + "3";
+
+    public static final String MESSAGE_INVALID_STATUS = "STATUS must be " + FindAssignmentCommand.STATUS_OVERDUE;
+    public static final String MESSAGE_INVALID_COUNT = "COUNT must be a positive integer";
+    public static final String MESSAGE_NEXT_WITH_OTHER_CRITERIA = CliSyntax.PREFIX_NEXT
+            + " cannot be combined with other parameters";
 
     private final AssignmentSearchPredicate predicate;
 
@@ -74,4 +93,9 @@ public class FindAssignmentCommand extends Command {
                 .add("predicate", this.predicate)
                 .toString();
     }
+
+    @Override
+    public boolean isMutating() {
+        return false;
+    }
 }
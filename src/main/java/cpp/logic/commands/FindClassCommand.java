@@ -61,4 +61,9 @@ public class FindClassCommand extends Command {
                 .add("predicate", this.predicate)
                 .toString();
     }
+
+    @Override
+    public boolean isMutating() {
+        return false;
+    }
 }
@@ -4,15 +4,18 @@ import java.util.Objects;
 
 import cpp.commons.util.ToStringBuilder;
 import cpp.logic.Messages;
+import cpp.logic.commands.exceptions.CommandException;
 import cpp.logic.parser.CliSyntax;
 import cpp.model.Model;
+import cpp.model.assignment.exceptions.AssignmentNotFoundException;
+import cpp.model.classgroup.exceptions.ClassGroupNotFoundException;
 import cpp.model.contact.ContactSearchPredicate;
 
 /**
  * Finds and lists all contacts in address book using the {@code findcontact}
  * ({@code findct}) command.
  *
- * Supports three search modes:
+ * Supports these search criteria, which can be combined:
  *
  * - Name search: finds contacts whose names contain the specified string
  * (case-insensitive).
@@ -20,27 +23,53 @@ import cpp.model.contact.ContactSearchPredicate;
  * value.
  * - Email search: finds contacts whose email address contains the specified
  * value (case-insensitive).
+ * - Tag search: finds contacts that have all the tags of at least one of the
+ * groups of tags specified.
+ * - Class search: finds contacts in the specified class group.
+ * - Assignment search: finds contacts allocated the specified assignment,
+ * optionally only those whose work on it is in the specified state.
+ *
+ * Contacts must match every criterion given, except those marked with
+ * {@code CliSyntax.NEGATION_MARKER}, which they must not match. Class groups and
+ * assignments are looked up when the command is executed.
  */
 public class FindContactCommand extends Command {
 
     public static final String COMMAND_WORD = "findcontact";
     public static final String COMMAND_WORD_ALIAS = "findct";
 
+    public static final String TAG_GROUP_SEPARATOR = "|";
+
+    public static final String STATUSES = "allocated, submitted, unsubmitted, graded, ungraded";
+
     public static final String MESSAGE_USAGE = FindContactCommand.COMMAND_WORD
-            + ": Finds all contacts whose names, phones, or emails contain the specified search string "
-            + "(case-insensitive) and displays them as a list with index numbers.\n"
+            + ": Finds all contacts whose names, phones, or emails contain the specified search strings "
+            + "(case-insensitive), who have the specified tags, who are in the specified class, or who are "
+            + "allocated the specified assignment, and displays them as a list with index numbers.\n"
             + "Alias: " + FindContactCommand.COMMAND_WORD_ALIAS + "\n"
             + "Parameters: ["
             + CliSyntax.PREFIX_NAME + "CONTACT_NAME_SEARCH_STRING] ["
             + CliSyntax.PREFIX_PHONE + "PHONE_NUMBER_SEARCH_STRING] ["
-            + CliSyntax.PREFIX_EMAIL + "EMAIL_SEARCH_STRING]\n"
-            + "Exactly one of ["
-            + CliSyntax.PREFIX_NAME + "CONTACT_NAME_SEARCH_STRING], ["
-            + CliSyntax.PREFIX_PHONE + "PHONE_NUMBER_SEARCH_STRING], or ["
-            + CliSyntax.PREFIX_EMAIL + "EMAIL_SEARCH_STRING] must be provided.\n"
+            + CliSyntax.PREFIX_EMAIL + "EMAIL_SEARCH_STRING] ["
+            + CliSyntax.PREFIX_TAG + "TAGS... [" + FindContactCommand.TAG_GROUP_SEPARATOR + " TAGS...]...] ["
+            + CliSyntax.PREFIX_CLASS + "CLASS_NAME] ["
+            + CliSyntax.PREFIX_ASSIGNMENT + "ASSIGNMENT_NAME [" + CliSyntax.PREFIX_STATUS + "STATUS]]\n"
+            + "At least one parameter must be provided, and contacts must match all of them. Start a parameter's "
+            + "value with " + CliSyntax.NEGATION_MARKER + " to find contacts that do not match it instead.\n"
+            + "Contacts must have all the tags separated by spaces, or all the tags of any one group separated by "
+            + FindContactCommand.TAG_GROUP_SEPARATOR + ".\n"
+            + "STATUS is one of " + FindContactCommand.STATUSES + ".\n"
             + "Example: " + FindContactCommand.COMMAND_WORD + " " + CliSyntax.PREFIX_NAME + "tony tan\n"
             + "Example: " + FindContactCommand.COMMAND_WORD + " " + CliSyntax.PREFIX_PHONE + "91234567\n"
-            + "Example: " + FindContactCommand.COMMAND_WORD + " " + CliSyntax.PREFIX_EMAIL + "alice@gmail.com";
+            + "Example: " + FindContactCommand.COMMAND_WORD + " " + CliSyntax.PREFIX_EMAIL + "alice@gmail.com\n"
+            + "Example: " + FindContactCommand.COMMAND_WORD + " " + CliSyntax.PREFIX_TAG + "friends owesMoney "
+            + FindContactCommand.TAG_GROUP_SEPARATOR + " family\n"
+            + "Example: " + FindContactCommand.COMMAND_WORD + " " + CliSyntax.PREFIX_CLASS + "T01 "
+            + CliSyntax.PREFIX_ASSIGNMENT + "Assignment 1 " + CliSyntax.PREFIX_STATUS + "unsubmitted\n"
+            + "Example: " + FindContactCommand.COMMAND_WORD + " " + CliSyntax.PREFIX_NAME + "tan "
+            + CliSyntax.PREFIX_TAG + CliSyntax.NEGATION_MARKER + "friends";
+
+    public static final String MESSAGE_INVALID_STATUS = "STATUS must be one of " + FindContactCommand.STATUSES;
 
     private final ContactSearchPredicate predicate;
 
@@ -49,9 +78,18 @@ public class FindContactCommand extends Command {
     }
 
     @Override
-    public CommandResult execute(Model model) {
+    public CommandResult execute(Model model) throws CommandException {
         Objects.requireNonNull(model);
-        model.updateFilteredContactList(this.predicate);
+        ContactSearchPredicate resolvedPredicate;
+        try {
+            resolvedPredicate = this.predicate.resolve(model);
+        } catch (ClassGroupNotFoundException e) {
+            throw new CommandException(Messages.MESSAGE_CLASS_GROUP_NOT_FOUND);
+        } catch (AssignmentNotFoundException e) {
+            throw new CommandException(Messages.MESSAGE_ASSIGNMENT_NOT_FOUND);
+        }
+
+        model.updateFilteredContactList(resolvedPredicate);
         return new CommandResult(
                 String.format(Messages.MESSAGE_CONTACTS_LISTED_OVERVIEW, model.getFilteredContactList().size()),
                 CommandResult.ListView.CONTACTS);
@@ -78,4 +116,9 @@ public class FindContactCommand extends Command {
                 .add("predicate", this.predicate)
                 .toString();
     }
+
+    @Override
+    public boolean isMutating() {
+        return false;
+    }
 }
@@ -19,4 +19,9 @@ public class HelpCommand extends Command {
         return new CommandResult(HelpCommand.SHOWING_HELP_MESSAGE, CommandResult.ListView.NONE,
                 CommandResult.ViewType.NONE, true, false);
     }
+
+    @Override
+    public boolean isMutating() {
+        return false;
+    }
 }
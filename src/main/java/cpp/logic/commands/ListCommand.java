@@ -31,4 +31,9 @@ public abstract class ListCommand extends Command {
 
     @Override
     public abstract boolean equals(Object other);
+
+    @Override
+    public boolean isMutating() {
+        return false;
+    }
 }
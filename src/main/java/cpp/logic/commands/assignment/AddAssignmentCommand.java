@@ -100,8 +100,9 @@ public class AddAssignmentCommand extends Command {
 
         CommandUtil.checkContactIndices(lastShownContactList, this.contactIndices);
 
-        ClassGroup classGroupToAllocate = ClassGroupUtil.findClassGroup(model.getAddressBook().getClassGroupList(),
-                this.classGroupName);
+        ClassGroup classGroupToAllocate = this.classGroupName == null
+                ? null
+                : model.getAddressBook().findClassGroupByName(this.classGroupName);
         if (this.classGroupName != null && classGroupToAllocate == null) {
             throw new CommandException(Messages.MESSAGE_CLASS_GROUP_NOT_FOUND);
         }
@@ -162,17 +163,8 @@ public class AddAssignmentCommand extends Command {
 
     private void allocateToContactsByClassGroup(Model model, Assignment assignmentToAllocate,
             ClassGroup classGroupToAllocate) {
-        List<Contact> contactList = model.getAddressBook().getContactList();
-
-        for (String contactId : classGroupToAllocate.getContactIdSet()) {
-            Contact contact = contactList.stream()
-                    .filter(c -> c.getId().equals(contactId))
-                    .findAny()
-                    .orElse(null);
-
-            if (contact != null) {
-                this.allocateToContact(model, assignmentToAllocate, contact);
-            }
+        for (Contact contact : ClassGroupUtil.getContactsInClassGroup(model.getAddressBook(), classGroupToAllocate)) {
+            this.allocateToContact(model, assignmentToAllocate, contact);
         }
     }
 
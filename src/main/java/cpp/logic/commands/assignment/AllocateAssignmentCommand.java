@@ -25,7 +25,6 @@ import cpp.model.assignment.exceptions.ContactAlreadyAllocatedAssignmentExceptio
 import cpp.model.classgroup.ClassGroup;
 import cpp.model.classgroup.ClassGroupName;
 import cpp.model.contact.Contact;
-import cpp.model.util.AssignmentUtil;
 import cpp.model.util.ClassGroupUtil;
 
 /**
@@ -107,9 +106,7 @@ public class AllocateAssignmentCommand extends Command {
     public CommandResult execute(Model model) throws CommandException {
         Objects.requireNonNull(model);
 
-        List<Assignment> assignmentList = model.getAddressBook().getAssignmentList();
-
-        Assignment assignmentToAllocate = AssignmentUtil.findAssignment(assignmentList, this.assignmentName);
+        Assignment assignmentToAllocate = model.getAddressBook().findAssignmentByName(this.assignmentName);
 
         if (assignmentToAllocate == null) {
             throw new CommandException(Messages.MESSAGE_ASSIGNMENT_NOT_FOUND);
@@ -119,8 +116,9 @@ public class AllocateAssignmentCommand extends Command {
 
         CommandUtil.checkContactIndices(lastShownContactList, this.contactIndices);
 
-        ClassGroup classGroupToAllocate = ClassGroupUtil.findClassGroup(model.getAddressBook().getClassGroupList(),
-                this.classGroupName);
+        ClassGroup classGroupToAllocate = this.classGroupName == null
+                ? null
+                : model.getAddressBook().findClassGroupByName(this.classGroupName);
         if (this.classGroupName != null && classGroupToAllocate == null) {
             throw new CommandException(Messages.MESSAGE_CLASS_GROUP_NOT_FOUND);
         }
@@ -183,17 +181,8 @@ public class AllocateAssignmentCommand extends Command {
 
     private void allocateToContactsByClassGroup(Model model, Assignment assignmentToAllocate,
             ClassGroup classGroupToAllocate) {
-        List<Contact> contactList = model.getAddressBook().getContactList();
-
-        for (String contactId : classGroupToAllocate.getContactIdSet()) {
-            Contact contact = contactList.stream()
-                    .filter(c -> c.getId().equals(contactId))
-                    .findAny()
-                    .orElse(null);
-
-            if (contact != null) {
-                this.allocateToContact(model, assignmentToAllocate, contact);
-            }
+        for (Contact contact : ClassGroupUtil.getContactsInClassGroup(model.getAddressBook(), classGroupToAllocate)) {
+            this.allocateToContact(model, assignmentToAllocate, contact);
         }
     }
 
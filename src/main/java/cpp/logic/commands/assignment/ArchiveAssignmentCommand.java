@@ -0,0 +1,81 @@
+package cpp.logic.commands.assignment;
+
+import java.util.List;
+import java.util.Objects;
+
+import cpp.commons.core.index.Index;
+import cpp.commons.util.ToStringBuilder;
+import cpp.logic.Messages;
+import cpp.logic.commands.Command;
+import cpp.logic.commands.CommandResult;
+import cpp.logic.commands.CommandUtil;
+import cpp.logic.commands.exceptions.CommandException;
+import cpp.model.Model;
+import cpp.model.assignment.Assignment;
+
+/**
+ * Archives an assignment in the address book.
+ */
+public class ArchiveAssignmentCommand extends Command {
+
+    public static final String COMMAND_WORD = "archiveass";
+
+    public static final String MESSAGE_USAGE = ArchiveAssignmentCommand.COMMAND_WORD
+            + ": Archives the assignment identified by the index number used in the displayed assignment list.\n"
+            + "The contact assignments of an archived assignment are only loaded when the assignment is viewed.\n"
+            + "Parameters: INDEX (must be a positive integer)\n"
+            + "Example: " + ArchiveAssignmentCommand.COMMAND_WORD + " 1";
+
+    public static final String MESSAGE_SUCCESS = "Archived Assignment: %1$s";
+    public static final String MESSAGE_ALREADY_DONE = "This assignment is already archived.";
+
+    private final Index index;
+
+    /**
+     * @param index of the assignment in the filtered assignment list to archive
+     */
+    public ArchiveAssignmentCommand(Index index) {
+        Objects.requireNonNull(index);
+        this.index = index;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        Objects.requireNonNull(model);
+        List<Assignment> lastShownList = model.getFilteredAssignmentList();
+
+        CommandUtil.checkAssignmentIndex(lastShownList, this.index);
+
+        Assignment target = lastShownList.get(this.index.getZeroBased());
+        if (target.isArchived()) {
+            throw new CommandException(ArchiveAssignmentCommand.MESSAGE_ALREADY_DONE);
+        }
+
+        Assignment editedAssignment = target.withArchived(true);
+        model.setAssignment(target, editedAssignment);
+        return new CommandResult(String.format(ArchiveAssignmentCommand.MESSAGE_SUCCESS,
+                Messages.format(editedAssignment)));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof ArchiveAssignmentCommand)) {
+            return false;
+        }
+
+        ArchiveAssignmentCommand otherCommand = (ArchiveAssignmentCommand) other;
+        return this.index.equals(otherCommand.index);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("index", this.index)
+                .toString();
+    }
+}
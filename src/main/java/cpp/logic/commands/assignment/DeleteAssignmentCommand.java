@@ -1,6 +1,5 @@
 package cpp.logic.commands.assignment;
 
-import java.util.List;
 import java.util.Objects;
 
 import cpp.commons.util.ToStringBuilder;
@@ -11,7 +10,6 @@ import cpp.logic.commands.exceptions.CommandException;
 import cpp.model.Model;
 import cpp.model.assignment.Assignment;
 import cpp.model.assignment.AssignmentName;
-import cpp.model.util.AssignmentUtil;
 
 /**
  * Deletes an assignment identified using its name from the address book.
@@ -29,9 +27,7 @@ public class DeleteAssignmentCommand extends DeleteCommand {
     @Override
     public CommandResult execute(Model model) throws CommandException {
         Objects.requireNonNull(model);
-        List<Assignment> assignmentList = model.getAddressBook().getAssignmentList();
-
-        Assignment assignmentToDelete = AssignmentUtil.findAssignment(assignmentList, this.targetName);
+        Assignment assignmentToDelete = model.getAddressBook().findAssignmentByName(this.targetName);
 
         if (assignmentToDelete == null) {
             throw new CommandException(Messages.MESSAGE_ASSIGNMENT_NOT_FOUND);
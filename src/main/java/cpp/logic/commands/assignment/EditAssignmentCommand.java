@@ -70,7 +70,8 @@ public class EditAssignmentCommand extends Command {
         LocalDateTime newDeadline = this.editAssignmentDescriptor.getDeadline()
                 .orElse(assignmentToEdit.getDeadline());
 
-        Assignment editedAssignment = new Assignment(assignmentToEdit.getId(), newName, newDeadline);
+        Assignment editedAssignment = new Assignment(assignmentToEdit.getId(), newName, newDeadline,
+                assignmentToEdit.isArchived());
 
         boolean isDuplicate = model.getAddressBook().getAssignmentList().stream()
                 .anyMatch(a -> !a.getId().equals(assignmentToEdit.getId())
@@ -29,7 +29,6 @@ import cpp.model.assignment.exceptions.ContactAssignmentNotSubmittedException;
 import cpp.model.classgroup.ClassGroup;
 import cpp.model.classgroup.ClassGroupName;
 import cpp.model.contact.Contact;
-import cpp.model.util.AssignmentUtil;
 import cpp.model.util.ClassGroupUtil;
 
 /**
@@ -129,9 +128,7 @@ public class GradeAssignmentCommand extends Command {
     public CommandResult execute(Model model) throws CommandException {
         Objects.requireNonNull(model);
 
-        List<Assignment> assignmentList = model.getAddressBook().getAssignmentList();
-
-        Assignment assignmentToGrade = AssignmentUtil.findAssignment(assignmentList, this.assignmentName);
+        Assignment assignmentToGrade = model.getAddressBook().findAssignmentByName(this.assignmentName);
 
         if (assignmentToGrade == null) {
             throw new CommandException(Messages.MESSAGE_ASSIGNMENT_NOT_FOUND);
@@ -141,8 +138,9 @@ public class GradeAssignmentCommand extends Command {
 
         CommandUtil.checkContactIndices(lastShownContactList, this.contactIndices);
 
-        ClassGroup classGroupToGrade = ClassGroupUtil.findClassGroup(model.getAddressBook().getClassGroupList(),
-                this.classGroupName);
+        ClassGroup classGroupToGrade = this.classGroupName == null
+                ? null
+                : model.getAddressBook().findClassGroupByName(this.classGroupName);
         if (this.classGroupName != null && classGroupToGrade == null) {
             throw new CommandException(Messages.MESSAGE_CLASS_GROUP_NOT_FOUND);
         }
@@ -225,17 +223,8 @@ public class GradeAssignmentCommand extends Command {
     }
 
     private void gradeByClassGroup(Model model, Assignment assignmentToGrade, ClassGroup classGroupToGrade) {
-        List<Contact> contactList = model.getAddressBook().getContactList();
-
-        for (String contactId : classGroupToGrade.getContactIdSet()) {
-            Contact contact = contactList.stream()
-                    .filter(c -> c.getId().equals(contactId))
-                    .findAny()
-                    .orElse(null);
-
-            if (contact != null) {
-                this.gradeByContact(model, assignmentToGrade, contact);
-            }
+        for (Contact contact : ClassGroupUtil.getContactsInClassGroup(model.getAddressBook(), classGroupToGrade)) {
+            this.gradeByContact(model, assignmentToGrade, contact);
         }
     }
 
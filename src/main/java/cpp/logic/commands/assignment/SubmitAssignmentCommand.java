@@ -27,7 +27,6 @@ import cpp.model.assignment.exceptions.ContactAssignmentNotFoundException;
 import cpp.model.classgroup.ClassGroup;
 import cpp.model.classgroup.ClassGroupName;
 import cpp.model.contact.Contact;
-import cpp.model.util.AssignmentUtil;
 import cpp.model.util.ClassGroupUtil;
 
 /**
@@ -121,9 +120,7 @@ public class SubmitAssignmentCommand extends Command {
     public CommandResult execute(Model model) throws CommandException {
         Objects.requireNonNull(model);
 
-        List<Assignment> assignmentList = model.getAddressBook().getAssignmentList();
-
-        Assignment assignmentToSubmit = AssignmentUtil.findAssignment(assignmentList, this.assignmentName);
+        Assignment assignmentToSubmit = model.getAddressBook().findAssignmentByName(this.assignmentName);
 
         if (assignmentToSubmit == null) {
             throw new CommandException(Messages.MESSAGE_ASSIGNMENT_NOT_FOUND);
@@ -133,8 +130,9 @@ public class SubmitAssignmentCommand extends Command {
 
         CommandUtil.checkContactIndices(lastShownContactList, this.contactIndices);
 
-        ClassGroup classGroupToMark = ClassGroupUtil.findClassGroup(model.getAddressBook().getClassGroupList(),
-                this.classGroupName);
+        ClassGroup classGroupToMark = this.classGroupName == null
+                ? null
+                : model.getAddressBook().findClassGroupByName(this.classGroupName);
         if (this.classGroupName != null && classGroupToMark == null) {
             throw new CommandException(Messages.MESSAGE_CLASS_GROUP_NOT_FOUND);
         }
@@ -208,17 +206,8 @@ public class SubmitAssignmentCommand extends Command {
 
     private void markSubmittedByClassGroup(Model model, Assignment assignmentToSubmit,
             ClassGroup classGroupToMark) {
-        List<Contact> contactList = model.getAddressBook().getContactList();
-
-        for (String contactId : classGroupToMark.getContactIdSet()) {
-            Contact contact = contactList.stream()
-                    .filter(c -> c.getId().equals(contactId))
-                    .findAny()
-                    .orElse(null);
-
-            if (contact != null) {
-                this.markSubmittedByContact(model, assignmentToSubmit, contact);
-            }
+        for (Contact contact : ClassGroupUtil.getContactsInClassGroup(model.getAddressBook(), classGroupToMark)) {
+            this.markSubmittedByContact(model, assignmentToSubmit, contact);
         }
     }
 
@@ -25,7 +25,6 @@ import cpp.model.assignment.exceptions.ContactAssignmentNotFoundException;
 import cpp.model.classgroup.ClassGroup;
 import cpp.model.classgroup.ClassGroupName;
 import cpp.model.contact.Contact;
-import cpp.model.util.AssignmentUtil;
 import cpp.model.util.ClassGroupUtil;
 
 /**
@@ -107,9 +106,7 @@ public class UnallocateAssignmentCommand extends Command {
     public CommandResult execute(Model model) throws CommandException {
         Objects.requireNonNull(model);
 
-        List<Assignment> assignmentList = model.getAddressBook().getAssignmentList();
-
-        Assignment assignmentToUnallocate = AssignmentUtil.findAssignment(assignmentList, this.assignmentName);
+        Assignment assignmentToUnallocate = model.getAddressBook().findAssignmentByName(this.assignmentName);
 
         if (assignmentToUnallocate == null) {
             throw new CommandException(Messages.MESSAGE_ASSIGNMENT_NOT_FOUND);
@@ -119,8 +116,9 @@ public class UnallocateAssignmentCommand extends Command {
 
         CommandUtil.checkContactIndices(lastShownContactList, this.contactIndices);
 
-        ClassGroup classGroupToUnallocate = ClassGroupUtil.findClassGroup(model.getAddressBook().getClassGroupList(),
-                this.classGroupName);
+        ClassGroup classGroupToUnallocate = this.classGroupName == null
+                ? null
+                : model.getAddressBook().findClassGroupByName(this.classGroupName);
         if (this.classGroupName != null && classGroupToUnallocate == null) {
             throw new CommandException(Messages.MESSAGE_CLASS_GROUP_NOT_FOUND);
         }
@@ -184,17 +182,8 @@ public class UnallocateAssignmentCommand extends Command {
 
     private void unallocateFromContactsByClassGroup(Model model, Assignment assignmentToUnallocate,
             ClassGroup classGroupToUnallocate) {
-        List<Contact> contactList = model.getAddressBook().getContactList();
-
-        for (String contactId : classGroupToUnallocate.getContactIdSet()) {
-            Contact contact = contactList.stream()
-                    .filter(c -> c.getId().equals(contactId))
-                    .findAny()
-                    .orElse(null);
-
-            if (contact != null) {
-                this.unallocateFromContact(model, assignmentToUnallocate, contact);
-            }
+        for (Contact contact : ClassGroupUtil.getContactsInClassGroup(model.getAddressBook(), classGroupToUnallocate)) {
+            this.unallocateFromContact(model, assignmentToUnallocate, contact);
         }
     }
 
@@ -0,0 +1,80 @@
+package cpp.logic.commands.assignment;
+
+import java.util.List;
+import java.util.Objects;
+
+import cpp.commons.core.index.Index;
+import cpp.commons.util.ToStringBuilder;
+import cpp.logic.Messages;
+import cpp.logic.commands.Command;
+import cpp.logic.commands.CommandResult;
+import cpp.logic.commands.CommandUtil;
+import cpp.logic.commands.exceptions.CommandException;
+import cpp.model.Model;
+import cpp.model.assignment.Assignment;
+
+/**
+ * Unarchives an assignment in the address book.
+ */
+public class UnarchiveAssignmentCommand extends Command {
+
+    public static final String COMMAND_WORD = "unarchiveass";
+
+    public static final String MESSAGE_USAGE = UnarchiveAssignmentCommand.COMMAND_WORD
+            + ": Unarchives the assignment identified by the index number used in the displayed assignment list.\n"
+            + "Parameters: INDEX (must be a positive integer)\n"
+            + "Example: " + UnarchiveAssignmentCommand.COMMAND_WORD + " 1";
+
+    public static final String MESSAGE_SUCCESS = "Unarchived Assignment: %1$s";
+    public static final String MESSAGE_ALREADY_DONE = "This assignment is not archived.";
+
+    private final Index index;
+
+    /**
+     * @param index of the assignment in the filtered assignment list to unarchive
+     */
+    public UnarchiveAssignmentCommand(Index index) {
+        Objects.requireNonNull(index);
+        this.index = index;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        Objects.requireNonNull(model);
+        List<Assignment> lastShownList = model.getFilteredAssignmentList();
+
+        CommandUtil.checkAssignmentIndex(lastShownList, this.index);
+
+        Assignment target = lastShownList.get(this.index.getZeroBased());
+        if (!target.isArchived()) {
+            throw new CommandException(UnarchiveAssignmentCommand.MESSAGE_ALREADY_DONE);
+        }
+
+        Assignment editedAssignment = target.withArchived(false);
+        model.setAssignment(target, editedAssignment);
+        return new CommandResult(String.format(UnarchiveAssignmentCommand.MESSAGE_SUCCESS,
+                Messages.format(editedAssignment)));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof UnarchiveAssignmentCommand)) {
+            return false;
+        }
+
+        UnarchiveAssignmentCommand otherCommand = (UnarchiveAssignmentCommand) other;
+        return this.index.equals(otherCommand.index);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("index", this.index)
+                .toString();
+    }
+}
@@ -26,7 +26,6 @@ import cpp.model.assignment.exceptions.ContactAssignmentNotSubmittedException;
 import cpp.model.classgroup.ClassGroup;
 import cpp.model.classgroup.ClassGroupName;
 import cpp.model.contact.Contact;
-import cpp.model.util.AssignmentUtil;
 import cpp.model.util.ClassGroupUtil;
 
 /**
@@ -107,9 +106,7 @@ public class UngradeAssignmentCommand extends Command {
     public CommandResult execute(Model model) throws CommandException {
         Objects.requireNonNull(model);
 
-        List<Assignment> assignmentList = model.getAddressBook().getAssignmentList();
-
-        Assignment assignmentToUngrade = AssignmentUtil.findAssignment(assignmentList, this.assignmentName);
+        Assignment assignmentToUngrade = model.getAddressBook().findAssignmentByName(this.assignmentName);
 
         if (assignmentToUngrade == null) {
             throw new CommandException(Messages.MESSAGE_ASSIGNMENT_NOT_FOUND);
@@ -119,8 +116,9 @@ public class UngradeAssignmentCommand extends Command {
 
         CommandUtil.checkContactIndices(lastShownContactList, this.contactIndices);
 
-        ClassGroup classGroupToUngrade = ClassGroupUtil.findClassGroup(model.getAddressBook().getClassGroupList(),
-                this.classGroupName);
+        ClassGroup classGroupToUngrade = this.classGroupName == null
+                ? null
+                : model.getAddressBook().findClassGroupByName(this.classGroupName);
         if (this.classGroupName != null && classGroupToUngrade == null) {
             throw new CommandException(Messages.MESSAGE_CLASS_GROUP_NOT_FOUND);
         }
@@ -192,17 +190,8 @@ public class UngradeAssignmentCommand extends Command {
     }
 
     private void ungradeByClassGroup(Model model, Assignment assignmentToUngrade, ClassGroup classGroupToUngrade) {
-        List<Contact> contactList = model.getAddressBook().getContactList();
-
-        for (String contactId : classGroupToUngrade.getContactIdSet()) {
-            Contact contact = contactList.stream()
-                    .filter(c -> c.getId().equals(contactId))
-                    .findAny()
-                    .orElse(null);
-
-            if (contact != null) {
-                this.ungradeByContact(model, assignmentToUngrade, contact);
-            }
+        for (Contact contact : ClassGroupUtil.getContactsInClassGroup(model.getAddressBook(), classGroupToUngrade)) {
+            this.ungradeByContact(model, assignmentToUngrade, contact);
         }
     }
 
@@ -25,7 +25,6 @@ import cpp.model.assignment.exceptions.ContactAssignmentNotSubmittedException;
 import cpp.model.classgroup.ClassGroup;
 import cpp.model.classgroup.ClassGroupName;
 import cpp.model.contact.Contact;
-import cpp.model.util.AssignmentUtil;
 import cpp.model.util.ClassGroupUtil;
 
 /**
@@ -111,9 +110,7 @@ public class UnsubmitAssignmentCommand extends Command {
     public CommandResult execute(Model model) throws CommandException {
         Objects.requireNonNull(model);
 
-        List<Assignment> assignmentList = model.getAddressBook().getAssignmentList();
-
-        Assignment assignmentToUnsubmit = AssignmentUtil.findAssignment(assignmentList, this.assignmentName);
+        Assignment assignmentToUnsubmit = model.getAddressBook().findAssignmentByName(this.assignmentName);
 
         if (assignmentToUnsubmit == null) {
             throw new CommandException(Messages.MESSAGE_ASSIGNMENT_NOT_FOUND);
@@ -123,8 +120,9 @@ public class UnsubmitAssignmentCommand extends Command {
 
         CommandUtil.checkContactIndices(lastShownContactList, this.contactIndices);
 
-        ClassGroup classGroupToUnmark = ClassGroupUtil.findClassGroup(model.getAddressBook().getClassGroupList(),
-                this.classGroupName);
+        ClassGroup classGroupToUnmark = this.classGroupName == null
+                ? null
+                : model.getAddressBook().findClassGroupByName(this.classGroupName);
         if (this.classGroupName != null && classGroupToUnmark == null) {
             throw new CommandException(Messages.MESSAGE_CLASS_GROUP_NOT_FOUND);
         }
@@ -194,17 +192,8 @@ public class UnsubmitAssignmentCommand extends Command {
 
     private void markUnsubmittedByClassGroup(Model model, Assignment assignmentToUnsubmit,
             ClassGroup classGroupToUnmark) {
-        List<Contact> contactList = model.getAddressBook().getContactList();
-
-        for (String contactId : classGroupToUnmark.getContactIdSet()) {
-            Contact contact = contactList.stream()
-                    .filter(c -> c.getId().equals(contactId))
-                    .findAny()
-                    .orElse(null);
-
-            if (contact != null) {
-                this.markUnsubmittedByContact(model, assignmentToUnsubmit, contact);
-            }
+        for (Contact contact : ClassGroupUtil.getContactsInClassGroup(model.getAddressBook(), classGroupToUnmark)) {
+            this.markUnsubmittedByContact(model, assignmentToUnsubmit, contact);
         }
     }
 
@@ -20,7 +20,6 @@ import cpp.model.classgroup.ClassGroup;
 import cpp.model.classgroup.ClassGroupName;
 import cpp.model.classgroup.exceptions.ContactAlreadyAllocatedClassGroupException;
 import cpp.model.contact.Contact;
-import cpp.model.util.ClassGroupUtil;
 
 /**
  * Allocates contact(s) to a class group by their displayed indices.
@@ -74,8 +73,7 @@ public class AllocateClassGroupCommand extends Command {
     public CommandResult execute(Model model) throws CommandException {
         Objects.requireNonNull(model);
 
-        List<ClassGroup> classGroupList = model.getAddressBook().getClassGroupList();
-        ClassGroup classGroupToAllocate = ClassGroupUtil.findClassGroup(classGroupList, this.classGroupName);
+        ClassGroup classGroupToAllocate = model.getAddressBook().findClassGroupByName(this.classGroupName);
 
         if (classGroupToAllocate == null) {
             throw new CommandException(Messages.MESSAGE_CLASS_GROUP_NOT_FOUND);
@@ -83,7 +81,7 @@ public class AllocateClassGroupCommand extends Command {
 
         List<Contact> lastShownContactList = model.getFilteredContactList();
         CommandUtil.checkContactIndices(lastShownContactList, this.contactIndices);
-        this.allocateContactsToClassGroup(classGroupToAllocate, lastShownContactList);
+        this.allocateContactsToClassGroup(model, classGroupToAllocate, lastShownContactList);
 
         if (this.unsuccessfulAllocationCount == 0) {
             this.unsuccessfulContactAllocations.append("None");
@@ -123,12 +121,12 @@ public class AllocateClassGroupCommand extends Command {
                 .toString();
     }
 
-    private void allocateContactsToClassGroup(ClassGroup classGroupToAllocate, List<Contact> lastShownContactList) {
+    private void allocateContactsToClassGroup(Model model, ClassGroup classGroupToAllocate,
+            List<Contact> lastShownContactList) {
         for (Index index : this.contactIndices) {
             Contact contact = lastShownContactList.get(index.getZeroBased());
-            String contactId = contact.getId();
             try {
-                classGroupToAllocate.allocateContact(contactId);
+                model.allocateContactToClassGroup(classGroupToAllocate, contact);
                 this.successfulAllocationCount++;
                 this.buildSuccessfulAllocationString(contact.getName().fullName);
             } catch (ContactAlreadyAllocatedClassGroupException e) {
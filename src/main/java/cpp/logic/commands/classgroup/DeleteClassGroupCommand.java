@@ -10,7 +10,6 @@ import cpp.logic.commands.exceptions.CommandException;
 import cpp.model.Model;
 import cpp.model.classgroup.ClassGroup;
 import cpp.model.classgroup.ClassGroupName;
-import cpp.model.util.ClassGroupUtil;
 
 /**
  * Deletes a class group identified using its name from the address book.
@@ -29,8 +28,7 @@ public class DeleteClassGroupCommand extends DeleteCommand {
     public CommandResult execute(Model model) throws CommandException {
         Objects.requireNonNull(model);
 
-        ClassGroup classGroupToDelete = ClassGroupUtil.findClassGroup(
-                model.getAddressBook().getClassGroupList(), this.targetName);
+        ClassGroup classGroupToDelete = model.getAddressBook().findClassGroupByName(this.targetName);
         if (classGroupToDelete == null) {
             throw new CommandException(Messages.MESSAGE_CLASS_GROUP_NOT_FOUND);
         }
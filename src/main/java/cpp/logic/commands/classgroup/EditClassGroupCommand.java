@@ -14,7 +14,6 @@ import cpp.logic.parser.CliSyntax;
 import cpp.model.Model;
 import cpp.model.classgroup.ClassGroup;
 import cpp.model.classgroup.ClassGroupName;
-import cpp.model.util.ClassGroupUtil;
 
 /**
  * Edits the name of an existing class group in the address book.
@@ -61,8 +60,7 @@ public class EditClassGroupCommand extends Command {
 
         ClassGroup classGroupToEdit = lastShownList.get(this.index.getZeroBased());
 
-        ClassGroup potentialDuplicate = ClassGroupUtil.findClassGroup(
-                model.getAddressBook().getClassGroupList(), this.newName);
+        ClassGroup potentialDuplicate = model.getAddressBook().findClassGroupByName(this.newName);
         if (potentialDuplicate != null && !potentialDuplicate.getId().equals(classGroupToEdit.getId())) {
             throw new CommandException(EditClassGroupCommand.MESSAGE_DUPLICATE_CLASS_GROUP);
         }
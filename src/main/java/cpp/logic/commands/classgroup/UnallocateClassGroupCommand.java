@@ -19,7 +19,6 @@ import cpp.model.classgroup.ClassGroup;
 import cpp.model.classgroup.ClassGroupName;
 import cpp.model.classgroup.exceptions.ContactNotAllocatedClassGroupException;
 import cpp.model.contact.Contact;
-import cpp.model.util.ClassGroupUtil;
 
 /**
  * Unallocates contact(s) from a class group by their displayed indices.
@@ -76,8 +75,7 @@ public class UnallocateClassGroupCommand extends Command {
     public CommandResult execute(Model model) throws CommandException {
         Objects.requireNonNull(model);
 
-        List<ClassGroup> classGroupList = model.getAddressBook().getClassGroupList();
-        ClassGroup classGroupToUnallocate = ClassGroupUtil.findClassGroup(classGroupList, this.classGroupName);
+        ClassGroup classGroupToUnallocate = model.getAddressBook().findClassGroupByName(this.classGroupName);
 
         if (classGroupToUnallocate == null) {
             throw new CommandException(UnallocateClassGroupCommand.MESSAGE_INVALID_CLASS_GROUP_NAME);
@@ -85,7 +83,7 @@ public class UnallocateClassGroupCommand extends Command {
 
         List<Contact> lastShownContactList = model.getFilteredContactList();
         CommandUtil.checkContactIndices(lastShownContactList, this.contactIndices);
-        this.unallocateContactsFromClassGroup(classGroupToUnallocate, lastShownContactList);
+        this.unallocateContactsFromClassGroup(model, classGroupToUnallocate, lastShownContactList);
 
         if (this.unsuccessfulUnallocationCount == 0) {
             this.unsuccessfulContactUnallocations.append("None");
@@ -124,12 +122,12 @@ public class UnallocateClassGroupCommand extends Command {
                 .toString();
     }
 
-    private void unallocateContactsFromClassGroup(ClassGroup classGroupToUnallocate,
+    private void unallocateContactsFromClassGroup(Model model, ClassGroup classGroupToUnallocate,
             List<Contact> lastShownContactList) throws CommandException {
         for (Index contactIndex : this.contactIndices) {
             Contact contactToUnallocate = lastShownContactList.get(contactIndex.getZeroBased());
             try {
-                classGroupToUnallocate.unallocateContact(contactToUnallocate.getId());
+                model.unallocateContactFromClassGroup(classGroupToUnallocate, contactToUnallocate);
                 this.successfulUnallocationCount++;
                 this.buildSuccessfulUnallocationString(contactToUnallocate.getName().fullName);
             } catch (ContactNotAllocatedClassGroupException e) {
@@ -1,6 +1,5 @@
 package cpp.logic.commands.view;
 
-import java.util.List;
 import java.util.Objects;
 
 import cpp.commons.util.ToStringBuilder;
@@ -10,7 +9,6 @@ import cpp.logic.commands.exceptions.CommandException;
 import cpp.model.Model;
 import cpp.model.assignment.Assignment;
 import cpp.model.assignment.AssignmentName;
-import cpp.model.util.AssignmentUtil;
 
 /**
  * Displays the details of an assignment identified by its name in the address
@@ -29,9 +27,7 @@ public class ViewAssignmentCommand extends ViewCommand {
     @Override
     public CommandResult execute(Model model) throws CommandException {
         Objects.requireNonNull(model);
-        List<Assignment> assignmentList = model.getAddressBook().getAssignmentList();
-
-        Assignment assignmentToView = AssignmentUtil.findAssignment(assignmentList, this.targetName);
+        Assignment assignmentToView = model.getAddressBook().findAssignmentByName(this.targetName);
 
         if (assignmentToView == null) {
             throw new CommandException(Messages.MESSAGE_ASSIGNMENT_NOT_FOUND);
@@ -1,6 +1,5 @@
 package cpp.logic.commands.view;
 
-import java.util.List;
 import java.util.Objects;
 
 import cpp.commons.util.ToStringBuilder;
@@ -10,7 +9,6 @@ import cpp.logic.commands.exceptions.CommandException;
 import cpp.model.Model;
 import cpp.model.classgroup.ClassGroup;
 import cpp.model.classgroup.ClassGroupName;
-import cpp.model.util.ClassGroupUtil;
 
 /**
  * Views a class group identified using its name as displayed in the address
@@ -31,8 +29,7 @@ public class ViewClassGroupCommand extends ViewCommand {
     public CommandResult execute(Model model) throws CommandException {
         Objects.requireNonNull(model);
 
-        List<ClassGroup> classGroupList = model.getAddressBook().getClassGroupList();
-        ClassGroup classGroupToView = ClassGroupUtil.findClassGroup(classGroupList, this.classGroupName);
+        ClassGroup classGroupToView = model.getAddressBook().findClassGroupByName(this.classGroupName);
 
         if (classGroupToView == null) {
             throw new CommandException(Messages.MESSAGE_CLASS_GROUP_NOT_FOUND);
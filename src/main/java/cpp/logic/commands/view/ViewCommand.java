@@ -21,4 +21,9 @@ public abstract class ViewCommand extends Command {
             + "Examples: " + ViewCommand.COMMAND_WORD + " " + CliSyntax.PREFIX_CONTACT + "1, "
             + ViewCommand.COMMAND_WORD + " " + CliSyntax.PREFIX_ASSIGNMENT + "Assignment 1, "
             + ViewCommand.COMMAND_WORD + " " + CliSyntax.PREFIX_CLASS + "CS2103T T10 1";
+
+    @Override
+    public boolean isMutating() {
+        return false;
+    }
 }
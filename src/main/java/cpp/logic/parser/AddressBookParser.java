@@ -19,10 +19,12 @@ import cpp.logic.commands.HelpCommand;
 import cpp.logic.commands.ListCommand;
 import cpp.logic.commands.assignment.AddAssignmentCommand;
 import cpp.logic.commands.assignment.AllocateAssignmentCommand;
+import cpp.logic.commands.assignment.ArchiveAssignmentCommand;
 import cpp.logic.commands.assignment.EditAssignmentCommand;
 import cpp.logic.commands.assignment.GradeAssignmentCommand;
 import cpp.logic.commands.assignment.SubmitAssignmentCommand;
 import cpp.logic.commands.assignment.UnallocateAssignmentCommand;
+import cpp.logic.commands.assignment.UnarchiveAssignmentCommand;
 import cpp.logic.commands.assignment.UngradeAssignmentCommand;
 import cpp.logic.commands.assignment.UnsubmitAssignmentCommand;
 import cpp.logic.commands.classgroup.AddClassGroupCommand;
@@ -32,10 +34,12 @@ import cpp.logic.commands.classgroup.UnallocateClassGroupCommand;
 import cpp.logic.commands.view.ViewCommand;
 import cpp.logic.parser.assignment.AddAssignmentCommandParser;
 import cpp.logic.parser.assignment.AllocateAssignmentCommandParser;
+import cpp.logic.parser.assignment.ArchiveAssignmentCommandParser;
 import cpp.logic.parser.assignment.EditAssignmentCommandParser;
 import cpp.logic.parser.assignment.GradeAssignmentCommandParser;
 import cpp.logic.parser.assignment.SubmitAssignmentCommandParser;
 import cpp.logic.parser.assignment.UnallocateAssignmentCommandParser;
+import cpp.logic.parser.assignment.UnarchiveAssignmentCommandParser;
 import cpp.logic.parser.assignment.UngradeAssignmentCommandParser;
 import cpp.logic.parser.assignment.UnsubmitAssignmentCommandParser;
 import cpp.logic.parser.classgroup.AddClassGroupCommandParser;
@@ -140,6 +144,12 @@ public class AddressBookParser {
         case UnsubmitAssignmentCommand.COMMAND_WORD:
             return new UnsubmitAssignmentCommandParser().parse(arguments);
 
+        case ArchiveAssignmentCommand.COMMAND_WORD:
+            return new ArchiveAssignmentCommandParser().parse(arguments);
+
+        case UnarchiveAssignmentCommand.COMMAND_WORD:
+            return new UnarchiveAssignmentCommandParser().parse(arguments);
+
         case GradeAssignmentCommand.COMMAND_WORD:
             return new GradeAssignmentCommandParser().parse(arguments);
 
@@ -197,6 +207,8 @@ public class AddressBookParser {
             UnallocateAssignmentCommand.COMMAND_WORD,
             SubmitAssignmentCommand.COMMAND_WORD,
             UnsubmitAssignmentCommand.COMMAND_WORD,
+            ArchiveAssignmentCommand.COMMAND_WORD,
+            UnarchiveAssignmentCommand.COMMAND_WORD,
             GradeAssignmentCommand.COMMAND_WORD,
             UngradeAssignmentCommand.COMMAND_WORD,
             AddClassGroupCommand.COMMAND_WORD,
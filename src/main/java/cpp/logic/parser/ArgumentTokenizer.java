@@ -1,10 +1,5 @@
 package cpp.logic.parser;
 
-import java.util.ArrayList;
-import java.util.Arrays;
-import java.util.List;
-import java.util.stream.Collectors;
-
 /**
  * Tokenizes arguments string of the form:
  * {@code preamble <prefix>value <prefix>value ...}<br>
@@ -17,9 +12,13 @@ import java.util.stream.Collectors;
  * 3. An argument may be repeated and all its values will be accumulated e.g.
  * the value of {@code t/}
  * in the above example.<br>
+ * 4. Prefixes are matched case-insensitively, and only where they follow a
+ * space.<br>
  */
 public class ArgumentTokenizer {
 
+    private static final Prefix PREAMBLE = new Prefix("");
+
     /**
      * Tokenizes an arguments string and returns an {@code ArgumentMultimap} object
      * that maps prefixes to their
@@ -32,8 +31,7 @@ public class ArgumentTokenizer {
      * @return ArgumentMultimap object that maps prefixes to their arguments
      */
     public static ArgumentMultimap tokenize(String argsString, Prefix... prefixes) {
-        List<PrefixPosition> positions = ArgumentTokenizer.findAllPrefixPositions(argsString, prefixes);
-        return ArgumentTokenizer.extractArguments(argsString, positions);
+        return ArgumentTokenizer.extractArguments(argsString, true, prefixes);
     }
 
     /**
@@ -47,187 +45,71 @@ public class ArgumentTokenizer {
      * @return ArgumentMultimap object that maps prefixes to their arguments
      */
     public static ArgumentMultimap untrimmedTokenize(String argsString, Prefix... prefixes) {
-        List<PrefixPosition> positions = ArgumentTokenizer.findAllPrefixPositions(argsString, prefixes);
-        return ArgumentTokenizer.extractArgumentsUntrimmed(argsString, positions);
+        return ArgumentTokenizer.extractArguments(argsString, false, prefixes);
     }
 
     /**
-     * Finds all zero-based prefix positions in the given arguments string.
+     * Extracts prefixes and their argument values in a single left-to-right
+     * pass over {@code argsString}, and returns an {@code ArgumentMultimap}
+     * object that maps the extracted prefixes to their respective arguments.
+     * Each value runs from the end of its prefix to the start of the next
+     * prefix, or to the end of {@code argsString}.
      *
      * @param argsString Arguments string of the form:
      *                   {@code preamble <prefix>value <prefix>value ...}
-     * @param prefixes   Prefixes to find in the arguments string
-     * @return List of zero-based prefix positions in the given arguments string
-     */
-    private static List<PrefixPosition> findAllPrefixPositions(String argsString, Prefix... prefixes) {
-        return Arrays.stream(prefixes)
-                .flatMap(prefix -> ArgumentTokenizer.findPrefixPositions(argsString, prefix).stream())
-                .collect(Collectors.toList());
-    }
-
-    /**
-     * {@see findAllPrefixPositions}
-     */
-    private static List<PrefixPosition> findPrefixPositions(String argsString, Prefix prefix) {
-        List<PrefixPosition> positions = new ArrayList<>();
-
-        int prefixPosition = ArgumentTokenizer.findPrefixPosition(argsString, prefix.getPrefix(), 0);
-        while (prefixPosition != -1) {
-            PrefixPosition extendedPrefix = new PrefixPosition(prefix, prefixPosition);
-            positions.add(extendedPrefix);
-            prefixPosition = ArgumentTokenizer.findPrefixPosition(argsString, prefix.getPrefix(), prefixPosition);
-        }
-
-        return positions;
-    }
-
-    /**
-     * Returns the index of the first occurrence of {@code prefix} in
-     * {@code argsString} starting from index {@code fromIndex}. An occurrence
-     * is valid if there is a whitespace before {@code prefix}. Returns -1 if no
-     * such occurrence can be found.
-     *
-     * E.g if {@code argsString} = "e/hip/900", {@code prefix} = "p/" and
-     * {@code fromIndex} = 0, this method returns -1 as there are no valid
-     * occurrences of "p/" with whitespace before it. However, if
-     * {@code argsString} = "e/hi p/900", {@code prefix} = "p/" and
-     * {@code fromIndex} = 0, this method returns 5.
-     */
-    private static int findPrefixPosition(String argsString, String prefix, int fromIndex) {
-        int prefixIndex = argsString.toLowerCase().indexOf(" " + prefix.toLowerCase(), fromIndex);
-        return prefixIndex == -1 ? -1
-                : prefixIndex + 1; // +1 as offset for whitespace
-    }
-
-    /**
-     * Extracts prefixes and their argument values, and returns an
-     * {@code ArgumentMultimap} object that maps the
-     * extracted prefixes to their respective arguments. Prefixes are extracted
-     * based on their zero-based positions in
-     * {@code argsString}.
-     *
-     * @param argsString      Arguments string of the form:
-     *                        {@code preamble <prefix>value <prefix>value ...}
-     * @param prefixPositions Zero-based positions of all prefixes in
-     *                        {@code argsString}
+     * @param isTrimmed  Whether to trim leading and trailing whitespace from
+     *                   the argument values
+     * @param prefixes   Prefixes to tokenize the arguments string with
      * @return ArgumentMultimap object that maps prefixes to their arguments
      */
-    private static ArgumentMultimap extractArguments(String argsString, List<PrefixPosition> prefixPositions) {
-
-        // Sort by start position
-        prefixPositions.sort((prefix1, prefix2) -> prefix1.getStartPosition() - prefix2.getStartPosition());
-
-        // Insert a PrefixPosition to represent the preamble
-        PrefixPosition preambleMarker = new PrefixPosition(new Prefix(""), 0);
-        prefixPositions.add(0, preambleMarker);
-
-        // Add a dummy PrefixPosition to represent the end of the string
-        PrefixPosition endPositionMarker = new PrefixPosition(new Prefix(""), argsString.length());
-        prefixPositions.add(endPositionMarker);
-
-        // Map prefixes to their argument values (if any)
+    private static ArgumentMultimap extractArguments(String argsString, boolean isTrimmed, Prefix... prefixes) {
         ArgumentMultimap argMultimap = new ArgumentMultimap();
-        for (int i = 0; i < prefixPositions.size() - 1; i++) {
-            // Extract and store prefixes and their arguments
-            Prefix argPrefix = prefixPositions.get(i).getPrefix();
-            String argValue = ArgumentTokenizer.extractArgumentValue(argsString, prefixPositions.get(i),
-                    prefixPositions.get(i + 1));
-            argMultimap.put(argPrefix, argValue);
+        Prefix currentPrefix = ArgumentTokenizer.PREAMBLE;
+        int valueStartPosition = 0;
+
+        for (int i = 0; i < argsString.length(); i++) {
+            // A prefix is only recognized if there is a whitespace before it
+            if (argsString.charAt(i) != ' ') {
+                continue;
+            }
+            Prefix prefix = ArgumentTokenizer.findPrefixAt(argsString, i + 1, prefixes);
+            if (prefix == null) {
+                continue;
+            }
+
+            ArgumentTokenizer.putArgument(argMultimap, currentPrefix,
+                    argsString.substring(valueStartPosition, i + 1), isTrimmed);
+            currentPrefix = prefix;
+            valueStartPosition = i + 1 + prefix.getPrefix().length();
         }
 
+        ArgumentTokenizer.putArgument(argMultimap, currentPrefix, argsString.substring(valueStartPosition),
+                isTrimmed);
         return argMultimap;
     }
 
     /**
-     * Extracts prefixes and their untrimmed argument values, and returns an
-     * {@code ArgumentMultimap} object that maps the
-     * extracted prefixes to their respective arguments. Prefixes are extracted
-     * based on their zero-based positions in
-     * {@code argsString}.
+     * Returns the longest of {@code prefixes} that occurs in {@code argsString}
+     * at {@code position}, ignoring case, or null if none of them does.
      *
-     * @param argsString      Arguments string of the form:
-     *                        {@code preamble <prefix>value <prefix>value ...}
-     * @param prefixPositions Zero-based positions of all prefixes in
-     *                        {@code argsString}
-     * @return ArgumentMultimap object that maps prefixes to their arguments
+     * E.g if {@code argsString} = "e/hi p/900", {@code prefixes} = "p/" and
+     * {@code position} = 5, this method returns "p/", but it returns null for
+     * any other position.
      */
-    private static ArgumentMultimap extractArgumentsUntrimmed(String argsString, List<PrefixPosition> prefixPositions) {
-
-        // Sort by start position
-        prefixPositions.sort((prefix1, prefix2) -> prefix1.getStartPosition() - prefix2.getStartPosition());
-
-        // Insert a PrefixPosition to represent the preamble
-        PrefixPosition preambleMarker = new PrefixPosition(new Prefix(""), 0);
-        prefixPositions.add(0, preambleMarker);
-
-        // Add a dummy PrefixPosition to represent the end of the string
-        PrefixPosition endPositionMarker = new PrefixPosition(new Prefix(""), argsString.length());
-        prefixPositions.add(endPositionMarker);
-
-        // Map prefixes to their argument values (if any)
-        ArgumentMultimap argMultimap = new ArgumentMultimap();
-        for (int i = 0; i < prefixPositions.size() - 1; i++) {
-            // Extract and store prefixes and their arguments
-            Prefix argPrefix = prefixPositions.get(i).getPrefix();
-            String argValue = ArgumentTokenizer.extractArgumentValueUntrimmed(argsString, prefixPositions.get(i),
-                    prefixPositions.get(i + 1));
-            argMultimap.put(argPrefix, argValue);
+    private static Prefix findPrefixAt(String argsString, int position, Prefix... prefixes) {
+        Prefix longestPrefix = null;
+        for (Prefix prefix : prefixes) {
+            String prefixString = prefix.getPrefix();
+            if (!prefixString.isEmpty()
+                    && argsString.regionMatches(true, position, prefixString, 0, prefixString.length())
+                    && (longestPrefix == null || prefixString.length() > longestPrefix.getPrefix().length())) {
+                longestPrefix = prefix;
+            }
         }
-
-        return argMultimap;
-    }
-
-    /**
-     * Returns the trimmed value of the argument in the arguments string specified
-     * by {@code currentPrefixPosition}.
-     * The end position of the value is determined by {@code nextPrefixPosition}.
-     */
-    private static String extractArgumentValue(String argsString,
-            PrefixPosition currentPrefixPosition,
-            PrefixPosition nextPrefixPosition) {
-        Prefix prefix = currentPrefixPosition.getPrefix();
-
-        int valueStartPos = currentPrefixPosition.getStartPosition() + prefix.getPrefix().length();
-        String value = argsString.substring(valueStartPos, nextPrefixPosition.getStartPosition());
-
-        return value.trim();
-    }
-
-    /**
-     * Returns the untrimmed value of the argument in the arguments string specified
-     * by {@code currentPrefixPosition}.
-     * The end position of the value is determined by {@code nextPrefixPosition}.
-     */
-    private static String extractArgumentValueUntrimmed(String argsString,
-            PrefixPosition currentPrefixPosition,
-            PrefixPosition nextPrefixPosition) {
-        Prefix prefix = currentPrefixPosition.getPrefix();
-
-        int valueStartPos = currentPrefixPosition.getStartPosition() + prefix.getPrefix().length();
-        String value = argsString.substring(valueStartPos, nextPrefixPosition.getStartPosition());
-
-        return value;
+        return longestPrefix;
     }
 
-    /**
-     * Represents a prefix's position in an arguments string.
-     */
-    private static class PrefixPosition {
-        private int startPosition;
-        private final Prefix prefix;
-
-        PrefixPosition(Prefix prefix, int startPosition) {
-            this.prefix = prefix;
-            this.startPosition = startPosition;
-        }
-
-        int getStartPosition() {
-            return this.startPosition;
-        }
-
-        Prefix getPrefix() {
-            return this.prefix;
-        }
+    private static void putArgument(ArgumentMultimap argMultimap, Prefix prefix, String value, boolean isTrimmed) {
+        argMultimap.put(prefix, isTrimmed ? value.trim() : value);
     }
-
 }
@@ -19,4 +19,9 @@ public class CliSyntax {
     public static final Prefix PREFIX_CONTACT = new Prefix("ct/");
     public static final Prefix PREFIX_ASSIGNMENT = new Prefix("ass/");
     public static final Prefix PREFIX_SCORE = new Prefix("s/");
+    public static final Prefix PREFIX_STATUS = new Prefix("st/");
+    public static final Prefix PREFIX_NEXT = new Prefix("next/");
+
+    /* Marks a search criterion as one that must not match */
+    public static final String NEGATION_MARKER = "!";
 }
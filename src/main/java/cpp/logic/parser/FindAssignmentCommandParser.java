@@ -1,96 +1,153 @@
 package cpp.logic.parser;
 
+import java.time.Clock;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
 
+import cpp.commons.util.StringUtil;
 import cpp.logic.Messages;
 import cpp.logic.commands.FindAssignmentCommand;
 import cpp.logic.parser.exceptions.ParseException;
 import cpp.model.assignment.AssignmentDeadlineInRangePredicate;
+import cpp.model.assignment.AssignmentDueNextPredicate;
 import cpp.model.assignment.AssignmentNameContainsKeywordsPredicate;
+import cpp.model.assignment.AssignmentOverduePredicate;
 import cpp.model.assignment.AssignmentSearchPredicate;
+import cpp.model.assignment.CompoundAssignmentSearchPredicate;
 
 /**
  * Parses input arguments and creates a new FindAssignmentCommand object
  */
 public class FindAssignmentCommandParser implements Parser<FindAssignmentCommand> {
 
+    private final Clock clock;
+
+    /**
+     * Creates a parser that finds overdue and next due assignments relative to
+     * the current time.
+     */
+    public FindAssignmentCommandParser() {
+        this(Clock.systemUTC());
+    }
+
+    /**
+     * Creates a parser that finds overdue and next due assignments relative to
+     * the time of {@code clock}, in the default time zone.
+     */
+    FindAssignmentCommandParser(Clock clock) {
+        Objects.requireNonNull(clock);
+        this.clock = clock;
+    }
+
     /**
      * Parses the given {@code String} of arguments in the context of the
      * FindAssignmentCommand and returns a FindAssignmentCommand object for
      * execution.
      *
-     * Supports finding by name (ass/ASSIGNMENT_NAME_SUBSTRING) or deadline
-     * (d/DEADLINE)
+     * Supports finding by name (ass/ASSIGNMENT_NAME_SUBSTRING), deadline
+     * (ds/DEADLINE_START de/DEADLINE_END), being overdue (st/overdue) or any
+     * of them, in which case assignments must match all of them. A name whose
+     * value starts with {@code CliSyntax.NEGATION_MARKER} must not match
+     * instead. Alternatively, finds the next COUNT assignments due (next/COUNT),
+     * which cannot be combined with the other criteria.
      * Examples: findass ass/CS2103 project
-     * findass d/31-12-2024
+     * findass ds/01-12-2024 de/31-12-2024
+     * findass ass/!quiz de/31-12-2024
+     * findass st/overdue
+     * findass next/3
      *
      * @throws ParseException if the user input does not conform the expected format
      */
     @Override
     public FindAssignmentCommand parse(String args) throws ParseException {
         ArgumentMultimap argMultimap = ArgumentTokenizer.untrimmedTokenize(args, CliSyntax.PREFIX_ASSIGNMENT,
-                CliSyntax.PREFIX_DATETIME_START, CliSyntax.PREFIX_DATETIME_END);
+                CliSyntax.PREFIX_DATETIME_START, CliSyntax.PREFIX_DATETIME_END, CliSyntax.PREFIX_STATUS,
+                CliSyntax.PREFIX_NEXT);
 
         argMultimap.verifyNoDuplicatePrefixesFor(CliSyntax.PREFIX_ASSIGNMENT, CliSyntax.PREFIX_DATETIME_START,
-                CliSyntax.PREFIX_DATETIME_END);
-
-        AssignmentSearchPredicate predicate;
+                CliSyntax.PREFIX_DATETIME_END, CliSyntax.PREFIX_STATUS, CliSyntax.PREFIX_NEXT);
 
         boolean hasAssignmentPrefix = argMultimap.getValue(CliSyntax.PREFIX_ASSIGNMENT).isPresent();
         boolean hasDatetimeStartPrefix = argMultimap.getValue(CliSyntax.PREFIX_DATETIME_START).isPresent();
         boolean hasDatetimeEndPrefix = argMultimap.getValue(CliSyntax.PREFIX_DATETIME_END).isPresent();
+        boolean hasStatusPrefix = argMultimap.getValue(CliSyntax.PREFIX_STATUS).isPresent();
+        boolean hasNextPrefix = argMultimap.getValue(CliSyntax.PREFIX_NEXT).isPresent();
 
-        // Check for conflicting prefixes
-        int prefixCount = (hasAssignmentPrefix ? 1 : 0) + ((hasDatetimeStartPrefix || hasDatetimeEndPrefix) ? 1 : 0);
-        if (prefixCount > 1) {
+        if (!argMultimap.getPreamble().trim().isEmpty()) {
             throw new ParseException(
                     String.format(Messages.MESSAGE_INVALID_COMMAND_FORMAT, FindAssignmentCommand.MESSAGE_USAGE));
         }
 
-        if (!argMultimap.getPreamble().trim().isEmpty()) {
-            throw new ParseException(
-                    String.format(Messages.MESSAGE_INVALID_COMMAND_FORMAT, FindAssignmentCommand.MESSAGE_USAGE));
+        LocalDateTime now = LocalDateTime.now(this.clock.withZone(ParserUtil.getDefaultZone()));
+
+        if (hasNextPrefix) {
+            if (hasAssignmentPrefix || hasDatetimeStartPrefix || hasDatetimeEndPrefix || hasStatusPrefix) {
+                throw new ParseException(FindAssignmentCommand.MESSAGE_NEXT_WITH_OTHER_CRITERIA);
+            }
+            String countValue = argMultimap.getValue(CliSyntax.PREFIX_NEXT).get().trim();
+            if (!StringUtil.isNonZeroUnsignedInteger(countValue)) {
+                throw new ParseException(FindAssignmentCommand.MESSAGE_INVALID_COUNT);
+            }
+            return new FindAssignmentCommand(new AssignmentDueNextPredicate(now, Integer.parseInt(countValue)));
         }
 
-        if (hasDatetimeStartPrefix && hasDatetimeEndPrefix) {
-            String deadlineStartValue = argMultimap.getValue(CliSyntax.PREFIX_DATETIME_START).get().trim()
-                    .replaceAll("\\s+", " ");
-            String deadlineEndValue = argMultimap.getValue(CliSyntax.PREFIX_DATETIME_END).get().trim()
-                    .replaceAll("\\s+", " ");
-            LocalDateTime deadlineStart = this.parseDeadlineDateTime(deadlineStartValue, true);
-            LocalDateTime deadlineEnd = this.parseDeadlineDateTime(deadlineEndValue, false);
+        List<AssignmentSearchPredicate> criteria = new ArrayList<>();
+
+        if (hasDatetimeStartPrefix || hasDatetimeEndPrefix) {
+            LocalDateTime deadlineStart = LocalDateTime.MIN;
+            LocalDateTime deadlineEnd = LocalDateTime.MAX;
+            if (hasDatetimeStartPrefix) {
+                String deadlineStartValue = argMultimap.getValue(CliSyntax.PREFIX_DATETIME_START).get().trim()
+                        .replaceAll("\\s+", " ");
+                deadlineStart = this.parseDeadlineDateTime(deadlineStartValue, true);
+            }
+            if (hasDatetimeEndPrefix) {
+                String deadlineEndValue = argMultimap.getValue(CliSyntax.PREFIX_DATETIME_END).get().trim()
+                        .replaceAll("\\s+", " ");
+                deadlineEnd = this.parseDeadlineDateTime(deadlineEndValue, false);
+            }
             if (deadlineStart.isAfter(deadlineEnd)) {
                 throw new ParseException(Messages.MESSAGE_DEADLINE_START_AFTER_END);
             }
-            predicate = new AssignmentDeadlineInRangePredicate(deadlineStart, deadlineEnd);
-
-        } else if (hasDatetimeStartPrefix) {
-            String deadlineValue = argMultimap.getValue(CliSyntax.PREFIX_DATETIME_START).get().trim()
-                    .replaceAll("\\s+", " ");
-            LocalDateTime deadline = this.parseDeadlineDateTime(deadlineValue, true);
-            predicate = new AssignmentDeadlineInRangePredicate(deadline, LocalDateTime.MAX);
-
-        } else if (hasDatetimeEndPrefix) {
-            String deadlineValue = argMultimap.getValue(CliSyntax.PREFIX_DATETIME_END).get().trim()
-                    .replaceAll("\\s+", " ");
-            LocalDateTime deadline = this.parseDeadlineDateTime(deadlineValue, false);
-            predicate = new AssignmentDeadlineInRangePredicate(LocalDateTime.MIN, deadline);
-
-        } else if (hasAssignmentPrefix) {
-            String assignmentSubstring = argMultimap.getValue(CliSyntax.PREFIX_ASSIGNMENT).get().replaceAll("\\s+",
-                    " ");
+            criteria.add(new AssignmentDeadlineInRangePredicate(deadlineStart, deadlineEnd));
+        }
+
+        if (hasStatusPrefix) {
+            String statusValue = argMultimap.getValue(CliSyntax.PREFIX_STATUS).get().trim();
+            if (!statusValue.equalsIgnoreCase(FindAssignmentCommand.STATUS_OVERDUE)) {
+                throw new ParseException(FindAssignmentCommand.MESSAGE_INVALID_STATUS);
+            }
+            criteria.add(new AssignmentOverduePredicate(now));
+        }
+
+        if (hasAssignmentPrefix) {
+            String assignmentValue = argMultimap.getValue(CliSyntax.PREFIX_ASSIGNMENT).get();
+            boolean isNegated = assignmentValue.stripLeading().startsWith(CliSyntax.NEGATION_MARKER);
+            String assignmentSubstring = (isNegated
+                    ? assignmentValue.stripLeading().substring(CliSyntax.NEGATION_MARKER.length())
+                    : assignmentValue).replaceAll("\\s+", " ");
+            // The whitespace before the other prefixes is not part of the name
+            if (hasDatetimeStartPrefix || hasDatetimeEndPrefix || hasStatusPrefix) {
+                assignmentSubstring = assignmentSubstring.stripTrailing();
+            }
             if (!assignmentSubstring.matches("[A-Za-z0-9()\\- ]+")) {
                 throw new ParseException(
                         "Assignment name search string must contain 1 or more letters, digits, -, (, ), and spaces");
             }
-            predicate = new AssignmentNameContainsKeywordsPredicate(assignmentSubstring);
+            AssignmentSearchPredicate namePredicate = new AssignmentNameContainsKeywordsPredicate(assignmentSubstring);
+            criteria.add(isNegated ? CompoundAssignmentSearchPredicate.not(namePredicate) : namePredicate);
+        }
 
-        } else {
+        if (criteria.isEmpty()) {
             throw new ParseException(
                     String.format(Messages.MESSAGE_INVALID_COMMAND_FORMAT, FindAssignmentCommand.MESSAGE_USAGE));
         }
 
-        return new FindAssignmentCommand(predicate);
+        return new FindAssignmentCommand(criteria.size() == 1
+                ? criteria.get(0)
+                : CompoundAssignmentSearchPredicate.allOf(criteria));
     }
 
     /**
@@ -1,12 +1,26 @@
 package cpp.logic.parser;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
 import cpp.logic.Messages;
 import cpp.logic.commands.FindContactCommand;
 import cpp.logic.parser.exceptions.ParseException;
+import cpp.model.assignment.AssignmentName;
+import cpp.model.classgroup.ClassGroupName;
+import cpp.model.contact.CompoundContactSearchPredicate;
+import cpp.model.contact.ContactAssignmentStatusPredicate;
 import cpp.model.contact.ContactEmailMatchesKeywordsPredicate;
+import cpp.model.contact.ContactHasTagsPredicate;
+import cpp.model.contact.ContactInClassGroupPredicate;
 import cpp.model.contact.ContactNameContainsKeywordsPredicate;
 import cpp.model.contact.ContactPhoneMatchesKeywordsPredicate;
 import cpp.model.contact.ContactSearchPredicate;
+import cpp.model.tag.Tag;
 
 /**
  * Parses input arguments and creates a new FindContactCommand object
@@ -18,68 +32,184 @@ public class FindContactCommandParser implements Parser<FindContactCommand> {
      * FindContactCommand
      * and returns a FindContactCommand object for execution.
      *
-     * Supports finding by name (n/KEYWORD), phone (p/KEYWORD), or email (e/KEYWORD)
+     * Supports finding by name (n/KEYWORD), phone (p/KEYWORD), email (e/KEYWORD),
+     * tags (t/TAGS...), class group (c/CLASS_NAME) or assignment
+     * (ass/ASSIGNMENT_NAME [st/STATUS]), in any combination. Contacts must match
+     * every criterion given, and a criterion whose value starts with
+     * {@code CliSyntax.NEGATION_MARKER} must not match instead.
      * Examples: findcontact n/Alice Bob
      * findcontact p/91234567
      * findcontact e/alice@gmail.com
+     * findcontact t/friends owesMoney | family
+     * findcontact c/T01 ass/Assignment 1 st/unsubmitted
+     * findcontact n/tan e/!@example.com
      *
      * @throws ParseException if the user input does not conform the expected format
      */
     @Override
     public FindContactCommand parse(String args) throws ParseException {
         ArgumentMultimap argMultimap = ArgumentTokenizer
-                .untrimmedTokenize(args, CliSyntax.PREFIX_NAME, CliSyntax.PREFIX_PHONE, CliSyntax.PREFIX_EMAIL);
-
-        argMultimap.verifyNoDuplicatePrefixesFor(CliSyntax.PREFIX_NAME, CliSyntax.PREFIX_PHONE, CliSyntax.PREFIX_EMAIL);
+                .untrimmedTokenize(args, CliSyntax.PREFIX_NAME, CliSyntax.PREFIX_PHONE, CliSyntax.PREFIX_EMAIL,
+                        CliSyntax.PREFIX_TAG, CliSyntax.PREFIX_CLASS, CliSyntax.PREFIX_ASSIGNMENT,
+                        CliSyntax.PREFIX_STATUS);
 
-        ContactSearchPredicate predicate;
+        argMultimap.verifyNoDuplicatePrefixesFor(CliSyntax.PREFIX_NAME, CliSyntax.PREFIX_PHONE, CliSyntax.PREFIX_EMAIL,
+                CliSyntax.PREFIX_TAG, CliSyntax.PREFIX_CLASS, CliSyntax.PREFIX_ASSIGNMENT, CliSyntax.PREFIX_STATUS);
 
-        boolean hasPhonePrefix = argMultimap.getValue(CliSyntax.PREFIX_PHONE).isPresent();
-        boolean hasEmailPrefix = argMultimap.getValue(CliSyntax.PREFIX_EMAIL).isPresent();
-        boolean hasNamePrefix = argMultimap.getValue(CliSyntax.PREFIX_NAME).isPresent();
-
-        // Check for conflicting prefixes
-        int prefixCount = (hasPhonePrefix ? 1 : 0) + (hasEmailPrefix ? 1 : 0) + (hasNamePrefix ? 1 : 0);
-        if (prefixCount > 1) {
+        if (!argMultimap.getPreamble().trim().isEmpty()) {
             throw new ParseException(
                     String.format(Messages.MESSAGE_INVALID_COMMAND_FORMAT, FindContactCommand.MESSAGE_USAGE));
         }
 
-        if (!argMultimap.getPreamble().trim().isEmpty()) {
+        // A status is only meaningful for an assignment
+        if (argMultimap.getValue(CliSyntax.PREFIX_STATUS).isPresent()
+                && argMultimap.getValue(CliSyntax.PREFIX_ASSIGNMENT).isEmpty()) {
             throw new ParseException(
                     String.format(Messages.MESSAGE_INVALID_COMMAND_FORMAT, FindContactCommand.MESSAGE_USAGE));
         }
 
-        if (hasPhonePrefix) {
-            String phoneValue = argMultimap.getValue(CliSyntax.PREFIX_PHONE).get().trim();
-            if (!phoneValue.matches("\\d+")) {
+        List<ContactSearchPredicate> criteria = new ArrayList<>();
+
+        Optional<String> nameValue = argMultimap.getValue(CliSyntax.PREFIX_NAME);
+        if (nameValue.isPresent()) {
+            String nameSearchString = FindContactCommandParser.removeNegationMarker(nameValue.get())
+                    .replaceAll("\\s+", " ");
+            // The whitespace before another criterion's prefix is not part of the name
+            if (FindContactCommandParser.hasOtherCriteria(argMultimap, CliSyntax.PREFIX_NAME)) {
+                nameSearchString = nameSearchString.stripTrailing();
+            }
+            if (!nameSearchString.matches("(?i)([A-Za-z0-9()\\- ]|s/o|d/o)+")) {
+                throw new ParseException("""
+                        Contact name search string must contain 1 or more letters, digits, -, (, ), \
+                        s/o (case-insensitive), d/o (case-insensitive), and spaces""");
+            }
+            criteria.add(FindContactCommandParser.negateIfMarked(nameValue.get(),
+                    new ContactNameContainsKeywordsPredicate(nameSearchString)));
+        }
+
+        Optional<String> phoneValue = argMultimap.getValue(CliSyntax.PREFIX_PHONE);
+        if (phoneValue.isPresent()) {
+            String phoneSearchString = FindContactCommandParser.removeNegationMarker(phoneValue.get()).trim();
+            if (!phoneSearchString.matches("\\d+")) {
                 throw new ParseException("""
                         Phone number search string must contain 1 or more digits and \
                         cannot contain spaces between digits.""");
             }
-            predicate = new ContactPhoneMatchesKeywordsPredicate(phoneValue);
-        } else if (hasEmailPrefix) {
-            String emailValue = argMultimap.getValue(CliSyntax.PREFIX_EMAIL).get().trim();
-            if (!emailValue.matches("[A-Za-z0-9+_.@-]+")) {
+            criteria.add(FindContactCommandParser.negateIfMarked(phoneValue.get(),
+                    new ContactPhoneMatchesKeywordsPredicate(phoneSearchString)));
+        }
+
+        Optional<String> emailValue = argMultimap.getValue(CliSyntax.PREFIX_EMAIL);
+        if (emailValue.isPresent()) {
+            String emailSearchString = FindContactCommandParser.removeNegationMarker(emailValue.get()).trim();
+            if (!emailSearchString.matches("[A-Za-z0-9+_.@-]+")) {
                 throw new ParseException("""
                         Email search string must contain 1 or more letters, digits, +, _, ., @, - \
                         and cannot contain spaces between characters.""");
             }
-            predicate = new ContactEmailMatchesKeywordsPredicate(emailValue);
-        } else if (hasNamePrefix) {
-            String nameValue = argMultimap.getValue(CliSyntax.PREFIX_NAME).get().replaceAll("\\s+", " ");
-            if (!nameValue.matches("(?i)([A-Za-z0-9()\\- ]|s/o|d/o)+")) {
-                throw new ParseException("""
-                        Contact name search string must contain 1 or more letters, digits, -, (, ), \
-                        s/o (case-insensitive), d/o (case-insensitive), and spaces""");
-            }
-            predicate = new ContactNameContainsKeywordsPredicate(nameValue);
-        } else {
+            criteria.add(FindContactCommandParser.negateIfMarked(emailValue.get(),
+                    new ContactEmailMatchesKeywordsPredicate(emailSearchString)));
+        }
+
+        Optional<String> tagValue = argMultimap.getValue(CliSyntax.PREFIX_TAG);
+        if (tagValue.isPresent()) {
+            criteria.add(FindContactCommandParser.negateIfMarked(tagValue.get(), new ContactHasTagsPredicate(
+                    FindContactCommandParser.parseTagGroups(
+                            FindContactCommandParser.removeNegationMarker(tagValue.get())))));
+        }
+
+        Optional<String> classValue = argMultimap.getValue(CliSyntax.PREFIX_CLASS);
+        if (classValue.isPresent()) {
+            ClassGroupName classGroupName = ParserUtil.parseClassGroupName(
+                    FindContactCommandParser.removeNegationMarker(classValue.get()), true);
+            criteria.add(FindContactCommandParser.negateIfMarked(classValue.get(),
+                    new ContactInClassGroupPredicate(classGroupName)));
+        }
+
+        Optional<String> assignmentValue = argMultimap.getValue(CliSyntax.PREFIX_ASSIGNMENT);
+        if (assignmentValue.isPresent()) {
+            AssignmentName assignmentName = ParserUtil.parseAssignmentName(
+                    FindContactCommandParser.removeNegationMarker(assignmentValue.get()), true);
+            ContactAssignmentStatusPredicate.Status status = argMultimap.getValue(CliSyntax.PREFIX_STATUS).isPresent()
+                    ? FindContactCommandParser.parseStatus(argMultimap.getValue(CliSyntax.PREFIX_STATUS).get())
+                    : ContactAssignmentStatusPredicate.Status.ALLOCATED;
+            criteria.add(FindContactCommandParser.negateIfMarked(assignmentValue.get(),
+                    new ContactAssignmentStatusPredicate(assignmentName, status)));
+        }
+
+        if (criteria.isEmpty()) {
             throw new ParseException(
                     String.format(Messages.MESSAGE_INVALID_COMMAND_FORMAT, FindContactCommand.MESSAGE_USAGE));
         }
 
-        return new FindContactCommand(predicate);
+        return new FindContactCommand(criteria.size() == 1
+                ? criteria.get(0)
+                : CompoundContactSearchPredicate.allOf(criteria));
+    }
+
+    /**
+     * Returns true if {@code argMultimap} has a criterion other than the one
+     * given by {@code prefix}.
+     */
+    private static boolean hasOtherCriteria(ArgumentMultimap argMultimap, Prefix prefix) {
+        return Stream.of(CliSyntax.PREFIX_NAME, CliSyntax.PREFIX_PHONE, CliSyntax.PREFIX_EMAIL, CliSyntax.PREFIX_TAG,
+                CliSyntax.PREFIX_CLASS, CliSyntax.PREFIX_ASSIGNMENT)
+                .anyMatch(other -> !other.equals(prefix) && argMultimap.getValue(other).isPresent());
+    }
+
+    /**
+     * Returns true if {@code value} starts with {@code CliSyntax.NEGATION_MARKER},
+     * ignoring leading whitespace.
+     */
+    private static boolean isNegated(String value) {
+        return value.stripLeading().startsWith(CliSyntax.NEGATION_MARKER);
+    }
+
+    /**
+     * Returns {@code value} without its leading {@code CliSyntax.NEGATION_MARKER},
+     * if any.
+     */
+    private static String removeNegationMarker(String value) {
+        return FindContactCommandParser.isNegated(value)
+                ? value.stripLeading().substring(CliSyntax.NEGATION_MARKER.length())
+                : value;
+    }
+
+    /**
+     * Returns {@code predicate} negated if {@code value} starts with
+     * {@code CliSyntax.NEGATION_MARKER}, or as is otherwise.
+     */
+    private static ContactSearchPredicate negateIfMarked(String value, ContactSearchPredicate predicate) {
+        return FindContactCommandParser.isNegated(value) ? CompoundContactSearchPredicate.not(predicate) : predicate;
+    }
+
+    /**
+     * Parses {@code String status} into the state of a contact's work on an
+     * assignment, ignoring case.
+     *
+     * @throws ParseException if {@code status} is not one of the states.
+     */
+    private static ContactAssignmentStatusPredicate.Status parseStatus(String status) throws ParseException {
+        try {
+            return ContactAssignmentStatusPredicate.Status.valueOf(status.trim().toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new ParseException(FindContactCommand.MESSAGE_INVALID_STATUS);
+        }
+    }
+
+    /**
+     * Parses {@code String tags} into groups of tags separated by
+     * {@code FindContactCommand.TAG_GROUP_SEPARATOR}, where the tags within a
+     * group are separated by spaces.
+     *
+     * @throws ParseException if a tag is invalid or a group has no tags.
+     */
+    private static List<Set<Tag>> parseTagGroups(String tags) throws ParseException {
+        List<Set<Tag>> tagGroups = new ArrayList<>();
+        for (String tagGroup : tags.split(Pattern.quote(FindContactCommand.TAG_GROUP_SEPARATOR), -1)) {
+            tagGroups.add(ParserUtil.parseNonEmptySearchTags(tagGroup));
+        }
+        return tagGroups;
     }
 
 }
@@ -1,6 +1,7 @@
 package cpp.logic.parser;
 
 import java.math.BigDecimal;
+import java.time.Instant;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
 import java.time.format.DateTimeFormatter;
@@ -132,12 +133,7 @@ public class ParserUtil {
      * @throws ParseException if the given {@code tag} is invalid.
      */
     public static Tag parseTag(String tag) throws ParseException {
-        Objects.requireNonNull(tag);
-        String trimmedTag = tag.trim().replaceAll("\\s+", " ");
-        if (!Tag.isValidTagName(trimmedTag)) {
-            throw new ParseException(Tag.MESSAGE_CONSTRAINTS);
-        }
-        return new Tag(trimmedTag);
+        return Tag.of(ParserUtil.parseTagName(tag));
     }
 
     /**
@@ -168,6 +164,26 @@ public class ParserUtil {
         return tagSet;
     }
 
+    /**
+     * Parses {@code String tags} into a {@code Set<Tag>} to search for, and
+     * checks that the set is not empty. Unlike {@link #parseTags(String)}, the
+     * tags are not shared, so searching for a tag no contact has does not keep
+     * it around.
+     */
+    public static Set<Tag> parseNonEmptySearchTags(String tags) throws ParseException {
+        Objects.requireNonNull(tags);
+        Set<Tag> tagSet = new LinkedHashSet<>();
+        for (String part : tags.trim().split("\\s+")) {
+            if (!part.isBlank()) {
+                tagSet.add(new Tag(ParserUtil.parseTagName(part)));
+            }
+        }
+        if (tagSet.isEmpty()) {
+            throw new ParseException(ParserUtil.MESSAGE_EMPTY_TAGS);
+        }
+        return tagSet;
+    }
+
     /**
      * Parses a {@code String datetime} into a {@code LocalDateTime}.
      */
@@ -202,7 +218,15 @@ public class ParserUtil {
      */
     public static LocalDateTime parseGmtDateTime(String datetime) throws ParseException {
         LocalDateTime dateTime = ParserUtil.parseDeadline(datetime);
-        dateTime = dateTime.atZone(ZoneId.of("GMT")).withZoneSameInstant(ParserUtil.getDefaultZone()).toLocalDateTime();
+        return ParserUtil.parseInstant(dateTime.atZone(ZoneId.of("GMT")).toInstant());
+    }
+
+    /**
+     * Converts an {@code Instant} into a {@code LocalDateTime} in the default
+     * timezone and checks if it is not in the future.
+     */
+    public static LocalDateTime parseInstant(Instant instant) throws ParseException {
+        LocalDateTime dateTime = LocalDateTime.ofInstant(instant, ParserUtil.getDefaultZone());
         if (dateTime.isAfter(LocalDateTime.now(ParserUtil.defaultZone))) {
             throw new ParseException(ParserUtil.MESSAGE_INVALID_FUTURE_DATETIME);
         }
@@ -342,4 +366,18 @@ public class ParserUtil {
     public static boolean arePrefixesPresent(ArgumentMultimap argumentMultimap, Prefix... prefixes) {
         return Stream.of(prefixes).allMatch(prefix -> argumentMultimap.getValue(prefix).isPresent());
     }
+
+    /**
+     * Returns {@code tag} with leading and trailing whitespaces trimmed.
+     *
+     * @throws ParseException if the trimmed {@code tag} is not a valid tag name.
+     */
+    private static String parseTagName(String tag) throws ParseException {
+        Objects.requireNonNull(tag);
+        String trimmedTag = tag.trim().replaceAll("\\s+", " ");
+        if (!Tag.isValidTagName(trimmedTag)) {
+            throw new ParseException(Tag.MESSAGE_CONSTRAINTS);
+        }
+        return trimmedTag;
+    }
 }
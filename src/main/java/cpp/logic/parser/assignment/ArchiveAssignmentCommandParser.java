@@ -0,0 +1,35 @@
+package cpp.logic.parser.assignment;
+
+import java.util.Objects;
+
+import cpp.commons.core.index.Index;
+import cpp.logic.Messages;
+import cpp.logic.commands.assignment.ArchiveAssignmentCommand;
+import cpp.logic.parser.Parser;
+import cpp.logic.parser.ParserUtil;
+import cpp.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new ArchiveAssignmentCommand object.
+ */
+public class ArchiveAssignmentCommandParser implements Parser<ArchiveAssignmentCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the
+     * ArchiveAssignmentCommand and returns a ArchiveAssignmentCommand object for
+     * execution.
+     *
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    @Override
+    public ArchiveAssignmentCommand parse(String args) throws ParseException {
+        Objects.requireNonNull(args);
+        try {
+            Index index = ParserUtil.parseIndex(args);
+            return new ArchiveAssignmentCommand(index);
+        } catch (ParseException pe) {
+            throw new ParseException(String.format(Messages.MESSAGE_INVALID_COMMAND_FORMAT,
+                    ArchiveAssignmentCommand.MESSAGE_USAGE), pe);
+        }
+    }
+}
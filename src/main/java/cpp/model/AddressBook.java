@@ -3,16 +3,21 @@ package cpp.model;
 import java.util.List;
 import java.util.Objects;
 
-import cpp.commons.util.CollectionUtil;
 import cpp.commons.util.ToStringBuilder;
 import cpp.model.assignment.Assignment;
+import cpp.model.assignment.AssignmentDeadlineIndex;
+import cpp.model.assignment.AssignmentName;
 import cpp.model.assignment.ContactAssignment;
+import cpp.model.assignment.ContactAssignmentStore;
+import cpp.model.assignment.DeferredContactAssignments;
 import cpp.model.assignment.UniqueAssignmentList;
-import cpp.model.assignment.UniqueContactAssignmentList;
+import cpp.model.assignment.exceptions.ContactAssignmentsNotLoadedException;
 import cpp.model.classgroup.ClassGroup;
+import cpp.model.classgroup.ClassGroupName;
 import cpp.model.classgroup.UniqueClassGroupList;
 import cpp.model.contact.Contact;
 import cpp.model.contact.ContactName;
+import cpp.model.contact.ContactSearchIndex;
 import cpp.model.contact.UniqueContactList;
 import javafx.collections.ObservableList;
 
@@ -24,7 +29,7 @@ public class AddressBook implements ReadOnlyAddressBook {
 
     private final UniqueContactList contacts;
     private final UniqueAssignmentList assignments;
-    private final UniqueContactAssignmentList contactAssignments;
+    private final ContactAssignmentStore contactAssignments;
     private final UniqueClassGroupList classGroups;
 
     /*
@@ -39,7 +44,7 @@ public class AddressBook implements ReadOnlyAddressBook {
     {
         this.contacts = new UniqueContactList();
         this.assignments = new UniqueAssignmentList();
-        this.contactAssignments = new UniqueContactAssignmentList();
+        this.contactAssignments = new ContactAssignmentStore(this.contacts::containsId);
         this.classGroups = new UniqueClassGroupList();
     }
 
@@ -81,6 +86,16 @@ public class AddressBook implements ReadOnlyAddressBook {
         this.contactAssignments.setContactAssignments(contactAssignments);
     }
 
+    /**
+     * Defers loading the contact assignments of the assignments in
+     * {@code deferred} until they are needed. Contact assignments of those
+     * assignments that are already in the address book are kept when they are
+     * loaded.
+     */
+    public void setDeferredContactAssignments(DeferredContactAssignments deferred) {
+        this.contactAssignments.setDeferred(deferred);
+    }
+
     /**
      * Replaces the contents of the class group list with {@code classGroups}
      * {@code classGroups} must not contain duplicate class groups
@@ -98,6 +113,7 @@ public class AddressBook implements ReadOnlyAddressBook {
         this.setContacts(newData.getContactList());
         this.setAssignments(newData.getAssignmentList());
         this.setContactAssignments(newData.getContactAssignmentList());
+        this.setDeferredContactAssignments(newData.getDeferredContactAssignments());
         this.setClassGroups(newData.getClassGroupList());
     }
 
@@ -151,14 +167,15 @@ public class AddressBook implements ReadOnlyAddressBook {
     }
 
     /**
-     * Removes {@code key} from this {@code AddressBook}.
+     * Removes {@code key} from this {@code AddressBook}, along with its class group
+     * allocations and contact assignments.
      * {@code key} must exist in the address book.
      */
-    public void removeContact(Contact key, List<ContactAssignment> caList) {
-        CollectionUtil.requireAllNonNull(key, caList);
+    public void removeContact(Contact key) {
+        Objects.requireNonNull(key);
         this.contacts.remove(key);
         this.classGroups.unallocateContactFromAllClassGroups(key);
-        this.contactAssignments.removeMultiple(caList);
+        this.contactAssignments.removeByContact(key.getId());
     }
 
     //// assignment level operations
@@ -196,20 +213,29 @@ public class AddressBook implements ReadOnlyAddressBook {
      * {@code target} must exist in the address book.
      * The assignment identity of {@code editedAssignment} must not be the same as
      * another existing assignment in the address book.
+     * The contact assignments of an assignment that is no longer archived are
+     * loaded if they were deferred.
+     *
+     * @throws ContactAssignmentsNotLoadedException if they could not be loaded.
      */
     public void setAssignment(Assignment target, Assignment editedAssignment) {
         Objects.requireNonNull(editedAssignment);
+        // Loaded first, so that a failed load leaves the assignment archived and its rows in their segment.
+        if (!editedAssignment.isArchived()) {
+            this.contactAssignments.requireLoaded(editedAssignment.getId());
+        }
         this.assignments.setAssignment(target, editedAssignment);
     }
 
     /**
-     * Removes {@code key} from this {@code AddressBook}.
+     * Removes {@code key} from this {@code AddressBook}, along with its contact
+     * assignments.
      * {@code key} must exist in the address book.
      */
-    public void removeAssignment(Assignment key, List<ContactAssignment> caList) {
-        CollectionUtil.requireAllNonNull(key, caList);
+    public void removeAssignment(Assignment key) {
+        Objects.requireNonNull(key);
         this.assignments.remove(key);
-        this.contactAssignments.removeMultiple(caList);
+        this.contactAssignments.removeByAssignment(key.getId());
     }
 
     /**
@@ -230,6 +256,7 @@ public class AddressBook implements ReadOnlyAddressBook {
 
     /**
      * Removes a contact assignment from the address book.
+     * The contact assignment must exist in the address book.
      */
     public void removeContactAssignment(ContactAssignment contactAssignment) {
         Objects.requireNonNull(contactAssignment);
@@ -276,6 +303,32 @@ public class AddressBook implements ReadOnlyAddressBook {
         this.classGroups.setClassGroup(target, editedClassGroup);
     }
 
+    /**
+     * Allocates the contact with id {@code contactId} to the class group
+     * {@code target}.
+     * {@code target} must exist in the address book.
+     */
+    public void allocateContactToClassGroup(ClassGroup target, String contactId) {
+        this.classGroups.allocateContact(target, contactId);
+    }
+
+    /**
+     * Unallocates the contact with id {@code contactId} from the class group
+     * {@code target}.
+     * {@code target} must exist in the address book.
+     */
+    public void unallocateContactFromClassGroup(ClassGroup target, String contactId) {
+        this.classGroups.unallocateContact(target, contactId);
+    }
+
+    /**
+     * Returns the class groups that the contact with id {@code contactId} is
+     * allocated to.
+     */
+    public List<ClassGroup> getClassGroupsForContact(String contactId) {
+        return this.classGroups.getClassGroupsForContact(contactId);
+    }
+
     /**
      * Removes ClassGroup {@code key} from this {@code AddressBook}.
      * {@code key} must exist in the address book.
@@ -284,6 +337,14 @@ public class AddressBook implements ReadOnlyAddressBook {
         this.classGroups.remove(key);
     }
 
+    /**
+     * Returns the store that owns the contact assignments of this address book.
+     * Changes made through the store are reflected in this address book.
+     */
+    public ContactAssignmentStore getContactAssignmentStore() {
+        return this.contactAssignments;
+    }
+
     //// util methods
 
     @Override
@@ -310,11 +371,50 @@ public class AddressBook implements ReadOnlyAddressBook {
         return this.contactAssignments.asUnmodifiableObservableList();
     }
 
+    @Override
+    public DeferredContactAssignments getDeferredContactAssignments() {
+        return this.contactAssignments.getDeferred();
+    }
+
     @Override
     public ObservableList<ClassGroup> getClassGroupList() {
         return this.classGroups.asUnmodifiableObservableList();
     }
 
+    /**
+     * Returns the index of the assignments by deadline.
+     */
+    public AssignmentDeadlineIndex getAssignmentDeadlineIndex() {
+        return this.assignments.getDeadlineIndex();
+    }
+
+    /**
+     * Returns the index used to narrow down substring searches of the contacts.
+     */
+    public ContactSearchIndex getContactSearchIndex() {
+        return this.contacts.getSearchIndex();
+    }
+
+    @Override
+    public Contact findContactById(String id) {
+        return this.contacts.findById(id);
+    }
+
+    @Override
+    public Assignment findAssignmentById(String id) {
+        return this.assignments.findById(id);
+    }
+
+    @Override
+    public Assignment findAssignmentByName(AssignmentName name) {
+        return this.assignments.findByName(name);
+    }
+
+    @Override
+    public ClassGroup findClassGroupByName(ClassGroupName name) {
+        return this.classGroups.findByName(name);
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
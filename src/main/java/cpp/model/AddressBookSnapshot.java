@@ -0,0 +1,138 @@
+package cpp.model;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+import cpp.commons.util.ToStringBuilder;
+import cpp.model.assignment.Assignment;
+import cpp.model.assignment.AssignmentName;
+import cpp.model.assignment.ContactAssignment;
+import cpp.model.assignment.DeferredContactAssignments;
+import cpp.model.classgroup.ClassGroup;
+import cpp.model.classgroup.ClassGroupName;
+import cpp.model.contact.Contact;
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+
+/**
+ * A copy of an address book that is not affected by later changes to it, and
+ * can be read on another thread, e.g. to be written to storage.
+ *
+ * Contacts and assignments are immutable and are shared with the address book,
+ * contact assignments and class groups are copied. Unlike {@link AddressBook},
+ * no uniqueness is checked and no indexes are built, so taking a snapshot only
+ * copies the lists. Lookups scan the lists instead.
+ */
+public class AddressBookSnapshot implements ReadOnlyAddressBook {
+
+    private final ObservableList<Contact> contacts;
+    private final ObservableList<Assignment> assignments;
+    private final ObservableList<ContactAssignment> contactAssignments;
+    private final DeferredContactAssignments deferredContactAssignments;
+    private final ObservableList<ClassGroup> classGroups;
+
+    /**
+     * Creates a snapshot of the current contents of {@code source}.
+     */
+    public AddressBookSnapshot(ReadOnlyAddressBook source) {
+        Objects.requireNonNull(source);
+        this.contacts = AddressBookSnapshot.copyOf(source.getContactList());
+        this.assignments = AddressBookSnapshot.copyOf(source.getAssignmentList());
+
+        List<ContactAssignment> contactAssignments = new ArrayList<>(source.getContactAssignmentList().size());
+        for (ContactAssignment ca : source.getContactAssignmentList()) {
+            contactAssignments.add(ca.copy());
+        }
+        this.contactAssignments = AddressBookSnapshot.copyOf(contactAssignments);
+        this.deferredContactAssignments = source.getDeferredContactAssignments();
+
+        List<ClassGroup> classGroups = new ArrayList<>(source.getClassGroupList().size());
+        for (ClassGroup classGroup : source.getClassGroupList()) {
+            classGroups.add(classGroup.copy());
+        }
+        this.classGroups = AddressBookSnapshot.copyOf(classGroups);
+    }
+
+    @Override
+    public ObservableList<Contact> getContactList() {
+        return this.contacts;
+    }
+
+    @Override
+    public ObservableList<Assignment> getAssignmentList() {
+        return this.assignments;
+    }
+
+    @Override
+    public ObservableList<ContactAssignment> getContactAssignmentList() {
+        return this.contactAssignments;
+    }
+
+    @Override
+    public DeferredContactAssignments getDeferredContactAssignments() {
+        return this.deferredContactAssignments;
+    }
+
+    @Override
+    public ObservableList<ClassGroup> getClassGroupList() {
+        return this.classGroups;
+    }
+
+    @Override
+    public Contact findContactById(String id) {
+        Objects.requireNonNull(id);
+        for (Contact contact : this.contacts) {
+            if (contact.getId().equals(id)) {
+                return contact;
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public Assignment findAssignmentById(String id) {
+        Objects.requireNonNull(id);
+        for (Assignment assignment : this.assignments) {
+            if (assignment.getId().equals(id)) {
+                return assignment;
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public Assignment findAssignmentByName(AssignmentName name) {
+        Objects.requireNonNull(name);
+        for (Assignment assignment : this.assignments) {
+            if (assignment.getName().equals(name)) {
+                return assignment;
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public ClassGroup findClassGroupByName(ClassGroupName name) {
+        Objects.requireNonNull(name);
+        for (ClassGroup classGroup : this.classGroups) {
+            if (classGroup.getName().equals(name)) {
+                return classGroup;
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("contacts", this.contacts)
+                .add("assignments", this.assignments)
+                .add("classGroups", this.classGroups)
+                .toString();
+    }
+
+    private static <T> ObservableList<T> copyOf(List<T> list) {
+        return FXCollections.unmodifiableObservableList(FXCollections.observableArrayList(list));
+    }
+}
@@ -11,6 +11,8 @@ import cpp.model.assignment.ContactAssignment;
 import cpp.model.assignment.ContactAssignmentWithAssignment;
 import cpp.model.assignment.ContactAssignmentWithContact;
 import cpp.model.classgroup.ClassGroup;
+import cpp.model.classgroup.exceptions.ContactAlreadyAllocatedClassGroupException;
+import cpp.model.classgroup.exceptions.ContactNotAllocatedClassGroupException;
 import cpp.model.contact.Contact;
 import cpp.model.contact.ContactName;
 import cpp.model.view.ViewState;
@@ -200,6 +202,25 @@ public interface Model {
      */
     void deleteClassGroup(ClassGroup target);
 
+    /**
+     * Allocates the given contact to the given class group.
+     * The class group must exist in the address book.
+     *
+     * @throws ContactAlreadyAllocatedClassGroupException if the contact is already
+     *                                                    allocated to the class
+     *                                                    group.
+     */
+    void allocateContactToClassGroup(ClassGroup classGroup, Contact contact);
+
+    /**
+     * Unallocates the given contact from the given class group.
+     * The class group must exist in the address book.
+     *
+     * @throws ContactNotAllocatedClassGroupException if the contact is not
+     *                                                allocated to the class group.
+     */
+    void unallocateContactFromClassGroup(ClassGroup classGroup, Contact contact);
+
     /** Returns an unmodifiable view of the filtered assignment list */
     ObservableList<Assignment> getFilteredAssignmentList();
 
@@ -12,14 +12,15 @@ import cpp.commons.core.LogsCenter;
 import cpp.commons.util.CollectionUtil;
 import cpp.model.assignment.Assignment;
 import cpp.model.assignment.AssignmentManager;
+import cpp.model.assignment.AssignmentSearchPredicate;
 import cpp.model.assignment.ContactAssignment;
 import cpp.model.assignment.ContactAssignmentWithAssignment;
 import cpp.model.assignment.ContactAssignmentWithContact;
 import cpp.model.assignment.exceptions.ContactAlreadyAllocatedAssignmentException;
-import cpp.model.assignment.exceptions.ContactAssignmentNotFoundException;
 import cpp.model.classgroup.ClassGroup;
 import cpp.model.contact.Contact;
 import cpp.model.contact.ContactName;
+import cpp.model.contact.ContactSearchPredicate;
 import cpp.model.util.ClassGroupUtil;
 import cpp.model.view.ViewState;
 import javafx.beans.property.ReadOnlyObjectProperty;
@@ -50,7 +51,7 @@ public class ModelManager implements Model {
         ModelManager.logger.fine("Initializing with address book: " + addressBook + " and user prefs " + userPrefs);
 
         this.addressBook = new AddressBook(addressBook);
-        this.assignmentManager = new AssignmentManager(addressBook.getContactAssignmentList());
+        this.assignmentManager = new AssignmentManager(this.addressBook.getContactAssignmentStore());
         this.userPrefs = new UserPrefs(userPrefs);
         this.filteredContacts = new FilteredList<>(this.addressBook.getContactList());
         this.filteredAssignments = new FilteredList<>(this.addressBook.getAssignmentList());
@@ -133,9 +134,7 @@ public class ModelManager implements Model {
     @Override
     public void deleteContact(Contact target) {
         Objects.requireNonNull(target);
-        List<ContactAssignment> caList = this.assignmentManager.getContactAssignmentsForContact(target);
-        this.assignmentManager.deregisterContactAssignmentsForContact(target);
-        this.addressBook.removeContact(target, caList);
+        this.addressBook.removeContact(target);
         if (this.viewState.get().isViewingContact(target)) {
             this.clearViewState();
         }
@@ -174,9 +173,7 @@ public class ModelManager implements Model {
     @Override
     public void deleteAssignment(Assignment target) {
         Objects.requireNonNull(target);
-        List<ContactAssignment> caList = this.assignmentManager.getContactAssignmentsForAssignment(target);
-        this.assignmentManager.deregisterContactAssignmentsForAssignment(target);
-        this.addressBook.removeAssignment(target, caList);
+        this.addressBook.removeAssignment(target);
         if (this.viewState.get().isViewingAssignment(target)) {
             this.clearViewState();
         }
@@ -199,18 +196,12 @@ public class ModelManager implements Model {
             throw new ContactAlreadyAllocatedAssignmentException();
         }
 
-        this.assignmentManager.registerContactAssignment(ca);
         this.addressBook.addContactAssignment(ca);
     }
 
     @Override
     public void removeContactAssignment(ContactAssignment ca) {
         Objects.requireNonNull(ca);
-        if (!this.addressBook.hasContactAssignment(ca)) {
-            throw new ContactAssignmentNotFoundException();
-        }
-
-        this.assignmentManager.deregisterContactAssignment(ca);
         this.addressBook.removeContactAssignment(ca);
     }
 
@@ -280,6 +271,18 @@ public class ModelManager implements Model {
         }
     }
 
+    @Override
+    public void allocateContactToClassGroup(ClassGroup classGroup, Contact contact) {
+        CollectionUtil.requireAllNonNull(classGroup, contact);
+        this.addressBook.allocateContactToClassGroup(classGroup, contact.getId());
+    }
+
+    @Override
+    public void unallocateContactFromClassGroup(ClassGroup classGroup, Contact contact) {
+        CollectionUtil.requireAllNonNull(classGroup, contact);
+        this.addressBook.unallocateContactFromClassGroup(classGroup, contact.getId());
+    }
+
     // =========== Filtered Contact List Accessors
     // =============================================================
 
@@ -296,6 +299,12 @@ public class ModelManager implements Model {
     @Override
     public void updateFilteredContactList(Predicate<Contact> predicate) {
         Objects.requireNonNull(predicate);
+        if (predicate instanceof ContactSearchPredicate) {
+            // Only the candidates found in the search index need to be checked.
+            this.filteredContacts.setPredicate(
+                    this.addressBook.getContactSearchIndex().filter((ContactSearchPredicate) predicate));
+            return;
+        }
         this.filteredContacts.setPredicate(predicate);
     }
 
@@ -307,6 +316,12 @@ public class ModelManager implements Model {
     @Override
     public void updateFilteredAssignmentList(Predicate<Assignment> predicate) {
         Objects.requireNonNull(predicate);
+        if (predicate instanceof AssignmentSearchPredicate) {
+            // Deadline ranges are looked up in the deadline index instead of checked row by row.
+            this.filteredAssignments.setPredicate(
+                    this.addressBook.getAssignmentDeadlineIndex().filter((AssignmentSearchPredicate) predicate));
+            return;
+        }
         this.filteredAssignments.setPredicate(predicate);
     }
 
@@ -351,21 +366,19 @@ public class ModelManager implements Model {
     public List<ContactAssignmentWithContact> getContactAssignmentsWithContactsForAssignment(
             Assignment assignment) {
         Objects.requireNonNull(assignment);
-        return this.assignmentManager.getContactAssignmentsWithContactsForAssignment(assignment,
-                this.addressBook.getContactList());
+        return this.assignmentManager.getContactAssignmentsWithContactsForAssignment(assignment, this.addressBook);
     }
 
     @Override
     public List<ContactAssignmentWithAssignment> getContactAssignmentsWithAssignmentsForContact(Contact contact) {
         Objects.requireNonNull(contact);
-        return this.assignmentManager.getContactAssignmentsWithAssignmentsForContact(contact,
-                this.addressBook.getAssignmentList());
+        return this.assignmentManager.getContactAssignmentsWithAssignmentsForContact(contact, this.addressBook);
     }
 
     @Override
     public List<ClassGroup> getClassGroupsForContact(Contact contact) {
         Objects.requireNonNull(contact);
-        return ClassGroupUtil.getClassGroupsForContact(contact, this.addressBook.getClassGroupList());
+        return this.addressBook.getClassGroupsForContact(contact.getId());
     }
 
     @Override
@@ -377,7 +390,7 @@ public class ModelManager implements Model {
     @Override
     public List<Contact> getContactsInClassGroup(ClassGroup classGroup) {
         Objects.requireNonNull(classGroup);
-        return ClassGroupUtil.getContactsInClassGroup(this.addressBook.getContactList(), classGroup);
+        return ClassGroupUtil.getContactsInClassGroup(this.addressBook, classGroup);
     }
 
     @Override
@@ -1,8 +1,11 @@
 package cpp.model;
 
 import cpp.model.assignment.Assignment;
+import cpp.model.assignment.AssignmentName;
 import cpp.model.assignment.ContactAssignment;
+import cpp.model.assignment.DeferredContactAssignments;
 import cpp.model.classgroup.ClassGroup;
+import cpp.model.classgroup.ClassGroupName;
 import cpp.model.contact.Contact;
 import javafx.collections.ObservableList;
 
@@ -29,10 +32,40 @@ public interface ReadOnlyAddressBook {
      */
     ObservableList<ContactAssignment> getContactAssignmentList();
 
+    /**
+     * Returns the assignments whose contact assignments are not in
+     * {@link #getContactAssignmentList()} because they have not been loaded yet.
+     */
+    DeferredContactAssignments getDeferredContactAssignments();
+
     /**
      * Returns an unmodifiable view of the class groups list.
      * This list will not contain any duplicate class groups.
      */
     ObservableList<ClassGroup> getClassGroupList();
 
+    /**
+     * Returns the contact with the given {@code id}, or null if there is no such
+     * contact.
+     */
+    Contact findContactById(String id);
+
+    /**
+     * Returns the assignment with the given {@code id}, or null if there is no
+     * such assignment.
+     */
+    Assignment findAssignmentById(String id);
+
+    /**
+     * Returns the assignment named {@code name}, or null if there is no such
+     * assignment.
+     */
+    Assignment findAssignmentByName(AssignmentName name);
+
+    /**
+     * Returns the class group named {@code name}, or null if there is no such
+     * class group.
+     */
+    ClassGroup findClassGroupByName(ClassGroupName name);
+
 }
@@ -3,6 +3,7 @@ package cpp.model;
 import java.nio.file.Path;
 
 import cpp.commons.core.GuiSettings;
+import cpp.commons.core.StorageFormat;
 
 /**
  * Unmodifiable view of user prefs.
@@ -15,4 +16,8 @@ public interface ReadOnlyUserPrefs {
 
     int getTimeZoneOffset();
 
+    int getAddressBookBackupCount();
+
+    StorageFormat getAddressBookFormat();
+
 }
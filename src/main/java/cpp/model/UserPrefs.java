@@ -5,6 +5,7 @@ import java.nio.file.Paths;
 import java.util.Objects;
 
 import cpp.commons.core.GuiSettings;
+import cpp.commons.core.StorageFormat;
 
 /**
  * Represents User's preferences.
@@ -14,6 +15,8 @@ public class UserPrefs implements ReadOnlyUserPrefs {
     private GuiSettings guiSettings = new GuiSettings();
     private Path addressBookFilePath = Paths.get("data", "addressbook.json");
     private int timeZoneOffset = 8;
+    private int addressBookBackupCount = 2;
+    private StorageFormat addressBookFormat = StorageFormat.JSON;
 
     /**
      * Creates a {@code UserPrefs} with default values.
@@ -37,6 +40,8 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         this.setGuiSettings(newUserPrefs.getGuiSettings());
         this.setAddressBookFilePath(newUserPrefs.getAddressBookFilePath());
         this.setTimeZoneOffset(newUserPrefs.getTimeZoneOffset());
+        this.setAddressBookBackupCount(newUserPrefs.getAddressBookBackupCount());
+        this.setAddressBookFormat(newUserPrefs.getAddressBookFormat());
     }
 
     @Override
@@ -71,6 +76,28 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         this.timeZoneOffset = timeZoneOffset;
     }
 
+    @Override
+    public int getAddressBookBackupCount() {
+        return this.addressBookBackupCount;
+    }
+
+    public void setAddressBookBackupCount(int addressBookBackupCount) {
+        if (addressBookBackupCount < 0) {
+            throw new IllegalArgumentException("Address book backup count must not be negative");
+        }
+        this.addressBookBackupCount = addressBookBackupCount;
+    }
+
+    @Override
+    public StorageFormat getAddressBookFormat() {
+        return this.addressBookFormat;
+    }
+
+    public void setAddressBookFormat(StorageFormat addressBookFormat) {
+        Objects.requireNonNull(addressBookFormat);
+        this.addressBookFormat = addressBookFormat;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -85,12 +112,15 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         UserPrefs otherUserPrefs = (UserPrefs) other;
         return this.guiSettings.equals(otherUserPrefs.guiSettings)
                 && this.addressBookFilePath.equals(otherUserPrefs.addressBookFilePath)
-                && this.timeZoneOffset == otherUserPrefs.timeZoneOffset;
+                && this.timeZoneOffset == otherUserPrefs.timeZoneOffset
+                && this.addressBookBackupCount == otherUserPrefs.addressBookBackupCount
+                && this.addressBookFormat == otherUserPrefs.addressBookFormat;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(this.guiSettings, this.addressBookFilePath, this.timeZoneOffset);
+        return Objects.hash(this.guiSettings, this.addressBookFilePath, this.timeZoneOffset,
+                this.addressBookBackupCount, this.addressBookFormat);
     }
 
     @Override
@@ -99,6 +129,8 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         sb.append("Gui Settings : " + this.guiSettings);
         sb.append("\nLocal data file location : " + this.addressBookFilePath);
         sb.append("\nTime zone offset : " + this.timeZoneOffset);
+        sb.append("\nAddress book backup count : " + this.addressBookBackupCount);
+        sb.append("\nAddress book format : " + this.addressBookFormat);
         return sb.toString();
     }
 
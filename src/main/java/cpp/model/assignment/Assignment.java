@@ -11,6 +11,9 @@ import cpp.commons.util.ToStringBuilder;
  * Represents an Assignment in the address book.
  * Guarantees: details are present and not null, field values are validated,
  * immutable.
+ *
+ * An archived assignment belongs to a past semester. Its contact assignments
+ * are kept, but are only loaded when they are needed.
  */
 public class Assignment {
 
@@ -19,6 +22,9 @@ public class Assignment {
     private final AssignmentName name;
     private final LocalDateTime deadline;
 
+    // Data fields
+    private final boolean isArchived;
+
     /**
      * Creates an assignment with the given name and deadline.
      * Generates a random id for the assignment.
@@ -29,6 +35,7 @@ public class Assignment {
         this.id = UUID.randomUUID().toString();
         this.name = name;
         this.deadline = deadline;
+        this.isArchived = false;
     }
 
     /**
@@ -38,10 +45,19 @@ public class Assignment {
      * available.
      */
     public Assignment(String id, AssignmentName name, LocalDateTime deadline) {
+        this(id, name, deadline, false);
+    }
+
+    /**
+     * Creates an assignment with the given id, name, deadline and archived state.
+     * Every field must be present and not null.
+     */
+    public Assignment(String id, AssignmentName name, LocalDateTime deadline, boolean isArchived) {
         CollectionUtil.requireAllNonNull(id, name, deadline);
         this.id = id;
         this.name = name;
         this.deadline = deadline;
+        this.isArchived = isArchived;
     }
 
     public String getId() {
@@ -56,11 +72,24 @@ public class Assignment {
         return this.deadline;
     }
 
+    public boolean isArchived() {
+        return this.isArchived;
+    }
+
+    /**
+     * Returns a copy of this assignment with the given archived state.
+     */
+    public Assignment withArchived(boolean isArchived) {
+        return new Assignment(this.id, this.name, this.deadline, isArchived);
+    }
+
     /**
-     * Returns true if both assignments have the same id, name and deadline.
+     * Returns true if both assignments have the same id, name, deadline and
+     * archived state.
      *
      * @param other the other assignment to compare with
-     * @return true if both assignments have the same id, name and deadline
+     * @return true if both assignments have the same id, name, deadline and
+     *         archived state
      */
     @Override
     public boolean equals(Object other) {
@@ -76,12 +105,13 @@ public class Assignment {
         Assignment otherAssignment = (Assignment) other;
         return this.id.equals(otherAssignment.id)
                 && this.name.equals(otherAssignment.name)
-                && this.deadline.equals(otherAssignment.deadline);
+                && this.deadline.equals(otherAssignment.deadline)
+                && this.isArchived == otherAssignment.isArchived;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(this.id, this.name, this.deadline);
+        return Objects.hash(this.id, this.name, this.deadline, this.isArchived);
     }
 
     @Override
@@ -89,6 +119,7 @@ public class Assignment {
         return new ToStringBuilder(this)
                 .add("name", this.name)
                 .add("deadline", this.deadline)
+                .add("isArchived", this.isArchived)
                 .toString();
     }
 }
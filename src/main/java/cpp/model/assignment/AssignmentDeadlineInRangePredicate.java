@@ -1,6 +1,9 @@
 package cpp.model.assignment;
 
 import java.time.LocalDateTime;
+import java.util.LinkedHashSet;
+import java.util.Optional;
+import java.util.Set;
 
 import cpp.commons.util.ToStringBuilder;
 
@@ -33,6 +36,11 @@ public class AssignmentDeadlineInRangePredicate implements AssignmentSearchPredi
         return !deadline.isBefore(this.datetimeStart) && !deadline.isAfter(this.datetimeEnd);
     }
 
+    @Override
+    public Optional<Set<Assignment>> findCandidates(AssignmentDeadlineIndex index) {
+        return Optional.of(new LinkedHashSet<>(index.findInRange(this.datetimeStart, this.datetimeEnd)));
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -0,0 +1,120 @@
+package cpp.model.assignment;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.NavigableMap;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.Predicate;
+
+import cpp.commons.util.AppUtil;
+import cpp.commons.util.CollectionUtil;
+import cpp.model.search.IndexedFilter;
+
+/**
+ * An index of assignments sorted by deadline, which answers deadline queries
+ * by visiting only the assignments in the answer.
+ *
+ * Maintained by {@link UniqueAssignmentList}, which updates it before changing
+ * its backing list so that filters re-evaluated on a list change see the
+ * change.
+ */
+public class AssignmentDeadlineIndex {
+
+    public static final String MESSAGE_INVALID_COUNT = "Count must not be negative";
+
+    private final NavigableMap<LocalDateTime, Set<Assignment>> deadlines = new TreeMap<>();
+    private int modificationCount;
+
+    /**
+     * Adds {@code assignment} under its deadline.
+     */
+    void add(Assignment assignment) {
+        Objects.requireNonNull(assignment);
+        this.deadlines.computeIfAbsent(assignment.getDeadline(), unused -> new LinkedHashSet<>()).add(assignment);
+        this.modificationCount++;
+    }
+
+    /**
+     * Removes {@code assignment} from under its deadline.
+     */
+    void remove(Assignment assignment) {
+        Objects.requireNonNull(assignment);
+        Set<Assignment> assignments = this.deadlines.get(assignment.getDeadline());
+        if (assignments != null && assignments.remove(assignment) && assignments.isEmpty()) {
+            this.deadlines.remove(assignment.getDeadline());
+        }
+        this.modificationCount++;
+    }
+
+    /**
+     * Removes every assignment from the index.
+     */
+    void clear() {
+        this.deadlines.clear();
+        this.modificationCount++;
+    }
+
+    /**
+     * Returns the assignments due from {@code start} to {@code end} inclusive,
+     * in order of deadline.
+     */
+    public List<Assignment> findInRange(LocalDateTime start, LocalDateTime end) {
+        CollectionUtil.requireAllNonNull(start, end);
+        if (start.isAfter(end)) {
+            return List.of();
+        }
+        return AssignmentDeadlineIndex.flatten(this.deadlines.subMap(start, true, end, true).values());
+    }
+
+    /**
+     * Returns the assignments due before {@code time}, that is, overdue at
+     * {@code time}, in order of deadline.
+     */
+    public List<Assignment> findDueBefore(LocalDateTime time) {
+        Objects.requireNonNull(time);
+        return AssignmentDeadlineIndex.flatten(this.deadlines.headMap(time, false).values());
+    }
+
+    /**
+     * Returns the first {@code count} assignments due at or after {@code time},
+     * in order of deadline.
+     */
+    public List<Assignment> findNextDue(LocalDateTime time, int count) {
+        Objects.requireNonNull(time);
+        AppUtil.checkArgument(count >= 0, AssignmentDeadlineIndex.MESSAGE_INVALID_COUNT);
+        List<Assignment> nextDue = new ArrayList<>();
+        for (Set<Assignment> assignments : this.deadlines.tailMap(time, true).values()) {
+            for (Assignment assignment : assignments) {
+                if (nextDue.size() == count) {
+                    return nextDue;
+                }
+                nextDue.add(assignment);
+            }
+        }
+        return nextDue;
+    }
+
+    /**
+     * Returns a predicate that matches the same assignments as
+     * {@code predicate}, but only checks the candidates that {@code predicate}
+     * finds in this index. The matches are worked out once and reused until the
+     * index changes.
+     */
+    public Predicate<Assignment> filter(AssignmentSearchPredicate predicate) {
+        Objects.requireNonNull(predicate);
+        return new IndexedFilter<>(predicate, this, () -> this.modificationCount);
+    }
+
+    private static List<Assignment> flatten(Collection<Set<Assignment>> assignmentSets) {
+        List<Assignment> assignments = new ArrayList<>();
+        for (Set<Assignment> assignmentSet : assignmentSets) {
+            assignments.addAll(assignmentSet);
+        }
+        return assignments;
+    }
+}
@@ -0,0 +1,74 @@
+package cpp.model.assignment;
+
+import java.time.LocalDateTime;
+import java.util.LinkedHashSet;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+
+import cpp.commons.util.AppUtil;
+import cpp.commons.util.ToStringBuilder;
+
+/**
+ * Matches the first {@code count} assignments due at or after the specified
+ * datetime, in order of deadline.
+ *
+ * Which assignments come first depends on the other assignments, so only the
+ * candidates found in an {@link AssignmentDeadlineIndex} are limited to
+ * {@code count}. On its own, {@link #test} matches every assignment due at or
+ * after the datetime.
+ */
+public class AssignmentDueNextPredicate implements AssignmentSearchPredicate {
+
+    private final LocalDateTime datetime;
+    private final int count;
+
+    /**
+     * Creates an AssignmentDueNextPredicate that matches the first {@code count}
+     * assignments due at or after {@code datetime}.
+     */
+    public AssignmentDueNextPredicate(LocalDateTime datetime, int count) {
+        Objects.requireNonNull(datetime);
+        AppUtil.checkArgument(count >= 0, AssignmentDeadlineIndex.MESSAGE_INVALID_COUNT);
+        this.datetime = datetime;
+        this.count = count;
+    }
+
+    @Override
+    public boolean test(Assignment assignment) {
+        return !assignment.getDeadline().isBefore(this.datetime);
+    }
+
+    @Override
+    public Optional<Set<Assignment>> findCandidates(AssignmentDeadlineIndex index) {
+        return Optional.of(new LinkedHashSet<>(index.findNextDue(this.datetime, this.count)));
+    }
+
+    @Override
+    public int estimateCandidates(AssignmentDeadlineIndex index) {
+        return this.count;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof AssignmentDueNextPredicate)) {
+            return false;
+        }
+
+        AssignmentDueNextPredicate otherPredicate = (AssignmentDueNextPredicate) other;
+        return this.datetime.equals(otherPredicate.datetime) && this.count == otherPredicate.count;
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("datetime", this.datetime)
+                .add("count", this.count)
+                .toString();
+    }
+}
@@ -2,32 +2,30 @@ package cpp.model.assignment;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
-import java.util.Collections;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 
 import cpp.commons.util.CollectionUtil;
+import cpp.model.ReadOnlyAddressBook;
 import cpp.model.assignment.exceptions.ContactAssignmentNotFoundException;
 import cpp.model.contact.Contact;
 
 /**
  * Manages allocations of assignments to contacts and their per-contact and
- * per-assignment state, for fast lookup of contact assignments by assignment
- * and by contact.
+ * per-assignment state. Lookups by assignment and by contact are answered from
+ * the indexes of the backing {@link ContactAssignmentStore}, which may be shared
+ * with the address book so that there is only one copy of every row.
  */
 public class AssignmentManager {
 
-    private final Map<String, Map<String, ContactAssignment>> byAssignment;
-    private final Map<String, Map<String, ContactAssignment>> byContact;
+    private final ContactAssignmentStore store;
 
     /**
      * Creates an empty assignment manager with no assignments or contacts.
      */
     public AssignmentManager() {
-        this.byAssignment = new HashMap<>();
-        this.byContact = new HashMap<>();
+        this.store = new ContactAssignmentStore();
     }
 
     /**
@@ -35,29 +33,28 @@ public class AssignmentManager {
      * initial contact assignments must not contain duplicates.
      */
     public AssignmentManager(List<ContactAssignment> initialAssignments) {
-        this.byAssignment = new HashMap<>();
-        this.byContact = new HashMap<>();
-        for (ContactAssignment ca : initialAssignments) {
-            this.registerContactAssignment(ca);
-        }
+        this.store = new ContactAssignmentStore();
+        this.store.setContactAssignments(initialAssignments);
+    }
+
+    /**
+     * Creates an assignment manager that reads and updates {@code store}.
+     */
+    public AssignmentManager(ContactAssignmentStore store) {
+        Objects.requireNonNull(store);
+        this.store = store;
     }
 
     /**
-     * Registers a contact assignment for fast lookup.
+     * Registers a contact assignment for fast lookup. Does nothing if an
+     * equivalent contact assignment is already registered.
      *
      * @param ca the contact assignment to register
      */
     public void registerContactAssignment(ContactAssignment ca) {
         CollectionUtil.requireAllNonNull(ca);
-        Map<String, ContactAssignment> assMap = this.byAssignment.computeIfAbsent(ca.getAssignmentId(),
-                k -> new HashMap<>());
-        if (!assMap.containsKey(ca.getContactId())) {
-            assMap.put(ca.getContactId(), ca);
-        }
-        Map<String, ContactAssignment> contactMap = this.byContact.computeIfAbsent(ca.getContactId(),
-                k -> new HashMap<>());
-        if (!contactMap.containsKey(ca.getAssignmentId())) {
-            contactMap.put(ca.getAssignmentId(), ca);
+        if (!this.store.contains(ca)) {
+            this.store.add(ca);
         }
     }
 
@@ -68,29 +65,13 @@ public class AssignmentManager {
      */
     public void deregisterContactAssignment(ContactAssignment ca) {
         CollectionUtil.requireAllNonNull(ca);
-        Map<String, ContactAssignment> assMap = this.byAssignment.get(ca.getAssignmentId());
-        if (assMap != null) {
-            assMap.remove(ca.getContactId());
-            if (assMap.isEmpty()) {
-                this.byAssignment.remove(ca.getAssignmentId());
-            }
-        }
-
-        Map<String, ContactAssignment> contactMap = this.byContact.get(ca.getContactId());
-        if (contactMap != null) {
-            contactMap.remove(ca.getAssignmentId());
-            if (contactMap.isEmpty()) {
-                this.byContact.remove(ca.getContactId());
-            }
+        if (this.store.contains(ca)) {
+            this.store.remove(ca);
         }
     }
 
     private ContactAssignment find(String assignmentId, String contactId) {
-        Map<String, ContactAssignment> assMap = this.byAssignment.get(assignmentId);
-        if (assMap == null) {
-            throw new ContactAssignmentNotFoundException();
-        }
-        ContactAssignment ca = assMap.get(contactId);
+        ContactAssignment ca = this.store.get(assignmentId, contactId);
         if (ca == null) {
             throw new ContactAssignmentNotFoundException();
         }
@@ -159,7 +140,7 @@ public class AssignmentManager {
      */
     public Map<String, ContactAssignment> getContactAssignmentMappingForAssignment(String contactId) {
         Objects.requireNonNull(contactId);
-        return Collections.unmodifiableMap(this.byContact.getOrDefault(contactId, Collections.emptyMap()));
+        return this.store.getByContact(contactId);
     }
 
     /**
@@ -171,7 +152,7 @@ public class AssignmentManager {
      */
     public Map<String, ContactAssignment> getContactAssignmentMappingForContact(String assignmentId) {
         Objects.requireNonNull(assignmentId);
-        return Collections.unmodifiableMap(this.byAssignment.getOrDefault(assignmentId, Collections.emptyMap()));
+        return this.store.getByAssignment(assignmentId);
     }
 
     /**
@@ -179,55 +160,56 @@ public class AssignmentManager {
      */
     public List<ContactAssignment> getContactAssignmentsForAssignment(Assignment assignment) {
         Objects.requireNonNull(assignment);
-        return List.copyOf(this.byAssignment.getOrDefault(assignment.getId(), Collections.emptyMap()).values());
+        return List.copyOf(this.store.getByAssignment(assignment.getId()).values());
     }
 
     /**
      * Returns a list of ContactAssignmentWithContact for the given assignment by
-     * pairing each contact assignment with its corresponding Contact from the
-     * provided contacts list. If a contact is not found, the contact value will
-     * be null in the DTO.
+     * pairing each contact assignment with its corresponding Contact in
+     * {@code addressBook}. If a contact is not found, the contact value will be
+     * null in the DTO.
      */
     public List<ContactAssignmentWithContact> getContactAssignmentsWithContactsForAssignment(
-            Assignment assignment, List<Contact> contacts) {
-        Objects.requireNonNull(assignment);
-        Objects.requireNonNull(contacts);
-        List<ContactAssignment> cas = this.getContactAssignmentsForAssignment(assignment);
-        ArrayList<ContactAssignmentWithContact> result = new ArrayList<>();
-        Map<String, Contact> contactMap = new HashMap<>();
-        for (Contact contact : contacts) {
-            contactMap.put(contact.getId(), contact);
-        }
-        for (ContactAssignment ca : cas) {
-            Contact contact = contactMap.get(ca.getContactId());
+            Assignment assignment, ReadOnlyAddressBook addressBook) {
+        CollectionUtil.requireAllNonNull(assignment, addressBook);
+        Map<String, ContactAssignment> cas = this.store.getByAssignment(assignment.getId());
+        List<ContactAssignmentWithContact> result = new ArrayList<>(cas.size());
+        for (ContactAssignment ca : cas.values()) {
+            Contact contact = addressBook.findContactById(ca.getContactId());
             result.add(new ContactAssignmentWithContact(ca, contact));
         }
         return result;
     }
 
+    /**
+     * Returns a list of ContactAssignmentWithAssignment for the given contact by
+     * pairing each contact assignment with its corresponding Assignment in
+     * {@code addressBook}. If an assignment is not found, the assignment value will
+     * be null in the DTO. Contact assignments of archived assignments are left
+     * out, so that they do not need to be loaded.
+     */
     public List<ContactAssignmentWithAssignment> getContactAssignmentsWithAssignmentsForContact(
-            Contact contact, List<Assignment> assignments) {
-        Objects.requireNonNull(contact);
-        Objects.requireNonNull(assignments);
-        List<ContactAssignment> cas = this.getContactAssignmentsForContact(contact);
-        ArrayList<ContactAssignmentWithAssignment> result = new ArrayList<>();
-        Map<String, Assignment> assignmentMap = new HashMap<>();
-        for (Assignment assignment : assignments) {
-            assignmentMap.put(assignment.getId(), assignment);
-        }
-        for (ContactAssignment ca : cas) {
-            Assignment assignment = assignmentMap.get(ca.getAssignmentId());
-            result.add(new ContactAssignmentWithAssignment(ca, assignment));
+            Contact contact, ReadOnlyAddressBook addressBook) {
+        CollectionUtil.requireAllNonNull(contact, addressBook);
+        Map<String, ContactAssignment> cas = this.store.getByContact(contact.getId());
+        List<ContactAssignmentWithAssignment> result = new ArrayList<>(cas.size());
+        for (ContactAssignment ca : cas.values()) {
+            Assignment assignment = addressBook.findAssignmentById(ca.getAssignmentId());
+            if (assignment == null || !assignment.isArchived()) {
+                result.add(new ContactAssignmentWithAssignment(ca, assignment));
+            }
         }
         return result;
     }
 
     /**
-     * Returns a list of contact assignments for the given contact.
+     * Returns a list of contact assignments for the given contact, including
+     * those of archived assignments. The contact assignments of every archived
+     * assignment that has not been loaded yet are loaded first.
      */
     public List<ContactAssignment> getContactAssignmentsForContact(Contact contact) {
         Objects.requireNonNull(contact);
-        return List.copyOf(this.byContact.getOrDefault(contact.getId(), Collections.emptyMap()).values());
+        return List.copyOf(this.store.getHistoryByContact(contact.getId()).values());
     }
 
     /**
@@ -236,23 +218,7 @@ public class AssignmentManager {
      */
     public void deregisterContactAssignmentsForAssignment(Assignment assignment) {
         Objects.requireNonNull(assignment);
-        String assignmentId = assignment.getId();
-        Map<String, ContactAssignment> assMap = this.byAssignment.remove(assignmentId);
-        if (assMap == null) {
-            return;
-        }
-
-        for (ContactAssignment ca : assMap.values()) {
-            Map<String, ContactAssignment> contactMap = this.byContact.get(ca.getContactId());
-            if (contactMap == null) {
-                continue;
-            }
-
-            contactMap.remove(assignmentId);
-            if (contactMap.isEmpty()) {
-                this.byContact.remove(ca.getContactId());
-            }
-        }
+        this.store.removeByAssignment(assignment.getId());
     }
 
     /**
@@ -261,22 +227,6 @@ public class AssignmentManager {
      */
     public void deregisterContactAssignmentsForContact(Contact contact) {
         Objects.requireNonNull(contact);
-        String contactId = contact.getId();
-        Map<String, ContactAssignment> contactMap = this.byContact.remove(contactId);
-        if (contactMap == null) {
-            return;
-        }
-
-        for (ContactAssignment ca : contactMap.values()) {
-            Map<String, ContactAssignment> assMap = this.byAssignment.get(ca.getAssignmentId());
-            if (assMap == null) {
-                continue;
-            }
-
-            assMap.remove(contactId);
-            if (assMap.isEmpty()) {
-                this.byAssignment.remove(ca.getAssignmentId());
-            }
-        }
+        this.store.removeByContact(contact.getId());
     }
 }
@@ -1,5 +1,8 @@
 package cpp.model.assignment;
 
+import java.util.Optional;
+import java.util.Set;
+
 import cpp.commons.util.ToStringBuilder;
 
 /**
@@ -18,6 +21,11 @@ public class AssignmentNameContainsKeywordsPredicate implements AssignmentSearch
         return assignment.getName().fullName.toLowerCase().contains(this.searchString.toLowerCase());
     }
 
+    @Override
+    public Optional<Set<Assignment>> findCandidates(AssignmentDeadlineIndex index) {
+        return Optional.empty();
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
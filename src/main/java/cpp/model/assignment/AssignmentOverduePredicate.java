@@ -0,0 +1,59 @@
+package cpp.model.assignment;
+
+import java.time.LocalDateTime;
+import java.util.LinkedHashSet;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+
+import cpp.commons.util.ToStringBuilder;
+
+/**
+ * Tests that an {@code Assignment}'s {@code Deadline} is before the specified
+ * datetime, that is, the assignment is overdue at that datetime.
+ */
+public class AssignmentOverduePredicate implements AssignmentSearchPredicate {
+
+    private final LocalDateTime datetime;
+
+    /**
+     * Creates an AssignmentOverduePredicate that matches assignments overdue at
+     * {@code datetime}.
+     */
+    public AssignmentOverduePredicate(LocalDateTime datetime) {
+        Objects.requireNonNull(datetime);
+        this.datetime = datetime;
+    }
+
+    @Override
+    public boolean test(Assignment assignment) {
+        return assignment.getDeadline().isBefore(this.datetime);
+    }
+
+    @Override
+    public Optional<Set<Assignment>> findCandidates(AssignmentDeadlineIndex index) {
+        return Optional.of(new LinkedHashSet<>(index.findDueBefore(this.datetime)));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof AssignmentOverduePredicate)) {
+            return false;
+        }
+
+        AssignmentOverduePredicate otherPredicate = (AssignmentOverduePredicate) other;
+        return this.datetime.equals(otherPredicate.datetime);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("datetime", this.datetime)
+                .toString();
+    }
+}
@@ -1,10 +1,10 @@
 package cpp.model.assignment;
 
-import java.util.function.Predicate;
+import cpp.model.search.SearchPredicate;
 
 /**
  * Interface for assignment search predicates.
  * All assignment-related search predicates should implement this interface.
  */
-public interface AssignmentSearchPredicate extends Predicate<Assignment> {
+public interface AssignmentSearchPredicate extends SearchPredicate<Assignment, AssignmentDeadlineIndex> {
 }
@@ -0,0 +1,41 @@
+package cpp.model.assignment;
+
+import java.util.List;
+
+import cpp.model.search.CompoundSearchPredicate;
+
+/**
+ * Combines assignment search predicates with AND, OR or NOT.
+ */
+public class CompoundAssignmentSearchPredicate
+        extends CompoundSearchPredicate<Assignment, AssignmentDeadlineIndex, AssignmentSearchPredicate>
+        implements AssignmentSearchPredicate {
+
+    private CompoundAssignmentSearchPredicate(Operator operator, List<? extends AssignmentSearchPredicate> operands) {
+        super(operator, operands);
+    }
+
+    /**
+     * Returns a predicate that matches assignments matched by every one of
+     * {@code operands}.
+     */
+    public static CompoundAssignmentSearchPredicate allOf(List<? extends AssignmentSearchPredicate> operands) {
+        return new CompoundAssignmentSearchPredicate(Operator.ALL_OF, operands);
+    }
+
+    /**
+     * Returns a predicate that matches assignments matched by any one of
+     * {@code operands}.
+     */
+    public static CompoundAssignmentSearchPredicate anyOf(List<? extends AssignmentSearchPredicate> operands) {
+        return new CompoundAssignmentSearchPredicate(Operator.ANY_OF, operands);
+    }
+
+    /**
+     * Returns a predicate that matches assignments not matched by
+     * {@code operand}.
+     */
+    public static CompoundAssignmentSearchPredicate not(AssignmentSearchPredicate operand) {
+        return new CompoundAssignmentSearchPredicate(Operator.NOT, List.of(operand));
+    }
+}
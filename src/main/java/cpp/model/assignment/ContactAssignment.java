@@ -2,6 +2,7 @@ package cpp.model.assignment;
 
 import java.time.LocalDateTime;
 import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
 
 import cpp.commons.util.CollectionUtil;
 import cpp.model.assignment.exceptions.ContactAssignmentAlreadyGradedException;
@@ -16,6 +17,8 @@ import cpp.model.assignment.exceptions.ContactAssignmentNotSubmittedException;
  */
 public class ContactAssignment {
 
+    private static final AtomicLong lastVersion = new AtomicLong();
+
     // Identity fields
     private final String assignmentId;
     private final String contactId;
@@ -24,6 +27,8 @@ public class ContactAssignment {
     private SubmissionInfo submissionInfo;
     private GradeInfo gradeInfo;
 
+    private long version = ContactAssignment.nextVersion();
+
     /**
      * Creates a contact assignment between the given assignment and contact ids.
      * The contact assignment is initially not submitted and not graded.
@@ -80,6 +85,26 @@ public class ContactAssignment {
         return this.gradeInfo.getScore();
     }
 
+    /**
+     * Returns the version of this contact assignment, which changes whenever it
+     * is modified. Two contact assignments between the same assignment and
+     * contact with the same version have the same state.
+     */
+    public long getVersion() {
+        return this.version;
+    }
+
+    /**
+     * Returns a copy of this contact assignment with the same state and version.
+     */
+    public ContactAssignment copy() {
+        ContactAssignment copy = new ContactAssignment(this.assignmentId, this.contactId);
+        copy.submissionInfo = this.submissionInfo;
+        copy.gradeInfo = this.gradeInfo;
+        copy.version = this.version;
+        return copy;
+    }
+
     /**
      * Marks this contact assignment as submitted. Throws an exception if it is
      * already marked as submitted.
@@ -91,6 +116,7 @@ public class ContactAssignment {
         this.submissionInfo = new SubmissionInfo(true, submissionDate);
         this.gradeInfo = new GradeInfo(this.gradeInfo.isGraded(), this.gradeInfo.getGradingDate(),
                 this.gradeInfo.getScore(), this.submissionInfo);
+        this.version = ContactAssignment.nextVersion();
     }
 
     /**
@@ -104,6 +130,7 @@ public class ContactAssignment {
         }
         this.submissionInfo = new SubmissionInfo(false, null);
         this.gradeInfo = new GradeInfo(false, null, 0, this.submissionInfo);
+        this.version = ContactAssignment.nextVersion();
     }
 
     /**
@@ -126,6 +153,7 @@ public class ContactAssignment {
             throw new ContactAssignmentGradedBeforeSubmissionException();
         }
         this.gradeInfo = new GradeInfo(true, gradingDate, score, this.submissionInfo);
+        this.version = ContactAssignment.nextVersion();
     }
 
     /**
@@ -142,6 +170,7 @@ public class ContactAssignment {
             throw new ContactAssignmentNotGradedException();
         }
         this.gradeInfo = new GradeInfo(false, null, 0, this.submissionInfo);
+        this.version = ContactAssignment.nextVersion();
     }
 
     /**
@@ -177,4 +206,8 @@ public class ContactAssignment {
                 + ", submission=" + this.submissionInfo
                 + ", grade=" + this.gradeInfo + "]";
     }
+
+    private static long nextVersion() {
+        return ContactAssignment.lastVersion.incrementAndGet();
+    }
 }
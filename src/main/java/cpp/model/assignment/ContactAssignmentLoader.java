@@ -0,0 +1,19 @@
+package cpp.model.assignment;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Loads the contact assignments of an assignment that were left out when the
+ * address book was read.
+ */
+@FunctionalInterface
+public interface ContactAssignmentLoader {
+
+    /**
+     * Returns the contact assignments of the assignment with id
+     * {@code assignmentId}, or {@code Optional.empty()} if they could not be
+     * loaded.
+     */
+    Optional<List<ContactAssignment>> load(String assignmentId);
+}
@@ -0,0 +1,347 @@
+package cpp.model.assignment;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Predicate;
+
+import cpp.commons.util.CollectionUtil;
+import cpp.model.assignment.exceptions.ContactAssignmentNotFoundException;
+import cpp.model.assignment.exceptions.ContactAssignmentsNotLoadedException;
+import cpp.model.assignment.exceptions.DuplicateContactAssignmentException;
+import javafx.collections.ObservableList;
+
+/**
+ * The single source of truth for contact assignments.
+ *
+ * Owns the contact assignment rows, keyed by (assignment id, contact id), along
+ * with two secondary indexes from assignment id and from contact id to the
+ * matching rows. Every mutation goes through this class so the rows and both
+ * indexes always agree.
+ *
+ * The rows of some assignments may be deferred, in which case they are loaded
+ * the first time a row of that assignment is looked up or changed. Lookups by
+ * contact only return the rows loaded so far, as any deferred assignment may
+ * have a row of the contact. The whole history of a contact is only loaded when
+ * asked for with {@link #getHistoryByContact(String)}. Loaded rows that refer to contacts the store does not
+ * know about are dropped, as those contacts were deleted after the rows were
+ * set aside. The rows of an assignment that could not be loaded cannot be
+ * changed, as the rows that were not loaded would be lost when saved.
+ */
+public class ContactAssignmentStore implements Iterable<ContactAssignment> {
+
+    private final UniqueContactAssignmentList rows = new UniqueContactAssignmentList();
+    private final Map<String, Map<String, ContactAssignment>> byAssignment = new HashMap<>();
+    private final Map<String, Map<String, ContactAssignment>> byContact = new HashMap<>();
+    private final Predicate<String> isKnownContact;
+    private DeferredContactAssignments deferred = DeferredContactAssignments.NONE;
+
+    /**
+     * Creates an empty store that accepts loaded rows for any contact.
+     */
+    public ContactAssignmentStore() {
+        this(contactId -> true);
+    }
+
+    /**
+     * Creates an empty store that drops loaded rows for contacts that
+     * {@code isKnownContact} rejects.
+     */
+    public ContactAssignmentStore(Predicate<String> isKnownContact) {
+        Objects.requireNonNull(isKnownContact);
+        this.isKnownContact = isKnownContact;
+    }
+
+    /**
+     * Returns true if the store contains an equivalent contact assignment as the
+     * given argument.
+     */
+    public boolean contains(ContactAssignment toCheck) {
+        Objects.requireNonNull(toCheck);
+        this.loadDeferred(toCheck.getAssignmentId());
+        return this.rows.contains(toCheck);
+    }
+
+    /**
+     * Returns the contact assignment for the given assignment and contact, or null
+     * if there is none.
+     */
+    public ContactAssignment get(String assignmentId, String contactId) {
+        CollectionUtil.requireAllNonNull(assignmentId, contactId);
+        this.loadDeferred(assignmentId);
+        return this.byAssignment.getOrDefault(assignmentId, Collections.emptyMap()).get(contactId);
+    }
+
+    /**
+     * Adds a contact assignment to the store.
+     * The contact assignment must not already exist in the store.
+     *
+     * @throws DuplicateContactAssignmentException  if the contact assignment already
+     *                                              exists.
+     * @throws ContactAssignmentsNotLoadedException if the rows of its assignment
+     *                                              could not be loaded.
+     */
+    public void add(ContactAssignment toAdd) {
+        Objects.requireNonNull(toAdd);
+        this.requireLoaded(toAdd.getAssignmentId());
+        this.rows.add(toAdd);
+        this.index(toAdd);
+    }
+
+    /**
+     * Removes the equivalent contact assignment from the store.
+     *
+     * @throws ContactAssignmentNotFoundException   if the contact assignment does not
+     *                                              exist.
+     * @throws ContactAssignmentsNotLoadedException if the rows of its assignment
+     *                                              could not be loaded.
+     */
+    public void remove(ContactAssignment toRemove) {
+        Objects.requireNonNull(toRemove);
+        this.requireLoaded(toRemove.getAssignmentId());
+        this.rows.remove(toRemove);
+        this.unindex(toRemove.getAssignmentId(), toRemove.getContactId());
+    }
+
+    /**
+     * Removes all the contact assignments in {@code toRemove} from the store.
+     * Contact assignments that are not in the store are ignored.
+     *
+     * @throws ContactAssignmentsNotLoadedException if the rows of any of their
+     *                                              assignments could not be loaded.
+     */
+    public void removeAll(Collection<ContactAssignment> toRemove) {
+        CollectionUtil.requireAllNonNull(toRemove);
+        for (ContactAssignment ca : toRemove) {
+            this.requireLoaded(ca.getAssignmentId());
+        }
+        this.rows.removeAll(toRemove);
+        for (ContactAssignment ca : toRemove) {
+            this.unindex(ca.getAssignmentId(), ca.getContactId());
+        }
+    }
+
+    /**
+     * Removes every contact assignment of the assignment with id
+     * {@code assignmentId} and returns them. Deferred rows of the assignment are
+     * discarded without being loaded.
+     */
+    public List<ContactAssignment> removeByAssignment(String assignmentId) {
+        Objects.requireNonNull(assignmentId);
+        this.deferred = this.deferred.without(assignmentId);
+        Map<String, ContactAssignment> assignmentRows = this.byAssignment.remove(assignmentId);
+        if (assignmentRows == null) {
+            return List.of();
+        }
+
+        List<ContactAssignment> removed = new ArrayList<>(assignmentRows.values());
+        for (ContactAssignment ca : removed) {
+            this.removeFromIndex(this.byContact, ca.getContactId(), assignmentId);
+        }
+        this.rows.removeAll(removed);
+        return removed;
+    }
+
+    /**
+     * Removes every contact assignment of the contact with id {@code contactId} and
+     * returns them.
+     */
+    public List<ContactAssignment> removeByContact(String contactId) {
+        Objects.requireNonNull(contactId);
+        Map<String, ContactAssignment> contactRows = this.byContact.remove(contactId);
+        if (contactRows == null) {
+            return List.of();
+        }
+
+        List<ContactAssignment> removed = new ArrayList<>(contactRows.values());
+        for (ContactAssignment ca : removed) {
+            this.removeFromIndex(this.byAssignment, ca.getAssignmentId(), contactId);
+        }
+        this.rows.removeAll(removed);
+        return removed;
+    }
+
+    /**
+     * Returns an unmodifiable map from contact ids to contact assignments for the
+     * assignment with id {@code assignmentId}.
+     */
+    public Map<String, ContactAssignment> getByAssignment(String assignmentId) {
+        Objects.requireNonNull(assignmentId);
+        this.loadDeferred(assignmentId);
+        return Collections.unmodifiableMap(this.byAssignment.getOrDefault(assignmentId, Collections.emptyMap()));
+    }
+
+    /**
+     * Returns an unmodifiable map from assignment ids to contact assignments for
+     * the contact with id {@code contactId}. Deferred rows are not loaded, so the
+     * rows of deferred assignments are left out.
+     */
+    public Map<String, ContactAssignment> getByContact(String contactId) {
+        Objects.requireNonNull(contactId);
+        return Collections.unmodifiableMap(this.byContact.getOrDefault(contactId, Collections.emptyMap()));
+    }
+
+    /**
+     * Returns an unmodifiable map from assignment ids to contact assignments for
+     * the contact with id {@code contactId}, including the rows of deferred
+     * assignments. The rows of every deferred assignment are loaded first, and
+     * only rows that could not be loaded are left out.
+     */
+    public Map<String, ContactAssignment> getHistoryByContact(String contactId) {
+        Objects.requireNonNull(contactId);
+        for (String assignmentId : this.deferred.getAssignmentIds()) {
+            this.loadDeferred(assignmentId);
+        }
+        return this.getByContact(contactId);
+    }
+
+    public void setContactAssignments(ContactAssignmentStore replacement) {
+        Objects.requireNonNull(replacement);
+        this.rows.setContactAssignments(replacement.rows);
+        this.rebuildIndexes();
+        this.deferred = replacement.deferred;
+    }
+
+    /**
+     * Replaces the contents of the store with {@code contactAssignments}, none of
+     * which are deferred.
+     * {@code contactAssignments} must not contain duplicate entries.
+     */
+    public void setContactAssignments(List<ContactAssignment> contactAssignments) {
+        this.rows.setContactAssignments(contactAssignments);
+        this.rebuildIndexes();
+        this.deferred = DeferredContactAssignments.NONE;
+    }
+
+    public DeferredContactAssignments getDeferred() {
+        return this.deferred;
+    }
+
+    /**
+     * Defers the rows of the assignments in {@code deferred}. Rows of those
+     * assignments that are already in the store are kept when the deferred rows
+     * are loaded, in place of loaded rows for the same contact.
+     */
+    public void setDeferred(DeferredContactAssignments deferred) {
+        Objects.requireNonNull(deferred);
+        this.deferred = deferred;
+    }
+
+    /**
+     * Loads the deferred rows of the assignment with id {@code assignmentId}, if
+     * there are any. If loading fails the rows stay deferred, so that they are
+     * not lost when the address book is saved.
+     */
+    public void loadDeferred(String assignmentId) {
+        if (!this.deferred.contains(assignmentId)) {
+            return;
+        }
+
+        Optional<List<ContactAssignment>> loaded = this.deferred.load(assignmentId);
+        if (!loaded.isPresent()) {
+            return;
+        }
+
+        this.deferred = this.deferred.without(assignmentId);
+        List<ContactAssignment> toAdd = new ArrayList<>();
+        for (ContactAssignment ca : loaded.get()) {
+            if (ca.getAssignmentId().equals(assignmentId) && this.isKnownContact.test(ca.getContactId())
+                    && !this.rows.contains(ca)) {
+                toAdd.add(ca);
+            }
+        }
+        for (ContactAssignment ca : toAdd) {
+            this.rows.add(ca);
+            this.index(ca);
+        }
+    }
+
+    /**
+     * Loads the deferred rows of the assignment with id {@code assignmentId}, if
+     * there are any, before they are changed.
+     *
+     * @throws ContactAssignmentsNotLoadedException if the rows could not be
+     *                                              loaded.
+     */
+    public void requireLoaded(String assignmentId) {
+        this.loadDeferred(assignmentId);
+        if (this.deferred.contains(assignmentId)) {
+            throw new ContactAssignmentsNotLoadedException();
+        }
+    }
+
+    /**
+     * Returns the rows as an unmodifiable {@code ObservableList}.
+     */
+    public ObservableList<ContactAssignment> asUnmodifiableObservableList() {
+        return this.rows.asUnmodifiableObservableList();
+    }
+
+    @Override
+    public Iterator<ContactAssignment> iterator() {
+        return this.rows.iterator();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof ContactAssignmentStore)) {
+            return false;
+        }
+
+        ContactAssignmentStore otherStore = (ContactAssignmentStore) other;
+        return this.rows.equals(otherStore.rows)
+                && this.deferred.equals(otherStore.deferred);
+    }
+
+    @Override
+    public int hashCode() {
+        return this.rows.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return this.rows.toString();
+    }
+
+    private void index(ContactAssignment ca) {
+        this.byAssignment.computeIfAbsent(ca.getAssignmentId(), k -> new HashMap<>()).put(ca.getContactId(), ca);
+        this.byContact.computeIfAbsent(ca.getContactId(), k -> new HashMap<>()).put(ca.getAssignmentId(), ca);
+    }
+
+    private void unindex(String assignmentId, String contactId) {
+        this.removeFromIndex(this.byAssignment, assignmentId, contactId);
+        this.removeFromIndex(this.byContact, contactId, assignmentId);
+    }
+
+    private void removeFromIndex(Map<String, Map<String, ContactAssignment>> index, String outerKey,
+            String innerKey) {
+        Map<String, ContactAssignment> inner = index.get(outerKey);
+        if (inner == null) {
+            return;
+        }
+
+        inner.remove(innerKey);
+        if (inner.isEmpty()) {
+            index.remove(outerKey);
+        }
+    }
+
+    private void rebuildIndexes() {
+        this.byAssignment.clear();
+        this.byContact.clear();
+        for (ContactAssignment ca : this.rows) {
+            this.index(ca);
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package cpp.model.assignment;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+
+import cpp.commons.util.ToStringBuilder;
+
+/**
+ * The assignments whose contact assignments have not been loaded yet, along
+ * with the loader that reads them on demand. Immutable.
+ */
+public class DeferredContactAssignments {
+
+    public static final DeferredContactAssignments NONE = new DeferredContactAssignments(Set.of(),
+            assignmentId -> Optional.of(List.of()));
+
+    private final Set<String> assignmentIds;
+    private final ContactAssignmentLoader loader;
+
+    /**
+     * Creates a {@code DeferredContactAssignments} for the assignments with ids
+     * in {@code assignmentIds}, loaded by {@code loader}.
+     */
+    public DeferredContactAssignments(Set<String> assignmentIds, ContactAssignmentLoader loader) {
+        Objects.requireNonNull(assignmentIds);
+        Objects.requireNonNull(loader);
+        this.assignmentIds = Collections.unmodifiableSet(new HashSet<>(assignmentIds));
+        this.loader = loader;
+    }
+
+    /**
+     * Returns the ids of the assignments whose contact assignments have not been
+     * loaded yet.
+     */
+    public Set<String> getAssignmentIds() {
+        return this.assignmentIds;
+    }
+
+    public boolean contains(String assignmentId) {
+        return this.assignmentIds.contains(assignmentId);
+    }
+
+    public boolean isEmpty() {
+        return this.assignmentIds.isEmpty();
+    }
+
+    /**
+     * Loads the contact assignments of the assignment with id
+     * {@code assignmentId}. See {@link ContactAssignmentLoader#load(String)}.
+     */
+    public Optional<List<ContactAssignment>> load(String assignmentId) {
+        return this.loader.load(assignmentId);
+    }
+
+    /**
+     * Returns a copy of this without the assignment with id {@code assignmentId}.
+     */
+    public DeferredContactAssignments without(String assignmentId) {
+        if (!this.contains(assignmentId)) {
+            return this;
+        }
+
+        Set<String> remaining = new HashSet<>(this.assignmentIds);
+        remaining.remove(assignmentId);
+        return remaining.isEmpty()
+                ? DeferredContactAssignments.NONE
+                : new DeferredContactAssignments(remaining, this.loader);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof DeferredContactAssignments)) {
+            return false;
+        }
+
+        DeferredContactAssignments otherDeferred = (DeferredContactAssignments) other;
+        return this.assignmentIds.equals(otherDeferred.assignmentIds);
+    }
+
+    @Override
+    public int hashCode() {
+        return this.assignmentIds.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("assignmentIds", this.assignmentIds)
+                .toString();
+    }
+}
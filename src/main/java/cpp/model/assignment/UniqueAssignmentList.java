@@ -1,12 +1,15 @@
 package cpp.model.assignment;
 
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 
 import cpp.commons.util.CollectionUtil;
 import cpp.model.assignment.exceptions.AssignmentNotFoundException;
 import cpp.model.assignment.exceptions.DuplicateAssignmentException;
+import cpp.model.util.UniquenessUtil;
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 
@@ -20,12 +23,18 @@ import javafx.collections.ObservableList;
  * identity in the UniqueAssignmentList. However, the removal of an assignment
  * uses {@code Assignment#equals(Object)} so as to ensure that the assignment
  * with exactly the same fields will be removed.
+ *
+ * Deadline queries are answered by an {@link AssignmentDeadlineIndex} that is
+ * updated just before the backing list.
  */
 public class UniqueAssignmentList implements Iterable<Assignment> {
 
     private final ObservableList<Assignment> internalList = FXCollections.observableArrayList();
     private final ObservableList<Assignment> internalUnmodifiableList = FXCollections
             .unmodifiableObservableList(this.internalList);
+    private final Map<AssignmentName, Assignment> nameIndex = new HashMap<>();
+    private final Map<String, Assignment> idIndex = new HashMap<>();
+    private final AssignmentDeadlineIndex deadlineIndex = new AssignmentDeadlineIndex();
 
     /**
      * Returns true if the list contains an assignment with the same id as
@@ -33,7 +42,16 @@ public class UniqueAssignmentList implements Iterable<Assignment> {
      */
     public boolean containsId(String id) {
         Objects.requireNonNull(id);
-        return this.internalList.stream().anyMatch(a -> a.getId().equals(id));
+        return this.idIndex.containsKey(id);
+    }
+
+    /**
+     * Returns the assignment with the same id as {@code id}, or null if there is
+     * no such assignment in the list.
+     */
+    public Assignment findById(String id) {
+        Objects.requireNonNull(id);
+        return this.idIndex.get(id);
     }
 
     /**
@@ -42,7 +60,16 @@ public class UniqueAssignmentList implements Iterable<Assignment> {
      */
     public boolean contains(Assignment toCheck) {
         Objects.requireNonNull(toCheck);
-        return this.internalList.stream().anyMatch(a -> a.getName().equals(toCheck.getName()));
+        return this.nameIndex.containsKey(toCheck.getName());
+    }
+
+    /**
+     * Returns the assignment named {@code name}, or null if there is no such
+     * assignment in the list.
+     */
+    public Assignment findByName(AssignmentName name) {
+        Objects.requireNonNull(name);
+        return this.nameIndex.get(name);
     }
 
     /**
@@ -54,7 +81,9 @@ public class UniqueAssignmentList implements Iterable<Assignment> {
         if (this.contains(toAdd)) {
             throw new DuplicateAssignmentException();
         }
+        this.deadlineIndex.add(toAdd);
         this.internalList.add(toAdd);
+        this.index(toAdd);
     }
 
     /**
@@ -76,7 +105,11 @@ public class UniqueAssignmentList implements Iterable<Assignment> {
             throw new DuplicateAssignmentException();
         }
 
-        this.internalList.set(index, editedAssignment);
+        this.deadlineIndex.remove(this.internalList.get(index));
+        this.deadlineIndex.add(editedAssignment);
+        Assignment replaced = this.internalList.set(index, editedAssignment);
+        this.unindex(replaced);
+        this.index(editedAssignment);
     }
 
     /**
@@ -85,14 +118,21 @@ public class UniqueAssignmentList implements Iterable<Assignment> {
      */
     public void remove(Assignment toRemove) {
         Objects.requireNonNull(toRemove);
-        if (!this.internalList.remove(toRemove)) {
+        int index = this.internalList.indexOf(toRemove);
+        if (index == -1) {
             throw new AssignmentNotFoundException();
         }
+
+        this.deadlineIndex.remove(toRemove);
+        this.internalList.remove(index);
+        this.unindex(toRemove);
     }
 
     public void setAssignments(UniqueAssignmentList replacement) {
         Objects.requireNonNull(replacement);
+        this.rebuildDeadlineIndex(replacement.internalList);
         this.internalList.setAll(replacement.internalList);
+        this.rebuildIndexes();
     }
 
     /**
@@ -101,11 +141,21 @@ public class UniqueAssignmentList implements Iterable<Assignment> {
      */
     public void setAssignments(List<Assignment> assignments) {
         CollectionUtil.requireAllNonNull(assignments);
-        if (!this.assignmentsAreUnique(assignments)) {
-            throw new DuplicateAssignmentException();
+        List<AssignmentName> duplicates = UniquenessUtil.findDuplicateKeys(assignments, Assignment::getName);
+        if (!duplicates.isEmpty()) {
+            throw new DuplicateAssignmentException(duplicates);
         }
 
+        this.rebuildDeadlineIndex(assignments);
         this.internalList.setAll(assignments);
+        this.rebuildIndexes();
+    }
+
+    /**
+     * Returns the index of the assignments in this list by deadline.
+     */
+    public AssignmentDeadlineIndex getDeadlineIndex() {
+        return this.deadlineIndex;
     }
 
     /**
@@ -146,18 +196,44 @@ public class UniqueAssignmentList implements Iterable<Assignment> {
     }
 
     /**
-     * Returns true if {@code assignments} contains only unique assignments
-     * (by name).
+     * Adds {@code assignment} to every lookup index.
      */
-    private boolean assignmentsAreUnique(List<Assignment> assignments) {
-        for (int i = 0; i < assignments.size() - 1; i++) {
-            for (int j = i + 1; j < assignments.size(); j++) {
-                if (assignments.get(i).getName().equals(assignments.get(j).getName())) {
-                    return false;
+    private void index(Assignment assignment) {
+        this.nameIndex.put(assignment.getName(), assignment);
+        this.idIndex.putIfAbsent(assignment.getId(), assignment);
+    }
+
+    /**
+     * Removes {@code assignment} from every lookup index. {@code assignment} must
+     * already have been removed from the backing list.
+     */
+    private void unindex(Assignment assignment) {
+        this.nameIndex.remove(assignment.getName());
+
+        String id = assignment.getId();
+        if (this.idIndex.remove(id, assignment)) {
+            // ids are expected to be unique, but fall back to any remaining assignment sharing the id
+            for (Assignment remaining : this.internalList) {
+                if (remaining.getId().equals(id)) {
+                    this.idIndex.put(id, remaining);
+                    break;
                 }
             }
         }
-        return true;
     }
 
+    private void rebuildDeadlineIndex(List<Assignment> assignments) {
+        this.deadlineIndex.clear();
+        for (Assignment assignment : assignments) {
+            this.deadlineIndex.add(assignment);
+        }
+    }
+
+    private void rebuildIndexes() {
+        this.nameIndex.clear();
+        this.idIndex.clear();
+        for (Assignment assignment : this.internalList) {
+            this.index(assignment);
+        }
+    }
 }
@@ -1,22 +1,36 @@
 package cpp.model.assignment;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 
 import cpp.commons.util.CollectionUtil;
 import cpp.model.assignment.exceptions.ContactAssignmentNotFoundException;
 import cpp.model.assignment.exceptions.DuplicateContactAssignmentException;
+import cpp.model.util.UniquenessUtil;
 import javafx.collections.FXCollections;
+import javafx.collections.ModifiableObservableListBase;
 import javafx.collections.ObservableList;
 
 /**
  * A list of contact assignments that enforces uniqueness between its elements
  * and does not allow nulls.
+ *
+ * The position of every row is indexed by its (assignment id, contact id) pair,
+ * so membership checks and removals do not scan the list. A removed row is
+ * replaced by the last row of the list, so the order of the rows is not
+ * significant, and lists holding the same rows are equal. The
+ * {@code ObservableList} returned by {@link #asUnmodifiableObservableList()}
+ * receives a single change event per update.
  */
 public class UniqueContactAssignmentList implements Iterable<ContactAssignment> {
 
-    private final ObservableList<ContactAssignment> internalList = FXCollections.observableArrayList();
+    private final Map<RowKey, Integer> positions = new HashMap<>();
+    private final RowList internalList = new RowList();
     private final ObservableList<ContactAssignment> internalUnmodifiableList = FXCollections
             .unmodifiableObservableList(this.internalList);
 
@@ -26,7 +40,7 @@ public class UniqueContactAssignmentList implements Iterable<ContactAssignment>
      */
     public boolean contains(ContactAssignment toCheck) {
         Objects.requireNonNull(toCheck);
-        return this.internalList.stream().anyMatch(ca -> ca.equals(toCheck));
+        return this.positions.containsKey(RowKey.of(toCheck));
     }
 
     /**
@@ -35,7 +49,7 @@ public class UniqueContactAssignmentList implements Iterable<ContactAssignment>
      */
     public void add(ContactAssignment toAdd) {
         Objects.requireNonNull(toAdd);
-        if (this.contains(toAdd)) {
+        if (this.positions.putIfAbsent(RowKey.of(toAdd), this.internalList.size()) != null) {
             throw new DuplicateContactAssignmentException();
         }
         this.internalList.add(toAdd);
@@ -47,28 +61,42 @@ public class UniqueContactAssignmentList implements Iterable<ContactAssignment>
      */
     public void remove(ContactAssignment toRemove) {
         Objects.requireNonNull(toRemove);
-        if (!this.internalList.remove(toRemove)) {
+        Integer position = this.positions.remove(RowKey.of(toRemove));
+        if (position == null) {
             throw new ContactAssignmentNotFoundException();
         }
+        this.internalList.applyAsSingleChange(() -> this.removeAt(position));
     }
 
     /**
-     * Removes all the contact assignments in the given list from this list. The
-     * contact assignments must exist in the list.
+     * Removes all the contact assignments in {@code toRemove} from this list.
+     * Contact assignments that are not in the list are ignored. Listeners of the
+     * observable view are notified at most once.
      */
-    public void removeMultiple(List<ContactAssignment> toRemoveList) {
-        CollectionUtil.requireAllNonNull(toRemoveList);
-        for (ContactAssignment ca : toRemoveList) {
-            try {
-                this.remove(ca);
-            } catch (ContactAssignmentNotFoundException e) {
-                // ignore if any contact assignment is not found since that aligns with our goal
+    public void removeAll(Collection<ContactAssignment> toRemove) {
+        CollectionUtil.requireAllNonNull(toRemove);
+        this.internalList.applyAsSingleChange(() -> {
+            for (ContactAssignment ca : toRemove) {
+                Integer position = this.positions.remove(RowKey.of(ca));
+                if (position != null) {
+                    this.removeAt(position);
+                }
             }
-        }
+        });
+    }
+
+    /**
+     * Removes all the contact assignments in the given list from this list.
+     * Contact assignments that are not in the list are ignored.
+     */
+    public void removeMultiple(List<ContactAssignment> toRemoveList) {
+        this.removeAll(toRemoveList);
     }
 
     public void setContactAssignments(UniqueContactAssignmentList replacement) {
         Objects.requireNonNull(replacement);
+        this.positions.clear();
+        this.positions.putAll(replacement.positions);
         this.internalList.setAll(replacement.internalList);
     }
 
@@ -78,10 +106,15 @@ public class UniqueContactAssignmentList implements Iterable<ContactAssignment>
      */
     public void setContactAssignments(List<ContactAssignment> contactAssignments) {
         CollectionUtil.requireAllNonNull(contactAssignments);
-        if (!this.contactAssignmentsAreUnique(contactAssignments)) {
-            throw new DuplicateContactAssignmentException();
+        List<ContactAssignment> duplicates = UniquenessUtil.findDuplicateKeys(contactAssignments, ca -> ca);
+        if (!duplicates.isEmpty()) {
+            throw new DuplicateContactAssignmentException(duplicates);
         }
 
+        this.positions.clear();
+        for (int i = 0; i < contactAssignments.size(); i++) {
+            this.positions.put(RowKey.of(contactAssignments.get(i)), i);
+        }
         this.internalList.setAll(contactAssignments);
     }
 
@@ -109,12 +142,25 @@ public class UniqueContactAssignmentList implements Iterable<ContactAssignment>
         }
 
         UniqueContactAssignmentList otherList = (UniqueContactAssignmentList) other;
-        return this.internalList.equals(otherList.internalList);
+        if (this.positions.size() != otherList.positions.size()) {
+            return false;
+        }
+        for (ContactAssignment ca : this.internalList) {
+            Integer position = otherList.positions.get(RowKey.of(ca));
+            if (position == null || !ca.equals(otherList.internalList.get(position))) {
+                return false;
+            }
+        }
+        return true;
     }
 
     @Override
     public int hashCode() {
-        return this.internalList.hashCode();
+        int hashCode = 0;
+        for (ContactAssignment ca : this.internalList) {
+            hashCode += ca.hashCode();
+        }
+        return hashCode;
     }
 
     @Override
@@ -123,18 +169,110 @@ public class UniqueContactAssignmentList implements Iterable<ContactAssignment>
     }
 
     /**
-     * Returns true if {@code contactAssignments} contains only unique contact
-     * assignments.
+     * Removes the row at {@code position} by moving the last row into its place.
+     * The row must already be removed from the position index.
      */
-    private boolean contactAssignmentsAreUnique(List<ContactAssignment> contactAssignments) {
-        for (int i = 0; i < contactAssignments.size() - 1; i++) {
-            for (int j = i + 1; j < contactAssignments.size(); j++) {
-                if (contactAssignments.get(i).equals(contactAssignments.get(j))) {
-                    return false;
-                }
+    private void removeAt(int position) {
+        int lastPosition = this.internalList.size() - 1;
+        if (position != lastPosition) {
+            ContactAssignment moved = this.internalList.get(lastPosition);
+            this.internalList.set(position, moved);
+            this.positions.put(RowKey.of(moved), position);
+        }
+        this.internalList.remove(lastPosition);
+    }
+
+    /**
+     * Observable list of the rows that can group several modifications into a
+     * single change event.
+     */
+    private static class RowList extends ModifiableObservableListBase<ContactAssignment> {
+        private final List<ContactAssignment> rows = new ArrayList<>();
+
+        void applyAsSingleChange(Runnable modifications) {
+            this.beginChange();
+            try {
+                modifications.run();
+            } finally {
+                this.endChange();
             }
         }
-        return true;
+
+        @Override
+        public ContactAssignment get(int index) {
+            return this.rows.get(index);
+        }
+
+        @Override
+        public int size() {
+            return this.rows.size();
+        }
+
+        @Override
+        protected void doAdd(int index, ContactAssignment element) {
+            this.rows.add(index, element);
+        }
+
+        @Override
+        protected ContactAssignment doSet(int index, ContactAssignment element) {
+            return this.rows.set(index, element);
+        }
+
+        @Override
+        protected ContactAssignment doRemove(int index) {
+            return this.rows.remove(index);
+        }
+
+        @Override
+        protected void removeRange(int fromIndex, int toIndex) {
+            if (fromIndex == toIndex) {
+                return;
+            }
+
+            // one shift of the backing list instead of one per removed row
+            List<ContactAssignment> range = this.rows.subList(fromIndex, toIndex);
+            List<ContactAssignment> removed = new ArrayList<>(range);
+            range.clear();
+            this.beginChange();
+            this.nextRemove(fromIndex, removed);
+            this.endChange();
+        }
+    }
+
+    /**
+     * Key of a contact assignment row, made up of its assignment and contact ids.
+     */
+    private static class RowKey {
+        private final String assignmentId;
+        private final String contactId;
+
+        private RowKey(String assignmentId, String contactId) {
+            this.assignmentId = assignmentId;
+            this.contactId = contactId;
+        }
+
+        static RowKey of(ContactAssignment ca) {
+            return new RowKey(ca.getAssignmentId(), ca.getContactId());
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (other == this) {
+                return true;
+            }
+
+            if (!(other instanceof RowKey)) {
+                return false;
+            }
+
+            RowKey otherKey = (RowKey) other;
+            return this.assignmentId.equals(otherKey.assignmentId) && this.contactId.equals(otherKey.contactId);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(this.assignmentId, this.contactId);
+        }
     }
 
 }
@@ -0,0 +1,12 @@
+package cpp.model.assignment.exceptions;
+
+/**
+ * Signals that the contact assignments of an archived assignment could not be
+ * loaded, so they cannot be changed without losing the rows that were not
+ * loaded.
+ */
+public class ContactAssignmentsNotLoadedException extends RuntimeException {
+    public ContactAssignmentsNotLoadedException() {
+        super("The allocations of this archived assignment could not be loaded, so they cannot be changed");
+    }
+}
@@ -1,5 +1,7 @@
 package cpp.model.assignment.exceptions;
 
+import java.util.Collection;
+
 /**
  * Signals that an operation that would result in duplicate assignments was
  * attempted.
@@ -8,4 +10,12 @@ public class DuplicateAssignmentException extends RuntimeException {
     public DuplicateAssignmentException() {
         super("Operation would result in duplicate assignments");
     }
+
+    /**
+     * Creates an exception that lists every offending key in
+     * {@code duplicateKeys}.
+     */
+    public DuplicateAssignmentException(Collection<?> duplicateKeys) {
+        super("Operation would result in duplicate assignments: " + duplicateKeys);
+    }
 }
@@ -1,5 +1,7 @@
 package cpp.model.assignment.exceptions;
 
+import java.util.Collection;
+
 /**
  * Signals that the operation will result in duplicate contact assignment.
  */
@@ -7,4 +9,12 @@ public class DuplicateContactAssignmentException extends RuntimeException {
     public DuplicateContactAssignmentException() {
         super("Operation would result in duplicate contact assignment");
     }
+
+    /**
+     * Creates an exception that lists every offending key in
+     * {@code duplicateKeys}.
+     */
+    public DuplicateContactAssignmentException(Collection<?> duplicateKeys) {
+        super("Operation would result in duplicate contact assignment: " + duplicateKeys);
+    }
 }
@@ -3,6 +3,7 @@ package cpp.model.classgroup;
 import java.util.HashSet;
 import java.util.Objects;
 import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
 
 import cpp.commons.util.CollectionUtil;
 import cpp.commons.util.ToStringBuilder;
@@ -16,9 +17,12 @@ import cpp.model.classgroup.exceptions.ContactNotAllocatedClassGroupException;
  */
 public class ClassGroup {
 
+    private static final AtomicLong lastVersion = new AtomicLong();
+
     private final String id;
     private final ClassGroupName name;
     private final HashSet<String> contactIdSet;
+    private long version = ClassGroup.nextVersion();
 
     /**
      * Creates a class grouping with the given name.
@@ -57,6 +61,25 @@ public class ClassGroup {
         return this.contactIdSet;
     }
 
+    /**
+     * Returns the version of this class group, which changes whenever its
+     * contacts change. Two class groups with the same id and version have the
+     * same state.
+     */
+    public long getVersion() {
+        return this.version;
+    }
+
+    /**
+     * Returns a copy of this class group with the same contacts and version.
+     */
+    public ClassGroup copy() {
+        ClassGroup copy = new ClassGroup(this.id, this.name);
+        copy.contactIdSet.addAll(this.contactIdSet);
+        copy.version = this.version;
+        return copy;
+    }
+
     /**
      * Replaces the set of contact IDs allocated to this class group with the given
      * set.
@@ -65,6 +88,7 @@ public class ClassGroup {
         CollectionUtil.requireAllNonNull(contactIdSet);
         this.contactIdSet.clear();
         this.contactIdSet.addAll(contactIdSet);
+        this.version = ClassGroup.nextVersion();
     }
 
     /**
@@ -75,6 +99,7 @@ public class ClassGroup {
         if (!this.contactIdSet.add(contactId)) {
             throw new ContactAlreadyAllocatedClassGroupException();
         }
+        this.version = ClassGroup.nextVersion();
     }
 
     /**
@@ -85,6 +110,7 @@ public class ClassGroup {
         if (!this.contactIdSet.remove(contactId)) {
             throw new ContactNotAllocatedClassGroupException();
         }
+        this.version = ClassGroup.nextVersion();
     }
 
     @Override
@@ -114,4 +140,8 @@ public class ClassGroup {
                 .add("contactIdSet", this.contactIdSet)
                 .toString();
     }
+
+    private static long nextVersion() {
+        return ClassGroup.lastVersion.incrementAndGet();
+    }
 }
@@ -1,14 +1,20 @@
 package cpp.model.classgroup;
 
+import java.util.HashMap;
 import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 
 import cpp.commons.util.CollectionUtil;
 import cpp.model.classgroup.exceptions.ClassGroupNotFoundException;
+import cpp.model.classgroup.exceptions.ContactAlreadyAllocatedClassGroupException;
 import cpp.model.classgroup.exceptions.ContactNotAllocatedClassGroupException;
 import cpp.model.classgroup.exceptions.DuplicateClassGroupException;
 import cpp.model.contact.Contact;
+import cpp.model.util.UniquenessUtil;
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 
@@ -28,6 +34,8 @@ public class UniqueClassGroupList implements Iterable<ClassGroup> {
     private final ObservableList<ClassGroup> internalList = FXCollections.observableArrayList();
     private final ObservableList<ClassGroup> internalUnmodifiableList = FXCollections
             .unmodifiableObservableList(this.internalList);
+    private final Map<ClassGroupName, ClassGroup> nameIndex = new HashMap<>();
+    private final Map<String, Set<ClassGroup>> classGroupsByContactId = new HashMap<>();
 
     /**
      * Returns true if the list contains a class group with the same id as
@@ -44,7 +52,16 @@ public class UniqueClassGroupList implements Iterable<ClassGroup> {
      */
     public boolean contains(ClassGroup toCheck) {
         Objects.requireNonNull(toCheck);
-        return this.internalList.stream().anyMatch(cg -> cg.getName().equals(toCheck.getName()));
+        return this.nameIndex.containsKey(toCheck.getName());
+    }
+
+    /**
+     * Returns the class group named {@code name}, or null if there is no such
+     * class group in the list.
+     */
+    public ClassGroup findByName(ClassGroupName name) {
+        Objects.requireNonNull(name);
+        return this.nameIndex.get(name);
     }
 
     /**
@@ -57,6 +74,8 @@ public class UniqueClassGroupList implements Iterable<ClassGroup> {
             throw new DuplicateClassGroupException();
         }
         this.internalList.add(toAdd);
+        this.nameIndex.put(toAdd.getName(), toAdd);
+        this.indexMembers(toAdd);
     }
 
     /**
@@ -78,7 +97,11 @@ public class UniqueClassGroupList implements Iterable<ClassGroup> {
             throw new DuplicateClassGroupException();
         }
 
-        this.internalList.set(index, editedClassGroup);
+        ClassGroup replaced = this.internalList.set(index, editedClassGroup);
+        this.nameIndex.remove(replaced.getName());
+        this.nameIndex.put(editedClassGroup.getName(), editedClassGroup);
+        this.unindexMembers(replaced);
+        this.indexMembers(editedClassGroup);
     }
 
     /**
@@ -87,15 +110,18 @@ public class UniqueClassGroupList implements Iterable<ClassGroup> {
      */
     public void setClassGroups(List<ClassGroup> classGroups) {
         CollectionUtil.requireAllNonNull(classGroups);
-        if (!this.classGroupsAreUnique(classGroups)) {
-            throw new DuplicateClassGroupException();
+        List<ClassGroupName> duplicates = UniquenessUtil.findDuplicateKeys(classGroups, ClassGroup::getName);
+        if (!duplicates.isEmpty()) {
+            throw new DuplicateClassGroupException(duplicates);
         }
         this.internalList.setAll(classGroups);
+        this.rebuildIndexes();
     }
 
     public void setClassGroups(UniqueClassGroupList replacement) {
         Objects.requireNonNull(replacement);
         this.internalList.setAll(replacement.internalList);
+        this.rebuildIndexes();
     }
 
     /**
@@ -107,6 +133,39 @@ public class UniqueClassGroupList implements Iterable<ClassGroup> {
         if (!this.internalList.remove(toRemove)) {
             throw new ClassGroupNotFoundException();
         }
+        this.nameIndex.remove(toRemove.getName());
+        this.unindexMembers(toRemove);
+    }
+
+    /**
+     * Allocates the contact with id {@code contactId} to the class group
+     * {@code target}.
+     * {@code target} must exist in the list.
+     *
+     * @throws ContactAlreadyAllocatedClassGroupException if the contact is already
+     *                                                    allocated to the class
+     *                                                    group.
+     */
+    public void allocateContact(ClassGroup target, String contactId) {
+        CollectionUtil.requireAllNonNull(target, contactId);
+        ClassGroup classGroup = this.getExisting(target);
+        classGroup.allocateContact(contactId);
+        this.classGroupsByContactId.computeIfAbsent(contactId, k -> new LinkedHashSet<>()).add(classGroup);
+    }
+
+    /**
+     * Unallocates the contact with id {@code contactId} from the class group
+     * {@code target}.
+     * {@code target} must exist in the list.
+     *
+     * @throws ContactNotAllocatedClassGroupException if the contact is not
+     *                                                allocated to the class group.
+     */
+    public void unallocateContact(ClassGroup target, String contactId) {
+        CollectionUtil.requireAllNonNull(target, contactId);
+        ClassGroup classGroup = this.getExisting(target);
+        classGroup.unallocateContact(contactId);
+        this.unindexMember(contactId, classGroup);
     }
 
     /**
@@ -114,16 +173,30 @@ public class UniqueClassGroupList implements Iterable<ClassGroup> {
      * not allocated to a class group, nothing happens.
      */
     public void unallocateContactFromAllClassGroups(Contact contact) {
+        Objects.requireNonNull(contact);
         String contactId = contact.getId();
-        for (ClassGroup cg : this.internalList) {
-            try {
-                cg.unallocateContact(contactId);
-            } catch (ContactNotAllocatedClassGroupException e) {
-                // do nothing
+        Set<ClassGroup> memberOf = this.classGroupsByContactId.remove(contactId);
+        if (memberOf == null) {
+            return;
+        }
+
+        for (ClassGroup classGroup : memberOf) {
+            if (classGroup.getContactIdSet().contains(contactId)) {
+                classGroup.unallocateContact(contactId);
             }
         }
     }
 
+    /**
+     * Returns the class groups that the contact with id {@code contactId} is
+     * allocated to, in the order the allocations were made.
+     */
+    public List<ClassGroup> getClassGroupsForContact(String contactId) {
+        Objects.requireNonNull(contactId);
+        Set<ClassGroup> memberOf = this.classGroupsByContactId.get(contactId);
+        return memberOf == null ? List.of() : List.copyOf(memberOf);
+    }
+
     /**
      * Returns the backing list as an unmodifiable {@code ObservableList}.
      */
@@ -161,18 +234,44 @@ public class UniqueClassGroupList implements Iterable<ClassGroup> {
         return this.internalList.toString();
     }
 
-    /**
-     * Returns true if {@code classGroups} contains only unique class groups
-     * (by name).
-     */
-    private boolean classGroupsAreUnique(List<ClassGroup> classGroups) {
-        for (int i = 0; i < classGroups.size() - 1; i++) {
-            for (int j = i + 1; j < classGroups.size(); j++) {
-                if (classGroups.get(i).getName().equals(classGroups.get(j).getName())) {
-                    return false;
-                }
-            }
+    private ClassGroup getExisting(ClassGroup target) {
+        ClassGroup classGroup = this.nameIndex.get(target.getName());
+        if (!target.equals(classGroup)) {
+            throw new ClassGroupNotFoundException();
+        }
+        return classGroup;
+    }
+
+    private void indexMembers(ClassGroup classGroup) {
+        for (String contactId : classGroup.getContactIdSet()) {
+            this.classGroupsByContactId.computeIfAbsent(contactId, k -> new LinkedHashSet<>()).add(classGroup);
+        }
+    }
+
+    private void unindexMembers(ClassGroup classGroup) {
+        for (String contactId : classGroup.getContactIdSet()) {
+            this.unindexMember(contactId, classGroup);
+        }
+    }
+
+    private void unindexMember(String contactId, ClassGroup classGroup) {
+        Set<ClassGroup> memberOf = this.classGroupsByContactId.get(contactId);
+        if (memberOf == null) {
+            return;
+        }
+
+        memberOf.remove(classGroup);
+        if (memberOf.isEmpty()) {
+            this.classGroupsByContactId.remove(contactId);
+        }
+    }
+
+    private void rebuildIndexes() {
+        this.nameIndex.clear();
+        this.classGroupsByContactId.clear();
+        for (ClassGroup classGroup : this.internalList) {
+            this.nameIndex.put(classGroup.getName(), classGroup);
+            this.indexMembers(classGroup);
         }
-        return true;
     }
 }
@@ -1,5 +1,7 @@
 package cpp.model.classgroup.exceptions;
 
+import java.util.Collection;
+
 /**
  * Signals that an operation that would result in duplicate class groups was
  * attempted.
@@ -8,4 +10,12 @@ public class DuplicateClassGroupException extends RuntimeException {
     public DuplicateClassGroupException() {
         super("Operation would result in duplicate class groups");
     }
+
+    /**
+     * Creates an exception that lists every offending key in
+     * {@code duplicateKeys}.
+     */
+    public DuplicateClassGroupException(Collection<?> duplicateKeys) {
+        super("Operation would result in duplicate class groups: " + duplicateKeys);
+    }
 }
@@ -0,0 +1,51 @@
+package cpp.model.contact;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import cpp.model.Model;
+import cpp.model.search.CompoundSearchPredicate;
+
+/**
+ * Combines contact search predicates with AND, OR or NOT.
+ */
+public class CompoundContactSearchPredicate
+        extends CompoundSearchPredicate<Contact, ContactSearchIndex, ContactSearchPredicate>
+        implements ContactSearchPredicate {
+
+    private CompoundContactSearchPredicate(Operator operator, List<? extends ContactSearchPredicate> operands) {
+        super(operator, operands);
+    }
+
+    /**
+     * Returns a predicate that matches contacts matched by every one of
+     * {@code operands}.
+     */
+    public static CompoundContactSearchPredicate allOf(List<? extends ContactSearchPredicate> operands) {
+        return new CompoundContactSearchPredicate(Operator.ALL_OF, operands);
+    }
+
+    /**
+     * Returns a predicate that matches contacts matched by any one of
+     * {@code operands}.
+     */
+    public static CompoundContactSearchPredicate anyOf(List<? extends ContactSearchPredicate> operands) {
+        return new CompoundContactSearchPredicate(Operator.ANY_OF, operands);
+    }
+
+    /**
+     * Returns a predicate that matches contacts not matched by {@code operand}.
+     */
+    public static CompoundContactSearchPredicate not(ContactSearchPredicate operand) {
+        return new CompoundContactSearchPredicate(Operator.NOT, List.of(operand));
+    }
+
+    @Override
+    public ContactSearchPredicate resolve(Model model) {
+        List<ContactSearchPredicate> resolvedOperands = new ArrayList<>();
+        for (ContactSearchPredicate operand : this.getOperands()) {
+            resolvedOperands.add(operand.resolve(model));
+        }
+        return new CompoundContactSearchPredicate(this.getOperator(), resolvedOperands);
+    }
+}
@@ -0,0 +1,129 @@
+package cpp.model.contact;
+
+import java.util.HashSet;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+
+import cpp.commons.util.CollectionUtil;
+import cpp.commons.util.ToStringBuilder;
+import cpp.model.Model;
+import cpp.model.assignment.Assignment;
+import cpp.model.assignment.AssignmentName;
+import cpp.model.assignment.ContactAssignment;
+import cpp.model.assignment.ContactAssignmentWithContact;
+import cpp.model.assignment.exceptions.AssignmentNotFoundException;
+
+/**
+ * Tests that a {@code Contact} is allocated the assignment with the given name,
+ * and that their work on it is in the given state.
+ *
+ * The assignment is looked up when the predicate is resolved, and the contacts
+ * in the given state at that time are the ones matched. Until then, no contact
+ * is matched.
+ */
+public class ContactAssignmentStatusPredicate implements ContactSearchPredicate {
+
+    /**
+     * The states of a contact's work on an assignment that can be searched for.
+     */
+    public enum Status {
+        ALLOCATED, SUBMITTED, UNSUBMITTED, GRADED, UNGRADED;
+
+        /**
+         * Returns true if {@code contactAssignment} is in this state.
+         */
+        public boolean isStatusOf(ContactAssignment contactAssignment) {
+            switch (this) {
+            case ALLOCATED:
+                return true;
+            case SUBMITTED:
+                return contactAssignment.isSubmitted();
+            case UNSUBMITTED:
+                return !contactAssignment.isSubmitted();
+            case GRADED:
+                return contactAssignment.isGraded();
+            case UNGRADED:
+                return !contactAssignment.isGraded();
+            default:
+                throw new AssertionError(this);
+            }
+        }
+    }
+
+    private final AssignmentName assignmentName;
+    private final Status status;
+    private final Set<String> contactIds;
+
+    /**
+     * Creates a predicate that matches contacts whose work on the assignment
+     * named {@code assignmentName} is in {@code status}, once resolved.
+     */
+    public ContactAssignmentStatusPredicate(AssignmentName assignmentName, Status status) {
+        this(assignmentName, status, Set.of());
+    }
+
+    private ContactAssignmentStatusPredicate(AssignmentName assignmentName, Status status, Set<String> contactIds) {
+        CollectionUtil.requireAllNonNull(assignmentName, status);
+        this.assignmentName = assignmentName;
+        this.status = status;
+        this.contactIds = contactIds;
+    }
+
+    @Override
+    public boolean test(Contact contact) {
+        return this.contactIds.contains(contact.getId());
+    }
+
+    @Override
+    public Optional<Set<Contact>> findCandidates(ContactSearchIndex index) {
+        return Optional.of(index.findWithIds(this.contactIds));
+    }
+
+    @Override
+    public int estimateCandidates(ContactSearchIndex index) {
+        return this.contactIds.size();
+    }
+
+    @Override
+    public ContactSearchPredicate resolve(Model model) {
+        Objects.requireNonNull(model);
+        Assignment assignment = model.getAddressBook().findAssignmentByName(this.assignmentName);
+        if (assignment == null) {
+            throw new AssignmentNotFoundException();
+        }
+
+        Set<String> contactIds = new HashSet<>();
+        for (ContactAssignmentWithContact row : model.getContactAssignmentsWithContactsForAssignment(assignment)) {
+            if (this.status.isStatusOf(row.getContactAssignment())) {
+                contactIds.add(row.getContactAssignment().getContactId());
+            }
+        }
+        return new ContactAssignmentStatusPredicate(this.assignmentName, this.status, contactIds);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof ContactAssignmentStatusPredicate)) {
+            return false;
+        }
+
+        ContactAssignmentStatusPredicate otherPredicate = (ContactAssignmentStatusPredicate) other;
+        return this.assignmentName.equals(otherPredicate.assignmentName)
+                && this.status == otherPredicate.status
+                && this.contactIds.equals(otherPredicate.contactIds);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("assignmentName", this.assignmentName)
+                .add("status", this.status)
+                .toString();
+    }
+}
@@ -1,5 +1,8 @@
 package cpp.model.contact;
 
+import java.util.Optional;
+import java.util.Set;
+
 import cpp.commons.util.ToStringBuilder;
 
 /**
@@ -8,14 +11,29 @@ import cpp.commons.util.ToStringBuilder;
  */
 public class ContactEmailMatchesKeywordsPredicate implements ContactSearchPredicate {
     private final String searchString;
+    private final String normalizedSearchString;
 
+    /**
+     * Creates a predicate that searches for {@code searchString}.
+     */
     public ContactEmailMatchesKeywordsPredicate(String searchString) {
         this.searchString = searchString;
+        this.normalizedSearchString = searchString.toLowerCase();
     }
 
     @Override
     public boolean test(Contact contact) {
-        return contact.getEmail().value.toLowerCase().contains(this.searchString.toLowerCase());
+        return contact.getEmail().value.toLowerCase().contains(this.normalizedSearchString);
+    }
+
+    @Override
+    public Optional<Set<Contact>> findCandidates(ContactSearchIndex index) {
+        return index.findCandidates(ContactSearchIndex.Field.EMAIL, this.normalizedSearchString);
+    }
+
+    @Override
+    public int estimateCandidates(ContactSearchIndex index) {
+        return index.estimateCandidates(ContactSearchIndex.Field.EMAIL, this.normalizedSearchString);
     }
 
     @Override
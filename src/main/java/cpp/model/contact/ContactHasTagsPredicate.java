@@ -0,0 +1,94 @@
+package cpp.model.contact;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import cpp.commons.util.AppUtil;
+import cpp.commons.util.CollectionUtil;
+import cpp.commons.util.ToStringBuilder;
+import cpp.model.tag.Tag;
+
+/**
+ * Tests that a {@code Contact} has every tag in at least one of the given
+ * groups of tags. That is, the tags within a group are combined with AND, and
+ * the groups are combined with OR.
+ */
+public class ContactHasTagsPredicate implements ContactSearchPredicate {
+
+    public static final String MESSAGE_EMPTY_TAG_GROUP = "Each group of tags must have at least one tag";
+
+    private final List<Set<Tag>> tagGroups;
+
+    /**
+     * Creates a predicate that matches contacts having every tag in at least one
+     * of {@code tagGroups}. There must be at least one group, and no group may be
+     * empty.
+     */
+    public ContactHasTagsPredicate(List<Set<Tag>> tagGroups) {
+        CollectionUtil.requireAllNonNull(tagGroups);
+        AppUtil.checkArgument(!tagGroups.isEmpty(), ContactHasTagsPredicate.MESSAGE_EMPTY_TAG_GROUP);
+        for (Set<Tag> tagGroup : tagGroups) {
+            AppUtil.checkArgument(!tagGroup.isEmpty(), ContactHasTagsPredicate.MESSAGE_EMPTY_TAG_GROUP);
+        }
+        this.tagGroups = new ArrayList<>(tagGroups);
+    }
+
+    @Override
+    public boolean test(Contact contact) {
+        Set<Tag> tags = contact.getTags();
+        for (Set<Tag> tagGroup : this.tagGroups) {
+            if (tags.containsAll(tagGroup)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public Optional<Set<Contact>> findCandidates(ContactSearchIndex index) {
+        if (this.tagGroups.size() == 1) {
+            return Optional.of(index.findWithAllTags(this.tagGroups.get(0)));
+        }
+
+        Set<Contact> candidates = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (Set<Tag> tagGroup : this.tagGroups) {
+            candidates.addAll(index.findWithAllTags(tagGroup));
+        }
+        return Optional.of(candidates);
+    }
+
+    @Override
+    public int estimateCandidates(ContactSearchIndex index) {
+        long estimate = 0;
+        for (Set<Tag> tagGroup : this.tagGroups) {
+            estimate += index.estimateWithAllTags(tagGroup);
+        }
+        return (int) Math.min(estimate, Integer.MAX_VALUE - 1);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof ContactHasTagsPredicate)) {
+            return false;
+        }
+
+        ContactHasTagsPredicate otherPredicate = (ContactHasTagsPredicate) other;
+        return this.tagGroups.equals(otherPredicate.tagGroups);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("tagGroups", this.tagGroups)
+                .toString();
+    }
+}
@@ -0,0 +1,85 @@
+package cpp.model.contact;
+
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+
+import cpp.commons.util.ToStringBuilder;
+import cpp.model.Model;
+import cpp.model.classgroup.ClassGroup;
+import cpp.model.classgroup.ClassGroupName;
+import cpp.model.classgroup.exceptions.ClassGroupNotFoundException;
+
+/**
+ * Tests that a {@code Contact} is in the class group with the given name.
+ *
+ * The class group is looked up when the predicate is resolved, and its
+ * contacts at that time are the ones matched. Until then, no contact is
+ * matched.
+ */
+public class ContactInClassGroupPredicate implements ContactSearchPredicate {
+
+    private final ClassGroupName classGroupName;
+    private final Set<String> contactIds;
+
+    /**
+     * Creates a predicate that matches contacts in the class group named
+     * {@code classGroupName}, once resolved.
+     */
+    public ContactInClassGroupPredicate(ClassGroupName classGroupName) {
+        this(classGroupName, Set.of());
+    }
+
+    private ContactInClassGroupPredicate(ClassGroupName classGroupName, Set<String> contactIds) {
+        Objects.requireNonNull(classGroupName);
+        this.classGroupName = classGroupName;
+        this.contactIds = contactIds;
+    }
+
+    @Override
+    public boolean test(Contact contact) {
+        return this.contactIds.contains(contact.getId());
+    }
+
+    @Override
+    public Optional<Set<Contact>> findCandidates(ContactSearchIndex index) {
+        return Optional.of(index.findWithIds(this.contactIds));
+    }
+
+    @Override
+    public int estimateCandidates(ContactSearchIndex index) {
+        return this.contactIds.size();
+    }
+
+    @Override
+    public ContactSearchPredicate resolve(Model model) {
+        ClassGroup classGroup = model.getAddressBook().findClassGroupByName(this.classGroupName);
+        if (classGroup == null) {
+            throw new ClassGroupNotFoundException();
+        }
+        return new ContactInClassGroupPredicate(this.classGroupName, Set.copyOf(classGroup.getContactIdSet()));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof ContactInClassGroupPredicate)) {
+            return false;
+        }
+
+        ContactInClassGroupPredicate otherPredicate = (ContactInClassGroupPredicate) other;
+        return this.classGroupName.equals(otherPredicate.classGroupName)
+                && this.contactIds.equals(otherPredicate.contactIds);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("classGroupName", this.classGroupName)
+                .toString();
+    }
+}
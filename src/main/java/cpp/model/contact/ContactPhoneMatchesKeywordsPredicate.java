@@ -1,5 +1,8 @@
 package cpp.model.contact;
 
+import java.util.Optional;
+import java.util.Set;
+
 import cpp.commons.util.ToStringBuilder;
 
 /**
@@ -14,7 +17,17 @@ public class ContactPhoneMatchesKeywordsPredicate implements ContactSearchPredic
 
     @Override
     public boolean test(Contact contact) {
-        return contact.getPhone().value.toString().contains(this.searchString);
+        return contact.getPhone().value.contains(this.searchString);
+    }
+
+    @Override
+    public Optional<Set<Contact>> findCandidates(ContactSearchIndex index) {
+        return index.findCandidates(ContactSearchIndex.Field.PHONE, this.searchString);
+    }
+
+    @Override
+    public int estimateCandidates(ContactSearchIndex index) {
+        return index.estimateCandidates(ContactSearchIndex.Field.PHONE, this.searchString);
     }
 
     @Override
@@ -0,0 +1,286 @@
+package cpp.model.contact;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import cpp.commons.util.CollectionUtil;
+import cpp.model.search.IndexedFilter;
+import cpp.model.tag.Tag;
+
+/**
+ * An inverted index from the trigrams (three character substrings) of each
+ * contact's name, phone and email to the contacts that contain them, and from
+ * each tag to the contacts that have it. Contacts can also be looked up by id,
+ * so that sets of contact ids worked out elsewhere can be turned into
+ * candidates.
+ *
+ * A contact whose field contains a search string must contain every trigram of
+ * the search string, so intersecting their postings narrows a substring search
+ * down to a few candidates, which are then checked against the search
+ * predicate. Search strings shorter than a trigram cannot be narrowed down.
+ *
+ * Maintained by {@link UniqueContactList}, which updates it before changing its
+ * backing list so that filters re-evaluated on a list change see the change.
+ */
+public class ContactSearchIndex {
+
+    /**
+     * The fields of a contact that are indexed.
+     */
+    public enum Field {
+        NAME, PHONE, EMAIL
+    }
+
+    static final int GRAM_LENGTH = 3;
+
+    private final Map<Field, Map<String, Set<Contact>>> postings = new EnumMap<>(Field.class);
+    private final Map<Tag, Set<Contact>> tagPostings = new HashMap<>();
+    private final Map<String, Contact> contactsById = new HashMap<>();
+    private int modificationCount;
+
+    /**
+     * Creates an empty index.
+     */
+    public ContactSearchIndex() {
+        for (Field field : Field.values()) {
+            this.postings.put(field, new HashMap<>());
+        }
+    }
+
+    /**
+     * Returns the value of {@code field} of {@code contact} in the form that is
+     * searched: names and emails are searched case-insensitively, phones as is.
+     */
+    static String getSearchableValue(Contact contact, Field field) {
+        switch (field) {
+        case NAME:
+            return contact.getName().fullName.toLowerCase();
+        case PHONE:
+            return contact.getPhone().value;
+        case EMAIL:
+            return contact.getEmail().value.toLowerCase();
+        default:
+            throw new AssertionError(field);
+        }
+    }
+
+    /**
+     * Adds {@code contact} to the postings of every trigram of its fields.
+     */
+    void add(Contact contact) {
+        Objects.requireNonNull(contact);
+        for (Field field : Field.values()) {
+            Map<String, Set<Contact>> fieldPostings = this.postings.get(field);
+            for (String gram : ContactSearchIndex.getGrams(ContactSearchIndex.getSearchableValue(contact, field))) {
+                fieldPostings.computeIfAbsent(gram, unused -> ContactSearchIndex.createContactSet()).add(contact);
+            }
+        }
+        for (Tag tag : contact.getTags()) {
+            this.tagPostings.computeIfAbsent(tag, unused -> ContactSearchIndex.createContactSet()).add(contact);
+        }
+        this.contactsById.put(contact.getId(), contact);
+        this.modificationCount++;
+    }
+
+    /**
+     * Removes {@code contact} from the postings of every trigram of its fields.
+     */
+    void remove(Contact contact) {
+        Objects.requireNonNull(contact);
+        for (Field field : Field.values()) {
+            Map<String, Set<Contact>> fieldPostings = this.postings.get(field);
+            for (String gram : ContactSearchIndex.getGrams(ContactSearchIndex.getSearchableValue(contact, field))) {
+                Set<Contact> contacts = fieldPostings.get(gram);
+                if (contacts != null && contacts.remove(contact) && contacts.isEmpty()) {
+                    fieldPostings.remove(gram);
+                }
+            }
+        }
+        for (Tag tag : contact.getTags()) {
+            Set<Contact> contacts = this.tagPostings.get(tag);
+            if (contacts != null && contacts.remove(contact) && contacts.isEmpty()) {
+                this.tagPostings.remove(tag);
+            }
+        }
+        this.contactsById.remove(contact.getId(), contact);
+        this.modificationCount++;
+    }
+
+    /**
+     * Removes every contact from the index.
+     */
+    void clear() {
+        for (Map<String, Set<Contact>> fieldPostings : this.postings.values()) {
+            fieldPostings.clear();
+        }
+        this.tagPostings.clear();
+        this.contactsById.clear();
+        this.modificationCount++;
+    }
+
+    /**
+     * Returns the contacts whose {@code field} contains every trigram of
+     * {@code searchString}, which includes every contact whose {@code field}
+     * contains {@code searchString}. Returns an empty {@code Optional} if
+     * {@code searchString} is too short to narrow down the contacts.
+     *
+     * {@code searchString} must already be in the searchable form of
+     * {@code field}.
+     */
+    public Optional<Set<Contact>> findCandidates(Field field, String searchString) {
+        CollectionUtil.requireAllNonNull(field, searchString);
+        Set<String> grams = ContactSearchIndex.getGrams(searchString);
+        if (grams.isEmpty()) {
+            return Optional.empty();
+        }
+
+        Map<String, Set<Contact>> fieldPostings = this.postings.get(field);
+        List<Set<Contact>> gramPostings = new ArrayList<>();
+        for (String gram : grams) {
+            gramPostings.add(fieldPostings.get(gram));
+        }
+        return Optional.of(ContactSearchIndex.intersect(gramPostings));
+    }
+
+    /**
+     * Returns the number of contacts in the smallest posting of the trigrams of
+     * {@code searchString}, which bounds the number of candidates
+     * {@link #findCandidates(Field, String)} returns without intersecting the
+     * postings. Returns {@code Integer.MAX_VALUE} if {@code searchString} is too
+     * short to narrow down the contacts.
+     */
+    public int estimateCandidates(Field field, String searchString) {
+        CollectionUtil.requireAllNonNull(field, searchString);
+        Set<String> grams = ContactSearchIndex.getGrams(searchString);
+        if (grams.isEmpty()) {
+            return Integer.MAX_VALUE;
+        }
+
+        Map<String, Set<Contact>> fieldPostings = this.postings.get(field);
+        List<Set<Contact>> gramPostings = new ArrayList<>();
+        for (String gram : grams) {
+            gramPostings.add(fieldPostings.get(gram));
+        }
+        return ContactSearchIndex.getSmallestSize(gramPostings);
+    }
+
+    /**
+     * Returns the contacts that have every tag in {@code tags}.
+     */
+    public Set<Contact> findWithAllTags(Set<Tag> tags) {
+        CollectionUtil.requireAllNonNull(tags);
+        List<Set<Contact>> tagged = new ArrayList<>();
+        for (Tag tag : tags) {
+            tagged.add(this.tagPostings.get(tag));
+        }
+        return ContactSearchIndex.intersect(tagged);
+    }
+
+    /**
+     * Returns the number of contacts with the least used tag in {@code tags},
+     * which bounds the number of contacts {@link #findWithAllTags(Set)}
+     * returns.
+     */
+    public int estimateWithAllTags(Set<Tag> tags) {
+        CollectionUtil.requireAllNonNull(tags);
+        List<Set<Contact>> tagged = new ArrayList<>();
+        for (Tag tag : tags) {
+            tagged.add(this.tagPostings.get(tag));
+        }
+        return ContactSearchIndex.getSmallestSize(tagged);
+    }
+
+    /**
+     * Returns the contacts in the index with an id in {@code ids}. Ids of
+     * contacts not in the index are ignored.
+     */
+    public Set<Contact> findWithIds(Collection<String> ids) {
+        CollectionUtil.requireAllNonNull(ids);
+        Set<Contact> contacts = ContactSearchIndex.createContactSet();
+        for (String id : ids) {
+            Contact contact = this.contactsById.get(id);
+            if (contact != null) {
+                contacts.add(contact);
+            }
+        }
+        return contacts;
+    }
+
+    /**
+     * Returns a predicate that matches the same contacts as {@code predicate},
+     * but only checks the candidates that {@code predicate} finds in this index.
+     * The matches are worked out once and reused until the index changes.
+     */
+    public Predicate<Contact> filter(ContactSearchPredicate predicate) {
+        Objects.requireNonNull(predicate);
+        return new IndexedFilter<>(predicate, this, () -> this.modificationCount);
+    }
+
+    /**
+     * Returns the size of the smallest of {@code postingSets}, where a null
+     * posting set is empty, or 0 if there are none.
+     */
+    private static int getSmallestSize(List<Set<Contact>> postingSets) {
+        int smallestSize = postingSets.isEmpty() ? 0 : Integer.MAX_VALUE;
+        for (Set<Contact> postingSet : postingSets) {
+            smallestSize = Math.min(smallestSize, postingSet == null ? 0 : postingSet.size());
+        }
+        return smallestSize;
+    }
+
+    /**
+     * Returns the contacts in every one of {@code postingSets}, where a null
+     * posting set is empty. Starts from the smallest set, so the cost depends on
+     * the size of that set rather than of the others.
+     */
+    private static Set<Contact> intersect(List<Set<Contact>> postingSets) {
+        Set<Contact> smallest = null;
+        for (Set<Contact> postingSet : postingSets) {
+            if (postingSet == null) {
+                return Collections.emptySet();
+            }
+            if (smallest == null || postingSet.size() < smallest.size()) {
+                smallest = postingSet;
+            }
+        }
+        if (smallest == null) {
+            return Collections.emptySet();
+        }
+
+        Set<Contact> contacts = ContactSearchIndex.createContactSet();
+        contacts.addAll(smallest);
+        for (Set<Contact> postingSet : postingSets) {
+            if (postingSet != smallest) {
+                contacts.retainAll(postingSet);
+            }
+        }
+        return Collections.unmodifiableSet(contacts);
+    }
+
+    private static Set<String> getGrams(String value) {
+        Set<String> grams = new HashSet<>();
+        for (int i = 0; i + ContactSearchIndex.GRAM_LENGTH <= value.length(); i++) {
+            grams.add(value.substring(i, i + ContactSearchIndex.GRAM_LENGTH));
+        }
+        return grams;
+    }
+
+    /**
+     * Contacts are compared by identity, as the index holds the exact instances
+     * in the contact list and hashing every field of a contact is slow.
+     */
+    private static Set<Contact> createContactSet() {
+        return Collections.newSetFromMap(new IdentityHashMap<>());
+    }
+}
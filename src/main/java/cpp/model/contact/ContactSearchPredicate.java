@@ -1,10 +1,25 @@
 package cpp.model.contact;
 
-import java.util.function.Predicate;
+import cpp.model.Model;
+import cpp.model.search.SearchPredicate;
 
 /**
  * Interface for contact search predicates.
  * All contact-related search predicates should implement this interface.
  */
-public interface ContactSearchPredicate extends Predicate<Contact> {
+public interface ContactSearchPredicate extends SearchPredicate<Contact, ContactSearchIndex> {
+
+    /**
+     * Returns this predicate with any class groups or assignments it refers to
+     * by name looked up in {@code model}. Predicates that only look at the
+     * fields of a contact are returned as is.
+     *
+     * @throws cpp.model.classgroup.exceptions.ClassGroupNotFoundException if a
+     *         class group referred to does not exist.
+     * @throws cpp.model.assignment.exceptions.AssignmentNotFoundException if an
+     *         assignment referred to does not exist.
+     */
+    default ContactSearchPredicate resolve(Model model) {
+        return this;
+    }
 }
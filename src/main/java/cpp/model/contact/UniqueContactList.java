@@ -1,12 +1,17 @@
 package cpp.model.contact;
 
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 
 import cpp.commons.util.CollectionUtil;
 import cpp.model.contact.exceptions.ContactNotFoundException;
 import cpp.model.contact.exceptions.DuplicateContactException;
+import cpp.model.tag.Tag;
+import cpp.model.util.UniquenessUtil;
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 
@@ -22,7 +27,11 @@ import javafx.collections.ObservableList;
  * a contact uses Contact#equals(Object) so
  * as to ensure that the contact with exactly the same fields will be removed.
  *
- * Supports a minimal set of list operations.
+ * Supports a minimal set of list operations. Lookups by id, identity and name
+ * are answered from hash indexes, and substring searches are narrowed down by
+ * a {@link ContactSearchIndex}. Every index is updated just before the backing
+ * list, so listeners of the list always see up to date indexes. Contacts must
+ * have unique ids.
  *
  * @see Contact#isSameContact(Contact)
  */
@@ -32,12 +41,26 @@ public class UniqueContactList implements Iterable<Contact> {
     private final ObservableList<Contact> internalUnmodifiableList = FXCollections
             .unmodifiableObservableList(this.internalList);
 
+    private final Map<String, Contact> idIndex = new HashMap<>();
+    private final Map<IdentityKey, Contact> identityIndex = new HashMap<>();
+    private final Map<ContactName, Integer> nameCounts = new HashMap<>();
+    private final ContactSearchIndex searchIndex = new ContactSearchIndex();
+
     /**
      * Returns true if the list contains a contact with the same id as {@code id}.
      */
     public boolean containsId(String id) {
         Objects.requireNonNull(id);
-        return this.internalList.stream().anyMatch(contact -> contact.getId().equals(id));
+        return this.idIndex.containsKey(id);
+    }
+
+    /**
+     * Returns the contact with the same id as {@code id}, or null if there is no
+     * such contact in the list.
+     */
+    public Contact findById(String id) {
+        Objects.requireNonNull(id);
+        return this.idIndex.get(id);
     }
 
     /**
@@ -46,7 +69,7 @@ public class UniqueContactList implements Iterable<Contact> {
      */
     public boolean contains(Contact toCheck) {
         Objects.requireNonNull(toCheck);
-        return this.internalList.stream().anyMatch(toCheck::isSameContact);
+        return this.identityIndex.containsKey(IdentityKey.of(toCheck));
     }
 
     /**
@@ -55,7 +78,7 @@ public class UniqueContactList implements Iterable<Contact> {
      */
     public boolean containsMultipleContactsWithName(ContactName name) {
         Objects.requireNonNull(name);
-        return this.internalList.stream().filter(contact -> contact.getName().equals(name)).count() > 1;
+        return this.nameCounts.getOrDefault(name, 0) > 1;
     }
 
     /**
@@ -64,9 +87,11 @@ public class UniqueContactList implements Iterable<Contact> {
      */
     public void add(Contact toAdd) {
         Objects.requireNonNull(toAdd);
-        if (this.contains(toAdd)) {
+        if (this.contains(toAdd) || this.containsId(toAdd.getId())) {
             throw new DuplicateContactException();
         }
+        this.searchIndex.add(toAdd);
+        this.index(toAdd);
         this.internalList.add(toAdd);
     }
 
@@ -84,10 +109,18 @@ public class UniqueContactList implements Iterable<Contact> {
             throw new ContactNotFoundException();
         }
 
+        Contact replaced = this.internalList.get(index);
         if (!target.isSameContact(editedContact) && this.contains(editedContact)) {
             throw new DuplicateContactException();
         }
+        if (!replaced.getId().equals(editedContact.getId()) && this.containsId(editedContact.getId())) {
+            throw new DuplicateContactException();
+        }
 
+        this.searchIndex.remove(replaced);
+        this.searchIndex.add(editedContact);
+        this.unindex(replaced);
+        this.index(editedContact);
         this.internalList.set(index, editedContact);
     }
 
@@ -97,29 +130,50 @@ public class UniqueContactList implements Iterable<Contact> {
      */
     public void remove(Contact toRemove) {
         Objects.requireNonNull(toRemove);
-        if (!this.internalList.remove(toRemove)) {
+        int index = this.internalList.indexOf(toRemove);
+        if (index == -1) {
             throw new ContactNotFoundException();
         }
+
+        Contact removed = this.internalList.get(index);
+        this.searchIndex.remove(removed);
+        this.unindex(removed);
+        this.internalList.remove(index);
     }
 
     public void setContacts(UniqueContactList replacement) {
         Objects.requireNonNull(replacement);
+        this.rebuildIndexes(replacement.internalList);
         this.internalList.setAll(replacement.internalList);
     }
 
     /**
      * Replaces the contents of this list with {@code contacts}.
-     * {@code contacts} must not contain duplicate contacts.
+     * {@code contacts} must not contain duplicate contacts, or contacts that
+     * share an id.
      */
     public void setContacts(List<Contact> contacts) {
         CollectionUtil.requireAllNonNull(contacts);
-        if (!this.contactsAreUnique(contacts)) {
-            throw new DuplicateContactException();
+        List<IdentityKey> duplicates = UniquenessUtil.findDuplicateKeys(contacts, IdentityKey::of);
+        if (!duplicates.isEmpty()) {
+            throw new DuplicateContactException(duplicates);
+        }
+        List<String> duplicateIds = UniquenessUtil.findDuplicateKeys(contacts, Contact::getId);
+        if (!duplicateIds.isEmpty()) {
+            throw new DuplicateContactException(duplicateIds);
         }
 
+        this.rebuildIndexes(contacts);
         this.internalList.setAll(contacts);
     }
 
+    /**
+     * Returns the index used to narrow down substring searches of this list.
+     */
+    public ContactSearchIndex getSearchIndex() {
+        return this.searchIndex;
+    }
+
     /**
      * Returns the backing list as an unmodifiable {@code ObservableList}.
      */
@@ -158,16 +212,77 @@ public class UniqueContactList implements Iterable<Contact> {
     }
 
     /**
-     * Returns true if {@code contacts} contains only unique contacts.
+     * Adds {@code contact} to every lookup index.
      */
-    private boolean contactsAreUnique(List<Contact> contacts) {
-        for (int i = 0; i < contacts.size() - 1; i++) {
-            for (int j = i + 1; j < contacts.size(); j++) {
-                if (contacts.get(i).isSameContact(contacts.get(j))) {
-                    return false;
-                }
+    private void index(Contact contact) {
+        this.idIndex.put(contact.getId(), contact);
+        this.identityIndex.put(IdentityKey.of(contact), contact);
+        this.nameCounts.merge(contact.getName(), 1, Integer::sum);
+    }
+
+    /**
+     * Removes {@code contact} from every lookup index.
+     */
+    private void unindex(Contact contact) {
+        this.idIndex.remove(contact.getId(), contact);
+        this.identityIndex.remove(IdentityKey.of(contact));
+        this.nameCounts.computeIfPresent(contact.getName(), (name, count) -> count > 1 ? count - 1 : null);
+    }
+
+    /**
+     * Rebuilds every index from {@code contacts}, which are about to become
+     * the contents of the backing list.
+     */
+    private void rebuildIndexes(List<Contact> contacts) {
+        this.searchIndex.clear();
+        this.idIndex.clear();
+        this.identityIndex.clear();
+        this.nameCounts.clear();
+        for (Contact contact : contacts) {
+            this.searchIndex.add(contact);
+            this.index(contact);
+        }
+    }
+
+    /**
+     * Hashable form of the identity fields compared by
+     * {@link Contact#isSameContact(Contact)}.
+     */
+    private static class IdentityKey {
+        private final ContactName name;
+        private final Set<Tag> tags;
+
+        private IdentityKey(ContactName name, Set<Tag> tags) {
+            this.name = name;
+            this.tags = tags;
+        }
+
+        static IdentityKey of(Contact contact) {
+            return new IdentityKey(contact.getName(), contact.getTags());
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (other == this) {
+                return true;
+            }
+
+            if (!(other instanceof IdentityKey)) {
+                return false;
             }
+
+            IdentityKey otherKey = (IdentityKey) other;
+            return this.name.equals(otherKey.name) && this.tags.equals(otherKey.tags);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(this.name, this.tags);
+        }
+
+        @Override
+        public String toString() {
+            return this.name + " " + this.tags;
         }
-        return true;
     }
 }
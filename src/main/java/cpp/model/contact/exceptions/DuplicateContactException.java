@@ -1,5 +1,7 @@
 package cpp.model.contact.exceptions;
 
+import java.util.Collection;
+
 /**
  * Signals that the operation will result in duplicate Contacts (Contacts are
  * considered duplicates if they have the same
@@ -9,4 +11,12 @@ public class DuplicateContactException extends RuntimeException {
     public DuplicateContactException() {
         super("Operation would result in duplicate contacts");
     }
+
+    /**
+     * Creates an exception that lists every offending key in
+     * {@code duplicateKeys}.
+     */
+    public DuplicateContactException(Collection<?> duplicateKeys) {
+        super("Operation would result in duplicate contacts: " + duplicateKeys);
+    }
 }
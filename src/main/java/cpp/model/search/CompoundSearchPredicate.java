@@ -0,0 +1,180 @@
+package cpp.model.search;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+
+import cpp.commons.util.AppUtil;
+import cpp.commons.util.CollectionUtil;
+import cpp.commons.util.ToStringBuilder;
+
+/**
+ * A search predicate that combines other search predicates with AND, OR or
+ * NOT, so that queries over several fields form a tree of predicates.
+ *
+ * The candidates of a query are planned from its operands: an AND looks up
+ * only its most selective operand in the index, leaving the other operands to
+ * be tested against those candidates, while an OR looks up every operand and
+ * takes the union, as long as all of them can be looked up. A NOT cannot be
+ * narrowed down by the index.
+ *
+ * @param <T> the type of the elements searched.
+ * @param <I> the type of the index used to narrow down the elements.
+ * @param <P> the type of the operands.
+ */
+public abstract class CompoundSearchPredicate<T, I, P extends SearchPredicate<T, I>>
+        implements SearchPredicate<T, I> {
+
+    /**
+     * The ways in which the operands can be combined.
+     */
+    public enum Operator {
+        ALL_OF, ANY_OF, NOT
+    }
+
+    public static final String MESSAGE_NO_OPERANDS = "A compound search predicate must have at least one operand";
+    public static final String MESSAGE_INVALID_NOT = "NOT must have exactly one operand";
+
+    private final Operator operator;
+    private final List<P> operands;
+
+    /**
+     * Creates a predicate that combines {@code operands} with {@code operator}.
+     * There must be at least one operand, and exactly one for
+     * {@code Operator.NOT}.
+     */
+    protected CompoundSearchPredicate(Operator operator, List<? extends P> operands) {
+        Objects.requireNonNull(operator);
+        CollectionUtil.requireAllNonNull(operands);
+        AppUtil.checkArgument(!operands.isEmpty(), CompoundSearchPredicate.MESSAGE_NO_OPERANDS);
+        AppUtil.checkArgument(operator != Operator.NOT || operands.size() == 1,
+                CompoundSearchPredicate.MESSAGE_INVALID_NOT);
+        this.operator = operator;
+        this.operands = new ArrayList<>(operands);
+    }
+
+    public Operator getOperator() {
+        return this.operator;
+    }
+
+    /**
+     * Returns the operands as an unmodifiable list.
+     */
+    public List<P> getOperands() {
+        return Collections.unmodifiableList(this.operands);
+    }
+
+    @Override
+    public boolean test(T element) {
+        switch (this.operator) {
+        case ALL_OF:
+            for (P operand : this.operands) {
+                if (!operand.test(element)) {
+                    return false;
+                }
+            }
+            return true;
+        case ANY_OF:
+            for (P operand : this.operands) {
+                if (operand.test(element)) {
+                    return true;
+                }
+            }
+            return false;
+        case NOT:
+            return !this.operands.get(0).test(element);
+        default:
+            throw new AssertionError(this.operator);
+        }
+    }
+
+    @Override
+    public Optional<Set<T>> findCandidates(I index) {
+        switch (this.operator) {
+        case ALL_OF:
+            P mostSelective = this.findMostSelectiveOperand(index);
+            return mostSelective == null ? Optional.empty() : mostSelective.findCandidates(index);
+        case ANY_OF:
+            Set<T> candidates = Collections.newSetFromMap(new IdentityHashMap<>());
+            for (P operand : this.operands) {
+                Optional<Set<T>> operandCandidates = operand.findCandidates(index);
+                if (operandCandidates.isEmpty()) {
+                    return Optional.empty();
+                }
+                candidates.addAll(operandCandidates.get());
+            }
+            return Optional.of(candidates);
+        case NOT:
+            return Optional.empty();
+        default:
+            throw new AssertionError(this.operator);
+        }
+    }
+
+    @Override
+    public int estimateCandidates(I index) {
+        switch (this.operator) {
+        case ALL_OF:
+            P mostSelective = this.findMostSelectiveOperand(index);
+            return mostSelective == null ? Integer.MAX_VALUE : mostSelective.estimateCandidates(index);
+        case ANY_OF:
+            long total = 0;
+            for (P operand : this.operands) {
+                int estimate = operand.estimateCandidates(index);
+                if (estimate == Integer.MAX_VALUE) {
+                    return Integer.MAX_VALUE;
+                }
+                total += estimate;
+            }
+            return (int) Math.min(total, Integer.MAX_VALUE - 1);
+        case NOT:
+            return Integer.MAX_VALUE;
+        default:
+            throw new AssertionError(this.operator);
+        }
+    }
+
+    /**
+     * Returns the operand expected to have the fewest candidates in
+     * {@code index}, or null if no operand can be narrowed down by the index.
+     */
+    private P findMostSelectiveOperand(I index) {
+        P mostSelective = null;
+        int fewestCandidates = Integer.MAX_VALUE;
+        for (P operand : this.operands) {
+            int estimate = operand.estimateCandidates(index);
+            if (estimate < fewestCandidates) {
+                mostSelective = operand;
+                fewestCandidates = estimate;
+            }
+        }
+        return mostSelective;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof CompoundSearchPredicate)) {
+            return false;
+        }
+
+        CompoundSearchPredicate<?, ?, ?> otherPredicate = (CompoundSearchPredicate<?, ?, ?>) other;
+        return this.operator == otherPredicate.operator && this.operands.equals(otherPredicate.operands);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("operator", this.operator)
+                .add("operands", this.operands)
+                .toString();
+    }
+}
@@ -0,0 +1,72 @@
+package cpp.model.search;
+
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.IntSupplier;
+import java.util.function.Predicate;
+
+import cpp.commons.util.CollectionUtil;
+
+/**
+ * Matches the elements that a {@code SearchPredicate} matches, by checking
+ * them against matches worked out from the candidates in an index. The matches
+ * are worked out once and reused until the modification count of the index
+ * changes. If the index cannot narrow down the elements, every element is
+ * tested against the predicate instead.
+ *
+ * Elements are compared by identity, as an index holds the exact instances in
+ * its list.
+ *
+ * @param <T> the type of the elements searched.
+ * @param <I> the type of the index used to narrow down the elements.
+ */
+public class IndexedFilter<T, I> implements Predicate<T> {
+
+    private final SearchPredicate<T, I> predicate;
+    private final I index;
+    private final IntSupplier modificationCount;
+    private Optional<Set<T>> matches;
+    private int matchesModificationCount;
+
+    /**
+     * Creates a filter that matches the elements matched by {@code predicate},
+     * using {@code index}, whose modification count is given by
+     * {@code modificationCount}.
+     */
+    public IndexedFilter(SearchPredicate<T, I> predicate, I index, IntSupplier modificationCount) {
+        CollectionUtil.requireAllNonNull(predicate, index, modificationCount);
+        this.predicate = predicate;
+        this.index = index;
+        this.modificationCount = modificationCount;
+    }
+
+    @Override
+    public boolean test(T element) {
+        int currentModificationCount = this.modificationCount.getAsInt();
+        if (this.matches == null || this.matchesModificationCount != currentModificationCount) {
+            this.matchesModificationCount = currentModificationCount;
+            this.matches = this.findMatches();
+        }
+        return this.matches.isPresent() ? this.matches.get().contains(element) : this.predicate.test(element);
+    }
+
+    /**
+     * Returns the elements matched by the predicate, or an empty
+     * {@code Optional} if the predicate cannot narrow down the elements.
+     */
+    private Optional<Set<T>> findMatches() {
+        Optional<Set<T>> candidates = this.predicate.findCandidates(this.index);
+        if (candidates.isEmpty()) {
+            return Optional.empty();
+        }
+        Set<T> matches = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (T candidate : candidates.get()) {
+            if (this.predicate.test(candidate)) {
+                matches.add(candidate);
+            }
+        }
+        return Optional.of(matches);
+    }
+}
@@ -0,0 +1,30 @@
+package cpp.model.search;
+
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Predicate;
+
+/**
+ * A predicate that can use an index of type {@code I} to narrow down the
+ * elements of type {@code T} it has to be tested against.
+ */
+public interface SearchPredicate<T, I> extends Predicate<T> {
+
+    /**
+     * Returns the elements in {@code index} that might match this predicate,
+     * which includes every element that does. Returns an empty {@code Optional}
+     * if the index cannot narrow down the elements.
+     */
+    Optional<Set<T>> findCandidates(I index);
+
+    /**
+     * Returns an upper bound on the number of candidates {@link #findCandidates}
+     * would return, or {@code Integer.MAX_VALUE} if the index cannot narrow
+     * down the elements. Used to decide which clause of a query to look up
+     * first, so implementations should override it with something cheaper than
+     * finding the candidates where they can.
+     */
+    default int estimateCandidates(I index) {
+        return this.findCandidates(index).map(Set::size).orElse(Integer.MAX_VALUE);
+    }
+}
@@ -1,6 +1,8 @@
 package cpp.model.tag;
 
+import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
 
 import cpp.commons.util.AppUtil;
 
@@ -8,13 +10,23 @@ import cpp.commons.util.AppUtil;
  * Represents a Tag in the address book.
  * Guarantees: immutable; name is valid as declared in
  * {@link #isValidTagName(String)}
+ *
+ * Tags are compared case-insensitively. As contacts tend to share a few tags,
+ * tags of contacts should be obtained through {@link #of(String)}, which
+ * returns one shared instance for each tag name. Shared tags are never
+ * released, so tags that are not kept by a contact, such as those searched
+ * for, should be constructed instead.
  */
 public class Tag {
 
     public static final String MESSAGE_CONSTRAINTS = "Tags names should be alphanumeric";
     public static final String VALIDATION_REGEX = "\\p{Alnum}+";
 
+    // Keyed by lower-cased tag name, as tags differing only in case are equal.
+    private static final Map<String, Tag> pool = new ConcurrentHashMap<>();
+
     public final String tagName;
+    private final String lowerCaseTagName;
 
     /**
      * Constructs a {@code Tag}.
@@ -25,6 +37,19 @@ public class Tag {
         Objects.requireNonNull(tagName);
         AppUtil.checkArgument(Tag.isValidTagName(tagName), Tag.MESSAGE_CONSTRAINTS);
         this.tagName = tagName;
+        this.lowerCaseTagName = tagName.toLowerCase();
+    }
+
+    /**
+     * Returns the shared {@code Tag} equal to a tag named {@code tagName},
+     * creating it if there is none yet. The shared tag keeps the case of the
+     * name it was first created with.
+     *
+     * @param tagName A valid tag name.
+     */
+    public static Tag of(String tagName) {
+        Objects.requireNonNull(tagName);
+        return Tag.pool.computeIfAbsent(tagName.toLowerCase(), unused -> new Tag(tagName));
     }
 
     /**
@@ -46,12 +71,12 @@ public class Tag {
         }
 
         Tag otherTag = (Tag) other;
-        return this.tagName.toLowerCase().equals(otherTag.tagName.toLowerCase());
+        return this.lowerCaseTagName.equals(otherTag.lowerCaseTagName);
     }
 
     @Override
     public int hashCode() {
-        return this.tagName.toLowerCase().hashCode();
+        return this.lowerCaseTagName.hashCode();
     }
 
     /**
@@ -1,11 +1,11 @@
 package cpp.model.util;
 
+import java.util.ArrayList;
 import java.util.List;
 
+import cpp.model.ReadOnlyAddressBook;
 import cpp.model.classgroup.ClassGroup;
-import cpp.model.classgroup.ClassGroupName;
 import cpp.model.contact.Contact;
-import javafx.collections.ObservableList;
 
 /**
  * Utility class for ClassGroup related operations.
@@ -13,46 +13,18 @@ import javafx.collections.ObservableList;
 public class ClassGroupUtil {
 
     /**
-     * Finds and returns the class group with the given name from the list of class
-     * groups.
-     * Returns null if no such class group is found.
+     * Returns a list of {@code Contact} objects in {@code addressBook} that are
+     * allocated to the given class group. Contact ids that do not resolve to a
+     * contact in {@code addressBook} are skipped.
      */
-    public static ClassGroup findClassGroup(List<ClassGroup> classGroups, ClassGroupName name) {
-        for (ClassGroup classGroup : classGroups) {
-            if (classGroup.getName().equals(name)) {
-                return classGroup;
+    public static List<Contact> getContactsInClassGroup(ReadOnlyAddressBook addressBook, ClassGroup classGroup) {
+        List<Contact> allContacts = new ArrayList<>(classGroup.getContactIdSet().size());
+        for (String contactId : classGroup.getContactIdSet()) {
+            Contact contact = addressBook.findContactById(contactId);
+            if (contact != null) {
+                allContacts.add(contact);
             }
         }
-        return null;
-    }
-
-    /**
-     * Returns a list of {@code Contact} objects that are allocated to the given
-     * class group.
-     */
-    public static List<Contact> getContactsInClassGroup(List<Contact> contacts, ClassGroup classGroup) {
-        List<Contact> allContacts = classGroup.getContactIdSet().stream()
-                .map(id -> ClassGroupUtil.getSingleContact(contacts, id))
-                .toList();
         return allContacts;
     }
-
-    /**
-     * Returns all class groups that the given contact belongs to.
-     */
-    public static List<ClassGroup> getClassGroupsForContact(Contact contact, ObservableList<ClassGroup> classGroups) {
-        String contactId = contact.getId();
-        return classGroups.stream()
-                .filter(classGroup -> classGroup.getContactIdSet().contains(contactId))
-                .toList();
-    }
-
-    private static Contact getSingleContact(List<Contact> contacts, String id) {
-        for (Contact contact : contacts) {
-            if (contact.getId().equals(id)) {
-                return contact;
-            }
-        }
-        return null;
-    }
 }
@@ -0,0 +1,198 @@
+package cpp.model.util;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+
+import cpp.commons.util.AppUtil;
+import cpp.commons.util.ToStringBuilder;
+import cpp.model.AddressBook;
+import cpp.model.assignment.Assignment;
+import cpp.model.assignment.AssignmentName;
+import cpp.model.assignment.ContactAssignment;
+import cpp.model.classgroup.ClassGroup;
+import cpp.model.classgroup.ClassGroupName;
+import cpp.model.contact.Address;
+import cpp.model.contact.Contact;
+import cpp.model.contact.ContactName;
+import cpp.model.contact.Email;
+import cpp.model.contact.Phone;
+
+/**
+ * Generates address books of any size, for reproducing the load of a large
+ * data file.
+ *
+ * The data depends only on the seed and the settings, so the same generator
+ * always produces the same address book, including ids.
+ */
+public class SyntheticDataGenerator {
+
+    public static final String MESSAGE_INVALID_COUNT = "Counts must not be negative";
+    public static final String MESSAGE_INVALID_DENSITY = "Densities must be between 0 and 1";
+
+    private static final String[] FIRST_NAMES = {
+        "Alex", "Bernice", "Charlotte", "David", "Irfan", "Roy", "Siti", "Wei Ming", "Priya", "Jun Jie",
+    };
+    private static final String[] LAST_NAMES = {
+        "Yeoh", "Yu", "Oliveiro", "Li", "Ibrahim", "Balakrishnan", "Tan", "Lim", "Nair", "Ong",
+    };
+    private static final String[] STREETS = {
+        "Geylang Street 29", "Lorong 3 Serangoon Gardens", "Ang Mo Kio Street 74", "Tampines Street 20",
+        "Aljunied Street 85", "Clementi Ave 2",
+    };
+    private static final String[] TAGS = {
+        "friends", "colleagues", "neighbours", "family", "classmates", "tutee",
+    };
+    private static final LocalDateTime FIRST_DEADLINE = LocalDateTime.of(2026, 1, 12, 23, 59);
+
+    private final long seed;
+    private int contactCount;
+    private int assignmentCount;
+    private int classGroupCount;
+    private double allocationDensity;
+    private double submissionDensity;
+    private double gradeDensity;
+
+    /**
+     * Creates a generator with the given {@code seed} that generates an empty
+     * address book until it is given counts.
+     */
+    public SyntheticDataGenerator(long seed) {
+        this.seed = seed;
+    }
+
+    /**
+     * Sets the number of contacts, assignments and class groups to generate.
+     */
+    public SyntheticDataGenerator withCounts(int contactCount, int assignmentCount, int classGroupCount) {
+        AppUtil.checkArgument(contactCount >= 0 && assignmentCount >= 0 && classGroupCount >= 0,
+                SyntheticDataGenerator.MESSAGE_INVALID_COUNT);
+        this.contactCount = contactCount;
+        this.assignmentCount = assignmentCount;
+        this.classGroupCount = classGroupCount;
+        return this;
+    }
+
+    /**
+     * Sets the fraction of contact and assignment pairs that are allocated, the
+     * fraction of allocations that are submitted, and the fraction of
+     * submissions that are graded.
+     */
+    public SyntheticDataGenerator withDensities(double allocationDensity, double submissionDensity,
+            double gradeDensity) {
+        AppUtil.checkArgument(SyntheticDataGenerator.isValidDensity(allocationDensity)
+                && SyntheticDataGenerator.isValidDensity(submissionDensity)
+                && SyntheticDataGenerator.isValidDensity(gradeDensity),
+                SyntheticDataGenerator.MESSAGE_INVALID_DENSITY);
+        this.allocationDensity = allocationDensity;
+        this.submissionDensity = submissionDensity;
+        this.gradeDensity = gradeDensity;
+        return this;
+    }
+
+    private static boolean isValidDensity(double density) {
+        return density >= 0 && density <= 1;
+    }
+
+    /**
+     * Returns a new address book filled with the generated data.
+     */
+    public AddressBook generate() {
+        Random random = new Random(this.seed);
+
+        List<Contact> contacts = new ArrayList<>();
+        for (int i = 0; i < this.contactCount; i++) {
+            contacts.add(this.generateContact(random, i));
+        }
+
+        List<Assignment> assignments = new ArrayList<>();
+        for (int i = 0; i < this.assignmentCount; i++) {
+            assignments.add(new Assignment(this.generateId(random), new AssignmentName("Assignment " + (i + 1)),
+                    SyntheticDataGenerator.FIRST_DEADLINE.plusWeeks(i)));
+        }
+
+        List<ClassGroup> classGroups = new ArrayList<>();
+        for (int i = 0; i < this.classGroupCount; i++) {
+            classGroups.add(new ClassGroup(this.generateId(random), new ClassGroupName("Class " + (i + 1))));
+        }
+        // Every contact belongs to one class group, as tutorial groups do.
+        if (!classGroups.isEmpty()) {
+            for (Contact contact : contacts) {
+                classGroups.get(random.nextInt(classGroups.size())).allocateContact(contact.getId());
+            }
+        }
+
+        List<ContactAssignment> contactAssignments = new ArrayList<>();
+        for (Contact contact : contacts) {
+            for (Assignment assignment : assignments) {
+                if (random.nextDouble() < this.allocationDensity) {
+                    contactAssignments.add(this.generateContactAssignment(random, contact, assignment));
+                }
+            }
+        }
+
+        AddressBook addressBook = new AddressBook();
+        addressBook.setContacts(contacts);
+        addressBook.setAssignments(assignments);
+        addressBook.setContactAssignments(contactAssignments);
+        addressBook.setClassGroups(classGroups);
+        return addressBook;
+    }
+
+    private Contact generateContact(Random random, int index) {
+        String firstName = SyntheticDataGenerator.pick(random, SyntheticDataGenerator.FIRST_NAMES);
+        String lastName = SyntheticDataGenerator.pick(random, SyntheticDataGenerator.LAST_NAMES);
+        // The index keeps names unique, as the address book does not allow duplicate names.
+        String name = firstName + " " + lastName + " " + (index + 1);
+        String email = firstName.replace(" ", "").toLowerCase() + (index + 1) + "@example.com";
+        String phone = String.format("%d%07d", 8 + random.nextInt(2), random.nextInt(10_000_000));
+        String address = "Blk " + (1 + random.nextInt(999)) + " "
+                + SyntheticDataGenerator.pick(random, SyntheticDataGenerator.STREETS)
+                + String.format(", #%02d-%02d", 1 + random.nextInt(20), 1 + random.nextInt(99));
+
+        String[] tags = random.nextBoolean()
+                ? new String[] {SyntheticDataGenerator.pick(random, SyntheticDataGenerator.TAGS)}
+                : new String[0];
+        return new Contact(this.generateId(random), new ContactName(name), new Phone(phone), new Email(email),
+                new Address(address), SampleDataUtil.getTagSet(tags));
+    }
+
+    private ContactAssignment generateContactAssignment(Random random, Contact contact, Assignment assignment) {
+        if (random.nextDouble() >= this.submissionDensity) {
+            return new ContactAssignment(assignment.getId(), contact.getId());
+        }
+
+        LocalDateTime submissionDate = assignment.getDeadline().minusMinutes(random.nextInt(7 * 24 * 60));
+        if (random.nextDouble() >= this.gradeDensity) {
+            return new ContactAssignment(assignment.getId(), contact.getId(), true, submissionDate, false, null, 0);
+        }
+
+        LocalDateTime gradingDate = assignment.getDeadline().plusMinutes(random.nextInt(7 * 24 * 60));
+        float score = random.nextInt(1001) / 10f;
+        return new ContactAssignment(assignment.getId(), contact.getId(), true, submissionDate, true, gradingDate,
+                score);
+    }
+
+    private String generateId(Random random) {
+        return new UUID(random.nextLong(), random.nextLong()).toString();
+    }
+
+    private static String pick(Random random, String[] values) {
+        return values[random.nextInt(values.length)];
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("seed", this.seed)
+                .add("contactCount", this.contactCount)
+                .add("assignmentCount", this.assignmentCount)
+                .add("classGroupCount", this.classGroupCount)
+                .add("allocationDensity", this.allocationDensity)
+                .add("submissionDensity", this.submissionDensity)
+                .add("gradeDensity", this.gradeDensity)
+                .toString();
+    }
+}
@@ -0,0 +1,46 @@
+package cpp.model.util;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * Utility class for validating that a collection of model objects is free of
+ * duplicates.
+ */
+public class UniquenessUtil {
+
+    /**
+     * Returns every key that is shared by more than one element of {@code items},
+     * in the order in which each key was first found to repeat. Each duplicate key
+     * is reported once, however many times it occurs. An empty list means all
+     * elements are unique.
+     *
+     * Runs in a single pass, relying on the {@code equals} and {@code hashCode} of
+     * the extracted keys.
+     *
+     * @param items        the elements to validate
+     * @param keyExtractor maps an element to the key that identifies it
+     * @return the duplicate keys, or an empty list if there are none
+     */
+    public static <T, K> List<K> findDuplicateKeys(Collection<? extends T> items,
+            Function<? super T, ? extends K> keyExtractor) {
+        Objects.requireNonNull(items);
+        Objects.requireNonNull(keyExtractor);
+
+        Set<K> seen = new HashSet<>();
+        Set<K> duplicates = new LinkedHashSet<>();
+        for (T item : items) {
+            K key = keyExtractor.apply(item);
+            if (!seen.add(key)) {
+                duplicates.add(key);
+            }
+        }
+        return new ArrayList<>(duplicates);
+    }
+}
@@ -0,0 +1,148 @@
+package cpp.storage;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.logging.Logger;
+
+import cpp.commons.core.LogsCenter;
+import cpp.commons.exceptions.DataLoadingException;
+import cpp.commons.util.FileUtil;
+import cpp.commons.util.JsonUtil;
+
+/**
+ * An append-only journal of {@link JsonAdaptedJournalRecord}s kept beside an
+ * address book snapshot file, one Json record per line.
+ *
+ * The current state of the address book is the snapshot with every record of
+ * the journal applied on top of it, in order.
+ */
+class AddressBookJournal {
+
+    public static final String JOURNAL_SUFFIX = ".journal";
+    public static final String COMPACTING_SUFFIX = ".compacting";
+    public static final String MESSAGE_INVALID_RECORD = "Invalid record on line %d of journal %s";
+
+    private static final Logger logger = LogsCenter.getLogger(AddressBookJournal.class);
+
+    private final Path filePath;
+
+    AddressBookJournal(Path filePath) {
+        this.filePath = filePath;
+    }
+
+    /**
+     * Returns the path of the journal kept beside the snapshot at {@code snapshotPath}.
+     */
+    static Path getJournalPath(Path snapshotPath) {
+        return snapshotPath.resolveSibling(snapshotPath.getFileName() + AddressBookJournal.JOURNAL_SUFFIX);
+    }
+
+    /**
+     * Returns the path a journal is moved to while it is being compacted into the
+     * snapshot at {@code snapshotPath}.
+     */
+    static Path getCompactingPath(Path snapshotPath) {
+        Path journalPath = AddressBookJournal.getJournalPath(snapshotPath);
+        return journalPath.resolveSibling(journalPath.getFileName() + AddressBookJournal.COMPACTING_SUFFIX);
+    }
+
+    Path getFilePath() {
+        return this.filePath;
+    }
+
+    boolean exists() {
+        return Files.exists(this.filePath);
+    }
+
+    /**
+     * Returns every record in the journal, in the order they were appended.
+     * Returns an empty list if the journal does not exist.
+     *
+     * A last line without a terminating newline is the remains of an append that
+     * was interrupted, and is skipped.
+     *
+     * @throws DataLoadingException if any other line is not a valid record.
+     */
+    List<JsonAdaptedJournalRecord> read() throws DataLoadingException {
+        if (!this.exists()) {
+            return new ArrayList<>();
+        }
+
+        String content;
+        try {
+            content = FileUtil.readFromFile(this.filePath);
+        } catch (IOException e) {
+            throw new DataLoadingException(e);
+        }
+
+        List<JsonAdaptedJournalRecord> records = new ArrayList<>();
+        String[] lines = content.split("\n", -1);
+        // The element after the last newline is either empty or a torn append.
+        for (int i = 0; i < lines.length - 1; i++) {
+            if (lines[i].isBlank()) {
+                continue;
+            }
+            try {
+                records.add(JsonUtil.fromJsonString(lines[i], JsonAdaptedJournalRecord.class));
+            } catch (IOException e) {
+                AddressBookJournal.logger.warning(String.format(AddressBookJournal.MESSAGE_INVALID_RECORD, i + 1,
+                        this.filePath));
+                throw new DataLoadingException(e);
+            }
+        }
+
+        if (!lines[lines.length - 1].isEmpty()) {
+            AddressBookJournal.logger.warning("Ignoring incomplete last record of journal " + this.filePath);
+        }
+        return records;
+    }
+
+    /**
+     * Appends {@code record} to the end of the journal, creating the journal if
+     * it does not exist. The record is on disk when this method returns.
+     */
+    void append(JsonAdaptedJournalRecord record) throws IOException {
+        Objects.requireNonNull(record);
+        FileUtil.createParentDirsOfFile(this.filePath);
+        String line = JsonUtil.toCompactJsonString(record) + "\n";
+        Files.write(this.filePath, line.getBytes(StandardCharsets.UTF_8), StandardOpenOption.CREATE,
+                StandardOpenOption.APPEND, StandardOpenOption.DSYNC);
+    }
+
+    /**
+     * Deletes the journal if it exists.
+     */
+    void delete() throws IOException {
+        Files.deleteIfExists(this.filePath);
+    }
+
+    /**
+     * Returns the records of {@code records} that apply to the snapshot of
+     * generation {@code snapshotGeneration}, in order. The others are older than
+     * the snapshot, and were already written into it.
+     */
+    static List<JsonAdaptedJournalRecord> applicableTo(long snapshotGeneration,
+            List<JsonAdaptedJournalRecord> records) {
+        List<JsonAdaptedJournalRecord> applicable = new ArrayList<>();
+        for (JsonAdaptedJournalRecord record : records) {
+            if (record.getGeneration() >= snapshotGeneration) {
+                applicable.add(record);
+            }
+        }
+        return applicable;
+    }
+
+    /**
+     * Returns the key a contact assignment is journaled under.
+     */
+    static List<String> getKey(JsonAdaptedContactAssignment contactAssignment) {
+        return Arrays.asList(contactAssignment.getAssignmentId(), contactAssignment.getContactId());
+    }
+}
@@ -0,0 +1,355 @@
+package cpp.storage;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import cpp.commons.exceptions.IllegalValueException;
+import cpp.logic.parser.ParserUtil;
+import cpp.logic.parser.exceptions.ParseException;
+import cpp.model.AddressBook;
+import cpp.model.ReadOnlyAddressBook;
+import cpp.model.assignment.Assignment;
+import cpp.model.assignment.AssignmentName;
+import cpp.model.assignment.ContactAssignment;
+import cpp.model.assignment.GradeInfo;
+import cpp.model.assignment.SubmissionInfo;
+import cpp.model.classgroup.ClassGroup;
+import cpp.model.contact.Contact;
+import cpp.model.tag.Tag;
+
+/**
+ * Reads and writes the compact binary address book format.
+ *
+ * The file starts with a magic number and a format version, followed by a
+ * table of every id and tag name in the address book. Entities refer to ids
+ * and tags by their varint-encoded position in the table. Timestamps are
+ * stored as the epoch seconds of their instant in the configured time zone,
+ * the same instant the Json format stores, and are checked the same way when
+ * read. Scores are stored as floats. The sections that follow are contacts,
+ * assignments, contact assignments and class groups, each prefixed by its
+ * length.
+ */
+class BinaryAddressBookFormat {
+
+    public static final int MAGIC = 0x43505042; // "CPPB"
+    public static final int VERSION = 1;
+
+    public static final String MESSAGE_NOT_BINARY_ADDRESS_BOOK = "File is not a binary address book";
+    public static final String MESSAGE_UNSUPPORTED_VERSION = "Unsupported binary address book version %d";
+    public static final String MESSAGE_INVALID_REFERENCE = "Invalid reference %d in binary address book";
+
+    private static final int ARCHIVED = 1;
+
+    private static final int SUBMITTED = 1;
+    private static final int GRADED = 1 << 1;
+    private static final int HAS_SUBMISSION_DATE = 1 << 2;
+    private static final int HAS_GRADING_DATE = 1 << 3;
+
+    /**
+     * Returns true if the file at {@code filePath} starts with the magic number of
+     * the binary format. The file must exist.
+     */
+    static boolean isBinary(Path filePath) throws IOException {
+        try (InputStream in = Files.newInputStream(filePath)) {
+            byte[] header = in.readNBytes(Integer.BYTES);
+            return header.length == Integer.BYTES
+                    && ByteBuffer.wrap(header).getInt() == BinaryAddressBookFormat.MAGIC;
+        }
+    }
+
+    /**
+     * Writes {@code addressBook} to {@code out} in the binary format.
+     */
+    static void write(ReadOnlyAddressBook addressBook, OutputStream out) throws IOException {
+        DataOutputStream data = new DataOutputStream(out);
+        Map<String, Integer> table = BinaryAddressBookFormat.buildTable(addressBook);
+
+        data.writeInt(BinaryAddressBookFormat.MAGIC);
+        BinaryAddressBookFormat.writeVarLong(data, BinaryAddressBookFormat.VERSION);
+        BinaryAddressBookFormat.writeVarLong(data, table.size());
+        for (String entry : table.keySet()) {
+            BinaryAddressBookFormat.writeString(data, entry);
+        }
+
+        BinaryAddressBookFormat.writeVarLong(data, addressBook.getContactList().size());
+        for (Contact contact : addressBook.getContactList()) {
+            BinaryAddressBookFormat.writeVarLong(data, table.get(contact.getId()));
+            BinaryAddressBookFormat.writeString(data, contact.getName().fullName);
+            BinaryAddressBookFormat.writeString(data, contact.getPhone().value);
+            BinaryAddressBookFormat.writeString(data, contact.getEmail().value);
+            BinaryAddressBookFormat.writeString(data, contact.getAddress().value);
+            BinaryAddressBookFormat.writeVarLong(data, contact.getTags().size());
+            for (Tag tag : contact.getTags()) {
+                BinaryAddressBookFormat.writeVarLong(data, table.get(tag.tagName));
+            }
+        }
+
+        BinaryAddressBookFormat.writeVarLong(data, addressBook.getAssignmentList().size());
+        for (Assignment assignment : addressBook.getAssignmentList()) {
+            BinaryAddressBookFormat.writeVarLong(data, table.get(assignment.getId()));
+            BinaryAddressBookFormat.writeString(data, assignment.getName().fullName);
+            BinaryAddressBookFormat.writeTimestamp(data, assignment.getDeadline());
+            data.writeByte(assignment.isArchived() ? BinaryAddressBookFormat.ARCHIVED : 0);
+        }
+
+        BinaryAddressBookFormat.writeVarLong(data, addressBook.getContactAssignmentList().size());
+        for (ContactAssignment ca : addressBook.getContactAssignmentList()) {
+            BinaryAddressBookFormat.writeVarLong(data, table.get(ca.getAssignmentId()));
+            BinaryAddressBookFormat.writeVarLong(data, table.get(ca.getContactId()));
+            int flags = (ca.isSubmitted() ? BinaryAddressBookFormat.SUBMITTED : 0)
+                    | (ca.isGraded() ? BinaryAddressBookFormat.GRADED : 0)
+                    | (ca.getSubmissionDate() != null ? BinaryAddressBookFormat.HAS_SUBMISSION_DATE : 0)
+                    | (ca.getGradingDate() != null ? BinaryAddressBookFormat.HAS_GRADING_DATE : 0);
+            data.writeByte(flags);
+            if (ca.getSubmissionDate() != null) {
+                BinaryAddressBookFormat.writeTimestamp(data, ca.getSubmissionDate());
+            }
+            if (ca.getGradingDate() != null) {
+                BinaryAddressBookFormat.writeTimestamp(data, ca.getGradingDate());
+            }
+            data.writeFloat(ca.getScore());
+        }
+
+        BinaryAddressBookFormat.writeVarLong(data, addressBook.getClassGroupList().size());
+        for (ClassGroup classGroup : addressBook.getClassGroupList()) {
+            BinaryAddressBookFormat.writeVarLong(data, table.get(classGroup.getId()));
+            BinaryAddressBookFormat.writeString(data, classGroup.getName().fullName);
+            BinaryAddressBookFormat.writeVarLong(data, classGroup.getContactIdSet().size());
+            for (String contactId : classGroup.getContactIdSet()) {
+                BinaryAddressBookFormat.writeVarLong(data, table.get(contactId));
+            }
+        }
+        data.flush();
+    }
+
+    /**
+     * Reads an address book in the binary format from {@code in}.
+     *
+     * @throws IOException           if {@code in} is not a valid binary address
+     *                               book.
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    static AddressBook read(InputStream in) throws IOException, IllegalValueException {
+        DataInputStream data = new DataInputStream(in);
+        if (data.readInt() != BinaryAddressBookFormat.MAGIC) {
+            throw new IOException(BinaryAddressBookFormat.MESSAGE_NOT_BINARY_ADDRESS_BOOK);
+        }
+        long version = BinaryAddressBookFormat.readVarLong(data);
+        if (version != BinaryAddressBookFormat.VERSION) {
+            throw new IOException(String.format(BinaryAddressBookFormat.MESSAGE_UNSUPPORTED_VERSION, version));
+        }
+
+        int tableSize = BinaryAddressBookFormat.readCount(data);
+        List<String> table = new ArrayList<>();
+        for (int i = 0; i < tableSize; i++) {
+            table.add(BinaryAddressBookFormat.readString(data));
+        }
+
+        // Contacts and class groups go through their Json adapters so that they are validated the same way.
+        AddressBook addressBook = new AddressBook();
+        int contactCount = BinaryAddressBookFormat.readCount(data);
+        for (int i = 0; i < contactCount; i++) {
+            String id = BinaryAddressBookFormat.readReference(data, table);
+            String name = BinaryAddressBookFormat.readString(data);
+            String phone = BinaryAddressBookFormat.readString(data);
+            String email = BinaryAddressBookFormat.readString(data);
+            String address = BinaryAddressBookFormat.readString(data);
+            int tagCount = BinaryAddressBookFormat.readCount(data);
+            List<JsonAdaptedTag> tags = new ArrayList<>();
+            for (int j = 0; j < tagCount; j++) {
+                tags.add(new JsonAdaptedTag(BinaryAddressBookFormat.readReference(data, table)));
+            }
+            JsonSerializableAddressBook.addContact(addressBook,
+                    new JsonAdaptedContact(id, name, phone, email, address, tags));
+        }
+
+        int assignmentCount = BinaryAddressBookFormat.readCount(data);
+        for (int i = 0; i < assignmentCount; i++) {
+            String id = BinaryAddressBookFormat.readReference(data, table);
+            String name = BinaryAddressBookFormat.readString(data);
+            LocalDateTime deadline = LocalDateTime.ofInstant(BinaryAddressBookFormat.readTimestamp(data),
+                    ParserUtil.getDefaultZone());
+            int flags = data.readUnsignedByte();
+            if (!AssignmentName.isValidName(name)) {
+                throw new IllegalValueException(AssignmentName.MESSAGE_CONSTRAINTS);
+            }
+            Assignment assignment = new Assignment(id, ParserUtil.parseAssignmentName(name), deadline,
+                    (flags & BinaryAddressBookFormat.ARCHIVED) != 0);
+            if (addressBook.hasAssignment(assignment) || addressBook.hasAssignmentId(id)) {
+                throw new IllegalValueException(JsonSerializableAddressBook.MESSAGE_DUPLICATE_ASSIGNMENT);
+            }
+            addressBook.addAssignment(assignment);
+        }
+
+        int contactAssignmentCount = BinaryAddressBookFormat.readCount(data);
+        for (int i = 0; i < contactAssignmentCount; i++) {
+            ContactAssignment contactAssignment = BinaryAddressBookFormat.readContactAssignment(data, table,
+                    addressBook);
+            if (addressBook.hasContactAssignment(contactAssignment)) {
+                throw new IllegalValueException(JsonSerializableAddressBook.MESSAGE_DUPLICATE_CONTACT_ASSIGNMENT);
+            }
+            addressBook.addContactAssignment(contactAssignment);
+        }
+
+        int classGroupCount = BinaryAddressBookFormat.readCount(data);
+        for (int i = 0; i < classGroupCount; i++) {
+            String id = BinaryAddressBookFormat.readReference(data, table);
+            String name = BinaryAddressBookFormat.readString(data);
+            String[] contactIds = new String[BinaryAddressBookFormat.readCount(data)];
+            for (int j = 0; j < contactIds.length; j++) {
+                contactIds[j] = BinaryAddressBookFormat.readReference(data, table);
+            }
+            JsonSerializableAddressBook.addClassGroup(addressBook, new JsonAdaptedClassGroup(id, name, contactIds));
+        }
+        return addressBook;
+    }
+
+    private static ContactAssignment readContactAssignment(DataInputStream data, List<String> table,
+            AddressBook addressBook) throws IOException, IllegalValueException {
+        String assignmentId = BinaryAddressBookFormat.readReference(data, table);
+        String contactId = BinaryAddressBookFormat.readReference(data, table);
+        int flags = data.readUnsignedByte();
+        LocalDateTime submissionDate = (flags & BinaryAddressBookFormat.HAS_SUBMISSION_DATE) != 0
+                ? BinaryAddressBookFormat.readPastTimestamp(data)
+                : null;
+        LocalDateTime gradingDate = (flags & BinaryAddressBookFormat.HAS_GRADING_DATE) != 0
+                ? BinaryAddressBookFormat.readPastTimestamp(data)
+                : null;
+        float score = data.readFloat();
+
+        if (!addressBook.hasAssignmentId(assignmentId)) {
+            throw new IllegalValueException(
+                    String.format(JsonAdaptedContactAssignment.INVALID_ASSIGNMENT_ID_MESSAGE, assignmentId));
+        }
+        if (!addressBook.hasContactId(contactId)) {
+            throw new IllegalValueException(
+                    String.format(JsonAdaptedContactAssignment.INVALID_CONTACT_ID_MESSAGE, contactId));
+        }
+        boolean isSubmitted = (flags & BinaryAddressBookFormat.SUBMITTED) != 0;
+        if (!SubmissionInfo.isValidSubmissionInfo(isSubmitted, submissionDate)) {
+            throw new IllegalValueException(JsonAdaptedContactAssignment.INVALID_SUBMISSION_STATUS);
+        }
+        SubmissionInfo submissionInfo = new SubmissionInfo(isSubmitted, submissionDate);
+        GradeInfo gradeInfo = GradeInfo.createFromStorage((flags & BinaryAddressBookFormat.GRADED) != 0,
+                gradingDate, String.valueOf(score), submissionInfo);
+
+        return new ContactAssignment(assignmentId, contactId, submissionInfo.isSubmitted(), submissionDate,
+                gradeInfo.isGraded(), gradingDate, gradeInfo.getScore());
+    }
+
+    private static Map<String, Integer> buildTable(ReadOnlyAddressBook addressBook) {
+        Map<String, Integer> table = new LinkedHashMap<>();
+        for (Contact contact : addressBook.getContactList()) {
+            table.putIfAbsent(contact.getId(), table.size());
+            for (Tag tag : contact.getTags()) {
+                table.putIfAbsent(tag.tagName, table.size());
+            }
+        }
+        for (Assignment assignment : addressBook.getAssignmentList()) {
+            table.putIfAbsent(assignment.getId(), table.size());
+        }
+        // Contact assignments and class groups may refer to ids that are not in the address book.
+        for (ContactAssignment ca : addressBook.getContactAssignmentList()) {
+            table.putIfAbsent(ca.getAssignmentId(), table.size());
+            table.putIfAbsent(ca.getContactId(), table.size());
+        }
+        for (ClassGroup classGroup : addressBook.getClassGroupList()) {
+            table.putIfAbsent(classGroup.getId(), table.size());
+            for (String contactId : classGroup.getContactIdSet()) {
+                table.putIfAbsent(contactId, table.size());
+            }
+        }
+        return table;
+    }
+
+    private static void writeTimestamp(DataOutputStream data, LocalDateTime dateTime) throws IOException {
+        long epochSecond = dateTime.atZone(ParserUtil.getDefaultZone()).toEpochSecond();
+        // Zigzag encoding keeps timestamps before the epoch short.
+        BinaryAddressBookFormat.writeVarLong(data, (epochSecond << 1) ^ (epochSecond >> 63));
+    }
+
+    private static Instant readTimestamp(DataInputStream data) throws IOException {
+        long zigzag = BinaryAddressBookFormat.readVarLong(data);
+        long epochSecond = (zigzag >>> 1) ^ -(zigzag & 1);
+        return Instant.ofEpochSecond(epochSecond);
+    }
+
+    /**
+     * Reads a timestamp that must not be in the future, such as a submission date.
+     */
+    private static LocalDateTime readPastTimestamp(DataInputStream data) throws IOException, IllegalValueException {
+        Instant instant = BinaryAddressBookFormat.readTimestamp(data);
+        try {
+            return ParserUtil.parseInstant(instant);
+        } catch (ParseException e) {
+            throw new IllegalValueException(String.format(JsonAdaptedContactAssignment.INVALID_DATE_MESSAGE,
+                    instant));
+        }
+    }
+
+    private static void writeString(DataOutputStream data, String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        BinaryAddressBookFormat.writeVarLong(data, bytes.length);
+        data.write(bytes);
+    }
+
+    private static String readString(DataInputStream data) throws IOException {
+        byte[] bytes = new byte[BinaryAddressBookFormat.readCount(data)];
+        data.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static String readReference(DataInputStream data, List<String> table) throws IOException {
+        long index = BinaryAddressBookFormat.readVarLong(data);
+        if (index >= table.size()) {
+            throw new IOException(String.format(BinaryAddressBookFormat.MESSAGE_INVALID_REFERENCE, index));
+        }
+        return table.get((int) index);
+    }
+
+    private static int readCount(DataInputStream data) throws IOException {
+        long count = BinaryAddressBookFormat.readVarLong(data);
+        if (count > Integer.MAX_VALUE) {
+            throw new IOException(BinaryAddressBookFormat.MESSAGE_NOT_BINARY_ADDRESS_BOOK);
+        }
+        return (int) count;
+    }
+
+    /**
+     * Writes a non-negative {@code value} using 7 bits per byte, with the high bit
+     * set on every byte except the last.
+     */
+    private static void writeVarLong(DataOutputStream data, long value) throws IOException {
+        while ((value & ~0x7FL) != 0) {
+            data.writeByte((int) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        data.writeByte((int) value);
+    }
+
+    private static long readVarLong(DataInputStream data) throws IOException {
+        long value = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            int b = data.readUnsignedByte();
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new EOFException(BinaryAddressBookFormat.MESSAGE_NOT_BINARY_ADDRESS_BOOK);
+    }
+}
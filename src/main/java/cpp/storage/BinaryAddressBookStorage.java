@@ -0,0 +1,140 @@
+package cpp.storage;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import cpp.commons.core.LogsCenter;
+import cpp.commons.exceptions.DataLoadingException;
+import cpp.commons.exceptions.IllegalValueException;
+import cpp.commons.util.FileUtil;
+import cpp.model.ReadOnlyAddressBook;
+
+/**
+ * A class to access AddressBook data stored as a compact binary file on the
+ * hard disk. See {@link BinaryAddressBookFormat} for the layout of the file.
+ *
+ * A data file that is still in the Json format, e.g. because the format was
+ * only just switched to binary, is read as Json together with its journal, and
+ * migrated to the binary format.
+ */
+public class BinaryAddressBookStorage implements AddressBookStorage {
+
+    private static final Logger logger = LogsCenter.getLogger(BinaryAddressBookStorage.class);
+
+    private Path filePath;
+    private final int backupCount;
+    private boolean hasJsonJournals = false;
+
+    public BinaryAddressBookStorage(Path filePath) {
+        this(filePath, 0);
+    }
+
+    /**
+     * Creates a {@code BinaryAddressBookStorage} that keeps up to
+     * {@code backupCount} previous versions of the data file.
+     */
+    public BinaryAddressBookStorage(Path filePath, int backupCount) {
+        this.filePath = filePath;
+        this.backupCount = backupCount;
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return this.filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return this.readAddressBook(this.filePath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        Objects.requireNonNull(filePath);
+
+        if (!Files.exists(filePath)) {
+            return Optional.empty();
+        }
+
+        try {
+            if (!BinaryAddressBookFormat.isBinary(filePath)) {
+                return this.readJson(filePath);
+            }
+        } catch (IOException e) {
+            BinaryAddressBookStorage.logger.warning("Error reading from binary file " + filePath + ": " + e);
+            throw new DataLoadingException(e);
+        }
+
+        try (InputStream in = new BufferedInputStream(Files.newInputStream(filePath))) {
+            return Optional.of(BinaryAddressBookFormat.read(in));
+        } catch (IOException e) {
+            BinaryAddressBookStorage.logger.warning("Error reading from binary file " + filePath + ": " + e);
+            throw new DataLoadingException(e);
+        } catch (IllegalValueException ive) {
+            BinaryAddressBookStorage.logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataLoadingException(ive);
+        }
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        this.saveAddressBook(addressBook, this.filePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        Objects.requireNonNull(addressBook);
+        Objects.requireNonNull(filePath);
+
+        FileUtil.writeAtomically(filePath, this.backupCount, out -> BinaryAddressBookFormat.write(addressBook, out));
+        if (this.hasJsonJournals && filePath.equals(this.filePath)) {
+            this.hasJsonJournals = false;
+            try {
+                new JournaledAddressBookStorage(filePath).discardJournals(filePath);
+            } catch (IOException e) {
+                // Journals are never read beside a binary file, so they are only left taking up space.
+                BinaryAddressBookStorage.logger.warning("Unable to delete the journals of " + filePath + ": " + e);
+            }
+        }
+    }
+
+    /**
+     * Reads the Json data file at {@code filePath}, and replaces it with a binary
+     * one if it is the data file of this storage. Its journals are only deleted
+     * once the binary file is written, as they are needed to read the Json file.
+     */
+    private Optional<ReadOnlyAddressBook> readJson(Path filePath) throws DataLoadingException {
+        Optional<ReadOnlyAddressBook> addressBook = new JournaledAddressBookStorage(filePath).readAddressBook();
+        if (!filePath.equals(this.filePath)) {
+            return addressBook;
+        }
+
+        this.hasJsonJournals = true;
+        try {
+            this.saveAddressBook(addressBook.get());
+            BinaryAddressBookStorage.logger.info("Migrated " + filePath + " from Json to the binary format");
+        } catch (IOException e) {
+            // The Json file is still readable, so the migration is done by the next save instead.
+            BinaryAddressBookStorage.logger.warning("Unable to migrate " + filePath + " to the binary format: " + e);
+        }
+        return addressBook;
+    }
+
+}
@@ -0,0 +1,116 @@
+package cpp.storage;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * The changes made by a sequence of {@link JsonAdaptedJournalRecord}s, folded
+ * per entity so that they can be applied to a snapshot while it is streamed,
+ * without holding the snapshot in memory.
+ *
+ * Applying the changes gives the same entities, in the same order, as applying
+ * the records one by one: changed entities replace the entity with the same
+ * key in place, new entities are added to the end of their list. The changes
+ * can only be applied to a single snapshot.
+ */
+class JournalChanges {
+
+    private final EntityChanges<JsonAdaptedContact, String> contacts = new EntityChanges<>(
+            JsonAdaptedContact::getId);
+    private final EntityChanges<JsonAdaptedAssignment, String> assignments = new EntityChanges<>(
+            JsonAdaptedAssignment::getId);
+    private final EntityChanges<JsonAdaptedContactAssignment, List<String>> contactAssignments =
+            new EntityChanges<>(AddressBookJournal::getKey);
+    private final EntityChanges<JsonAdaptedClassGroup, String> classGroups = new EntityChanges<>(
+            JsonAdaptedClassGroup::getId);
+
+    private JournalChanges() {
+    }
+
+    /**
+     * Returns the changes made by {@code records}, in order.
+     */
+    static JournalChanges of(List<JsonAdaptedJournalRecord> records) {
+        JournalChanges changes = new JournalChanges();
+        for (JsonAdaptedJournalRecord record : records) {
+            changes.contacts.fold(record.getRemovedContactIds(), record.getContacts());
+            changes.assignments.fold(record.getRemovedAssignmentIds(), record.getAssignments());
+            changes.contactAssignments.fold(record.getRemovedContactAssignmentIds(),
+                    record.getContactAssignments());
+            changes.classGroups.fold(record.getRemovedClassGroupIds(), record.getClassGroups());
+        }
+        return changes;
+    }
+
+    EntityChanges<JsonAdaptedContact, String> getContacts() {
+        return this.contacts;
+    }
+
+    EntityChanges<JsonAdaptedAssignment, String> getAssignments() {
+        return this.assignments;
+    }
+
+    EntityChanges<JsonAdaptedContactAssignment, List<String>> getContactAssignments() {
+        return this.contactAssignments;
+    }
+
+    EntityChanges<JsonAdaptedClassGroup, String> getClassGroups() {
+        return this.classGroups;
+    }
+
+    /**
+     * The changes made to the entities of one type.
+     */
+    static class EntityChanges<T, K> {
+
+        private final Function<T, K> keyOf;
+        // Changed and added entities, in the order they were first added since they were last removed.
+        private final Map<K, T> changed = new LinkedHashMap<>();
+        private final Set<K> removed = new HashSet<>();
+
+        EntityChanges(Function<T, K> keyOf) {
+            this.keyOf = keyOf;
+        }
+
+        /**
+         * Returns {@code entity} of the snapshot with the changes applied, or null
+         * if it was removed. An entity that was removed and added again is added
+         * to the end of the list instead.
+         */
+        T apply(T entity) {
+            K key = this.keyOf.apply(entity);
+            if (this.removed.contains(key)) {
+                return null;
+            }
+
+            T changedEntity = this.changed.remove(key);
+            return changedEntity == null ? entity : changedEntity;
+        }
+
+        /**
+         * Returns the entities that were not applied to an entity of the snapshot,
+         * and are added to the end of the list, in order.
+         * They are returned only once.
+         */
+        List<T> takeAdded() {
+            List<T> added = new ArrayList<>(this.changed.values());
+            this.changed.clear();
+            return added;
+        }
+
+        private void fold(List<K> removals, List<T> changes) {
+            for (K key : removals) {
+                this.changed.remove(key);
+                this.removed.add(key);
+            }
+            for (T entity : changes) {
+                this.changed.put(this.keyOf.apply(entity), entity);
+            }
+        }
+    }
+}
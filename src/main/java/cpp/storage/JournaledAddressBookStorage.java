@@ -0,0 +1,505 @@
+package cpp.storage;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Function;
+import java.util.logging.Logger;
+
+import cpp.commons.core.LogsCenter;
+import cpp.commons.exceptions.DataLoadingException;
+import cpp.commons.exceptions.IllegalValueException;
+import cpp.commons.util.FileUtil;
+import cpp.model.AddressBook;
+import cpp.model.ReadOnlyAddressBook;
+import cpp.model.assignment.Assignment;
+import cpp.model.assignment.ContactAssignment;
+import cpp.model.classgroup.ClassGroup;
+import cpp.model.contact.Contact;
+
+/**
+ * A class to access AddressBook data stored as a json snapshot file on the hard
+ * disk, together with an append-only journal of the changes made since the
+ * snapshot was written.
+ *
+ * Each save appends only the entities that were added, changed or removed since
+ * the previous save. Once the journal holds {@code compactionThreshold} entries
+ * it is folded into the snapshot on a background thread.
+ *
+ * Every snapshot is written with a generation, and every journal record with
+ * the generation of the snapshot it applies to. A new snapshot is written with a
+ * newer generation than any record, and only then are the journals deleted, so
+ * records left behind by a crash in between are skipped instead of being
+ * applied to a snapshot that already holds them.
+ *
+ * A data file that is still in the binary format, e.g. because the format was
+ * only just switched to Json, is read as binary and migrated to Json.
+ */
+public class JournaledAddressBookStorage implements AddressBookStorage {
+
+    public static final int DEFAULT_COMPACTION_THRESHOLD = 1000;
+
+    private static final Logger logger = LogsCenter.getLogger(JournaledAddressBookStorage.class);
+
+    private final Path filePath;
+    private final int compactionThreshold;
+    private final int backupCount;
+    private final AddressBookJournal journal;
+    private final AddressBookJournal compactingJournal;
+    private final ExecutorService compactor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "address-book-compactor");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final EntityTracker<Contact, JsonAdaptedContact, String> contacts = new EntityTracker<>(
+            Contact::getId, Function.identity(), JsonAdaptedContact::new, true);
+    private final EntityTracker<Assignment, JsonAdaptedAssignment, String> assignments = new EntityTracker<>(
+            Assignment::getId, Function.identity(), JsonAdaptedAssignment::new, true);
+    private final EntityTracker<ContactAssignment, JsonAdaptedContactAssignment, List<String>> contactAssignments =
+            new EntityTracker<>(ca -> List.of(ca.getAssignmentId(), ca.getContactId()), ContactAssignment::getVersion,
+                    JsonAdaptedContactAssignment::new, false);
+    private final EntityTracker<ClassGroup, JsonAdaptedClassGroup, String> classGroups = new EntityTracker<>(
+            ClassGroup::getId, ClassGroup::getVersion, JsonAdaptedClassGroup::new, true);
+
+    private boolean hasBaseline = false;
+    private long generation = 0;
+    private int journaledEntries = 0;
+    private Future<?> pendingCompaction;
+
+    public JournaledAddressBookStorage(Path filePath) {
+        this(filePath, JournaledAddressBookStorage.DEFAULT_COMPACTION_THRESHOLD);
+    }
+
+    /**
+     * Creates a {@code JournaledAddressBookStorage} that compacts its journal into
+     * the snapshot once the journal holds {@code compactionThreshold} entries.
+     */
+    public JournaledAddressBookStorage(Path filePath, int compactionThreshold) {
+        this(filePath, compactionThreshold, 0);
+    }
+
+    /**
+     * Creates a {@code JournaledAddressBookStorage} that compacts its journal into
+     * the snapshot once the journal holds {@code compactionThreshold} entries, and
+     * keeps up to {@code backupCount} previous versions of the snapshot.
+     */
+    public JournaledAddressBookStorage(Path filePath, int compactionThreshold, int backupCount) {
+        Objects.requireNonNull(filePath);
+        this.filePath = filePath;
+        this.compactionThreshold = compactionThreshold;
+        this.backupCount = backupCount;
+        this.journal = new AddressBookJournal(AddressBookJournal.getJournalPath(filePath));
+        this.compactingJournal = new AddressBookJournal(AddressBookJournal.getCompactingPath(filePath));
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return this.filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return this.readAddressBook(this.filePath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}.
+     * The journal beside the snapshot is ignored if the snapshot does not exist.
+     * Journals of this storage's data file that were left behind by a crash are
+     * folded into a new snapshot.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        Objects.requireNonNull(filePath);
+        boolean isOwnFile = filePath.equals(this.filePath);
+        if (isOwnFile) {
+            this.awaitCompaction();
+        }
+
+        if (!Files.exists(filePath)) {
+            return Optional.empty();
+        }
+
+        try {
+            if (BinaryAddressBookFormat.isBinary(filePath)) {
+                return this.readBinary(filePath);
+            }
+        } catch (IOException e) {
+            JournaledAddressBookStorage.logger.warning("Error reading from file " + filePath + ": " + e);
+            throw new DataLoadingException(e);
+        }
+
+        AddressBookJournal compactingJournal = new AddressBookJournal(AddressBookJournal.getCompactingPath(filePath));
+        AddressBookJournal journal = new AddressBookJournal(AddressBookJournal.getJournalPath(filePath));
+        List<JsonAdaptedJournalRecord> allRecords = new ArrayList<>();
+        allRecords.addAll(compactingJournal.read());
+        allRecords.addAll(journal.read());
+
+        long snapshotGeneration;
+        List<JsonAdaptedJournalRecord> records;
+        AddressBook addressBook;
+        try {
+            snapshotGeneration = JsonAddressBookStream.readGeneration(filePath);
+            records = AddressBookJournal.applicableTo(snapshotGeneration, allRecords);
+            addressBook = JsonAddressBookStream.read(filePath, JournalChanges.of(records)).get();
+        } catch (IOException e) {
+            JournaledAddressBookStorage.logger.warning("Error reading from file " + filePath + ": " + e);
+            throw new DataLoadingException(e);
+        } catch (IllegalValueException ive) {
+            JournaledAddressBookStorage.logger.info("Illegal values found in " + filePath + ": "
+                    + ive.getMessage());
+            throw new DataLoadingException(ive);
+        }
+
+        if (isOwnFile) {
+            this.resetBaseline(addressBook);
+            this.generation = snapshotGeneration;
+            for (JsonAdaptedJournalRecord record : allRecords) {
+                this.generation = Math.max(this.generation, record.getGeneration());
+            }
+            this.journaledEntries = records.stream().mapToInt(JsonAdaptedJournalRecord::size).sum();
+            if (compactingJournal.exists() || records.size() < allRecords.size()) {
+                this.recover(addressBook);
+            }
+        }
+        return Optional.of(addressBook);
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        this.saveAddressBook(addressBook, this.filePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     * Only changes to the data file of this storage are journaled, saving to any
+     * other location writes a full snapshot.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        Objects.requireNonNull(addressBook);
+        Objects.requireNonNull(filePath);
+
+        if (!filePath.equals(this.filePath) || !this.hasBaseline) {
+            this.saveSnapshot(addressBook, filePath);
+            return;
+        }
+
+        JsonAdaptedJournalRecord record = this.diff(addressBook);
+        if (record == null) {
+            // The changes cannot be expressed as a journal record, e.g. entities were reordered.
+            this.saveSnapshot(addressBook, filePath);
+            return;
+        }
+        if (record.size() == 0) {
+            return;
+        }
+
+        this.journal.append(record);
+        this.contacts.commit();
+        this.assignments.commit();
+        this.contactAssignments.commit();
+        this.classGroups.commit();
+
+        this.journaledEntries += record.size();
+        if (this.journaledEntries >= this.compactionThreshold) {
+            this.startCompaction();
+        }
+    }
+
+    /**
+     * Waits for any compaction of the journal that is in progress to finish.
+     */
+    void awaitCompaction() {
+        if (this.pendingCompaction == null) {
+            return;
+        }
+
+        try {
+            this.pendingCompaction.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            JournaledAddressBookStorage.logger.warning("Journal compaction failed: " + e.getCause());
+        }
+        this.pendingCompaction = null;
+    }
+
+    /**
+     * Reads the binary data file at {@code filePath}, and replaces it with a Json
+     * snapshot if it is the data file of this storage. Any journals beside it are
+     * older than the binary file, so they are not applied.
+     */
+    private Optional<ReadOnlyAddressBook> readBinary(Path filePath) throws DataLoadingException {
+        Optional<ReadOnlyAddressBook> addressBook = new BinaryAddressBookStorage(filePath).readAddressBook();
+        if (!filePath.equals(this.filePath)) {
+            return addressBook;
+        }
+
+        try {
+            this.saveSnapshot(addressBook.get(), filePath);
+            JournaledAddressBookStorage.logger.info("Migrated " + filePath + " from the binary format to Json");
+        } catch (IOException e) {
+            // Without a baseline, the next save writes a whole snapshot and so does the migration instead.
+            JournaledAddressBookStorage.logger.warning("Unable to migrate " + filePath + " to Json: " + e);
+        }
+        return addressBook;
+    }
+
+    /**
+     * Replaces the journals left behind by a crash, or by an unfinished
+     * compaction, with a snapshot of {@code addressBook}.
+     */
+    private void recover(ReadOnlyAddressBook addressBook) {
+        try {
+            this.saveSnapshot(addressBook, this.filePath);
+            JournaledAddressBookStorage.logger.info("Folded leftover journals into " + this.filePath);
+        } catch (IOException e) {
+            // The journals are still read correctly, so they are folded in by a later snapshot instead.
+            JournaledAddressBookStorage.logger.warning("Unable to fold leftover journals into " + this.filePath
+                    + ": " + e);
+        }
+    }
+
+    /**
+     * Returns a journal record of the differences between {@code addressBook} and
+     * the last saved state, or null if they cannot be journaled.
+     */
+    private JsonAdaptedJournalRecord diff(ReadOnlyAddressBook addressBook) {
+        boolean isJournalable = this.contacts.diff(addressBook.getContactList())
+                && this.assignments.diff(addressBook.getAssignmentList())
+                && this.contactAssignments.diff(addressBook.getContactAssignmentList())
+                && this.classGroups.diff(addressBook.getClassGroupList());
+        if (!isJournalable) {
+            return null;
+        }
+
+        return new JsonAdaptedJournalRecord(this.generation, this.contacts.getChanged(), this.contacts.getRemoved(),
+                this.assignments.getChanged(), this.assignments.getRemoved(),
+                this.contactAssignments.getChanged(), this.contactAssignments.getRemoved(),
+                this.classGroups.getChanged(), this.classGroups.getRemoved());
+    }
+
+    /**
+     * Writes the whole of {@code addressBook} to {@code filePath} and discards the
+     * journals beside it.
+     */
+    private void saveSnapshot(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        boolean isOwnFile = filePath.equals(this.filePath);
+        if (isOwnFile) {
+            this.awaitCompaction();
+        }
+
+        long snapshotGeneration = this.nextGeneration(filePath);
+        FileUtil.writeAtomically(filePath, this.backupCount,
+                out -> JsonAddressBookStream.write(addressBook, snapshotGeneration, out));
+        if (isOwnFile) {
+            this.resetBaseline(addressBook);
+            this.generation = snapshotGeneration;
+            this.journaledEntries = 0;
+        }
+        try {
+            this.discardJournals(filePath);
+        } catch (IOException e) {
+            // Every record in the journals is older than the new snapshot, so they are skipped when reading.
+            JournaledAddressBookStorage.logger.warning("Unable to delete the journals of " + filePath + ": " + e);
+        }
+    }
+
+    /**
+     * Deletes the journals beside the snapshot at {@code filePath}. Only called
+     * once a newer snapshot has replaced the one they apply to.
+     */
+    void discardJournals(Path filePath) throws IOException {
+        Files.deleteIfExists(AddressBookJournal.getCompactingPath(filePath));
+        Files.deleteIfExists(AddressBookJournal.getJournalPath(filePath));
+    }
+
+    /**
+     * Returns a generation newer than that of the snapshot at {@code filePath} and
+     * of every record in the journals beside it.
+     */
+    private long nextGeneration(Path filePath) throws IOException {
+        if (filePath.equals(this.filePath) && this.hasBaseline) {
+            return this.generation + 1;
+        }
+
+        long latestGeneration = 0;
+        try {
+            latestGeneration = JsonAddressBookStream.readGeneration(filePath);
+        } catch (IOException e) {
+            // The snapshot is about to be replaced, and its records are accounted for below.
+        }
+        for (Path journalPath : List.of(AddressBookJournal.getCompactingPath(filePath),
+                AddressBookJournal.getJournalPath(filePath))) {
+            try {
+                for (JsonAdaptedJournalRecord record : new AddressBookJournal(journalPath).read()) {
+                    latestGeneration = Math.max(latestGeneration, record.getGeneration());
+                }
+            } catch (DataLoadingException e) {
+                // A journal that cannot be read cannot be applied either.
+                Files.deleteIfExists(journalPath);
+            }
+        }
+        return latestGeneration + 1;
+    }
+
+    private void resetBaseline(ReadOnlyAddressBook addressBook) {
+        this.contacts.reset(addressBook.getContactList());
+        this.assignments.reset(addressBook.getAssignmentList());
+        this.contactAssignments.reset(addressBook.getContactAssignmentList());
+        this.classGroups.reset(addressBook.getClassGroupList());
+        this.hasBaseline = true;
+    }
+
+    /**
+     * Moves the journal aside and folds it into the snapshot on the compactor
+     * thread. New records go to a fresh journal in the meantime, and apply to the
+     * snapshot the journal is folded into.
+     */
+    private void startCompaction() {
+        if (this.pendingCompaction != null && !this.pendingCompaction.isDone()) {
+            return;
+        }
+
+        try {
+            // A journal left over from a compaction that failed is folded in first.
+            if (!this.compactingJournal.exists()) {
+                Files.move(this.journal.getFilePath(), this.compactingJournal.getFilePath());
+                this.generation++;
+            }
+        } catch (IOException e) {
+            JournaledAddressBookStorage.logger.warning("Unable to start journal compaction: " + e);
+            return;
+        }
+
+        this.journaledEntries = 0;
+        long compactedGeneration = this.generation;
+        this.pendingCompaction = this.compactor.submit(() -> this.compact(compactedGeneration));
+    }
+
+    private void compact(long compactedGeneration) {
+        try {
+            List<JsonAdaptedJournalRecord> records = AddressBookJournal.applicableTo(
+                    JsonAddressBookStream.readGeneration(this.filePath), this.compactingJournal.read());
+            JournalChanges changes = JournalChanges.of(records);
+            FileUtil.writeAtomically(this.filePath, this.backupCount,
+                    out -> JsonAddressBookStream.write(this.filePath, changes, compactedGeneration, out));
+            this.compactingJournal.delete();
+            JournaledAddressBookStorage.logger.fine("Compacted journal into " + this.filePath);
+        } catch (DataLoadingException | IOException e) {
+            JournaledAddressBookStorage.logger.warning("Unable to compact journal into " + this.filePath + ": " + e);
+        }
+    }
+
+    /**
+     * Remembers the state of every entity of one type when it was last saved, and
+     * works out which entities were added, changed or removed since. Only those
+     * entities are serialized.
+     *
+     * The state of an entity is given by a function, and is compared with
+     * {@code equals}. Immutable entities are their own state, while mutable ones
+     * are represented by their version.
+     *
+     * The order of entities is only kept for entity types where it is significant.
+     */
+    private static class EntityTracker<M, T, K> {
+
+        private final Function<M, K> keyOf;
+        private final Function<M, ?> stateOf;
+        private final Function<M, T> toJsonAdapted;
+        private final boolean isOrdered;
+
+        private Map<K, Object> saved = new LinkedHashMap<>();
+        private Map<K, Object> pending;
+        private final List<T> changed = new ArrayList<>();
+        private final List<K> removed = new ArrayList<>();
+
+        EntityTracker(Function<M, K> keyOf, Function<M, ?> stateOf, Function<M, T> toJsonAdapted,
+                boolean isOrdered) {
+            this.keyOf = keyOf;
+            this.stateOf = stateOf;
+            this.toJsonAdapted = toJsonAdapted;
+            this.isOrdered = isOrdered;
+        }
+
+        void reset(List<M> entities) {
+            this.saved = new LinkedHashMap<>();
+            for (M entity : entities) {
+                this.saved.put(this.keyOf.apply(entity), this.stateOf.apply(entity));
+            }
+            this.pending = null;
+        }
+
+        /**
+         * Compares {@code entities} against the saved entities. Returns false if
+         * the order of entities is significant, and applying the differences to
+         * the saved entities would not give the entities in the same order.
+         */
+        boolean diff(List<M> entities) {
+            this.changed.clear();
+            this.removed.clear();
+
+            Map<K, Object> current = new LinkedHashMap<>();
+            for (M entity : entities) {
+                K key = this.keyOf.apply(entity);
+                Object state = this.stateOf.apply(entity);
+                if (!state.equals(this.saved.get(key))) {
+                    this.changed.add(this.toJsonAdapted.apply(entity));
+                }
+                if (current.put(key, state) != null) {
+                    return false;
+                }
+            }
+
+            List<K> replayedOrder = new ArrayList<>();
+            for (K key : this.saved.keySet()) {
+                if (current.containsKey(key)) {
+                    replayedOrder.add(key);
+                } else {
+                    this.removed.add(key);
+                }
+            }
+            for (K key : current.keySet()) {
+                if (!this.saved.containsKey(key)) {
+                    replayedOrder.add(key);
+                }
+            }
+            if (this.isOrdered && !replayedOrder.equals(new ArrayList<>(current.keySet()))) {
+                return false;
+            }
+
+            this.pending = current;
+            return true;
+        }
+
+        List<T> getChanged() {
+            return this.changed;
+        }
+
+        List<K> getRemoved() {
+            return this.removed;
+        }
+
+        void commit() {
+            this.saved = this.pending;
+            this.pending = null;
+        }
+    }
+}
@@ -4,6 +4,7 @@ import java.time.LocalDateTime;
 import java.time.ZoneId;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 
 import cpp.commons.exceptions.IllegalValueException;
@@ -17,20 +18,34 @@ import cpp.model.assignment.AssignmentName;
 class JsonAdaptedAssignment {
 
     public static final String MISSING_FIELD_MESSAGE_FORMAT = "Assignment's %s field is missing!";
+    public static final String INVALID_ARCHIVED_MESSAGE = "Assignment's isArchived field must be true or false: %s";
 
     private final String id;
     private final String name;
     private final String deadline;
+    // Left out of the file for assignments that are not archived.
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private final String isArchived;
 
     /**
      * Constructs a {@code JsonAdaptedAssignment} with the given assignment details.
      */
+    public JsonAdaptedAssignment(String id, String name, String deadline) {
+        this(id, name, deadline, null);
+    }
+
+    /**
+     * Constructs a {@code JsonAdaptedAssignment} with the given assignment details
+     * and archived state. A null archived state means the assignment is not
+     * archived.
+     */
     @JsonCreator
     public JsonAdaptedAssignment(@JsonProperty("id") String id, @JsonProperty("name") String name,
-            @JsonProperty("deadline") String deadline) {
+            @JsonProperty("deadline") String deadline, @JsonProperty("isArchived") String isArchived) {
         this.id = id;
         this.name = name;
         this.deadline = deadline;
+        this.isArchived = isArchived;
     }
 
     /**
@@ -41,6 +56,11 @@ class JsonAdaptedAssignment {
         this.name = source.getName().fullName;
         this.deadline = source.getDeadline().atZone(ParserUtil.getDefaultZone()).withZoneSameInstant(ZoneId.of("GMT"))
                 .format(ParserUtil.DATETIME_FORMATTER);
+        this.isArchived = source.isArchived() ? String.valueOf(true) : null;
+    }
+
+    String getId() {
+        return this.id;
     }
 
     /**
@@ -75,7 +95,13 @@ class JsonAdaptedAssignment {
             throw new IllegalValueException("Invalid date and time format. Please use the format: dd-MM-yyyy HH:mm");
         }
 
-        return new Assignment(this.id, modelName, modelDeadline);
+        if (this.isArchived != null && !this.isArchived.equalsIgnoreCase("true")
+                && !this.isArchived.equalsIgnoreCase("false")) {
+            throw new IllegalValueException(String.format(JsonAdaptedAssignment.INVALID_ARCHIVED_MESSAGE,
+                    this.isArchived));
+        }
+
+        return new Assignment(this.id, modelName, modelDeadline, Boolean.parseBoolean(this.isArchived));
     }
 
 }
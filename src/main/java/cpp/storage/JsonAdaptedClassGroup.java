@@ -42,6 +42,14 @@ class JsonAdaptedClassGroup {
         this.contactIds = source.getContactIdSet().toArray(new String[0]);
     }
 
+    String getId() {
+        return this.id;
+    }
+
+    String[] getContactIds() {
+        return this.contactIds;
+    }
+
     /**
      * Converts this Jackson-friendly adapted class group object into the model's
      * {@code ClassGroup} object.
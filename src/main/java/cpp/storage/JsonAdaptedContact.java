@@ -64,6 +64,10 @@ class JsonAdaptedContact {
                 .collect(Collectors.toList()));
     }
 
+    String getId() {
+        return this.id;
+    }
+
     /**
      * Converts this Jackson-friendly adapted contact object into the model's
      * {@code Contact} object.
@@ -2,6 +2,7 @@ package cpp.storage;
 
 import java.time.LocalDateTime;
 import java.time.ZoneId;
+import java.util.function.Predicate;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
@@ -78,6 +79,14 @@ class JsonAdaptedContactAssignment {
         this.score = String.valueOf(source.getScore());
     }
 
+    String getAssignmentId() {
+        return this.assignmentId;
+    }
+
+    String getContactId() {
+        return this.contactId;
+    }
+
     /**
      * Converts this Jackson-friendly adapted contact assignment object into the
      * model's {@code ContactAssignment} object.
@@ -86,11 +95,24 @@ class JsonAdaptedContactAssignment {
      *                               in the adapted contact assignment.
      */
     public ContactAssignment toModelType(AddressBook addressBook) throws IllegalValueException {
+        return this.toModelType(addressBook::hasAssignmentId, addressBook::hasContactId);
+    }
+
+    /**
+     * Converts this Jackson-friendly adapted contact assignment object into the
+     * model's {@code ContactAssignment} object, checking the ids it refers to
+     * with {@code isKnownAssignment} and {@code isKnownContact}.
+     *
+     * @throws IllegalValueException if there were any data constraints violated
+     *                               in the adapted contact assignment.
+     */
+    ContactAssignment toModelType(Predicate<String> isKnownAssignment, Predicate<String> isKnownContact)
+            throws IllegalValueException {
         if (this.assignmentId == null) {
             throw new IllegalValueException(String.format(JsonAdaptedContactAssignment.MISSING_FIELD_MESSAGE_FORMAT,
                     "assignmentId"));
         }
-        if (!addressBook.hasAssignmentId(this.assignmentId)) {
+        if (!isKnownAssignment.test(this.assignmentId)) {
             throw new IllegalValueException(
                     String.format(JsonAdaptedContactAssignment.INVALID_ASSIGNMENT_ID_MESSAGE, this.assignmentId));
         }
@@ -98,7 +120,7 @@ class JsonAdaptedContactAssignment {
             throw new IllegalValueException(String.format(JsonAdaptedContactAssignment.MISSING_FIELD_MESSAGE_FORMAT,
                     "contactId"));
         }
-        if (!addressBook.hasContactId(this.contactId)) {
+        if (!isKnownContact.test(this.contactId)) {
             throw new IllegalValueException(
                     String.format(JsonAdaptedContactAssignment.INVALID_CONTACT_ID_MESSAGE, this.contactId));
         }
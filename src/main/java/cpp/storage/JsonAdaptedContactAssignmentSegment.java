@@ -0,0 +1,69 @@
+package cpp.storage;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import cpp.commons.exceptions.IllegalValueException;
+import cpp.model.assignment.ContactAssignment;
+
+/**
+ * Jackson-friendly version of the contact assignments of a single archived
+ * assignment.
+ */
+class JsonAdaptedContactAssignmentSegment {
+
+    public static final String MESSAGE_WRONG_ASSIGNMENT = "Segment belongs to assignment %s instead of %s";
+
+    private final String assignmentId;
+    private final List<JsonAdaptedContactAssignment> contactAssignments = new ArrayList<>();
+
+    /**
+     * Constructs a {@code JsonAdaptedContactAssignmentSegment} with the given
+     * contact assignments.
+     */
+    @JsonCreator
+    public JsonAdaptedContactAssignmentSegment(@JsonProperty("assignmentId") String assignmentId,
+            @JsonProperty("contactAssignments") List<JsonAdaptedContactAssignment> contactAssignments) {
+        this.assignmentId = assignmentId;
+        if (contactAssignments != null) {
+            this.contactAssignments.addAll(contactAssignments);
+        }
+    }
+
+    /**
+     * Converts the contact assignments of the assignment with id
+     * {@code assignmentId} into this class for Jackson use.
+     */
+    public static JsonAdaptedContactAssignmentSegment of(String assignmentId, List<ContactAssignment> source) {
+        List<JsonAdaptedContactAssignment> contactAssignments = new ArrayList<>();
+        for (ContactAssignment ca : source) {
+            contactAssignments.add(new JsonAdaptedContactAssignment(ca));
+        }
+        return new JsonAdaptedContactAssignmentSegment(assignmentId, contactAssignments);
+    }
+
+    /**
+     * Converts this segment into the model's {@code ContactAssignment} objects.
+     * The contacts they refer to are not checked, as they are only known to the
+     * model.
+     *
+     * @throws IllegalValueException if the segment does not belong to the
+     *                               assignment with id {@code assignmentId}, or if
+     *                               there were any data constraints violated.
+     */
+    public List<ContactAssignment> toModelType(String assignmentId) throws IllegalValueException {
+        if (!assignmentId.equals(this.assignmentId)) {
+            throw new IllegalValueException(String.format(
+                    JsonAdaptedContactAssignmentSegment.MESSAGE_WRONG_ASSIGNMENT, this.assignmentId, assignmentId));
+        }
+
+        List<ContactAssignment> result = new ArrayList<>();
+        for (JsonAdaptedContactAssignment contactAssignment : this.contactAssignments) {
+            result.add(contactAssignment.toModelType(assignmentId::equals, contactId -> true));
+        }
+        return result;
+    }
+}
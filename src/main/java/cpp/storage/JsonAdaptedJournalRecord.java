@@ -0,0 +1,110 @@
+package cpp.storage;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * Jackson-friendly record of the changes made to the address book between two
+ * saves. Each record is written as a single line of the address book journal.
+ *
+ * Entities in the {@code contacts}, {@code assignments},
+ * {@code contactAssignments} and {@code classGroups} lists were added or
+ * changed, and replace any entity with the same key. The {@code removed*}
+ * lists hold the keys of entities that were removed. Contact assignments are
+ * keyed by their {@code [assignmentId, contactId]} pair.
+ *
+ * A record only applies to the snapshot with the same {@code generation}, or
+ * to the snapshot that the journal it belongs to is compacted into. Records of
+ * older generations were already written into the snapshot, and are skipped.
+ */
+class JsonAdaptedJournalRecord {
+
+    private final long generation;
+    private final List<JsonAdaptedContact> contacts = new ArrayList<>();
+    private final List<String> removedContactIds = new ArrayList<>();
+    private final List<JsonAdaptedAssignment> assignments = new ArrayList<>();
+    private final List<String> removedAssignmentIds = new ArrayList<>();
+    private final List<JsonAdaptedContactAssignment> contactAssignments = new ArrayList<>();
+    private final List<List<String>> removedContactAssignmentIds = new ArrayList<>();
+    private final List<JsonAdaptedClassGroup> classGroups = new ArrayList<>();
+    private final List<String> removedClassGroupIds = new ArrayList<>();
+
+    /**
+     * Constructs a {@code JsonAdaptedJournalRecord} with the given changes.
+     */
+    @JsonCreator
+    public JsonAdaptedJournalRecord(@JsonProperty("generation") long generation,
+            @JsonProperty("contacts") List<JsonAdaptedContact> contacts,
+            @JsonProperty("removedContactIds") List<String> removedContactIds,
+            @JsonProperty("assignments") List<JsonAdaptedAssignment> assignments,
+            @JsonProperty("removedAssignmentIds") List<String> removedAssignmentIds,
+            @JsonProperty("contactAssignments") List<JsonAdaptedContactAssignment> contactAssignments,
+            @JsonProperty("removedContactAssignmentIds") List<List<String>> removedContactAssignmentIds,
+            @JsonProperty("classGroups") List<JsonAdaptedClassGroup> classGroups,
+            @JsonProperty("removedClassGroupIds") List<String> removedClassGroupIds) {
+        this.generation = generation;
+        JsonAdaptedJournalRecord.addIfPresent(this.contacts, contacts);
+        JsonAdaptedJournalRecord.addIfPresent(this.removedContactIds, removedContactIds);
+        JsonAdaptedJournalRecord.addIfPresent(this.assignments, assignments);
+        JsonAdaptedJournalRecord.addIfPresent(this.removedAssignmentIds, removedAssignmentIds);
+        JsonAdaptedJournalRecord.addIfPresent(this.contactAssignments, contactAssignments);
+        JsonAdaptedJournalRecord.addIfPresent(this.removedContactAssignmentIds, removedContactAssignmentIds);
+        JsonAdaptedJournalRecord.addIfPresent(this.classGroups, classGroups);
+        JsonAdaptedJournalRecord.addIfPresent(this.removedClassGroupIds, removedClassGroupIds);
+    }
+
+    long getGeneration() {
+        return this.generation;
+    }
+
+    List<JsonAdaptedContact> getContacts() {
+        return this.contacts;
+    }
+
+    List<String> getRemovedContactIds() {
+        return this.removedContactIds;
+    }
+
+    List<JsonAdaptedAssignment> getAssignments() {
+        return this.assignments;
+    }
+
+    List<String> getRemovedAssignmentIds() {
+        return this.removedAssignmentIds;
+    }
+
+    List<JsonAdaptedContactAssignment> getContactAssignments() {
+        return this.contactAssignments;
+    }
+
+    List<List<String>> getRemovedContactAssignmentIds() {
+        return this.removedContactAssignmentIds;
+    }
+
+    List<JsonAdaptedClassGroup> getClassGroups() {
+        return this.classGroups;
+    }
+
+    List<String> getRemovedClassGroupIds() {
+        return this.removedClassGroupIds;
+    }
+
+    /**
+     * Returns the number of added, changed and removed entities in this record.
+     */
+    int size() {
+        return this.contacts.size() + this.removedContactIds.size()
+                + this.assignments.size() + this.removedAssignmentIds.size()
+                + this.contactAssignments.size() + this.removedContactAssignmentIds.size()
+                + this.classGroups.size() + this.removedClassGroupIds.size();
+    }
+
+    private static <T> void addIfPresent(List<T> target, List<T> source) {
+        if (source != null) {
+            target.addAll(source);
+        }
+    }
+}
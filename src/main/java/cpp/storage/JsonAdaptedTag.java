@@ -44,7 +44,7 @@ class JsonAdaptedTag {
         if (!Tag.isValidTagName(this.tagName)) {
             throw new IllegalValueException(Tag.MESSAGE_CONSTRAINTS);
         }
-        return new Tag(this.tagName);
+        return Tag.of(this.tagName);
     }
 
 }
@@ -10,7 +10,6 @@ import cpp.commons.core.LogsCenter;
 import cpp.commons.exceptions.DataLoadingException;
 import cpp.commons.exceptions.IllegalValueException;
 import cpp.commons.util.FileUtil;
-import cpp.commons.util.JsonUtil;
 import cpp.model.ReadOnlyAddressBook;
 
 /**
@@ -21,9 +20,19 @@ public class JsonAddressBookStorage implements AddressBookStorage {
     private static final Logger logger = LogsCenter.getLogger(JsonAddressBookStorage.class);
 
     private Path filePath;
+    private final int backupCount;
 
     public JsonAddressBookStorage(Path filePath) {
+        this(filePath, 0);
+    }
+
+    /**
+     * Creates a {@code JsonAddressBookStorage} that keeps up to
+     * {@code backupCount} previous versions of the data file.
+     */
+    public JsonAddressBookStorage(Path filePath, int backupCount) {
         this.filePath = filePath;
+        this.backupCount = backupCount;
     }
 
     @Override
@@ -46,14 +55,11 @@ public class JsonAddressBookStorage implements AddressBookStorage {
     public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
         Objects.requireNonNull(filePath);
 
-        Optional<JsonSerializableAddressBook> jsonAddressBook = JsonUtil.readJsonFile(
-                filePath, JsonSerializableAddressBook.class);
-        if (!jsonAddressBook.isPresent()) {
-            return Optional.empty();
-        }
-
         try {
-            return Optional.of(jsonAddressBook.get().toModelType());
+            return JsonAddressBookStream.read(filePath).map(addressBook -> addressBook);
+        } catch (IOException e) {
+            JsonAddressBookStorage.logger.warning("Error reading from jsonFile file " + filePath + ": " + e);
+            throw new DataLoadingException(e);
         } catch (IllegalValueException ive) {
             JsonAddressBookStorage.logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
             throw new DataLoadingException(ive);
@@ -75,8 +81,7 @@ public class JsonAddressBookStorage implements AddressBookStorage {
         Objects.requireNonNull(addressBook);
         Objects.requireNonNull(filePath);
 
-        FileUtil.createIfMissing(filePath);
-        JsonUtil.saveJsonFile(new JsonSerializableAddressBook(addressBook), filePath);
+        FileUtil.writeAtomically(filePath, this.backupCount, out -> JsonAddressBookStream.write(addressBook, out));
     }
 
 }
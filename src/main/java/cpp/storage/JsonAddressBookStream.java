@@ -0,0 +1,393 @@
+package cpp.storage;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonMappingException;
+
+import cpp.commons.exceptions.IllegalValueException;
+import cpp.commons.util.JsonUtil;
+import cpp.model.AddressBook;
+import cpp.model.ReadOnlyAddressBook;
+
+/**
+ * Reads and writes an address book Json file one entity at a time, in the same
+ * format as {@link JsonSerializableAddressBook}.
+ *
+ * Entities are read in batches of {@link #BATCH_SIZE}, and each batch is
+ * converted into the model as soon as it is read, in parallel as in
+ * {@link JsonSerializableAddressBook#toModelType()}. Each entity is converted
+ * just before it is written. Either way, the file is never held in memory as
+ * a whole. The changes of a journal are applied to each entity as it is read.
+ */
+class JsonAddressBookStream {
+
+    /** The number of rows of a section that are read before they are converted. */
+    static final int BATCH_SIZE = 4 * JsonSerializableAddressBook.PARALLEL_THRESHOLD;
+
+    private static final String GENERATION = "generation";
+    private static final String CONTACTS = "contacts";
+    private static final String ASSIGNMENTS = "assignments";
+    private static final String CONTACT_ASSIGNMENTS = "contactAssignments";
+    private static final String CLASS_GROUPS = "classGroups";
+
+    /**
+     * Returns the address book in the file at {@code filePath}, or
+     * {@code Optional.empty()} if the file does not exist.
+     *
+     * @throws IOException           if the file could not be read or is not a
+     *                               valid address book Json file.
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    static Optional<AddressBook> read(Path filePath) throws IOException, IllegalValueException {
+        return JsonAddressBookStream.read(filePath, JournalChanges.of(Collections.emptyList()));
+    }
+
+    /**
+     * Returns the address book in the file at {@code filePath} with
+     * {@code changes} applied, or {@code Optional.empty()} if the file does not
+     * exist.
+     *
+     * @throws IOException           if the file could not be read or is not a
+     *                               valid address book Json file.
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    static Optional<AddressBook> read(Path filePath, JournalChanges changes)
+            throws IOException, IllegalValueException {
+        if (!Files.exists(filePath)) {
+            return Optional.empty();
+        }
+
+        try (InputStream in = new BufferedInputStream(Files.newInputStream(filePath));
+                JsonParser parser = JsonUtil.createParser(in)) {
+            return Optional.of(JsonAddressBookStream.read(parser, changes));
+        }
+    }
+
+    /**
+     * Returns the generation written at the start of the address book file at
+     * {@code filePath}, or 0 if the file does not exist or has no generation.
+     *
+     * @throws IOException if the file could not be read or is not a valid
+     *                     address book Json file.
+     */
+    static long readGeneration(Path filePath) throws IOException {
+        if (!Files.exists(filePath)) {
+            return 0;
+        }
+
+        try (InputStream in = new BufferedInputStream(Files.newInputStream(filePath));
+                JsonParser parser = JsonUtil.createParser(in)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw JsonMappingException.from(parser, "Expected an address book object");
+            }
+            // The generation is always written first, so the rest of the file is not read.
+            if (parser.nextToken() == JsonToken.FIELD_NAME
+                    && parser.getCurrentName().equals(JsonAddressBookStream.GENERATION)
+                    && parser.nextToken() == JsonToken.VALUE_NUMBER_INT) {
+                return parser.getLongValue();
+            }
+            return 0;
+        }
+    }
+
+    /**
+     * Writes {@code addressBook} to {@code out}.
+     */
+    static void write(ReadOnlyAddressBook addressBook, OutputStream out) throws IOException {
+        try (JsonGenerator generator = JsonUtil.createGenerator(out)) {
+            generator.useDefaultPrettyPrinter();
+            generator.writeStartObject();
+            JsonAddressBookStream.writeSections(generator, addressBook);
+            generator.writeEndObject();
+        }
+    }
+
+    /**
+     * Writes {@code addressBook} to {@code out}, headed by {@code generation}.
+     *
+     * @see #readGeneration(Path)
+     */
+    static void write(ReadOnlyAddressBook addressBook, long generation, OutputStream out) throws IOException {
+        try (JsonGenerator generator = JsonUtil.createGenerator(out)) {
+            generator.useDefaultPrettyPrinter();
+            generator.writeStartObject();
+            generator.writeNumberField(JsonAddressBookStream.GENERATION, generation);
+            JsonAddressBookStream.writeSections(generator, addressBook);
+            generator.writeEndObject();
+        }
+    }
+
+    /**
+     * Writes the address book in the file at {@code filePath} with
+     * {@code changes} applied to {@code out}, headed by {@code generation}.
+     * Entities are copied as they are read, without converting them into the
+     * model. The file must exist.
+     *
+     * @throws IOException if the file could not be read or is not a valid
+     *                     address book Json file.
+     * @see #readGeneration(Path)
+     */
+    static void write(Path filePath, JournalChanges changes, long generation, OutputStream out)
+            throws IOException {
+        try (InputStream in = new BufferedInputStream(Files.newInputStream(filePath));
+                JsonParser parser = JsonUtil.createParser(in);
+                JsonGenerator generator = JsonUtil.createGenerator(out)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw JsonMappingException.from(parser, "Expected an address book object");
+            }
+
+            generator.useDefaultPrettyPrinter();
+            generator.writeStartObject();
+            generator.writeNumberField(JsonAddressBookStream.GENERATION, generation);
+            Set<String> copiedSections = new HashSet<>();
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String fieldName = parser.getCurrentName();
+                parser.nextToken();
+                switch (fieldName) {
+                case JsonAddressBookStream.CONTACTS:
+                    JsonAddressBookStream.copyArray(parser, generator, fieldName, JsonAdaptedContact.class,
+                            changes.getContacts());
+                    break;
+                case JsonAddressBookStream.ASSIGNMENTS:
+                    JsonAddressBookStream.copyArray(parser, generator, fieldName, JsonAdaptedAssignment.class,
+                            changes.getAssignments());
+                    break;
+                case JsonAddressBookStream.CONTACT_ASSIGNMENTS:
+                    JsonAddressBookStream.copyArray(parser, generator, fieldName,
+                            JsonAdaptedContactAssignment.class, changes.getContactAssignments());
+                    break;
+                case JsonAddressBookStream.CLASS_GROUPS:
+                    JsonAddressBookStream.copyArray(parser, generator, fieldName, JsonAdaptedClassGroup.class,
+                            changes.getClassGroups());
+                    break;
+                default:
+                    // The old generation is replaced, and unknown fields are dropped.
+                    parser.skipChildren();
+                    continue;
+                }
+                copiedSections.add(fieldName);
+            }
+
+            // Sections the file does not have only hold the entities added by the changes.
+            JsonAddressBookStream.writeAdded(generator, copiedSections, JsonAddressBookStream.CONTACTS,
+                    changes.getContacts());
+            JsonAddressBookStream.writeAdded(generator, copiedSections, JsonAddressBookStream.ASSIGNMENTS,
+                    changes.getAssignments());
+            JsonAddressBookStream.writeAdded(generator, copiedSections, JsonAddressBookStream.CONTACT_ASSIGNMENTS,
+                    changes.getContactAssignments());
+            JsonAddressBookStream.writeAdded(generator, copiedSections, JsonAddressBookStream.CLASS_GROUPS,
+                    changes.getClassGroups());
+            generator.writeEndObject();
+        }
+    }
+
+    private static AddressBook read(JsonParser parser, JournalChanges changes)
+            throws IOException, IllegalValueException {
+        if (parser.nextToken() != JsonToken.START_OBJECT) {
+            throw JsonMappingException.from(parser, "Expected an address book object");
+        }
+
+        AddressBook addressBook = new AddressBook();
+        boolean hasReadContacts = false;
+        boolean hasReadAssignments = false;
+        // Contact assignments and class groups refer to contacts and assignments, so they wait for them.
+        List<JsonAdaptedContactAssignment> deferredContactAssignments = new ArrayList<>();
+        List<JsonAdaptedClassGroup> deferredClassGroups = new ArrayList<>();
+        // Dangling references are collected and reported together once the whole file has been read.
+        Set<String> contactIds = new HashSet<>();
+        Set<String> assignmentIds = new HashSet<>();
+        ReferenceIntegrityReport report = new ReferenceIntegrityReport(contactIds, assignmentIds);
+        BatchHandler<JsonAdaptedContact> contactHandler = contacts -> {
+            JsonSerializableAddressBook.addContacts(addressBook, contacts);
+            contacts.forEach(contact -> contactIds.add(contact.getId()));
+        };
+        BatchHandler<JsonAdaptedAssignment> assignmentHandler = assignments -> {
+            JsonSerializableAddressBook.addAssignments(addressBook, assignments);
+            assignments.forEach(assignment -> assignmentIds.add(assignment.getId()));
+        };
+
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String fieldName = parser.getCurrentName();
+            parser.nextToken();
+            switch (fieldName) {
+            case JsonAddressBookStream.CONTACTS:
+                JsonAddressBookStream.readArray(parser, JsonAdaptedContact.class, changes.getContacts(),
+                        contactHandler);
+                hasReadContacts = true;
+                break;
+            case JsonAddressBookStream.ASSIGNMENTS:
+                JsonAddressBookStream.readArray(parser, JsonAdaptedAssignment.class, changes.getAssignments(),
+                        assignmentHandler);
+                hasReadAssignments = true;
+                break;
+            case JsonAddressBookStream.CONTACT_ASSIGNMENTS:
+                if (hasReadContacts && hasReadAssignments) {
+                    JsonAddressBookStream.readArray(parser, JsonAdaptedContactAssignment.class,
+                            changes.getContactAssignments(), contactAssignments ->
+                            JsonAddressBookStream.addContactAssignments(addressBook, report, contactAssignments));
+                } else {
+                    JsonAddressBookStream.readArray(parser, JsonAdaptedContactAssignment.class,
+                            changes.getContactAssignments(), deferredContactAssignments::addAll);
+                }
+                break;
+            case JsonAddressBookStream.CLASS_GROUPS:
+                if (hasReadContacts) {
+                    JsonAddressBookStream.readArray(parser, JsonAdaptedClassGroup.class, changes.getClassGroups(),
+                            classGroups -> {
+                                for (JsonAdaptedClassGroup classGroup : classGroups) {
+                                    JsonAddressBookStream.addClassGroup(addressBook, report, classGroup);
+                                }
+                            });
+                } else {
+                    JsonAddressBookStream.readArray(parser, JsonAdaptedClassGroup.class, changes.getClassGroups(),
+                            deferredClassGroups::addAll);
+                }
+                break;
+            default:
+                parser.skipChildren();
+                break;
+            }
+        }
+
+        // Sections the file does not have only hold the entities added by the changes.
+        contactHandler.handle(changes.getContacts().takeAdded());
+        assignmentHandler.handle(changes.getAssignments().takeAdded());
+        deferredContactAssignments.addAll(changes.getContactAssignments().takeAdded());
+        deferredClassGroups.addAll(changes.getClassGroups().takeAdded());
+
+        JsonAddressBookStream.addContactAssignments(addressBook, report, deferredContactAssignments);
+        for (JsonAdaptedClassGroup classGroup : deferredClassGroups) {
+            JsonAddressBookStream.addClassGroup(addressBook, report, classGroup);
+        }
+        report.throwIfNotEmpty();
+        return addressBook;
+    }
+
+    private static void addContactAssignments(AddressBook addressBook, ReferenceIntegrityReport report,
+            List<JsonAdaptedContactAssignment> contactAssignments) throws IllegalValueException {
+        List<JsonAdaptedContactAssignment> checked = new ArrayList<>();
+        for (JsonAdaptedContactAssignment contactAssignment : contactAssignments) {
+            if (report.checkContactAssignment(contactAssignment)) {
+                checked.add(contactAssignment);
+            }
+        }
+        JsonSerializableAddressBook.addContactAssignments(addressBook, checked);
+    }
+
+    private static void addClassGroup(AddressBook addressBook, ReferenceIntegrityReport report,
+            JsonAdaptedClassGroup classGroup) throws IllegalValueException {
+        if (report.checkClassGroup(classGroup)) {
+            JsonSerializableAddressBook.addClassGroup(addressBook, classGroup);
+        }
+    }
+
+    /**
+     * Reads the Json array at the current token of {@code parser}, applies
+     * {@code changes} to its elements and hands them to {@code handler} in
+     * batches of at most {@link #BATCH_SIZE}. The elements added by
+     * {@code changes} are handed over last.
+     */
+    private static <T, K> void readArray(JsonParser parser, Class<T> elementClass,
+            JournalChanges.EntityChanges<T, K> changes, BatchHandler<T> handler)
+            throws IOException, IllegalValueException {
+        if (parser.getCurrentToken() != JsonToken.VALUE_NULL) {
+            if (parser.getCurrentToken() != JsonToken.START_ARRAY) {
+                throw JsonMappingException.from(parser, "Expected an array of " + elementClass.getSimpleName());
+            }
+
+            List<T> batch = new ArrayList<>();
+            while (parser.nextToken() != JsonToken.END_ARRAY) {
+                T element = changes.apply(parser.readValueAs(elementClass));
+                if (element != null) {
+                    batch.add(element);
+                }
+                if (batch.size() == JsonAddressBookStream.BATCH_SIZE) {
+                    handler.handle(batch);
+                    batch = new ArrayList<>();
+                }
+            }
+            if (!batch.isEmpty()) {
+                handler.handle(batch);
+            }
+        }
+
+        List<T> added = changes.takeAdded();
+        if (!added.isEmpty()) {
+            handler.handle(added);
+        }
+    }
+
+    /**
+     * Copies the Json array at the current token of {@code parser} to
+     * {@code generator} with {@code changes} applied to its elements.
+     */
+    private static <T, K> void copyArray(JsonParser parser, JsonGenerator generator, String fieldName,
+            Class<T> elementClass, JournalChanges.EntityChanges<T, K> changes) throws IOException {
+        generator.writeArrayFieldStart(fieldName);
+        if (parser.getCurrentToken() != JsonToken.VALUE_NULL) {
+            if (parser.getCurrentToken() != JsonToken.START_ARRAY) {
+                throw JsonMappingException.from(parser, "Expected an array of " + elementClass.getSimpleName());
+            }
+
+            while (parser.nextToken() != JsonToken.END_ARRAY) {
+                T element = changes.apply(parser.readValueAs(elementClass));
+                if (element != null) {
+                    generator.writeObject(element);
+                }
+            }
+        }
+        for (T element : changes.takeAdded()) {
+            generator.writeObject(element);
+        }
+        generator.writeEndArray();
+    }
+
+    private static <T, K> void writeAdded(JsonGenerator generator, Set<String> copiedSections, String fieldName,
+            JournalChanges.EntityChanges<T, K> changes) throws IOException {
+        if (!copiedSections.contains(fieldName)) {
+            JsonAddressBookStream.writeArray(generator, fieldName, changes.takeAdded(), Function.identity());
+        }
+    }
+
+    private static void writeSections(JsonGenerator generator, ReadOnlyAddressBook addressBook) throws IOException {
+        JsonAddressBookStream.writeArray(generator, JsonAddressBookStream.CONTACTS,
+                addressBook.getContactList(), JsonAdaptedContact::new);
+        JsonAddressBookStream.writeArray(generator, JsonAddressBookStream.ASSIGNMENTS,
+                addressBook.getAssignmentList(), JsonAdaptedAssignment::new);
+        JsonAddressBookStream.writeArray(generator, JsonAddressBookStream.CONTACT_ASSIGNMENTS,
+                addressBook.getContactAssignmentList(), JsonAdaptedContactAssignment::new);
+        JsonAddressBookStream.writeArray(generator, JsonAddressBookStream.CLASS_GROUPS,
+                addressBook.getClassGroupList(), JsonAdaptedClassGroup::new);
+    }
+
+    private static <M, T> void writeArray(JsonGenerator generator, String fieldName, List<M> entities,
+            Function<M, T> toJsonAdapted) throws IOException {
+        generator.writeArrayFieldStart(fieldName);
+        for (M entity : entities) {
+            generator.writeObject(toJsonAdapted.apply(entity));
+        }
+        generator.writeEndArray();
+    }
+
+    /**
+     * Handles a batch of elements of a Json array as soon as it is read.
+     */
+    private interface BatchHandler<T> {
+        void handle(List<T> batch) throws IllegalValueException;
+    }
+}
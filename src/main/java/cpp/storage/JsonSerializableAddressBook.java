@@ -3,6 +3,7 @@ package cpp.storage;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
@@ -28,6 +29,9 @@ class JsonSerializableAddressBook {
             Contact assignments list contains duplicate contact assignment(s).""";
     public static final String MESSAGE_DUPLICATE_CLASS_GROUP = "Class groups list contains duplicate class group(s).";
 
+    /** Sections with fewer rows than this are converted on the calling thread. */
+    static final int PARALLEL_THRESHOLD = 256;
+
     private final List<JsonAdaptedContact> contacts = new ArrayList<>();
     private final List<JsonAdaptedAssignment> assignments = new ArrayList<>();
     private final List<JsonAdaptedContactAssignment> contactAssignments = new ArrayList<>();
@@ -74,46 +78,200 @@ class JsonSerializableAddressBook {
                 .collect(Collectors.toList()));
     }
 
+    List<JsonAdaptedContact> getContacts() {
+        return this.contacts;
+    }
+
+    List<JsonAdaptedAssignment> getAssignments() {
+        return this.assignments;
+    }
+
+    List<JsonAdaptedContactAssignment> getContactAssignments() {
+        return this.contactAssignments;
+    }
+
+    List<JsonAdaptedClassGroup> getClassGroups() {
+        return this.classGroups;
+    }
+
     /**
      * Converts this address book into the model's {@code AddressBook} object.
      *
+     * Rows of the contacts, assignments and contact assignments sections are
+     * converted in parallel on the common {@code ForkJoinPool} once a section has
+     * at least {@link #PARALLEL_THRESHOLD} rows. The converted rows are then
+     * checked for duplicates and added in file order, so the error reported is
+     * always the one for the first offending row, exactly as if the file had
+     * been converted on one thread. The one exception is references to
+     * missing contacts and assignments, which are all reported together before
+     * any contact assignment or class group is converted.
+     *
      * @throws IllegalValueException if there were any data constraints violated.
      */
     public AddressBook toModelType() throws IllegalValueException {
         AddressBook addressBook = new AddressBook();
-        for (JsonAdaptedContact jsonAdaptedContact : this.contacts) {
-            Contact contact = jsonAdaptedContact.toModelType();
-            if (addressBook.hasContact(contact) || addressBook.hasContactId(contact.getId())) {
-                throw new IllegalValueException(JsonSerializableAddressBook.MESSAGE_DUPLICATE_CONTACT);
-            }
-            addressBook.addContact(contact);
+        JsonSerializableAddressBook.addContacts(addressBook, this.contacts);
+        JsonSerializableAddressBook.addAssignments(addressBook, this.assignments);
+
+        // Report every dangling reference at once rather than failing on the first row with one.
+        ReferenceIntegrityReport report = ReferenceIntegrityReport.of(addressBook);
+        this.contactAssignments.forEach(report::checkContactAssignment);
+        this.classGroups.forEach(report::checkClassGroup);
+        report.throwIfNotEmpty();
+
+        JsonSerializableAddressBook.addContactAssignments(addressBook, this.contactAssignments);
+        for (JsonAdaptedClassGroup jsonAdaptedClassGroup : this.classGroups) {
+            JsonSerializableAddressBook.addClassGroup(addressBook, jsonAdaptedClassGroup);
         }
 
-        for (JsonAdaptedAssignment jsonAdaptedAssignment : this.assignments) {
-            Assignment assignment = jsonAdaptedAssignment.toModelType();
-            if (addressBook.hasAssignment(assignment) || addressBook.hasAssignmentId(assignment.getId())) {
-                throw new IllegalValueException(JsonSerializableAddressBook.MESSAGE_DUPLICATE_ASSIGNMENT);
-            }
-            addressBook.addAssignment(assignment);
+        return addressBook;
+    }
+
+    /**
+     * Converts {@code jsonAdaptedContact} into the model's {@code Contact} and
+     * adds it to {@code addressBook}.
+     *
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    static void addContact(AddressBook addressBook, JsonAdaptedContact jsonAdaptedContact)
+            throws IllegalValueException {
+        JsonSerializableAddressBook.addContact(addressBook, jsonAdaptedContact.toModelType());
+    }
+
+    private static void addContact(AddressBook addressBook, Contact contact) throws IllegalValueException {
+        if (addressBook.hasContact(contact) || addressBook.hasContactId(contact.getId())) {
+            throw new IllegalValueException(JsonSerializableAddressBook.MESSAGE_DUPLICATE_CONTACT);
         }
+        addressBook.addContact(contact);
+    }
 
-        for (JsonAdaptedContactAssignment jsonAdaptedContactAssignment : this.contactAssignments) {
-            ContactAssignment contactAssignment = jsonAdaptedContactAssignment.toModelType(addressBook);
-            if (addressBook.hasContactAssignment(contactAssignment)) {
-                throw new IllegalValueException(JsonSerializableAddressBook.MESSAGE_DUPLICATE_CONTACT_ASSIGNMENT);
-            }
-            addressBook.addContactAssignment(contactAssignment);
+    /**
+     * Converts {@code jsonAdaptedContacts} into the model's {@code Contact}s and
+     * adds them to {@code addressBook} in order. They are converted in parallel if
+     * there are at least {@link #PARALLEL_THRESHOLD} of them.
+     *
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    static void addContacts(AddressBook addressBook, List<JsonAdaptedContact> jsonAdaptedContacts)
+            throws IllegalValueException {
+        for (Conversion<Contact> contact : JsonSerializableAddressBook.convertAll(jsonAdaptedContacts,
+                JsonAdaptedContact::toModelType)) {
+            JsonSerializableAddressBook.addContact(addressBook, contact.get());
         }
+    }
 
-        for (JsonAdaptedClassGroup jsonAdaptedClassGroup : this.classGroups) {
-            ClassGroup classGroup = jsonAdaptedClassGroup.toModelType(addressBook);
-            if (addressBook.hasClassGroup(classGroup) || addressBook.hasClassGroupId(classGroup.getId())) {
-                throw new IllegalValueException(JsonSerializableAddressBook.MESSAGE_DUPLICATE_CLASS_GROUP);
+    /**
+     * Converts {@code jsonAdaptedAssignments} into the model's {@code Assignment}s
+     * and adds them to {@code addressBook} in order. They are converted in
+     * parallel if there are at least {@link #PARALLEL_THRESHOLD} of them.
+     *
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    static void addAssignments(AddressBook addressBook, List<JsonAdaptedAssignment> jsonAdaptedAssignments)
+            throws IllegalValueException {
+        for (Conversion<Assignment> assignment : JsonSerializableAddressBook.convertAll(jsonAdaptedAssignments,
+                JsonAdaptedAssignment::toModelType)) {
+            JsonSerializableAddressBook.addAssignment(addressBook, assignment.get());
+        }
+    }
+
+    private static void addAssignment(AddressBook addressBook, Assignment assignment) throws IllegalValueException {
+        if (addressBook.hasAssignment(assignment) || addressBook.hasAssignmentId(assignment.getId())) {
+            throw new IllegalValueException(JsonSerializableAddressBook.MESSAGE_DUPLICATE_ASSIGNMENT);
+        }
+        addressBook.addAssignment(assignment);
+    }
+
+    /**
+     * Converts {@code jsonAdaptedContactAssignments} into the model's
+     * {@code ContactAssignment}s and adds them to {@code addressBook} in order.
+     * The contacts and assignments they refer to must already be in
+     * {@code addressBook}. They are converted in parallel if there are at least
+     * {@link #PARALLEL_THRESHOLD} of them.
+     *
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    static void addContactAssignments(AddressBook addressBook,
+            List<JsonAdaptedContactAssignment> jsonAdaptedContactAssignments) throws IllegalValueException {
+        // The contacts and assignments are only read during conversion, so references are checked concurrently.
+        for (Conversion<ContactAssignment> contactAssignment : JsonSerializableAddressBook.convertAll(
+                jsonAdaptedContactAssignments, contactAssignment -> contactAssignment.toModelType(addressBook))) {
+            JsonSerializableAddressBook.addContactAssignment(addressBook, contactAssignment.get());
+        }
+    }
+
+    private static void addContactAssignment(AddressBook addressBook, ContactAssignment contactAssignment)
+            throws IllegalValueException {
+        if (addressBook.hasContactAssignment(contactAssignment)) {
+            throw new IllegalValueException(JsonSerializableAddressBook.MESSAGE_DUPLICATE_CONTACT_ASSIGNMENT);
+        }
+        addressBook.addContactAssignment(contactAssignment);
+    }
+
+    /**
+     * Converts {@code jsonAdaptedClassGroup} into the model's {@code ClassGroup}
+     * and adds it to {@code addressBook}. The contacts it refers to must already
+     * be in {@code addressBook}.
+     *
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    static void addClassGroup(AddressBook addressBook, JsonAdaptedClassGroup jsonAdaptedClassGroup)
+            throws IllegalValueException {
+        ClassGroup classGroup = jsonAdaptedClassGroup.toModelType(addressBook);
+        if (addressBook.hasClassGroup(classGroup) || addressBook.hasClassGroupId(classGroup.getId())) {
+            throw new IllegalValueException(JsonSerializableAddressBook.MESSAGE_DUPLICATE_CLASS_GROUP);
+        }
+        addressBook.addClassGroup(classGroup);
+    }
+
+    /**
+     * Converts every row in {@code rows} with {@code converter}, keeping the
+     * result or failure of each row in the order of {@code rows}.
+     */
+    private static <T, M> List<Conversion<M>> convertAll(List<T> rows, RowConverter<T, M> converter) {
+        Stream<T> stream = rows.size() >= JsonSerializableAddressBook.PARALLEL_THRESHOLD
+                ? rows.parallelStream()
+                : rows.stream();
+        return stream.map(row -> Conversion.of(row, converter)).collect(Collectors.toList());
+    }
+
+    /**
+     * Converts a single Jackson-friendly row into the model.
+     */
+    private interface RowConverter<T, M> {
+        M convert(T row) throws IllegalValueException;
+    }
+
+    /**
+     * The outcome of converting a single row: either the converted model object,
+     * or the exception that the conversion failed with.
+     */
+    private static class Conversion<M> {
+        private final M value;
+        private final Exception error;
+
+        private Conversion(M value, Exception error) {
+            this.value = value;
+            this.error = error;
+        }
+
+        static <T, M> Conversion<M> of(T row, RowConverter<T, M> converter) {
+            try {
+                return new Conversion<>(converter.convert(row), null);
+            } catch (IllegalValueException | RuntimeException e) {
+                return new Conversion<>(null, e);
             }
-            addressBook.addClassGroup(classGroup);
         }
 
-        return addressBook;
+        M get() throws IllegalValueException {
+            if (this.error instanceof IllegalValueException) {
+                throw (IllegalValueException) this.error;
+            }
+            if (this.error != null) {
+                throw (RuntimeException) this.error;
+            }
+            return this.value;
+        }
     }
 
 }
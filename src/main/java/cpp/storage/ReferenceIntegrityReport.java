@@ -0,0 +1,169 @@
+package cpp.storage;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import cpp.commons.exceptions.IllegalValueException;
+import cpp.model.ReadOnlyAddressBook;
+import cpp.model.assignment.Assignment;
+import cpp.model.contact.Contact;
+
+/**
+ * Checks the contact and assignment ids referred to by the rows of an address
+ * book file against the ids that are actually in it, and lists every reference
+ * that does not resolve.
+ *
+ * Rows are numbered within their section in the order they are checked.
+ */
+class ReferenceIntegrityReport {
+
+    public static final String MESSAGE_DANGLING_REFERENCES = "Found %d reference(s) to missing entities:";
+
+    private static final String CONTACT_ASSIGNMENTS = "contactAssignments";
+    private static final String CLASS_GROUPS = "classGroups";
+
+    private final Set<String> contactIds;
+    private final Set<String> assignmentIds;
+    private final List<DanglingReference> danglingReferences = new ArrayList<>();
+    private int contactAssignmentCount = 0;
+    private int classGroupCount = 0;
+
+    /**
+     * Creates a report that checks references against {@code contactIds} and
+     * {@code assignmentIds}. Ids added to either set later are also taken into
+     * account.
+     */
+    ReferenceIntegrityReport(Set<String> contactIds, Set<String> assignmentIds) {
+        this.contactIds = contactIds;
+        this.assignmentIds = assignmentIds;
+    }
+
+    /**
+     * Creates a report that checks references against the contacts and
+     * assignments in {@code addressBook}.
+     */
+    static ReferenceIntegrityReport of(ReadOnlyAddressBook addressBook) {
+        Set<String> contactIds = new HashSet<>();
+        for (Contact contact : addressBook.getContactList()) {
+            contactIds.add(contact.getId());
+        }
+        Set<String> assignmentIds = new HashSet<>();
+        for (Assignment assignment : addressBook.getAssignmentList()) {
+            assignmentIds.add(assignment.getId());
+        }
+        return new ReferenceIntegrityReport(contactIds, assignmentIds);
+    }
+
+    /**
+     * Checks the references of the next contact assignment row. Missing ids are
+     * left for {@link JsonAdaptedContactAssignment#toModelType} to report.
+     *
+     * @return true if every reference in the row resolves.
+     */
+    boolean checkContactAssignment(JsonAdaptedContactAssignment contactAssignment) {
+        int row = this.contactAssignmentCount++;
+        boolean isResolved = true;
+        String assignmentId = contactAssignment.getAssignmentId();
+        if (assignmentId != null && !this.assignmentIds.contains(assignmentId)) {
+            this.danglingReferences.add(new DanglingReference(ReferenceIntegrityReport.CONTACT_ASSIGNMENTS, row,
+                    String.format(JsonAdaptedContactAssignment.INVALID_ASSIGNMENT_ID_MESSAGE, assignmentId)));
+            isResolved = false;
+        }
+        String contactId = contactAssignment.getContactId();
+        if (contactId != null && !this.contactIds.contains(contactId)) {
+            this.danglingReferences.add(new DanglingReference(ReferenceIntegrityReport.CONTACT_ASSIGNMENTS, row,
+                    String.format(JsonAdaptedContactAssignment.INVALID_CONTACT_ID_MESSAGE, contactId)));
+            isResolved = false;
+        }
+        return isResolved;
+    }
+
+    /**
+     * Checks the members of the next class group row.
+     *
+     * @return true if every member of the class group resolves.
+     */
+    boolean checkClassGroup(JsonAdaptedClassGroup classGroup) {
+        int row = this.classGroupCount++;
+        if (classGroup.getContactIds() == null) {
+            return true;
+        }
+
+        boolean isResolved = true;
+        for (String contactId : classGroup.getContactIds()) {
+            if (contactId != null && !this.contactIds.contains(contactId)) {
+                this.danglingReferences.add(new DanglingReference(ReferenceIntegrityReport.CLASS_GROUPS, row,
+                        String.format(JsonAdaptedContactAssignment.INVALID_CONTACT_ID_MESSAGE, contactId)));
+                isResolved = false;
+            }
+        }
+        return isResolved;
+    }
+
+    boolean isEmpty() {
+        return this.danglingReferences.isEmpty();
+    }
+
+    List<DanglingReference> getDanglingReferences() {
+        return Collections.unmodifiableList(this.danglingReferences);
+    }
+
+    /**
+     * Returns a message listing every dangling reference found so far, one per
+     * line.
+     */
+    String getMessage() {
+        StringBuilder sb = new StringBuilder(String.format(ReferenceIntegrityReport.MESSAGE_DANGLING_REFERENCES,
+                this.danglingReferences.size()));
+        for (DanglingReference danglingReference : this.danglingReferences) {
+            sb.append("\n").append(danglingReference);
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Throws an {@code IllegalValueException} listing every dangling reference
+     * if any were found.
+     */
+    void throwIfNotEmpty() throws IllegalValueException {
+        if (!this.isEmpty()) {
+            throw new IllegalValueException(this.getMessage());
+        }
+    }
+
+    /**
+     * A reference in a row of an address book file to an entity that is not in
+     * the file.
+     */
+    static class DanglingReference {
+        private final String section;
+        private final int row;
+        private final String message;
+
+        DanglingReference(String section, int row, String message) {
+            this.section = section;
+            this.row = row;
+            this.message = message;
+        }
+
+        String getSection() {
+            return this.section;
+        }
+
+        int getRow() {
+            return this.row;
+        }
+
+        String getMessage() {
+            return this.message;
+        }
+
+        @Override
+        public String toString() {
+            return this.section + "[" + this.row + "]: " + this.message;
+        }
+    }
+}
@@ -0,0 +1,318 @@
+package cpp.storage;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.logging.Logger;
+import java.util.regex.Pattern;
+
+import cpp.commons.core.LogsCenter;
+import cpp.commons.exceptions.DataLoadingException;
+import cpp.commons.exceptions.IllegalValueException;
+import cpp.commons.util.FileUtil;
+import cpp.commons.util.JsonUtil;
+import cpp.model.ReadOnlyAddressBook;
+import cpp.model.assignment.Assignment;
+import cpp.model.assignment.AssignmentName;
+import cpp.model.assignment.ContactAssignment;
+import cpp.model.assignment.DeferredContactAssignments;
+import cpp.model.classgroup.ClassGroup;
+import cpp.model.classgroup.ClassGroupName;
+import cpp.model.contact.Contact;
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+
+/**
+ * An {@code AddressBookStorage} that keeps the contact assignments of archived
+ * assignments out of the data file of another {@code AddressBookStorage}.
+ *
+ * The contact assignments of each archived assignment are stored as Json in a
+ * segment file of their own, in a directory beside the data file. Segments are
+ * not read with the rest of the address book. Instead, the address book that
+ * is read defers them, and each one is only parsed when its assignment is
+ * first looked at. Segments whose contents have not changed are not written
+ * again. The rows of a segment that cannot be read cannot be changed either,
+ * so the segment is kept as it is until it can be read.
+ */
+public class SegmentedAddressBookStorage implements AddressBookStorage {
+
+    private static final Logger logger = LogsCenter.getLogger(SegmentedAddressBookStorage.class);
+
+    private static final String SEGMENT_DIRECTORY_SUFFIX = ".archive";
+    private static final String SEGMENT_SUFFIX = ".json";
+    // Only ids that are safe to use as file names get a segment.
+    private static final Pattern SEGMENT_ID_PATTERN = Pattern.compile("[A-Za-z0-9_-]+");
+
+    private final AddressBookStorage addressBookStorage;
+    // The compact Json of each segment as it was last read or written.
+    private final Map<Path, String> savedSegments = new ConcurrentHashMap<>();
+
+    /**
+     * Creates a {@code SegmentedAddressBookStorage} that stores everything but
+     * the segments with {@code addressBookStorage}.
+     */
+    public SegmentedAddressBookStorage(AddressBookStorage addressBookStorage) {
+        Objects.requireNonNull(addressBookStorage);
+        this.addressBookStorage = addressBookStorage;
+    }
+
+    /**
+     * Returns the directory that holds the segments of the data file at
+     * {@code filePath}.
+     */
+    public static Path getSegmentDirectory(Path filePath) {
+        return filePath.resolveSibling(filePath.getFileName() + SegmentedAddressBookStorage.SEGMENT_DIRECTORY_SUFFIX);
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return this.addressBookStorage.getAddressBookFilePath();
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return this.readAddressBook(this.getAddressBookFilePath());
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        Objects.requireNonNull(filePath);
+
+        Optional<ReadOnlyAddressBook> read = this.addressBookStorage.readAddressBook(filePath);
+        if (!read.isPresent()) {
+            return read;
+        }
+
+        ReadOnlyAddressBook addressBook = read.get();
+        // Rows that are still in the data file, e.g. after a crash between saving the segment and the data file,
+        // are kept and merged with their segment when it is loaded, so the segment is never replaced unread.
+        Path directory = SegmentedAddressBookStorage.getSegmentDirectory(filePath);
+        Set<String> deferredIds = new HashSet<>();
+        for (Assignment assignment : addressBook.getAssignmentList()) {
+            String id = assignment.getId();
+            if (assignment.isArchived() && SegmentedAddressBookStorage.isSegmentable(id)
+                    && Files.exists(SegmentedAddressBookStorage.getSegmentPath(directory, id))) {
+                deferredIds.add(id);
+            }
+        }
+        if (deferredIds.isEmpty()) {
+            return read;
+        }
+
+        DeferredContactAssignments deferred = new DeferredContactAssignments(deferredIds,
+                assignmentId -> this.loadSegment(directory, assignmentId));
+        SegmentedAddressBookStorage.logger.fine("Deferred the contact assignments of " + deferredIds.size()
+                + " archived assignments");
+        return Optional.of(new AddressBookView(addressBook, addressBook.getContactAssignmentList(), deferred));
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        this.saveAddressBook(addressBook, this.getAddressBookFilePath());
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        Objects.requireNonNull(addressBook);
+        Objects.requireNonNull(filePath);
+
+        Path directory = SegmentedAddressBookStorage.getSegmentDirectory(filePath);
+        DeferredContactAssignments deferred = addressBook.getDeferredContactAssignments();
+        Map<String, List<ContactAssignment>> segments = new HashMap<>();
+        for (Assignment assignment : addressBook.getAssignmentList()) {
+            String id = assignment.getId();
+            if (assignment.isArchived() && SegmentedAddressBookStorage.isSegmentable(id) && !deferred.contains(id)) {
+                segments.put(id, new ArrayList<>());
+            }
+        }
+
+        List<ContactAssignment> remainingRows = new ArrayList<>();
+        for (ContactAssignment ca : addressBook.getContactAssignmentList()) {
+            List<ContactAssignment> segment = segments.get(ca.getAssignmentId());
+            if (segment != null) {
+                segment.add(ca);
+            } else {
+                remainingRows.add(ca);
+            }
+        }
+
+        // Segments go first, so that a crash before the data file is saved leaves rows in both places, not neither.
+        for (Map.Entry<String, List<ContactAssignment>> segment : segments.entrySet()) {
+            this.saveSegment(directory, segment.getKey(), segment.getValue());
+        }
+        if (!directory.equals(SegmentedAddressBookStorage.getSegmentDirectory(this.getAddressBookFilePath()))) {
+            this.copyDeferredSegments(deferred, directory);
+        }
+
+        this.addressBookStorage.saveAddressBook(remainingRows.size() == addressBook.getContactAssignmentList().size()
+                ? addressBook
+                : new AddressBookView(addressBook, FXCollections.observableList(remainingRows),
+                        addressBook.getDeferredContactAssignments()), filePath);
+
+        Set<String> segmentIds = new HashSet<>(segments.keySet());
+        segmentIds.addAll(deferred.getAssignmentIds());
+        this.deleteOtherSegments(directory, segmentIds);
+    }
+
+    private Optional<List<ContactAssignment>> loadSegment(Path directory, String assignmentId) {
+        Path segmentPath = SegmentedAddressBookStorage.getSegmentPath(directory, assignmentId);
+        try {
+            List<ContactAssignment> contactAssignments = JsonUtil.fromJsonString(FileUtil.readFromFile(segmentPath),
+                    JsonAdaptedContactAssignmentSegment.class).toModelType(assignmentId);
+            this.savedSegments.put(segmentPath, JsonUtil.toCompactJsonString(
+                    JsonAdaptedContactAssignmentSegment.of(assignmentId, contactAssignments)));
+            SegmentedAddressBookStorage.logger.fine("Loaded " + contactAssignments.size()
+                    + " contact assignments from " + segmentPath);
+            return Optional.of(contactAssignments);
+        } catch (IOException | IllegalValueException e) {
+            SegmentedAddressBookStorage.logger.warning("Error reading from segment file " + segmentPath + ": " + e);
+            return Optional.empty();
+        }
+    }
+
+    private void saveSegment(Path directory, String assignmentId, List<ContactAssignment> contactAssignments)
+            throws IOException {
+        Path segmentPath = SegmentedAddressBookStorage.getSegmentPath(directory, assignmentId);
+        if (contactAssignments.isEmpty()) {
+            Files.deleteIfExists(segmentPath);
+            this.savedSegments.remove(segmentPath);
+            return;
+        }
+
+        String json = JsonUtil.toCompactJsonString(
+                JsonAdaptedContactAssignmentSegment.of(assignmentId, contactAssignments));
+        if (json.equals(this.savedSegments.get(segmentPath))) {
+            return;
+        }
+        FileUtil.writeAtomically(segmentPath, 0, out -> out.write(json.getBytes(StandardCharsets.UTF_8)));
+        this.savedSegments.put(segmentPath, json);
+    }
+
+    /**
+     * Copies the segments of the deferred assignments into {@code directory},
+     * so that saving to another file does not leave them behind.
+     */
+    private void copyDeferredSegments(DeferredContactAssignments deferred, Path directory) throws IOException {
+        Path ownDirectory = SegmentedAddressBookStorage.getSegmentDirectory(this.getAddressBookFilePath());
+        for (String assignmentId : deferred.getAssignmentIds()) {
+            Path source = SegmentedAddressBookStorage.getSegmentPath(ownDirectory, assignmentId);
+            if (Files.exists(source)) {
+                String json = FileUtil.readFromFile(source);
+                FileUtil.writeAtomically(SegmentedAddressBookStorage.getSegmentPath(directory, assignmentId), 0,
+                        out -> out.write(json.getBytes(StandardCharsets.UTF_8)));
+            }
+        }
+    }
+
+    /**
+     * Deletes the segments in {@code directory} that do not belong to an
+     * assignment in {@code segmentIds}, as their assignments have been deleted
+     * or unarchived.
+     */
+    private void deleteOtherSegments(Path directory, Set<String> segmentIds) throws IOException {
+        if (!Files.isDirectory(directory)) {
+            return;
+        }
+
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory,
+                "*" + SegmentedAddressBookStorage.SEGMENT_SUFFIX)) {
+            for (Path file : files) {
+                String fileName = file.getFileName().toString();
+                String assignmentId = fileName.substring(0,
+                        fileName.length() - SegmentedAddressBookStorage.SEGMENT_SUFFIX.length());
+                if (!segmentIds.contains(assignmentId)) {
+                    Files.deleteIfExists(file);
+                    this.savedSegments.remove(file);
+                }
+            }
+        }
+    }
+
+    private static boolean isSegmentable(String assignmentId) {
+        return SegmentedAddressBookStorage.SEGMENT_ID_PATTERN.matcher(assignmentId).matches();
+    }
+
+    private static Path getSegmentPath(Path directory, String assignmentId) {
+        return directory.resolve(assignmentId + SegmentedAddressBookStorage.SEGMENT_SUFFIX);
+    }
+
+    /**
+     * A view of an address book with different contact assignments or deferred
+     * assignments. Everything else is read from the address book, so nothing is
+     * copied or indexed again.
+     */
+    private static class AddressBookView implements ReadOnlyAddressBook {
+
+        private final ReadOnlyAddressBook source;
+        private final ObservableList<ContactAssignment> contactAssignments;
+        private final DeferredContactAssignments deferredContactAssignments;
+
+        AddressBookView(ReadOnlyAddressBook source, ObservableList<ContactAssignment> contactAssignments,
+                DeferredContactAssignments deferredContactAssignments) {
+            this.source = source;
+            this.contactAssignments = FXCollections.unmodifiableObservableList(contactAssignments);
+            this.deferredContactAssignments = deferredContactAssignments;
+        }
+
+        @Override
+        public ObservableList<Contact> getContactList() {
+            return this.source.getContactList();
+        }
+
+        @Override
+        public ObservableList<Assignment> getAssignmentList() {
+            return this.source.getAssignmentList();
+        }
+
+        @Override
+        public ObservableList<ContactAssignment> getContactAssignmentList() {
+            return this.contactAssignments;
+        }
+
+        @Override
+        public DeferredContactAssignments getDeferredContactAssignments() {
+            return this.deferredContactAssignments;
+        }
+
+        @Override
+        public ObservableList<ClassGroup> getClassGroupList() {
+            return this.source.getClassGroupList();
+        }
+
+        @Override
+        public Contact findContactById(String id) {
+            return this.source.findContactById(id);
+        }
+
+        @Override
+        public Assignment findAssignmentById(String id) {
+            return this.source.findAssignmentById(id);
+        }
+
+        @Override
+        public Assignment findAssignmentByName(AssignmentName name) {
+            return this.source.findAssignmentByName(name);
+        }
+
+        @Override
+        public ClassGroup findClassGroupByName(ClassGroupName name) {
+            return this.source.findClassGroupByName(name);
+        }
+    }
+}
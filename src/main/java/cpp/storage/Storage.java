@@ -29,4 +29,13 @@ public interface Storage extends AddressBookStorage, UserPrefsStorage {
     @Override
     void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException;
 
+    /**
+     * Waits for every address book save made so far to be written to the data
+     * file.
+     *
+     * @throws IOException if writing any of them failed and the failure has not
+     *                     been reported yet.
+     */
+    void flushAddressBook() throws IOException;
+
 }
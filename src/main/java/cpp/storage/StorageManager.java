@@ -2,11 +2,16 @@ package cpp.storage;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.logging.Logger;
 
 import cpp.commons.core.LogsCenter;
 import cpp.commons.exceptions.DataLoadingException;
+import cpp.model.AddressBookSnapshot;
 import cpp.model.ReadOnlyAddressBook;
 import cpp.model.ReadOnlyUserPrefs;
 import cpp.model.UserPrefs;
@@ -20,13 +25,58 @@ public class StorageManager implements Storage {
     private AddressBookStorage addressBookStorage;
     private UserPrefsStorage userPrefsStorage;
 
+    private final ExecutorService writer;
+    private final Object saveLock = new Object();
+    private ReadOnlyAddressBook pendingAddressBook;
+    private boolean isWriteScheduled = false;
+    private IOException saveFailure;
+
     /**
      * Creates a {@code StorageManager} with the given {@code AddressBookStorage}
      * and {@code UserPrefStorage}.
      */
     public StorageManager(AddressBookStorage addressBookStorage, UserPrefsStorage userPrefsStorage) {
+        this(addressBookStorage, userPrefsStorage, false);
+    }
+
+    /**
+     * Creates a {@code StorageManager} with the given {@code AddressBookStorage}
+     * and {@code UserPrefStorage}. If {@code isAsync} is true, the address book
+     * is written to its data file on a background thread, and saves made while a
+     * write is in progress are coalesced into a single write.
+     */
+    public StorageManager(AddressBookStorage addressBookStorage, UserPrefsStorage userPrefsStorage,
+            boolean isAsync) {
         this.addressBookStorage = addressBookStorage;
         this.userPrefsStorage = userPrefsStorage;
+        this.writer = isAsync ? Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "address-book-writer");
+            thread.setDaemon(true);
+            return thread;
+        }) : null;
+    }
+
+    /**
+     * Returns the {@code AddressBookStorage} for the data file in
+     * {@code userPrefs}, in the format it chooses. The archived contact
+     * assignments are kept in segments beside the data file.
+     */
+    public static AddressBookStorage createAddressBookStorage(ReadOnlyUserPrefs userPrefs) {
+        Objects.requireNonNull(userPrefs);
+        AddressBookStorage addressBookStorage;
+        switch (userPrefs.getAddressBookFormat()) {
+        case BINARY:
+            addressBookStorage = new BinaryAddressBookStorage(userPrefs.getAddressBookFilePath(),
+                    userPrefs.getAddressBookBackupCount());
+            break;
+        case JSON:
+            addressBookStorage = new JournaledAddressBookStorage(userPrefs.getAddressBookFilePath(),
+                    JournaledAddressBookStorage.DEFAULT_COMPACTION_THRESHOLD, userPrefs.getAddressBookBackupCount());
+            break;
+        default:
+            throw new AssertionError(userPrefs.getAddressBookFormat());
+        }
+        return new SegmentedAddressBookStorage(addressBookStorage);
     }
 
     // ================ UserPrefs methods ==============================
@@ -64,15 +114,95 @@ public class StorageManager implements Storage {
         return this.addressBookStorage.readAddressBook(filePath);
     }
 
+    /**
+     * Saves the given {@link ReadOnlyAddressBook} to the data file.
+     * In async mode, a snapshot of {@code addressBook} is queued for the writer
+     * thread and this method returns without waiting for it to be written.
+     *
+     * @throws IOException if there was any problem writing to the file. In async
+     *                     mode, this is the failure of an earlier queued save.
+     */
     @Override
     public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
-        this.saveAddressBook(addressBook, this.addressBookStorage.getAddressBookFilePath());
+        if (this.writer == null) {
+            this.saveAddressBook(addressBook, this.addressBookStorage.getAddressBookFilePath());
+            return;
+        }
+
+        Objects.requireNonNull(addressBook);
+        ReadOnlyAddressBook snapshot = new AddressBookSnapshot(addressBook);
+        synchronized (this.saveLock) {
+            this.pendingAddressBook = snapshot;
+            if (!this.isWriteScheduled) {
+                this.isWriteScheduled = true;
+                this.writer.submit(this::writePendingAddressBooks);
+            }
+        }
+        this.throwSaveFailure();
     }
 
     @Override
     public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        this.flushAddressBook();
         StorageManager.logger.fine("Attempting to write to data file: " + filePath);
         this.addressBookStorage.saveAddressBook(addressBook, filePath);
     }
 
+    @Override
+    public void flushAddressBook() throws IOException {
+        if (this.writer == null) {
+            return;
+        }
+
+        try {
+            // The writer runs tasks in order, so every save queued before this one is done once it runs.
+            this.writer.submit(() -> null).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            throw new IOException(e.getCause());
+        }
+        this.throwSaveFailure();
+    }
+
+    /**
+     * Writes the latest queued address book until no more are queued. Runs on
+     * the writer thread.
+     */
+    private void writePendingAddressBooks() {
+        while (true) {
+            ReadOnlyAddressBook addressBook;
+            synchronized (this.saveLock) {
+                addressBook = this.pendingAddressBook;
+                this.pendingAddressBook = null;
+                if (addressBook == null) {
+                    this.isWriteScheduled = false;
+                    return;
+                }
+            }
+
+            try {
+                StorageManager.logger.fine("Attempting to write to data file: "
+                        + this.addressBookStorage.getAddressBookFilePath());
+                this.addressBookStorage.saveAddressBook(addressBook);
+            } catch (IOException | RuntimeException e) {
+                StorageManager.logger.warning("Failed to save address book: " + e);
+                synchronized (this.saveLock) {
+                    this.saveFailure = e instanceof IOException ? (IOException) e : new IOException(e);
+                }
+            }
+        }
+    }
+
+    private void throwSaveFailure() throws IOException {
+        IOException failure;
+        synchronized (this.saveLock) {
+            failure = this.saveFailure;
+            this.saveFailure = null;
+        }
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
 }
@@ -36,10 +36,24 @@ public class AppParametersTest {
         Assertions.assertEquals(this.expected, AppParameters.parse(this.parametersStub));
     }
 
+    @Test
+    public void parse_validStartupProfilePath_success() {
+        this.parametersStub.namedParameters.put("startup-profile", "startup.json");
+        this.expected.setStartupProfilePath(Paths.get("startup.json"));
+        Assertions.assertEquals(this.expected, AppParameters.parse(this.parametersStub));
+    }
+
+    @Test
+    public void parse_invalidStartupProfilePath_success() {
+        this.parametersStub.namedParameters.put("startup-profile", "a\0");
+        Assertions.assertEquals(this.expected, AppParameters.parse(this.parametersStub));
+    }
+
     @Test
     public void toStringMethod() {
         AppParameters appParameters = new AppParameters();
-        String expected = AppParameters.class.getCanonicalName() + "{configPath=" + appParameters.getConfigPath() + "}";
+        String expected = AppParameters.class.getCanonicalName() + "{configPath=" + appParameters.getConfigPath()
+                + ", startupProfilePath=" + appParameters.getStartupProfilePath() + "}";
         Assertions.assertEquals(expected, appParameters.toString());
     }
 
@@ -63,6 +77,11 @@ public class AppParametersTest {
         AppParameters otherAppParameters = new AppParameters();
         otherAppParameters.setConfigPath(Paths.get("configPath"));
         Assertions.assertFalse(appParameters.equals(otherAppParameters));
+
+        // different startup profile path -> returns false
+        otherAppParameters = new AppParameters();
+        otherAppParameters.setStartupProfilePath(Paths.get("startup.json"));
+        Assertions.assertFalse(appParameters.equals(otherAppParameters));
     }
 
     private static class ParametersStub extends Application.Parameters {
@@ -0,0 +1,32 @@
+package cpp;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class LoadTestTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void getPercentile_nearestRank() {
+        List<Long> values = List.of(1L, 2L, 3L, 4L, 5L, 6L, 7L, 8L, 9L, 10L);
+        Assertions.assertEquals(5L, LoadTest.getPercentile(values, 50));
+        Assertions.assertEquals(9L, LoadTest.getPercentile(values, 90));
+        Assertions.assertEquals(10L, LoadTest.getPercentile(values, 99));
+        Assertions.assertEquals(1L, LoadTest.getPercentile(values, 0));
+        Assertions.assertEquals(7L, LoadTest.getPercentile(List.of(7L), 99));
+    }
+
+    @Test
+    public void readScript_skipsBlankLinesAndComments() throws Exception {
+        Path filePath = this.testFolder.resolve("script.txt");
+        Files.writeString(filePath, "# warm up\nlist contacts\n\n   \n  view ct/1  \n");
+        Assertions.assertEquals(List.of("list contacts", "view ct/1"), LoadTest.readScript(filePath));
+    }
+}
@@ -0,0 +1,57 @@
+package cpp.commons.core;
+
+import java.nio.file.Path;
+import java.util.Iterator;
+import java.util.List;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import cpp.commons.util.FileUtil;
+
+public class StartupProfilerTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private StartupProfiler createProfiler(Long... times) {
+        Iterator<Long> clock = List.of(times).iterator();
+        return new StartupProfiler(clock::next);
+    }
+
+    @Test
+    public void record_phasesTimedFromPreviousRecord() {
+        StartupProfiler profiler = this.createProfiler(0L, 5_000_000L, 12_000_000L);
+        profiler.record("config");
+        profiler.record("model");
+
+        Assertions.assertEquals(List.of(new StartupProfiler.Phase("config", 5_000_000L),
+                new StartupProfiler.Phase("model", 7_000_000L)), profiler.getPhases());
+        Assertions.assertEquals(12_000_000L, profiler.getTotalNanos());
+    }
+
+    @Test
+    public void getSummary_listsEveryPhase() {
+        StartupProfiler profiler = this.createProfiler(0L, 5_000_000L, 12_000_000L);
+        Assertions.assertEquals("Startup took 0 ms", profiler.getSummary());
+
+        profiler.record("config");
+        profiler.record("model");
+        Assertions.assertEquals("Startup took 12 ms (config: 5 ms, model: 7 ms)", profiler.getSummary());
+    }
+
+    @Test
+    public void saveAsJson_writesPhases() throws Exception {
+        StartupProfiler profiler = this.createProfiler(0L, 5L);
+        profiler.record("config");
+
+        Path filePath = this.testFolder.resolve("startup.json");
+        profiler.saveAsJson(filePath);
+
+        String json = FileUtil.readFromFile(filePath);
+        Assertions.assertTrue(json.contains("\"totalNanos\" : 5"));
+        Assertions.assertTrue(json.contains("\"name\" : \"config\""));
+        Assertions.assertTrue(json.contains("\"durationNanos\" : 5"));
+    }
+}
@@ -1,12 +1,22 @@
 package cpp.commons.util;
 
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.stream.Stream;
+
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 import cpp.testutil.Assert;
 
 public class FileUtilTest {
 
+    @TempDir
+    public Path testFolder;
+
     @Test
     public void isValidPath() {
         // valid path
@@ -19,4 +29,51 @@ public class FileUtilTest {
         Assert.assertThrows(NullPointerException.class, () -> FileUtil.isValidPath(null));
     }
 
+    @Test
+    public void writeAtomically_keepsRollingBackups() throws Exception {
+        Path file = this.testFolder.resolve("data").resolve("file.json");
+
+        for (int i = 1; i <= 4; i++) {
+            String content = "version " + i;
+            FileUtil.writeAtomically(file, 2, out -> out.write(content.getBytes(StandardCharsets.UTF_8)));
+        }
+
+        Assertions.assertEquals("version 4", FileUtil.readFromFile(file));
+        Assertions.assertEquals("version 3", FileUtil.readFromFile(FileUtil.getBackupPath(file, 1)));
+        Assertions.assertEquals("version 2", FileUtil.readFromFile(FileUtil.getBackupPath(file, 2)));
+        Assertions.assertFalse(Files.exists(FileUtil.getBackupPath(file, 3)));
+        try (Stream<Path> files = Files.list(file.getParent())) {
+            Assertions.assertEquals(3, files.count());
+        }
+    }
+
+    @Test
+    public void writeAtomically_writerClosesStream_success() throws Exception {
+        Path file = this.testFolder.resolve("file.json");
+
+        FileUtil.writeAtomically(file, 0, out -> {
+            out.write("content".getBytes(StandardCharsets.UTF_8));
+            out.close();
+        });
+
+        Assertions.assertEquals("content", FileUtil.readFromFile(file));
+        Assertions.assertFalse(Files.exists(FileUtil.getBackupPath(file, 1)));
+    }
+
+    @Test
+    public void writeAtomically_writerFails_fileUnchanged() throws Exception {
+        Path file = this.testFolder.resolve("file.json");
+        FileUtil.writeToFile(file, "original");
+
+        Assert.assertThrows(IOException.class, () -> FileUtil.writeAtomically(file, 1, out -> {
+            out.write("partial".getBytes(StandardCharsets.UTF_8));
+            throw new IOException("disk full");
+        }));
+
+        Assertions.assertEquals("original", FileUtil.readFromFile(file));
+        try (Stream<Path> files = Files.list(this.testFolder)) {
+            Assertions.assertEquals(1, files.count());
+        }
+    }
+
 }
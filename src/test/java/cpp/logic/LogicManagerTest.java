@@ -2,6 +2,7 @@ package cpp.logic;
 
 import java.io.IOException;
 import java.nio.file.AccessDeniedException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 
 import org.junit.jupiter.api.Assertions;
@@ -134,6 +135,31 @@ public class LogicManagerTest {
                 LogicManager.FILE_OPS_PERMISSION_ERROR_FORMAT, LogicManagerTest.DUMMY_AD_EXCEPTION.getMessage()));
     }
 
+    @Test
+    public void execute_readOnlyCommand_skipsSave() throws Exception {
+        Path addressBookPath = this.temporaryFolder.resolve("addressBook.json");
+        LogicManager logicManager = (LogicManager) this.logic;
+
+        this.logic.execute(ListCommand.COMMAND_WORD + " contacts");
+
+        Assertions.assertFalse(Files.exists(addressBookPath));
+        Assertions.assertEquals(0, logicManager.getSavedWriteCount());
+        Assertions.assertEquals(1, logicManager.getSkippedWriteCount());
+    }
+
+    @Test
+    public void execute_mutatingCommand_savesAddressBook() throws Exception {
+        Path addressBookPath = this.temporaryFolder.resolve("addressBook.json");
+        LogicManager logicManager = (LogicManager) this.logic;
+
+        this.logic.execute(AddContactCommand.COMMAND_WORD + CommandTestUtil.NAME_DESC_AMY
+                + CommandTestUtil.PHONE_DESC_AMY + CommandTestUtil.EMAIL_DESC_AMY + CommandTestUtil.ADDRESS_DESC_AMY);
+
+        Assertions.assertTrue(Files.exists(addressBookPath));
+        Assertions.assertEquals(1, logicManager.getSavedWriteCount());
+        Assertions.assertEquals(0, logicManager.getSkippedWriteCount());
+    }
+
     @Test
     public void getFilteredContactList_modifyList_throwsUnsupportedOperationException() {
         Assert.assertThrows(UnsupportedOperationException.class, () -> this.logic.getFilteredContactList().remove(0));
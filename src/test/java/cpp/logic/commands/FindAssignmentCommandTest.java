@@ -0,0 +1,96 @@
+package cpp.logic.commands;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import cpp.logic.Messages;
+import cpp.model.AddressBook;
+import cpp.model.Model;
+import cpp.model.ModelManager;
+import cpp.model.UserPrefs;
+import cpp.model.assignment.Assignment;
+import cpp.model.assignment.AssignmentDeadlineInRangePredicate;
+import cpp.model.assignment.AssignmentDueNextPredicate;
+import cpp.model.assignment.AssignmentNameContainsKeywordsPredicate;
+import cpp.model.assignment.AssignmentOverduePredicate;
+import cpp.model.assignment.AssignmentSearchPredicate;
+import cpp.testutil.AddressBookBuilder;
+import cpp.testutil.TypicalAssignments;
+
+/**
+ * Contains integration tests (interaction with the Model) for
+ * {@code FindAssignmentCommand}.
+ */
+public class FindAssignmentCommandTest {
+    private Model model = new ModelManager(FindAssignmentCommandTest.getAddressBook(), new UserPrefs());
+    private Model expectedModel = new ModelManager(FindAssignmentCommandTest.getAddressBook(), new UserPrefs());
+
+    @Test
+    public void equals() {
+        AssignmentOverduePredicate firstPredicate = new AssignmentOverduePredicate(LocalDateTime.of(2020, 1, 1, 0, 0));
+        AssignmentDueNextPredicate secondPredicate = new AssignmentDueNextPredicate(
+                LocalDateTime.of(2020, 1, 1, 0, 0), 1);
+
+        FindAssignmentCommand findFirstCommand = new FindAssignmentCommand(firstPredicate);
+        FindAssignmentCommand findSecondCommand = new FindAssignmentCommand(secondPredicate);
+
+        // same object -> returns true
+        Assertions.assertTrue(findFirstCommand.equals(findFirstCommand));
+
+        // same values -> returns true
+        Assertions.assertTrue(findFirstCommand.equals(new FindAssignmentCommand(
+                new AssignmentOverduePredicate(LocalDateTime.of(2020, 1, 1, 0, 0)))));
+
+        // different types -> returns false
+        Assertions.assertFalse(findFirstCommand.equals(1));
+
+        // null -> returns false
+        Assertions.assertFalse(findFirstCommand.equals(null));
+
+        // different predicate -> returns false
+        Assertions.assertFalse(findFirstCommand.equals(findSecondCommand));
+        Assertions.assertFalse(secondPredicate.equals(new AssignmentDueNextPredicate(
+                LocalDateTime.of(2020, 1, 1, 0, 0), 2)));
+    }
+
+    @Test
+    public void execute_overdue_assignmentsDueBeforeFound() {
+        this.assertFound(new AssignmentOverduePredicate(LocalDateTime.of(2020, 12, 14, 10, 0)),
+                TypicalAssignments.ASSIGNMENT_ONE);
+    }
+
+    @Test
+    public void execute_nextDue_firstCountFound() {
+        this.assertFound(new AssignmentDueNextPredicate(LocalDateTime.of(2020, 12, 13, 12, 0), 2),
+                TypicalAssignments.ASSIGNMENT_TWO, TypicalAssignments.ASSIGNMENT_THREE);
+        this.assertFound(new AssignmentDueNextPredicate(LocalDateTime.of(2020, 12, 15, 10, 0), 5),
+                TypicalAssignments.ASSIGNMENT_THREE);
+    }
+
+    @Test
+    public void execute_deadlineOrName_matchingAssignmentsFound() {
+        this.assertFound(new AssignmentDeadlineInRangePredicate(LocalDateTime.of(2020, 12, 14, 0, 0),
+                LocalDateTime.MAX), TypicalAssignments.ASSIGNMENT_TWO, TypicalAssignments.ASSIGNMENT_THREE);
+        this.assertFound(new AssignmentNameContainsKeywordsPredicate("Assignment 2"),
+                TypicalAssignments.ASSIGNMENT_TWO);
+    }
+
+    private void assertFound(AssignmentSearchPredicate predicate, Assignment... expectedAssignments) {
+        String expectedMessage = String.format(Messages.MESSAGE_ASSIGNMENTS_LISTED_OVERVIEW,
+                expectedAssignments.length);
+        FindAssignmentCommand command = new FindAssignmentCommand(predicate);
+        this.expectedModel.updateFilteredAssignmentList(predicate);
+        CommandTestUtil.assertCommandSuccess(command, this.model,
+                new CommandResult(expectedMessage, CommandResult.ListView.ASSIGNMENTS), this.expectedModel);
+        Assertions.assertEquals(List.of(expectedAssignments), this.model.getFilteredAssignmentList());
+    }
+
+    private static AddressBook getAddressBook() {
+        return new AddressBookBuilder().withAssignment(TypicalAssignments.ASSIGNMENT_ONE)
+                .withAssignment(TypicalAssignments.ASSIGNMENT_TWO)
+                .withAssignment(TypicalAssignments.ASSIGNMENT_THREE).build();
+    }
+}
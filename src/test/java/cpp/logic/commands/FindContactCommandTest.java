@@ -1,6 +1,8 @@
 package cpp.logic.commands;
 
+import java.time.LocalDateTime;
 import java.util.Arrays;
+import java.util.List;
 
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
@@ -9,7 +11,17 @@ import cpp.logic.Messages;
 import cpp.model.Model;
 import cpp.model.ModelManager;
 import cpp.model.UserPrefs;
+import cpp.model.assignment.Assignment;
+import cpp.model.assignment.AssignmentName;
+import cpp.model.assignment.ContactAssignment;
+import cpp.model.classgroup.ClassGroupName;
+import cpp.model.contact.CompoundContactSearchPredicate;
+import cpp.model.contact.ContactAssignmentStatusPredicate;
+import cpp.model.contact.ContactInClassGroupPredicate;
 import cpp.model.contact.ContactNameContainsKeywordsPredicate;
+import cpp.model.contact.ContactSearchPredicate;
+import cpp.testutil.ClassGroupBuilder;
+import cpp.testutil.TypicalAssignments;
 import cpp.testutil.TypicalContacts;
 
 /**
@@ -69,6 +81,44 @@ public class FindContactCommandTest {
                 this.model.getFilteredContactList());
     }
 
+    @Test
+    public void execute_classAndAssignmentStatus_matchingContactsFound() {
+        this.prepareClassAndAssignment(this.model);
+        this.prepareClassAndAssignment(this.expectedModel);
+
+        ContactSearchPredicate predicate = CompoundContactSearchPredicate.allOf(List.of(
+                new ContactInClassGroupPredicate(new ClassGroupName("T01")),
+                new ContactAssignmentStatusPredicate(new AssignmentName("Assignment1"),
+                        ContactAssignmentStatusPredicate.Status.UNSUBMITTED)));
+        this.expectedModel.updateFilteredContactList(predicate.resolve(this.expectedModel));
+        CommandTestUtil.assertCommandSuccess(new FindContactCommand(predicate), this.model,
+                new CommandResult(String.format(Messages.MESSAGE_CONTACTS_LISTED_OVERVIEW, 1),
+                        CommandResult.ListView.CONTACTS), this.expectedModel);
+        Assertions.assertEquals(List.of(TypicalContacts.BENSON), this.model.getFilteredContactList());
+
+        // negated criterion
+        predicate = CompoundContactSearchPredicate.allOf(List.of(
+                new ContactInClassGroupPredicate(new ClassGroupName("T01")),
+                CompoundContactSearchPredicate.not(new ContactAssignmentStatusPredicate(
+                        new AssignmentName("Assignment1"), ContactAssignmentStatusPredicate.Status.ALLOCATED))));
+        this.expectedModel.updateFilteredContactList(predicate.resolve(this.expectedModel));
+        CommandTestUtil.assertCommandSuccess(new FindContactCommand(predicate), this.model,
+                new CommandResult(String.format(Messages.MESSAGE_CONTACTS_LISTED_OVERVIEW, 1),
+                        CommandResult.ListView.CONTACTS), this.expectedModel);
+        Assertions.assertEquals(List.of(TypicalContacts.CARL), this.model.getFilteredContactList());
+    }
+
+    @Test
+    public void execute_unknownClassOrAssignment_throwsCommandException() {
+        CommandTestUtil.assertCommandFailure(new FindContactCommand(
+                new ContactInClassGroupPredicate(new ClassGroupName("T99"))), this.model,
+                Messages.MESSAGE_CLASS_GROUP_NOT_FOUND);
+        CommandTestUtil.assertCommandFailure(new FindContactCommand(CompoundContactSearchPredicate.not(
+                new ContactAssignmentStatusPredicate(new AssignmentName("Assignment99"),
+                        ContactAssignmentStatusPredicate.Status.ALLOCATED))), this.model,
+                Messages.MESSAGE_ASSIGNMENT_NOT_FOUND);
+    }
+
     @Test
     public void toStringMethod() {
         ContactNameContainsKeywordsPredicate predicate = new ContactNameContainsKeywordsPredicate("keyword");
@@ -77,6 +127,20 @@ public class FindContactCommandTest {
         Assertions.assertEquals(expected, findCommand.toString());
     }
 
+    /**
+     * Adds to {@code model} a class group T01 with Alice, Benson and Carl, and
+     * allocates the typical assignment to Alice and Benson, of whom only Alice
+     * has submitted it.
+     */
+    private void prepareClassAndAssignment(Model model) {
+        model.addClassGroup(new ClassGroupBuilder().withName("T01").withContactIds(TypicalContacts.ALICE.getId(),
+                TypicalContacts.BENSON.getId(), TypicalContacts.CARL.getId()).build());
+        Assignment assignment = TypicalAssignments.ASSIGNMENT_ONE;
+        model.addContactAssignment(new ContactAssignment(assignment.getId(), TypicalContacts.ALICE.getId()));
+        model.addContactAssignment(new ContactAssignment(assignment.getId(), TypicalContacts.BENSON.getId()));
+        model.markSubmitted(assignment, TypicalContacts.ALICE, LocalDateTime.of(2020, 12, 1, 10, 0));
+    }
+
     /**
      * Parses {@code userInput} into a {@code NameContainsKeywordsPredicate}.
      */
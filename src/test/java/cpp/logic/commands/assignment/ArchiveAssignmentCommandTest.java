@@ -0,0 +1,88 @@
+package cpp.logic.commands.assignment;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import cpp.commons.core.index.Index;
+import cpp.logic.Messages;
+import cpp.logic.commands.CommandTestUtil;
+import cpp.model.Model;
+import cpp.model.ModelManager;
+import cpp.model.UserPrefs;
+import cpp.model.assignment.Assignment;
+import cpp.testutil.TypicalContacts;
+
+/**
+ * Contains integration tests (interaction with the Model) and unit tests for
+ * {@code ArchiveAssignmentCommand}.
+ */
+public class ArchiveAssignmentCommandTest {
+
+    private static final Index INDEX_FIRST_ASSIGNMENT = Index.fromOneBased(1);
+
+    private Model model = new ModelManager(TypicalContacts.getTypicalAddressBook(), new UserPrefs());
+
+    @Test
+    public void execute_validIndex_success() {
+        Assignment target = this.model.getFilteredAssignmentList().get(0);
+        Assignment editedAssignment = target.withArchived(true);
+        ArchiveAssignmentCommand command = new ArchiveAssignmentCommand(
+                ArchiveAssignmentCommandTest.INDEX_FIRST_ASSIGNMENT);
+
+        String expectedMessage = String.format(ArchiveAssignmentCommand.MESSAGE_SUCCESS,
+                Messages.format(editedAssignment));
+
+        ModelManager expectedModel = new ModelManager(this.model.getAddressBook(), new UserPrefs());
+        expectedModel.setAssignment(target, editedAssignment);
+
+        CommandTestUtil.assertCommandSuccess(command, this.model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_alreadyArchived_commandFailure() {
+        Assignment target = this.model.getFilteredAssignmentList().get(0);
+        this.model.setAssignment(target, target.withArchived(true));
+
+        ArchiveAssignmentCommand command = new ArchiveAssignmentCommand(
+                ArchiveAssignmentCommandTest.INDEX_FIRST_ASSIGNMENT);
+        CommandTestUtil.assertCommandFailure(command, this.model, ArchiveAssignmentCommand.MESSAGE_ALREADY_DONE);
+    }
+
+    @Test
+    public void execute_invalidIndex_commandFailure() {
+        Index outOfBoundIndex = Index.fromOneBased(this.model.getFilteredAssignmentList().size() + 1);
+        ArchiveAssignmentCommand command = new ArchiveAssignmentCommand(outOfBoundIndex);
+        CommandTestUtil.assertCommandFailure(command, this.model, Messages.MESSAGE_INVALID_ASSIGNMENT_DISPLAYED_INDEX
+                + '\n'
+                + String.format(Messages.MESSAGE_VALID_INDEX_BOUNDS, this.model.getFilteredAssignmentList().size()));
+    }
+
+    @Test
+    public void equals() {
+        ArchiveAssignmentCommand firstCommand = new ArchiveAssignmentCommand(Index.fromOneBased(1));
+        ArchiveAssignmentCommand secondCommand = new ArchiveAssignmentCommand(Index.fromOneBased(2));
+
+        // same object -> returns true
+        Assertions.assertTrue(firstCommand.equals(firstCommand));
+
+        // same values -> returns true
+        Assertions.assertTrue(firstCommand.equals(new ArchiveAssignmentCommand(Index.fromOneBased(1))));
+
+        // different types -> returns false
+        Assertions.assertFalse(firstCommand.equals(1));
+
+        // null -> returns false
+        Assertions.assertFalse(firstCommand.equals(null));
+
+        // different index -> returns false
+        Assertions.assertFalse(firstCommand.equals(secondCommand));
+    }
+
+    @Test
+    public void toStringMethod() {
+        Index index = Index.fromOneBased(1);
+        ArchiveAssignmentCommand command = new ArchiveAssignmentCommand(index);
+        String expected = ArchiveAssignmentCommand.class.getCanonicalName() + "{index=" + index + "}";
+        Assertions.assertEquals(expected, command.toString());
+    }
+}
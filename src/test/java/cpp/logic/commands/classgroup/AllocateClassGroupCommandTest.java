@@ -251,5 +251,10 @@ public class AllocateClassGroupCommandTest {
             addressBook.addContact(this.contact3);
             return addressBook.getContactList();
         }
+
+        @Override
+        public void allocateContactToClassGroup(ClassGroup classGroup, Contact contact) {
+            this.classGroup.allocateContact(contact.getId());
+        }
     }
 }
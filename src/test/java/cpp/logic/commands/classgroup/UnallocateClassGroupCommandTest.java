@@ -262,5 +262,10 @@ public class UnallocateClassGroupCommandTest {
             addressBook.addContact(this.contact3);
             return addressBook.getContactList();
         }
+
+        @Override
+        public void unallocateContactFromClassGroup(ClassGroup classGroup, Contact contact) {
+            this.classGroup.unallocateContact(contact.getId());
+        }
     }
 }
@@ -136,6 +136,37 @@ public class ArgumentTokenizerTest {
         this.assertArgumentAbsent(argMultimap, this.hatQ);
     }
 
+    @Test
+    public void tokenize_prefixInDifferentCase_recognized() {
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(" P/pSlash value ^q hatQ value", this.pSlash,
+                this.hatQ);
+        this.assertPreambleEmpty(argMultimap);
+        this.assertArgumentPresent(argMultimap, this.pSlash, "pSlash value");
+        this.assertArgumentPresent(argMultimap, this.hatQ, "hatQ value");
+
+        // characters whose lower case is longer must not shift the values
+        argMultimap = ArgumentTokenizer.tokenize("\u0130stanbul p/value", this.pSlash);
+        this.assertPreamblePresent(argMultimap, "\u0130stanbul");
+        this.assertArgumentPresent(argMultimap, this.pSlash, "value");
+    }
+
+    @Test
+    public void tokenize_prefixesAtSamePosition_longestRecognized() {
+        Prefix pSlashPlus = new Prefix("p/+");
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(" p/+65 p/123", this.pSlash, pSlashPlus);
+        this.assertArgumentPresent(argMultimap, pSlashPlus, "65");
+        this.assertArgumentPresent(argMultimap, this.pSlash, "123");
+    }
+
+    @Test
+    public void untrimmedTokenize_keepsWhitespaceBeforeNextPrefix() {
+        ArgumentMultimap argMultimap = ArgumentTokenizer.untrimmedTokenize(" preamble p/ pSlash  -t p/-t ",
+                this.pSlash, this.dashT);
+        this.assertPreamblePresent(argMultimap, " preamble ");
+        this.assertArgumentPresent(argMultimap, this.pSlash, " pSlash  ", "-t ");
+        this.assertArgumentPresent(argMultimap, this.dashT, " ");
+    }
+
     @Test
     public void equalsMethod() {
         Prefix aaa = new Prefix("aaa");
@@ -1,14 +1,28 @@
 package cpp.logic.parser;
 
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+
 import org.junit.jupiter.api.Test;
 
 import cpp.logic.Messages;
 import cpp.logic.commands.FindAssignmentCommand;
+import cpp.model.assignment.AssignmentDeadlineInRangePredicate;
+import cpp.model.assignment.AssignmentDueNextPredicate;
 import cpp.model.assignment.AssignmentNameContainsKeywordsPredicate;
+import cpp.model.assignment.AssignmentOverduePredicate;
+import cpp.model.assignment.CompoundAssignmentSearchPredicate;
 
 public class FindAssignmentCommandParserTest {
 
-    private FindAssignmentCommandParser parser = new FindAssignmentCommandParser();
+    private static final LocalDateTime NOW = LocalDateTime.of(2026, 3, 1, 12, 0);
+
+    private FindAssignmentCommandParser parser = new FindAssignmentCommandParser(Clock.fixed(
+            FindAssignmentCommandParserTest.NOW.atZone(ParserUtil.getDefaultZone()).toInstant(),
+            ParserUtil.getDefaultZone()));
 
     @Test
     public void parse_emptyArg_throwsParseException() {
@@ -28,6 +42,73 @@ public class FindAssignmentCommandParserTest {
                 new AssignmentNameContainsKeywordsPredicate("Assignment")));
     }
 
+    @Test
+    public void parse_nameAndDeadline_returnsFindCommandMatchingBoth() {
+        FindAssignmentCommand expectedFindCommand = new FindAssignmentCommand(
+                CompoundAssignmentSearchPredicate.allOf(List.of(
+                        new AssignmentDeadlineInRangePredicate(LocalDateTime.MIN,
+                                LocalDateTime.of(2024, 12, 31, 23, 59)),
+                        CompoundAssignmentSearchPredicate.not(new AssignmentNameContainsKeywordsPredicate("quiz")))));
+        CommandParserTestUtil.assertParseSuccess(this.parser, " ass/!quiz de/31-12-2024", expectedFindCommand);
+    }
+
+    @Test
+    public void parse_overdue_returnsFindCommandForOverdue() {
+        CommandParserTestUtil.assertParseSuccess(this.parser, " st/overdue", new FindAssignmentCommand(
+                new AssignmentOverduePredicate(FindAssignmentCommandParserTest.NOW)));
+        CommandParserTestUtil.assertParseSuccess(this.parser, " st/ OVERDUE ", new FindAssignmentCommand(
+                new AssignmentOverduePredicate(FindAssignmentCommandParserTest.NOW)));
+
+        // combined with a name
+        CommandParserTestUtil.assertParseSuccess(this.parser, " ass/quiz st/overdue", new FindAssignmentCommand(
+                CompoundAssignmentSearchPredicate.allOf(List.of(
+                        new AssignmentOverduePredicate(FindAssignmentCommandParserTest.NOW),
+                        new AssignmentNameContainsKeywordsPredicate("quiz")))));
+    }
+
+    @Test
+    public void parse_overdue_usesCurrentTimeInDefaultZone() {
+        FindAssignmentCommandParser utcParser = new FindAssignmentCommandParser(
+                Clock.fixed(Instant.parse("2026-03-01T00:00:00Z"), ZoneOffset.UTC));
+        LocalDateTime expectedNow = LocalDateTime.ofInstant(Instant.parse("2026-03-01T00:00:00Z"),
+                ParserUtil.getDefaultZone());
+        CommandParserTestUtil.assertParseSuccess(utcParser, " st/overdue", new FindAssignmentCommand(
+                new AssignmentOverduePredicate(expectedNow)));
+    }
+
+    @Test
+    public void parse_invalidStatus_throwsParseException() {
+        CommandParserTestUtil.assertParseFailure(this.parser, " st/late", FindAssignmentCommand.MESSAGE_INVALID_STATUS);
+        CommandParserTestUtil.assertParseFailure(this.parser, " st/", FindAssignmentCommand.MESSAGE_INVALID_STATUS);
+    }
+
+    @Test
+    public void parse_next_returnsFindCommandForNextDue() {
+        CommandParserTestUtil.assertParseSuccess(this.parser, " next/3", new FindAssignmentCommand(
+                new AssignmentDueNextPredicate(FindAssignmentCommandParserTest.NOW, 3)));
+        CommandParserTestUtil.assertParseSuccess(this.parser, " next/ 1 ", new FindAssignmentCommand(
+                new AssignmentDueNextPredicate(FindAssignmentCommandParserTest.NOW, 1)));
+    }
+
+    @Test
+    public void parse_invalidCount_throwsParseException() {
+        CommandParserTestUtil.assertParseFailure(this.parser, " next/0", FindAssignmentCommand.MESSAGE_INVALID_COUNT);
+        CommandParserTestUtil.assertParseFailure(this.parser, " next/-1", FindAssignmentCommand.MESSAGE_INVALID_COUNT);
+        CommandParserTestUtil.assertParseFailure(this.parser, " next/three",
+                FindAssignmentCommand.MESSAGE_INVALID_COUNT);
+        CommandParserTestUtil.assertParseFailure(this.parser, " next/", FindAssignmentCommand.MESSAGE_INVALID_COUNT);
+    }
+
+    @Test
+    public void parse_nextWithOtherCriteria_throwsParseException() {
+        CommandParserTestUtil.assertParseFailure(this.parser, " next/3 ass/quiz",
+                FindAssignmentCommand.MESSAGE_NEXT_WITH_OTHER_CRITERIA);
+        CommandParserTestUtil.assertParseFailure(this.parser, " next/3 ds/01-01-2026",
+                FindAssignmentCommand.MESSAGE_NEXT_WITH_OTHER_CRITERIA);
+        CommandParserTestUtil.assertParseFailure(this.parser, " st/overdue next/3",
+                FindAssignmentCommand.MESSAGE_NEXT_WITH_OTHER_CRITERIA);
+    }
+
     @Test
     public void parse_deadlinePrefixWithPreamble_throwsParseException() {
         // deadline prefix should not have preamble (text before prefix)
@@ -1,10 +1,22 @@
 package cpp.logic.parser;
 
+import java.util.List;
+import java.util.Set;
+
 import org.junit.jupiter.api.Test;
 
 import cpp.logic.Messages;
 import cpp.logic.commands.FindContactCommand;
+import cpp.model.assignment.AssignmentName;
+import cpp.model.classgroup.ClassGroupName;
+import cpp.model.contact.CompoundContactSearchPredicate;
+import cpp.model.contact.ContactAssignmentStatusPredicate;
+import cpp.model.contact.ContactEmailMatchesKeywordsPredicate;
+import cpp.model.contact.ContactHasTagsPredicate;
+import cpp.model.contact.ContactInClassGroupPredicate;
 import cpp.model.contact.ContactNameContainsKeywordsPredicate;
+import cpp.model.contact.ContactPhoneMatchesKeywordsPredicate;
+import cpp.model.tag.Tag;
 
 public class FindContactCommandParserTest {
 
@@ -39,4 +51,70 @@ public class FindContactCommandParserTest {
                 String.format(Messages.MESSAGE_INVALID_COMMAND_FORMAT, FindContactCommand.MESSAGE_USAGE));
     }
 
+    @Test
+    public void parse_tags_returnsFindCommandWithTagGroups() {
+        FindContactCommand expectedFindCommand = new FindContactCommand(new ContactHasTagsPredicate(
+                List.of(Set.of(Tag.of("friends"), Tag.of("owesMoney")))));
+        CommandParserTestUtil.assertParseSuccess(this.parser, " t/friends  owesMoney ", expectedFindCommand);
+
+        expectedFindCommand = new FindContactCommand(new ContactHasTagsPredicate(
+                List.of(Set.of(Tag.of("friends"), Tag.of("owesMoney")), Set.of(Tag.of("family")))));
+        CommandParserTestUtil.assertParseSuccess(this.parser, " t/friends owesMoney|family", expectedFindCommand);
+        CommandParserTestUtil.assertParseSuccess(this.parser, " t/friends owesMoney | family", expectedFindCommand);
+    }
+
+    @Test
+    public void parse_invalidTags_throwsParseException() {
+        CommandParserTestUtil.assertParseFailure(this.parser, " t/", ParserUtil.MESSAGE_EMPTY_TAGS);
+        CommandParserTestUtil.assertParseFailure(this.parser, " t/friends |", ParserUtil.MESSAGE_EMPTY_TAGS);
+        CommandParserTestUtil.assertParseFailure(this.parser, " t/friends | | family", ParserUtil.MESSAGE_EMPTY_TAGS);
+        CommandParserTestUtil.assertParseFailure(this.parser, " t/friends* family", Tag.MESSAGE_CONSTRAINTS);
+        CommandParserTestUtil.assertParseFailure(this.parser, " t/friends t/family",
+                Messages.getErrorMessageForDuplicatePrefixes(CliSyntax.PREFIX_TAG));
+    }
+
+    @Test
+    public void parse_multipleCriteria_returnsFindCommandMatchingAll() {
+        FindContactCommand expectedFindCommand = new FindContactCommand(CompoundContactSearchPredicate.allOf(List.of(
+                new ContactNameContainsKeywordsPredicate("Alice"),
+                new ContactHasTagsPredicate(List.of(Set.of(Tag.of("friends")))))));
+        CommandParserTestUtil.assertParseSuccess(this.parser, " n/Alice t/friends", expectedFindCommand);
+        CommandParserTestUtil.assertParseSuccess(this.parser, " t/friends n/Alice", expectedFindCommand);
+
+        expectedFindCommand = new FindContactCommand(CompoundContactSearchPredicate.allOf(List.of(
+                new ContactPhoneMatchesKeywordsPredicate("9123"),
+                new ContactInClassGroupPredicate(new ClassGroupName("T01")),
+                new ContactAssignmentStatusPredicate(new AssignmentName("Assignment1"),
+                        ContactAssignmentStatusPredicate.Status.ALLOCATED))));
+        CommandParserTestUtil.assertParseSuccess(this.parser, " p/9123 c/T01 ass/Assignment 1", expectedFindCommand);
+    }
+
+    @Test
+    public void parse_negatedCriteria_returnsFindCommandWithNot() {
+        FindContactCommand expectedFindCommand = new FindContactCommand(CompoundContactSearchPredicate.allOf(List.of(
+                CompoundContactSearchPredicate.not(new ContactNameContainsKeywordsPredicate("tan")),
+                CompoundContactSearchPredicate.not(new ContactEmailMatchesKeywordsPredicate("example.com")))));
+        CommandParserTestUtil.assertParseSuccess(this.parser, " n/!tan e/ !example.com", expectedFindCommand);
+
+        expectedFindCommand = new FindContactCommand(CompoundContactSearchPredicate.not(
+                new ContactInClassGroupPredicate(new ClassGroupName("T01"))));
+        CommandParserTestUtil.assertParseSuccess(this.parser, " c/!T01", expectedFindCommand);
+
+        CommandParserTestUtil.assertParseFailure(this.parser, " p/!!9123", """
+                Phone number search string must contain 1 or more digits and \
+                cannot contain spaces between digits.""");
+    }
+
+    @Test
+    public void parse_assignmentStatus_returnsFindCommandWithStatus() {
+        FindContactCommand expectedFindCommand = new FindContactCommand(new ContactAssignmentStatusPredicate(
+                new AssignmentName("Assignment1"), ContactAssignmentStatusPredicate.Status.UNSUBMITTED));
+        CommandParserTestUtil.assertParseSuccess(this.parser, " ass/Assignment 1 st/Unsubmitted ",
+                expectedFindCommand);
+
+        CommandParserTestUtil.assertParseFailure(this.parser, " ass/Assignment 1 st/done",
+                FindContactCommand.MESSAGE_INVALID_STATUS);
+        CommandParserTestUtil.assertParseFailure(this.parser, " n/Alice st/graded",
+                String.format(Messages.MESSAGE_INVALID_COMMAND_FORMAT, FindContactCommand.MESSAGE_USAGE));
+    }
 }
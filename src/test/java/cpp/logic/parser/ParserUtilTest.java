@@ -1,5 +1,6 @@
 package cpp.logic.parser;
 
+import java.time.Instant;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.Arrays;
@@ -202,6 +203,24 @@ public class ParserUtilTest {
         Assertions.assertEquals(expectedTagSet, actualTagSet);
     }
 
+    @Test
+    public void parseNonEmptySearchTags_validTags_returnsUnsharedTags() throws Exception {
+        Set<Tag> actualTagSet = ParserUtil
+                .parseNonEmptySearchTags(ParserUtilTest.VALID_TAG_1 + " " + ParserUtilTest.VALID_TAG_2);
+
+        Assertions.assertEquals(Set.of(new Tag(ParserUtilTest.VALID_TAG_1), new Tag(ParserUtilTest.VALID_TAG_2)),
+                actualTagSet);
+        for (Tag tag : actualTagSet) {
+            Assertions.assertNotSame(Tag.of(tag.tagName), tag);
+        }
+    }
+
+    @Test
+    public void parseNonEmptySearchTags_invalidOrEmpty_throwsParseException() {
+        Assert.assertThrows(ParseException.class, () -> ParserUtil.parseNonEmptySearchTags("   "));
+        Assert.assertThrows(ParseException.class, () -> ParserUtil.parseNonEmptySearchTags(ParserUtilTest.INVALID_TAG));
+    }
+
     @Test
     public void parseDeadline_null_throwsNullPointerException() {
         Assert.assertThrows(NullPointerException.class, () -> ParserUtil.parseDeadline((String) null));
@@ -256,6 +275,20 @@ public class ParserUtilTest {
                 () -> ParserUtil.parseDateTime(futureDateTimeString));
     }
 
+    @Test
+    public void parseInstant_pastInstant_returnsDateTimeInDefaultZone() throws Exception {
+        Instant instant = Instant.parse("2025-03-01T04:30:00Z");
+        Assertions.assertEquals(LocalDateTime.ofInstant(instant, ParserUtil.getDefaultZone()),
+                ParserUtil.parseInstant(instant));
+    }
+
+    @Test
+    public void parseInstant_futureInstant_throwsParseException() {
+        Instant futureInstant = Instant.now().plusSeconds(24 * 60 * 60);
+        Assert.assertThrows(ParseException.class, ParserUtil.MESSAGE_INVALID_FUTURE_DATETIME,
+                () -> ParserUtil.parseInstant(futureInstant));
+    }
+
     @Test
     public void parseAssignmentName_null_throwsNullPointerException() {
         Assert.assertThrows(NullPointerException.class,
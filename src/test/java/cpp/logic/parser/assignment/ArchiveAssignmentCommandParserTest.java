@@ -0,0 +1,32 @@
+package cpp.logic.parser.assignment;
+
+import org.junit.jupiter.api.Test;
+
+import cpp.commons.core.index.Index;
+import cpp.logic.Messages;
+import cpp.logic.commands.assignment.ArchiveAssignmentCommand;
+import cpp.logic.parser.CommandParserTestUtil;
+
+public class ArchiveAssignmentCommandParserTest {
+
+    private static final String MESSAGE_INVALID_FORMAT = String.format(Messages.MESSAGE_INVALID_COMMAND_FORMAT,
+            ArchiveAssignmentCommand.MESSAGE_USAGE);
+
+    private ArchiveAssignmentCommandParser parser = new ArchiveAssignmentCommandParser();
+
+    @Test
+    public void parse_validArgs_returnsArchiveAssignmentCommand() {
+        CommandParserTestUtil.assertParseSuccess(this.parser, " 1",
+                new ArchiveAssignmentCommand(Index.fromOneBased(1)));
+    }
+
+    @Test
+    public void parse_invalidArgs_throwsParseException() {
+        CommandParserTestUtil.assertParseFailure(this.parser, "",
+                ArchiveAssignmentCommandParserTest.MESSAGE_INVALID_FORMAT);
+        CommandParserTestUtil.assertParseFailure(this.parser, " a",
+                ArchiveAssignmentCommandParserTest.MESSAGE_INVALID_FORMAT);
+        CommandParserTestUtil.assertParseFailure(this.parser, " 0",
+                ArchiveAssignmentCommandParserTest.MESSAGE_INVALID_FORMAT);
+    }
+}
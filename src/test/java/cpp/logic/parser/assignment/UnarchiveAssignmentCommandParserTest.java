@@ -0,0 +1,32 @@
+package cpp.logic.parser.assignment;
+
+import org.junit.jupiter.api.Test;
+
+import cpp.commons.core.index.Index;
+import cpp.logic.Messages;
+import cpp.logic.commands.assignment.UnarchiveAssignmentCommand;
+import cpp.logic.parser.CommandParserTestUtil;
+
+public class UnarchiveAssignmentCommandParserTest {
+
+    private static final String MESSAGE_INVALID_FORMAT = String.format(Messages.MESSAGE_INVALID_COMMAND_FORMAT,
+            UnarchiveAssignmentCommand.MESSAGE_USAGE);
+
+    private UnarchiveAssignmentCommandParser parser = new UnarchiveAssignmentCommandParser();
+
+    @Test
+    public void parse_validArgs_returnsUnarchiveAssignmentCommand() {
+        CommandParserTestUtil.assertParseSuccess(this.parser, " 1",
+                new UnarchiveAssignmentCommand(Index.fromOneBased(1)));
+    }
+
+    @Test
+    public void parse_invalidArgs_throwsParseException() {
+        CommandParserTestUtil.assertParseFailure(this.parser, "",
+                UnarchiveAssignmentCommandParserTest.MESSAGE_INVALID_FORMAT);
+        CommandParserTestUtil.assertParseFailure(this.parser, " a",
+                UnarchiveAssignmentCommandParserTest.MESSAGE_INVALID_FORMAT);
+        CommandParserTestUtil.assertParseFailure(this.parser, " 0",
+                UnarchiveAssignmentCommandParserTest.MESSAGE_INVALID_FORMAT);
+    }
+}
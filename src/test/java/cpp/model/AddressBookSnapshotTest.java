@@ -0,0 +1,59 @@
+package cpp.model;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import cpp.model.assignment.ContactAssignment;
+import cpp.model.classgroup.ClassGroup;
+import cpp.model.classgroup.ClassGroupName;
+import cpp.model.contact.Contact;
+import cpp.testutil.TypicalAssignments;
+import cpp.testutil.TypicalContacts;
+
+public class AddressBookSnapshotTest {
+
+    private final AddressBook addressBook = TypicalContacts.getTypicalAddressBook();
+
+    @Test
+    public void constructor_copiesContents() {
+        AddressBookSnapshot snapshot = new AddressBookSnapshot(this.addressBook);
+        Assertions.assertEquals(this.addressBook, new AddressBook(snapshot));
+        Assertions.assertSame(this.addressBook.getDeferredContactAssignments(),
+                snapshot.getDeferredContactAssignments());
+    }
+
+    @Test
+    public void constructor_laterChanges_notReflected() {
+        ClassGroup classGroup = new ClassGroup("class-id", new ClassGroupName("CS2103T T10"));
+        ContactAssignment contactAssignment = new ContactAssignment(TypicalAssignments.ASSIGNMENT_ONE.getId(),
+                TypicalContacts.ALICE.getId());
+        this.addressBook.addContactAssignment(contactAssignment);
+        this.addressBook.addClassGroup(classGroup);
+        List<Contact> contacts = List.copyOf(this.addressBook.getContactList());
+
+        AddressBookSnapshot snapshot = new AddressBookSnapshot(this.addressBook);
+
+        contactAssignment.markSubmitted(LocalDateTime.of(2025, 1, 1, 10, 0));
+        this.addressBook.allocateContactToClassGroup(classGroup, TypicalContacts.ALICE.getId());
+        this.addressBook.addContact(TypicalContacts.HOON);
+
+        Assertions.assertFalse(snapshot.getContactAssignmentList().get(0).isSubmitted());
+        Assertions.assertTrue(snapshot.findClassGroupByName(classGroup.getName()).getContactIdSet().isEmpty());
+        Assertions.assertEquals(contacts, snapshot.getContactList());
+    }
+
+    @Test
+    public void find_scansLists() {
+        AddressBookSnapshot snapshot = new AddressBookSnapshot(this.addressBook);
+        Assertions.assertSame(TypicalContacts.ALICE, snapshot.findContactById(TypicalContacts.ALICE.getId()));
+        Assertions.assertNull(snapshot.findContactById(TypicalContacts.HOON.getId()));
+        Assertions.assertSame(TypicalAssignments.ASSIGNMENT_ONE,
+                snapshot.findAssignmentById(TypicalAssignments.ASSIGNMENT_ONE.getId()));
+        Assertions.assertSame(TypicalAssignments.ASSIGNMENT_ONE,
+                snapshot.findAssignmentByName(TypicalAssignments.ASSIGNMENT_ONE.getName()));
+        Assertions.assertNull(snapshot.findClassGroupByName(new ClassGroupName("missing")));
+    }
+}
@@ -13,8 +13,10 @@ import cpp.logic.commands.CommandTestUtil;
 import cpp.model.assignment.Assignment;
 import cpp.model.assignment.AssignmentName;
 import cpp.model.assignment.ContactAssignment;
+import cpp.model.assignment.DeferredContactAssignments;
 import cpp.model.assignment.exceptions.ContactAssignmentNotFoundException;
 import cpp.model.classgroup.ClassGroup;
+import cpp.model.classgroup.ClassGroupName;
 import cpp.model.contact.Contact;
 import cpp.model.contact.exceptions.DuplicateContactException;
 import cpp.testutil.Assert;
@@ -194,7 +196,7 @@ public class AddressBookTest {
     public void removeContact_contactInAddressBook_removesContact() {
         this.addressBook.addContact(TypicalContacts.ALICE);
         Assertions.assertTrue(this.addressBook.hasContact(TypicalContacts.ALICE));
-        this.addressBook.removeContact(TypicalContacts.ALICE, List.of());
+        this.addressBook.removeContact(TypicalContacts.ALICE);
         Assertions.assertFalse(this.addressBook.hasContact(TypicalContacts.ALICE));
     }
 
@@ -204,7 +206,7 @@ public class AddressBookTest {
                 LocalDateTime.of(2020, 1, 1, 10, 0));
         this.addressBook.addAssignment(assignment);
         Assertions.assertTrue(this.addressBook.hasAssignment(assignment));
-        this.addressBook.removeAssignment(assignment, List.of());
+        this.addressBook.removeAssignment(assignment);
         Assertions.assertFalse(this.addressBook.hasAssignment(assignment));
     }
 
@@ -358,10 +360,35 @@ public class AddressBookTest {
             throw new UnsupportedOperationException("Method 'getContactAssignmentList' should not be called.");
         }
 
+        @Override
+        public DeferredContactAssignments getDeferredContactAssignments() {
+            return DeferredContactAssignments.NONE;
+        }
+
         @Override
         public ObservableList<ClassGroup> getClassGroupList() {
             throw new UnsupportedOperationException("Method 'getClassGroupList' should not be called.");
         }
+
+        @Override
+        public Contact findContactById(String id) {
+            throw new UnsupportedOperationException("Method 'findContactById' should not be called.");
+        }
+
+        @Override
+        public Assignment findAssignmentById(String id) {
+            throw new UnsupportedOperationException("Method 'findAssignmentById' should not be called.");
+        }
+
+        @Override
+        public Assignment findAssignmentByName(AssignmentName name) {
+            throw new UnsupportedOperationException("Method 'findAssignmentByName' should not be called.");
+        }
+
+        @Override
+        public ClassGroup findClassGroupByName(ClassGroupName name) {
+            throw new UnsupportedOperationException("Method 'findClassGroupByName' should not be called.");
+        }
     }
 
 }
@@ -3,6 +3,7 @@ package cpp.model;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.time.LocalDateTime;
+import java.util.List;
 
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
@@ -161,6 +162,33 @@ public class ModelManagerTest {
                 () -> this.modelManager.addContactAssignment(ca));
     }
 
+    @Test
+    public void deleteContact_contactWithContactAssignment_removesContactAssignment() {
+        ContactAssignment ca = new ContactAssignment(TypicalAssignments.ASSIGNMENT_ONE.getId(),
+                TypicalContacts.ALICE.getId());
+        this.modelManager.addContact(TypicalContacts.ALICE);
+        this.modelManager.addAssignment(TypicalAssignments.ASSIGNMENT_ONE);
+        this.modelManager.addContactAssignment(ca);
+
+        this.modelManager.deleteContact(TypicalContacts.ALICE);
+
+        Assertions.assertFalse(this.modelManager.getAddressBook().getContactAssignmentList().contains(ca));
+        Assertions.assertTrue(this.modelManager.getContactAssignmentsForContact(TypicalContacts.ALICE).isEmpty());
+    }
+
+    @Test
+    public void setAddressBook_withContactAssignments_updatesAssignmentLookups() {
+        ContactAssignment ca = new ContactAssignment(TypicalAssignments.ASSIGNMENT_ONE.getId(),
+                TypicalContacts.ALICE.getId());
+        AddressBook replacement = new AddressBookBuilder().withContact(TypicalContacts.ALICE)
+                .withAssignment(TypicalAssignments.ASSIGNMENT_ONE).build();
+        replacement.addContactAssignment(ca);
+
+        this.modelManager.setAddressBook(replacement);
+
+        Assertions.assertEquals(List.of(ca), this.modelManager.getContactAssignmentsForContact(TypicalContacts.ALICE));
+    }
+
     @Test
     public void addContactAssignment_nullContactAssignment_throwsNullPointerException() {
         Assert.assertThrows(NullPointerException.class,
@@ -0,0 +1,123 @@
+package cpp.model.assignment;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import cpp.testutil.AssignmentBuilder;
+
+public class AssignmentDeadlineIndexTest {
+
+    private static final Assignment JANUARY = new AssignmentBuilder().withName("January")
+            .withDeadline("15-01-2026 23:59").build();
+    private static final Assignment FEBRUARY = new AssignmentBuilder().withName("February")
+            .withDeadline("15-02-2026 23:59").build();
+    private static final Assignment ALSO_FEBRUARY = new AssignmentBuilder().withName("Also February")
+            .withDeadline("15-02-2026 23:59").build();
+    private static final Assignment MARCH = new AssignmentBuilder().withName("March")
+            .withDeadline("15-03-2026 23:59").build();
+
+    private final UniqueAssignmentList assignments = new UniqueAssignmentList();
+    private AssignmentDeadlineIndex index;
+
+    @BeforeEach
+    public void setUp() {
+        this.assignments.setAssignments(List.of(AssignmentDeadlineIndexTest.MARCH,
+                AssignmentDeadlineIndexTest.FEBRUARY, AssignmentDeadlineIndexTest.JANUARY,
+                AssignmentDeadlineIndexTest.ALSO_FEBRUARY));
+        this.index = this.assignments.getDeadlineIndex();
+    }
+
+    @Test
+    public void findInRange_inclusiveRange_returnsInDeadlineOrder() {
+        Assertions.assertEquals(List.of(AssignmentDeadlineIndexTest.JANUARY, AssignmentDeadlineIndexTest.FEBRUARY,
+                AssignmentDeadlineIndexTest.ALSO_FEBRUARY),
+                this.index.findInRange(LocalDateTime.of(2026, 1, 15, 23, 59), LocalDateTime.of(2026, 2, 15, 23, 59)));
+        Assertions.assertEquals(List.of(AssignmentDeadlineIndexTest.MARCH),
+                this.index.findInRange(LocalDateTime.of(2026, 3, 1, 0, 0), LocalDateTime.MAX));
+        Assertions.assertEquals(List.of(),
+                this.index.findInRange(LocalDateTime.of(2026, 4, 1, 0, 0), LocalDateTime.of(2026, 3, 1, 0, 0)));
+    }
+
+    @Test
+    public void findDueBefore_excludesDeadlineAtTime() {
+        Assertions.assertEquals(List.of(AssignmentDeadlineIndexTest.JANUARY),
+                this.index.findDueBefore(LocalDateTime.of(2026, 2, 15, 23, 59)));
+        Assertions.assertEquals(List.of(), this.index.findDueBefore(LocalDateTime.of(2026, 1, 1, 0, 0)));
+    }
+
+    @Test
+    public void findNextDue_returnsFirstCount() {
+        Assertions.assertEquals(List.of(AssignmentDeadlineIndexTest.FEBRUARY,
+                AssignmentDeadlineIndexTest.ALSO_FEBRUARY),
+                this.index.findNextDue(LocalDateTime.of(2026, 2, 1, 0, 0), 2));
+        Assertions.assertEquals(List.of(AssignmentDeadlineIndexTest.MARCH),
+                this.index.findNextDue(LocalDateTime.of(2026, 3, 1, 0, 0), 5));
+        Assertions.assertEquals(List.of(), this.index.findNextDue(LocalDateTime.MIN, 0));
+        Assertions.assertThrows(IllegalArgumentException.class, () ->
+                this.index.findNextDue(LocalDateTime.MIN, -1));
+    }
+
+    @Test
+    public void overduePredicate_findsAssignmentsDueBefore() {
+        AssignmentOverduePredicate predicate = new AssignmentOverduePredicate(LocalDateTime.of(2026, 2, 15, 23, 59));
+
+        Assertions.assertEquals(Set.of(AssignmentDeadlineIndexTest.JANUARY),
+                predicate.findCandidates(this.index).get());
+        Assertions.assertTrue(predicate.test(AssignmentDeadlineIndexTest.JANUARY));
+        Assertions.assertFalse(predicate.test(AssignmentDeadlineIndexTest.FEBRUARY));
+    }
+
+    @Test
+    public void dueNextPredicate_findsFirstCount() {
+        AssignmentDueNextPredicate predicate = new AssignmentDueNextPredicate(LocalDateTime.of(2026, 1, 16, 0, 0), 2);
+
+        Assertions.assertEquals(List.of(AssignmentDeadlineIndexTest.FEBRUARY,
+                AssignmentDeadlineIndexTest.ALSO_FEBRUARY), List.copyOf(predicate.findCandidates(this.index).get()));
+        Assertions.assertEquals(2, predicate.estimateCandidates(this.index));
+        Assertions.assertThrows(IllegalArgumentException.class, () ->
+                new AssignmentDueNextPredicate(LocalDateTime.MIN, -1));
+    }
+
+    @Test
+    public void listChanged_indexFollows() {
+        Assignment editedJanuary = new AssignmentBuilder(AssignmentDeadlineIndexTest.JANUARY)
+                .withDeadline("20-03-2026 10:00").build();
+        this.assignments.setAssignment(AssignmentDeadlineIndexTest.JANUARY, editedJanuary);
+        this.assignments.remove(AssignmentDeadlineIndexTest.FEBRUARY);
+
+        Assertions.assertEquals(List.of(AssignmentDeadlineIndexTest.ALSO_FEBRUARY, AssignmentDeadlineIndexTest.MARCH,
+                editedJanuary), this.index.findInRange(LocalDateTime.MIN, LocalDateTime.MAX));
+    }
+
+    @Test
+    public void filter_matchesSameAssignmentsAsPredicate() {
+        List<AssignmentSearchPredicate> predicates = List.of(
+                new AssignmentDeadlineInRangePredicate(LocalDateTime.of(2026, 2, 1, 0, 0), LocalDateTime.MAX),
+                new AssignmentDeadlineInRangePredicate(LocalDateTime.MIN, LocalDateTime.of(2026, 1, 31, 0, 0)),
+                new AssignmentNameContainsKeywordsPredicate("feb"));
+        for (AssignmentSearchPredicate predicate : predicates) {
+            Predicate<Assignment> filter = this.index.filter(predicate);
+            for (Assignment assignment : this.assignments) {
+                Assertions.assertEquals(predicate.test(assignment), filter.test(assignment), predicate + " "
+                        + assignment);
+            }
+        }
+    }
+
+    @Test
+    public void filter_assignmentAddedAfterFilterCreated_matchesNewAssignment() {
+        Predicate<Assignment> filter = this.index.filter(new AssignmentDeadlineInRangePredicate(
+                LocalDateTime.of(2026, 4, 1, 0, 0), LocalDateTime.MAX));
+        Assignment april = new AssignmentBuilder().withName("April").withDeadline("15-04-2026 23:59").build();
+        Assertions.assertFalse(filter.test(april));
+
+        this.assignments.add(april);
+        Assertions.assertTrue(filter.test(april));
+    }
+}
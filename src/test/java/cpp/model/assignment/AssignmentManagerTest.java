@@ -4,15 +4,21 @@ import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import cpp.model.AddressBook;
 import cpp.model.assignment.exceptions.ContactAssignmentNotFoundException;
 import cpp.model.assignment.exceptions.ContactAssignmentNotGradedException;
 import cpp.model.assignment.exceptions.ContactAssignmentNotSubmittedException;
+import cpp.testutil.AddressBookBuilder;
 import cpp.testutil.Assert;
+import cpp.testutil.AssignmentBuilder;
+import cpp.testutil.ContactBuilder;
 import cpp.testutil.TypicalAssignments;
 import cpp.testutil.TypicalContacts;
 
@@ -29,6 +35,76 @@ public class AssignmentManagerTest {
         this.ca2 = new ContactAssignment("A2", "C2");
     }
 
+    @Test
+    public void getContactAssignmentsWithContactsForAssignment_pairsRowsWithIndexedContacts() {
+        AddressBook addressBook = new AddressBookBuilder().withContact(TypicalContacts.ALICE).build();
+        ContactAssignment aliceRow = new ContactAssignment("A1", TypicalContacts.ALICE.getId());
+        ContactAssignment missingRow = new ContactAssignment("A1", "missing");
+        this.manager.registerContactAssignment(aliceRow);
+        this.manager.registerContactAssignment(missingRow);
+        this.manager.registerContactAssignment(this.ca2);
+
+        Assignment assignment = new AssignmentBuilder().withId("A1").build();
+        List<ContactAssignmentWithContact> result = this.manager
+                .getContactAssignmentsWithContactsForAssignment(assignment, addressBook);
+
+        Assertions.assertEquals(2, result.size());
+        for (ContactAssignmentWithContact row : result) {
+            if (row.getContactAssignment().equals(aliceRow)) {
+                Assertions.assertSame(TypicalContacts.ALICE, row.getContact());
+            } else {
+                Assertions.assertEquals(missingRow, row.getContactAssignment());
+                Assertions.assertNull(row.getContact());
+            }
+        }
+    }
+
+    @Test
+    public void getContactAssignmentsWithAssignmentsForContact_pairsRowsWithIndexedAssignments() {
+        AddressBook addressBook = new AddressBookBuilder().withAssignment(TypicalAssignments.ASSIGNMENT_ONE).build();
+        ContactAssignment row = new ContactAssignment(TypicalAssignments.ASSIGNMENT_ONE.getId(), "C1");
+        this.manager.registerContactAssignment(row);
+        this.manager.registerContactAssignment(this.ca2);
+
+        List<ContactAssignmentWithAssignment> result = this.manager
+                .getContactAssignmentsWithAssignmentsForContact(new ContactBuilder().withId("C1").build(), addressBook);
+
+        Assertions.assertEquals(1, result.size());
+        Assertions.assertEquals(row, result.get(0).getContactAssignment());
+        Assertions.assertSame(TypicalAssignments.ASSIGNMENT_ONE, result.get(0).getAssignment());
+    }
+
+    @Test
+    public void getContactAssignmentsWithAssignmentsForContact_archivedAssignment_leftOut() {
+        Assignment archived = new AssignmentBuilder().withId("A2").withName("Archived").withArchived(true)
+                .build();
+        AddressBook addressBook = new AddressBookBuilder().withAssignment(TypicalAssignments.ASSIGNMENT_ONE)
+                .withAssignment(archived).build();
+        ContactAssignment row = new ContactAssignment(TypicalAssignments.ASSIGNMENT_ONE.getId(), "C1");
+        this.manager.registerContactAssignment(row);
+        this.manager.registerContactAssignment(new ContactAssignment("A2", "C1"));
+
+        List<ContactAssignmentWithAssignment> result = this.manager
+                .getContactAssignmentsWithAssignmentsForContact(new ContactBuilder().withId("C1").build(), addressBook);
+
+        Assertions.assertEquals(1, result.size());
+        Assertions.assertEquals(row, result.get(0).getContactAssignment());
+    }
+
+    @Test
+    public void getContactAssignmentsForContact_deferredRows_loaded() {
+        ContactAssignmentStore store = new ContactAssignmentStore();
+        store.add(this.ca1);
+        store.setDeferred(new DeferredContactAssignments(Set.of("A3"),
+                assignmentId -> Optional.of(List.of(new ContactAssignment("A3", "C1")))));
+        AssignmentManager manager = new AssignmentManager(store);
+
+        List<ContactAssignment> result = manager.getContactAssignmentsForContact(
+                new ContactBuilder().withId("C1").build());
+
+        Assertions.assertEquals(Set.of(this.ca1, new ContactAssignment("A3", "C1")), Set.copyOf(result));
+    }
+
     @Test
     public void getContactAssignmentMappingForAssignment_withOneCa_success() {
         this.manager.registerContactAssignment(this.ca1);
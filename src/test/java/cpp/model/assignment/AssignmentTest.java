@@ -44,6 +44,25 @@ public class AssignmentTest {
         Assertions.assertNotEquals(a1, a2);
     }
 
+    @Test
+    public void equals_differentArchived_returnsFalse() {
+        Assignment a1 = new AssignmentBuilder().withId("id1").build();
+        Assignment a2 = new AssignmentBuilder().withId("id1").withArchived(true).build();
+        Assertions.assertNotEquals(a1, a2);
+    }
+
+    @Test
+    public void withArchived_keepsOtherFields() {
+        Assignment a = new AssignmentBuilder().withId("id1").withName("Archive Me").build();
+        Assignment archived = a.withArchived(true);
+
+        Assertions.assertTrue(archived.isArchived());
+        Assertions.assertEquals(a.getId(), archived.getId());
+        Assertions.assertEquals(a.getName(), archived.getName());
+        Assertions.assertEquals(a.getDeadline(), archived.getDeadline());
+        Assertions.assertEquals(a, archived.withArchived(false));
+    }
+
     @Test
     public void hashCode_sameIdNameDeadline_equal() {
         Assignment a1 = new AssignmentBuilder().withId("id1").withName("Same").withDeadline("13-12-2020 10:00")
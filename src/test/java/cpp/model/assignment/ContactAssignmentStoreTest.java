@@ -0,0 +1,242 @@
+package cpp.model.assignment;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import cpp.model.assignment.exceptions.ContactAssignmentNotFoundException;
+import cpp.model.assignment.exceptions.ContactAssignmentsNotLoadedException;
+import cpp.model.assignment.exceptions.DuplicateContactAssignmentException;
+import cpp.testutil.Assert;
+
+public class ContactAssignmentStoreTest {
+
+    private ContactAssignmentStore store;
+    private ContactAssignment a1c1;
+    private ContactAssignment a1c2;
+    private ContactAssignment a2c1;
+
+    @BeforeEach
+    public void setUp() {
+        this.store = new ContactAssignmentStore();
+        this.a1c1 = new ContactAssignment("A1", "C1");
+        this.a1c2 = new ContactAssignment("A1", "C2");
+        this.a2c1 = new ContactAssignment("A2", "C1");
+    }
+
+    @Test
+    public void add_duplicate_throwsDuplicateContactAssignmentException() {
+        this.store.add(this.a1c1);
+        Assert.assertThrows(DuplicateContactAssignmentException.class,
+                () -> this.store.add(new ContactAssignment("A1", "C1")));
+    }
+
+    @Test
+    public void add_updatesRowsAndBothIndexes() {
+        this.store.add(this.a1c1);
+        this.store.add(this.a1c2);
+
+        Assertions.assertTrue(this.store.contains(this.a1c1));
+        Assertions.assertSame(this.a1c2, this.store.get("A1", "C2"));
+        Assertions.assertEquals(2, this.store.getByAssignment("A1").size());
+        Assertions.assertSame(this.a1c1, this.store.getByContact("C1").get("A1"));
+        Assertions.assertEquals(Arrays.asList(this.a1c1, this.a1c2), this.store.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void get_missing_returnsNull() {
+        Assertions.assertNull(this.store.get("A1", "C1"));
+    }
+
+    @Test
+    public void remove_missing_throwsContactAssignmentNotFoundException() {
+        Assert.assertThrows(ContactAssignmentNotFoundException.class, () -> this.store.remove(this.a1c1));
+    }
+
+    @Test
+    public void remove_existing_updatesRowsAndBothIndexes() {
+        this.store.add(this.a1c1);
+        this.store.add(this.a2c1);
+
+        this.store.remove(this.a1c1);
+
+        Assertions.assertFalse(this.store.contains(this.a1c1));
+        Assertions.assertTrue(this.store.getByAssignment("A1").isEmpty());
+        Assertions.assertEquals(1, this.store.getByContact("C1").size());
+        Assertions.assertEquals(List.of(this.a2c1), this.store.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void removeByContact_removesEveryRowOfContact() {
+        this.store.add(this.a1c1);
+        this.store.add(this.a1c2);
+        this.store.add(this.a2c1);
+
+        List<ContactAssignment> removed = this.store.removeByContact("C1");
+
+        Assertions.assertEquals(2, removed.size());
+        Assertions.assertTrue(removed.containsAll(Arrays.asList(this.a1c1, this.a2c1)));
+        Assertions.assertTrue(this.store.getByContact("C1").isEmpty());
+        Assertions.assertTrue(this.store.getByAssignment("A2").isEmpty());
+        Assertions.assertEquals(List.of(this.a1c2), this.store.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void removeByAssignment_removesEveryRowOfAssignment() {
+        this.store.add(this.a1c1);
+        this.store.add(this.a1c2);
+        this.store.add(this.a2c1);
+
+        List<ContactAssignment> removed = this.store.removeByAssignment("A1");
+
+        Assertions.assertEquals(2, removed.size());
+        Assertions.assertTrue(this.store.getByAssignment("A1").isEmpty());
+        Assertions.assertTrue(this.store.getByContact("C2").isEmpty());
+        Assertions.assertEquals(List.of(this.a2c1), this.store.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void removeByAssignment_missing_returnsEmptyList() {
+        this.store.add(this.a1c1);
+        Assertions.assertTrue(this.store.removeByAssignment("missing").isEmpty());
+        Assertions.assertTrue(this.store.contains(this.a1c1));
+    }
+
+    @Test
+    public void setContactAssignments_rebuildsIndexes() {
+        this.store.add(this.a1c1);
+        this.store.setContactAssignments(Arrays.asList(this.a1c2, this.a2c1));
+
+        Assertions.assertNull(this.store.get("A1", "C1"));
+        Assertions.assertSame(this.a1c2, this.store.get("A1", "C2"));
+        Assertions.assertSame(this.a2c1, this.store.getByContact("C1").get("A2"));
+    }
+
+    @Test
+    public void setContactAssignments_duplicates_throwsDuplicateContactAssignmentException() {
+        Assert.assertThrows(DuplicateContactAssignmentException.class,
+                () -> this.store.setContactAssignments(Arrays.asList(this.a1c1, new ContactAssignment("A1", "C1"))));
+    }
+
+    @Test
+    public void assignmentManager_sharesStore() {
+        AssignmentManager manager = new AssignmentManager(this.store);
+        manager.registerContactAssignment(this.a1c1);
+        Assertions.assertTrue(this.store.contains(this.a1c1));
+
+        this.store.add(this.a2c1);
+        Assertions.assertSame(this.a2c1, manager.getContactAssignmentMappingForAssignment("C1").get("A2"));
+    }
+
+    @Test
+    public void equals() {
+        ContactAssignmentStore other = new ContactAssignmentStore();
+        this.store.add(this.a1c1);
+        other.add(new ContactAssignment("A1", "C1"));
+
+        Assertions.assertEquals(this.store, other);
+        Assertions.assertEquals(this.store.hashCode(), other.hashCode());
+
+        other.add(this.a1c2);
+        Assertions.assertNotEquals(this.store, other);
+        Assertions.assertNotEquals(this.store, null);
+    }
+
+    @Test
+    public void getByAssignment_deferred_loadsOnce() {
+        int[] loads = new int[1];
+        this.store.add(this.a2c1);
+        this.store.setDeferred(new DeferredContactAssignments(Set.of("A1"), assignmentId -> {
+            loads[0]++;
+            return Optional.of(Arrays.asList(this.a1c1, this.a1c2));
+        }));
+
+        Assertions.assertEquals(2, this.store.getByAssignment("A1").size());
+        Assertions.assertTrue(this.store.contains(this.a1c1));
+        Assertions.assertEquals(1, loads[0]);
+        Assertions.assertTrue(this.store.getDeferred().isEmpty());
+    }
+
+    @Test
+    public void getByContact_deferred_notLoaded() {
+        this.store.add(this.a2c1);
+        this.store.setDeferred(new DeferredContactAssignments(Set.of("A1"), assignmentId -> {
+            throw new AssertionError("deferred rows should not be loaded");
+        }));
+
+        Assertions.assertEquals(Map.of("A2", this.a2c1), this.store.getByContact("C1"));
+        Assertions.assertTrue(this.store.getDeferred().contains("A1"));
+    }
+
+    @Test
+    public void getHistoryByContact_deferred_loadsEveryDeferredAssignment() {
+        this.store.add(this.a2c1);
+        this.store.setDeferred(new DeferredContactAssignments(Set.of("A1"),
+                assignmentId -> Optional.of(Arrays.asList(this.a1c1, this.a1c2))));
+
+        Assertions.assertEquals(Map.of("A1", this.a1c1, "A2", this.a2c1), this.store.getHistoryByContact("C1"));
+        Assertions.assertTrue(this.store.getDeferred().isEmpty());
+    }
+
+    @Test
+    public void loadDeferred_failedLoad_staysDeferred() {
+        this.store.setDeferred(new DeferredContactAssignments(Set.of("A1"), assignmentId -> Optional.empty()));
+
+        Assertions.assertTrue(this.store.getByAssignment("A1").isEmpty());
+        Assertions.assertTrue(this.store.getHistoryByContact("C1").isEmpty());
+        Assertions.assertTrue(this.store.getDeferred().contains("A1"));
+    }
+
+    @Test
+    public void add_failedLoad_throwsContactAssignmentsNotLoadedException() {
+        this.store.setDeferred(new DeferredContactAssignments(Set.of("A1"), assignmentId -> Optional.empty()));
+
+        Assert.assertThrows(ContactAssignmentsNotLoadedException.class, () -> this.store.add(this.a1c1));
+        Assert.assertThrows(ContactAssignmentsNotLoadedException.class, () -> this.store.remove(this.a1c1));
+        Assert.assertThrows(ContactAssignmentsNotLoadedException.class, () ->
+                this.store.removeAll(List.of(this.a1c1)));
+        Assertions.assertFalse(this.store.iterator().hasNext());
+
+        // other assignments can still be changed
+        this.store.add(this.a2c1);
+        Assertions.assertTrue(this.store.contains(this.a2c1));
+    }
+
+    @Test
+    public void loadDeferred_rowsAlreadyInStore_keptOverLoadedRows() {
+        ContactAssignment existing = new ContactAssignment("A1", "C1");
+        this.store.add(existing);
+        this.store.setDeferred(new DeferredContactAssignments(Set.of("A1"),
+                assignmentId -> Optional.of(Arrays.asList(this.a1c1, this.a1c2))));
+
+        Map<String, ContactAssignment> rows = this.store.getByAssignment("A1");
+        Assertions.assertEquals(2, rows.size());
+        Assertions.assertSame(existing, rows.get("C1"));
+    }
+
+    @Test
+    public void loadDeferred_unknownContact_rowDropped() {
+        ContactAssignmentStore knownStore = new ContactAssignmentStore("C1"::equals);
+        knownStore.setDeferred(new DeferredContactAssignments(Set.of("A1"),
+                assignmentId -> Optional.of(Arrays.asList(this.a1c1, this.a1c2, this.a2c1))));
+
+        Assertions.assertEquals(Map.of("C1", this.a1c1), knownStore.getByAssignment("A1"));
+        Assertions.assertEquals(List.of(this.a1c1), knownStore.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void removeByAssignment_deferred_droppedWithoutLoading() {
+        this.store.setDeferred(new DeferredContactAssignments(Set.of("A1"), assignmentId -> {
+            throw new AssertionError("should not load");
+        }));
+
+        Assertions.assertTrue(this.store.removeByAssignment("A1").isEmpty());
+        Assertions.assertTrue(this.store.getDeferred().isEmpty());
+    }
+}
@@ -137,4 +137,17 @@ public class ContactAssignmentTest {
         Assertions.assertEquals(75, ca.getScore());
     }
 
+    @Test
+    public void copy_keepsStateAndVersionUntilModified() {
+        ContactAssignment ca = new ContactAssignment("a1", "c1");
+        ContactAssignment copy = ca.copy();
+        Assertions.assertEquals(ca, copy);
+        Assertions.assertEquals(ca.getVersion(), copy.getVersion());
+
+        copy.markSubmitted(LocalDateTime.now());
+        Assertions.assertFalse(ca.isSubmitted());
+        Assertions.assertNotEquals(ca.getVersion(), copy.getVersion());
+        Assertions.assertNotEquals(ca.getVersion(), new ContactAssignment("a1", "c1").getVersion());
+    }
+
 }
@@ -38,6 +38,23 @@ public class UniqueAssignmentListTest {
         Assertions.assertTrue(this.uniqueAssignmentList.containsId(TypicalAssignments.ASSIGNMENT_ONE.getId()));
     }
 
+    @Test
+    public void findById_tracksAddSetAndRemove() {
+        String id = TypicalAssignments.ASSIGNMENT_ONE.getId();
+        Assertions.assertNull(this.uniqueAssignmentList.findById(id));
+
+        this.uniqueAssignmentList.add(TypicalAssignments.ASSIGNMENT_ONE);
+        Assertions.assertSame(TypicalAssignments.ASSIGNMENT_ONE, this.uniqueAssignmentList.findById(id));
+
+        Assignment edited = new AssignmentBuilder(TypicalAssignments.ASSIGNMENT_ONE).withName("Renamed").build();
+        this.uniqueAssignmentList.setAssignment(TypicalAssignments.ASSIGNMENT_ONE, edited);
+        Assertions.assertSame(edited, this.uniqueAssignmentList.findById(id));
+
+        this.uniqueAssignmentList.remove(edited);
+        Assertions.assertNull(this.uniqueAssignmentList.findById(id));
+        Assertions.assertFalse(this.uniqueAssignmentList.containsId(id));
+    }
+
     @Test
     public void contains_assignmentNotInList_returnsFalse() {
         Assertions.assertFalse(this.uniqueAssignmentList.contains(TypicalAssignments.ASSIGNMENT_ONE));
@@ -57,6 +74,37 @@ public class UniqueAssignmentListTest {
         Assertions.assertTrue(this.uniqueAssignmentList.contains(edited));
     }
 
+    @Test
+    public void findByName_nullName_throwsNullPointerException() {
+        Assert.assertThrows(NullPointerException.class, () -> this.uniqueAssignmentList.findByName(null));
+    }
+
+    @Test
+    public void findByName_differentCase_returnsAssignment() {
+        this.uniqueAssignmentList.add(TypicalAssignments.ASSIGNMENT_ONE);
+        AssignmentName name = new AssignmentName(TypicalAssignments.ASSIGNMENT_ONE.getName().fullName.toUpperCase());
+        Assertions.assertSame(TypicalAssignments.ASSIGNMENT_ONE, this.uniqueAssignmentList.findByName(name));
+    }
+
+    @Test
+    public void findByName_followsMutations() {
+        AssignmentName originalName = TypicalAssignments.ASSIGNMENT_ONE.getName();
+        Assertions.assertNull(this.uniqueAssignmentList.findByName(originalName));
+
+        this.uniqueAssignmentList.add(TypicalAssignments.ASSIGNMENT_ONE);
+        Assignment renamed = new AssignmentBuilder(TypicalAssignments.ASSIGNMENT_ONE).withName("Renamed").build();
+        this.uniqueAssignmentList.setAssignment(TypicalAssignments.ASSIGNMENT_ONE, renamed);
+        Assertions.assertNull(this.uniqueAssignmentList.findByName(originalName));
+        Assertions.assertSame(renamed, this.uniqueAssignmentList.findByName(renamed.getName()));
+
+        this.uniqueAssignmentList.remove(renamed);
+        Assertions.assertNull(this.uniqueAssignmentList.findByName(renamed.getName()));
+
+        this.uniqueAssignmentList.setAssignments(Collections.singletonList(TypicalAssignments.ASSIGNMENT_TWO));
+        Assertions.assertSame(TypicalAssignments.ASSIGNMENT_TWO,
+                this.uniqueAssignmentList.findByName(TypicalAssignments.ASSIGNMENT_TWO.getName()));
+    }
+
     @Test
     public void add_nullAssignment_throwsNullPointerException() {
         Assert.assertThrows(NullPointerException.class, () -> this.uniqueAssignmentList.add(null));
@@ -1,6 +1,8 @@
 package cpp.model.assignment;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
 
@@ -9,6 +11,7 @@ import org.junit.jupiter.api.Test;
 
 import cpp.model.assignment.exceptions.ContactAssignmentNotFoundException;
 import cpp.model.assignment.exceptions.DuplicateContactAssignmentException;
+import javafx.collections.ListChangeListener;
 
 public class UniqueContactAssignmentListTest {
     private final UniqueContactAssignmentList uniqueContactAssignmentList = new UniqueContactAssignmentList();
@@ -71,6 +74,25 @@ public class UniqueContactAssignmentListTest {
         Assertions.assertTrue(!this.uniqueContactAssignmentList.contains(ca));
     }
 
+    @Test
+    public void remove_firstOfSeveralRows_lastRowTakesItsPlace() {
+        ContactAssignment ca1 = new ContactAssignment("assignmentId1", "contactId1");
+        ContactAssignment ca2 = new ContactAssignment("assignmentId1", "contactId2");
+        ContactAssignment ca3 = new ContactAssignment("assignmentId2", "contactId1");
+        this.uniqueContactAssignmentList.add(ca1);
+        this.uniqueContactAssignmentList.add(ca2);
+        this.uniqueContactAssignmentList.add(ca3);
+
+        this.uniqueContactAssignmentList.remove(ca1);
+        Assertions.assertEquals(Arrays.asList(ca3, ca2),
+                this.uniqueContactAssignmentList.asUnmodifiableObservableList());
+
+        // the moved row is still found at its new position
+        this.uniqueContactAssignmentList.remove(ca3);
+        Assertions.assertEquals(Collections.singletonList(ca2),
+                this.uniqueContactAssignmentList.asUnmodifiableObservableList());
+    }
+
     @Test
     public void removeMultiple_nullList_throwsNullPointerException() {
         Assertions.assertThrows(NullPointerException.class,
@@ -93,6 +115,63 @@ public class UniqueContactAssignmentListTest {
         Assertions.assertTrue(!this.uniqueContactAssignmentList.contains(ca2));
     }
 
+    @Test
+    public void removeAll_nullCollection_throwsNullPointerException() {
+        Assertions.assertThrows(NullPointerException.class,
+                () -> this.uniqueContactAssignmentList.removeAll(null));
+    }
+
+    @Test
+    public void removeAll_someMissing_removesPresentOnes() {
+        ContactAssignment ca1 = new ContactAssignment("assignmentId1", "contactId1");
+        ContactAssignment ca2 = new ContactAssignment("assignmentId1", "contactId2");
+        ContactAssignment ca3 = new ContactAssignment("assignmentId2", "contactId1");
+        ContactAssignment missing = new ContactAssignment("assignmentId3", "contactId3");
+        this.uniqueContactAssignmentList.add(ca1);
+        this.uniqueContactAssignmentList.add(ca2);
+        this.uniqueContactAssignmentList.add(ca3);
+
+        this.uniqueContactAssignmentList.removeAll(Arrays.asList(ca1, missing, ca3));
+
+        Assertions.assertEquals(Collections.singletonList(ca2),
+                this.uniqueContactAssignmentList.asUnmodifiableObservableList());
+        Assertions.assertFalse(this.uniqueContactAssignmentList.contains(ca1));
+        Assertions.assertFalse(this.uniqueContactAssignmentList.contains(ca3));
+    }
+
+    @Test
+    public void removeAll_multipleRows_firesSingleChangeEvent() {
+        List<ContactAssignment> toRemove = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            ContactAssignment ca = new ContactAssignment("assignmentId", "contactId" + i);
+            this.uniqueContactAssignmentList.add(ca);
+            if (i % 2 == 0) {
+                toRemove.add(ca);
+            }
+        }
+        int[] changeCount = {0};
+        this.uniqueContactAssignmentList.asUnmodifiableObservableList().addListener(
+                (ListChangeListener<ContactAssignment>) change -> changeCount[0]++);
+
+        this.uniqueContactAssignmentList.removeAll(toRemove);
+
+        Assertions.assertEquals(1, changeCount[0]);
+        Assertions.assertEquals(5, this.uniqueContactAssignmentList.asUnmodifiableObservableList().size());
+    }
+
+    @Test
+    public void removeAll_nothingToRemove_firesNoChangeEvent() {
+        this.uniqueContactAssignmentList.add(new ContactAssignment("assignmentId", "contactId"));
+        int[] changeCount = {0};
+        this.uniqueContactAssignmentList.asUnmodifiableObservableList().addListener(
+                (ListChangeListener<ContactAssignment>) change -> changeCount[0]++);
+
+        this.uniqueContactAssignmentList.removeAll(
+                Collections.singletonList(new ContactAssignment("otherAssignmentId", "contactId")));
+
+        Assertions.assertEquals(0, changeCount[0]);
+    }
+
     @Test
     public void setContactAssignments_nullUniqueContactAssignmentList_throwsNullPointerException() {
         Assertions.assertThrows(NullPointerException.class,
@@ -182,6 +261,19 @@ public class UniqueContactAssignmentListTest {
         Assertions.assertTrue(list1.equals(list2));
         Assertions.assertTrue(list1.equals(list1));
         Assertions.assertFalse(list1.equals(null));
+
+        // same rows in a different order -> returns true
+        UniqueContactAssignmentList reordered = new UniqueContactAssignmentList();
+        reordered.add(ca2);
+        reordered.add(ca1);
+        Assertions.assertTrue(list1.equals(reordered));
+        Assertions.assertEquals(list1.hashCode(), reordered.hashCode());
+
+        // different rows -> returns false
+        UniqueContactAssignmentList different = new UniqueContactAssignmentList();
+        different.add(ca1);
+        different.add(new ContactAssignment("contactId3", "assignmentId3"));
+        Assertions.assertFalse(list1.equals(different));
     }
 
     @Test
@@ -93,4 +93,18 @@ public class ClassGroupTest {
         String contactId = "contactId";
         Assertions.assertThrows(ContactNotAllocatedClassGroupException.class, () -> cg.unallocateContact(contactId));
     }
+
+    @Test
+    public void copy_keepsContactsAndVersionUntilModified() {
+        ClassGroup cg = new ClassGroupBuilder().build();
+        cg.allocateContact("contactId");
+        ClassGroup copy = cg.copy();
+        Assertions.assertEquals(cg, copy);
+        Assertions.assertEquals(cg.getContactIdSet(), copy.getContactIdSet());
+        Assertions.assertEquals(cg.getVersion(), copy.getVersion());
+
+        copy.unallocateContact("contactId");
+        Assertions.assertTrue(cg.getContactIdSet().contains("contactId"));
+        Assertions.assertNotEquals(cg.getVersion(), copy.getVersion());
+    }
 }
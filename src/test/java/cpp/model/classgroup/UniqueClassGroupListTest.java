@@ -8,6 +8,8 @@ import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
 import cpp.model.classgroup.exceptions.ClassGroupNotFoundException;
+import cpp.model.classgroup.exceptions.ContactAlreadyAllocatedClassGroupException;
+import cpp.model.classgroup.exceptions.ContactNotAllocatedClassGroupException;
 import cpp.model.classgroup.exceptions.DuplicateClassGroupException;
 import cpp.testutil.Assert;
 import cpp.testutil.ClassGroupBuilder;
@@ -42,6 +44,32 @@ public class UniqueClassGroupListTest {
         Assertions.assertTrue(this.uniqueClassGroupList.contains(sameNameDifferentId));
     }
 
+    @Test
+    public void findByName_nullName_throwsNullPointerException() {
+        Assert.assertThrows(NullPointerException.class, () -> this.uniqueClassGroupList.findByName(null));
+    }
+
+    @Test
+    public void findByName_followsMutations() {
+        ClassGroupName originalName = TypicalClassGroups.CLASS_GROUP_ONE.getName();
+        Assertions.assertNull(this.uniqueClassGroupList.findByName(originalName));
+
+        this.uniqueClassGroupList.add(TypicalClassGroups.CLASS_GROUP_ONE);
+        Assertions.assertSame(TypicalClassGroups.CLASS_GROUP_ONE, this.uniqueClassGroupList.findByName(originalName));
+
+        ClassGroup renamed = new ClassGroupBuilder(TypicalClassGroups.CLASS_GROUP_ONE).withName("CS3230T3").build();
+        this.uniqueClassGroupList.setClassGroup(TypicalClassGroups.CLASS_GROUP_ONE, renamed);
+        Assertions.assertNull(this.uniqueClassGroupList.findByName(originalName));
+        Assertions.assertSame(renamed, this.uniqueClassGroupList.findByName(renamed.getName()));
+
+        this.uniqueClassGroupList.remove(renamed);
+        Assertions.assertNull(this.uniqueClassGroupList.findByName(renamed.getName()));
+
+        this.uniqueClassGroupList.setClassGroups(Collections.singletonList(TypicalClassGroups.CLASS_GROUP_TWO));
+        Assertions.assertSame(TypicalClassGroups.CLASS_GROUP_TWO,
+                this.uniqueClassGroupList.findByName(TypicalClassGroups.CLASS_GROUP_TWO.getName()));
+    }
+
     @Test
     public void add_nullClassGroup_throwsNullPointerException() {
         Assert.assertThrows(NullPointerException.class, () -> this.uniqueClassGroupList.add(null));
@@ -121,6 +149,63 @@ public class UniqueClassGroupListTest {
         Assertions.assertEquals(expected, this.uniqueClassGroupList);
     }
 
+    @Test
+    public void allocateContact_classGroupNotInList_throwsClassGroupNotFoundException() {
+        Assert.assertThrows(ClassGroupNotFoundException.class, () -> this.uniqueClassGroupList
+                .allocateContact(TypicalClassGroups.CLASS_GROUP_THREE, TypicalContacts.ALICE.getId()));
+    }
+
+    @Test
+    public void allocateContact_alreadyAllocated_throwsContactAlreadyAllocatedClassGroupException() {
+        ClassGroup classGroup = new ClassGroupBuilder().withContactIds(TypicalContacts.ALICE.getId()).build();
+        this.uniqueClassGroupList.add(classGroup);
+        Assert.assertThrows(ContactAlreadyAllocatedClassGroupException.class,
+                () -> this.uniqueClassGroupList.allocateContact(classGroup, TypicalContacts.ALICE.getId()));
+        Assertions.assertEquals(List.of(classGroup),
+                this.uniqueClassGroupList.getClassGroupsForContact(TypicalContacts.ALICE.getId()));
+    }
+
+    @Test
+    public void getClassGroupsForContact_followsAllocationsAndUnallocations() {
+        String aliceId = TypicalContacts.ALICE.getId();
+        ClassGroup classGroupOne = new ClassGroupBuilder().withId("id1").withName("CS2101T10").build();
+        ClassGroup classGroupTwo = new ClassGroupBuilder().withId("id2").withName("CS3230T3").build();
+        this.uniqueClassGroupList.add(classGroupOne);
+        this.uniqueClassGroupList.add(classGroupTwo);
+        Assertions.assertTrue(this.uniqueClassGroupList.getClassGroupsForContact(aliceId).isEmpty());
+
+        this.uniqueClassGroupList.allocateContact(classGroupTwo, aliceId);
+        this.uniqueClassGroupList.allocateContact(classGroupOne, aliceId);
+        Assertions.assertEquals(List.of(classGroupTwo, classGroupOne),
+                this.uniqueClassGroupList.getClassGroupsForContact(aliceId));
+        Assertions.assertTrue(classGroupOne.getContactIdSet().contains(aliceId));
+
+        this.uniqueClassGroupList.unallocateContact(classGroupTwo, aliceId);
+        Assertions.assertEquals(List.of(classGroupOne), this.uniqueClassGroupList.getClassGroupsForContact(aliceId));
+        Assert.assertThrows(ContactNotAllocatedClassGroupException.class,
+                () -> this.uniqueClassGroupList.unallocateContact(classGroupTwo, aliceId));
+    }
+
+    @Test
+    public void getClassGroupsForContact_followsClassGroupReplacement() {
+        String aliceId = TypicalContacts.ALICE.getId();
+        String bobId = TypicalContacts.BOB.getId();
+        ClassGroup classGroup = new ClassGroupBuilder().withId("id1").withName("CS2101T10")
+                .withContactIds(aliceId).build();
+        this.uniqueClassGroupList.add(classGroup);
+
+        ClassGroup edited = new ClassGroupBuilder(classGroup).withName("CS3230T3").withContactIds(bobId).build();
+        this.uniqueClassGroupList.setClassGroup(classGroup, edited);
+        Assertions.assertTrue(this.uniqueClassGroupList.getClassGroupsForContact(aliceId).isEmpty());
+        Assertions.assertEquals(List.of(edited), this.uniqueClassGroupList.getClassGroupsForContact(bobId));
+
+        this.uniqueClassGroupList.remove(edited);
+        Assertions.assertTrue(this.uniqueClassGroupList.getClassGroupsForContact(bobId).isEmpty());
+
+        this.uniqueClassGroupList.setClassGroups(List.of(classGroup));
+        Assertions.assertEquals(List.of(classGroup), this.uniqueClassGroupList.getClassGroupsForContact(aliceId));
+    }
+
     @Test
     public void unallocateContactFromAllClassGroups_validContact_unallocatesContactFromAllClassGroups() {
         ClassGroup classGroupOne = new ClassGroupBuilder().withId("id1").withName("CS2101T10")
@@ -138,6 +223,10 @@ public class UniqueClassGroupListTest {
         expected.add(new ClassGroupBuilder(classGroupThree).withContactIds().build());
 
         Assertions.assertEquals(expected, this.uniqueClassGroupList);
+        Assertions.assertTrue(this.uniqueClassGroupList.getClassGroupsForContact(TypicalContacts.ALICE.getId())
+                .isEmpty());
+        Assertions.assertEquals(List.of(classGroupTwo),
+                this.uniqueClassGroupList.getClassGroupsForContact(TypicalContacts.BOB.getId()));
     }
 
     @Test
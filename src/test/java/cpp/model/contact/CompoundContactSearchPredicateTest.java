@@ -0,0 +1,127 @@
+package cpp.model.contact;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import cpp.model.tag.Tag;
+import cpp.testutil.ContactBuilder;
+
+public class CompoundContactSearchPredicateTest {
+
+    private static final Contact ALICE = new ContactBuilder().withId("alice")
+            .withName("Alice Tan").withPhone("94351253")
+            .withEmail("alice@example.com").withTags("friends").build();
+    private static final Contact BOB = new ContactBuilder().withId("bob")
+            .withName("Bob Tan").withPhone("98765432")
+            .withEmail("bob@example.com").withTags("friends", "family").build();
+    private static final Contact CARL = new ContactBuilder().withId("carl")
+            .withName("Carl Kurz").withPhone("95352563")
+            .withEmail("carl@school.edu").withTags().build();
+
+    private final UniqueContactList contacts = new UniqueContactList();
+    private ContactSearchIndex index;
+
+    @BeforeEach
+    public void setUp() {
+        this.contacts.setContacts(List.of(CompoundContactSearchPredicateTest.ALICE,
+                CompoundContactSearchPredicateTest.BOB, CompoundContactSearchPredicateTest.CARL));
+        this.index = this.contacts.getSearchIndex();
+    }
+
+    @Test
+    public void constructor_invalidOperands_throwsIllegalArgumentException() {
+        Assertions.assertThrows(IllegalArgumentException.class, () -> CompoundContactSearchPredicate.allOf(List.of()));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> CompoundContactSearchPredicate.anyOf(List.of()));
+        Assertions.assertThrows(NullPointerException.class, () -> CompoundContactSearchPredicate.not(null));
+    }
+
+    @Test
+    public void test_combinesOperands() {
+        ContactSearchPredicate tan = new ContactNameContainsKeywordsPredicate("tan");
+        ContactSearchPredicate family = new ContactHasTagsPredicate(List.of(Set.of(Tag.of("family"))));
+
+        ContactSearchPredicate tanAndNotFamily = CompoundContactSearchPredicate.allOf(List.of(tan,
+                CompoundContactSearchPredicate.not(family)));
+        Assertions.assertTrue(tanAndNotFamily.test(CompoundContactSearchPredicateTest.ALICE));
+        Assertions.assertFalse(tanAndNotFamily.test(CompoundContactSearchPredicateTest.BOB));
+        Assertions.assertFalse(tanAndNotFamily.test(CompoundContactSearchPredicateTest.CARL));
+
+        ContactSearchPredicate kurzOrFamily = CompoundContactSearchPredicate.anyOf(List.of(
+                new ContactNameContainsKeywordsPredicate("kurz"), family));
+        Assertions.assertFalse(kurzOrFamily.test(CompoundContactSearchPredicateTest.ALICE));
+        Assertions.assertTrue(kurzOrFamily.test(CompoundContactSearchPredicateTest.BOB));
+        Assertions.assertTrue(kurzOrFamily.test(CompoundContactSearchPredicateTest.CARL));
+    }
+
+    @Test
+    public void findCandidates_allOf_looksUpMostSelectiveOperand() {
+        ContactSearchPredicate example = new ContactEmailMatchesKeywordsPredicate("example");
+        ContactSearchPredicate alice = new ContactNameContainsKeywordsPredicate("alice");
+        Assertions.assertEquals(2, example.estimateCandidates(this.index));
+        Assertions.assertEquals(1, alice.estimateCandidates(this.index));
+
+        Assertions.assertEquals(Optional.of(Set.of(CompoundContactSearchPredicateTest.ALICE)),
+                CompoundContactSearchPredicate.allOf(List.of(example, alice)).findCandidates(this.index));
+
+        // operands that cannot be looked up are left to be tested against the candidates
+        Assertions.assertEquals(Optional.of(Set.of(CompoundContactSearchPredicateTest.ALICE,
+                CompoundContactSearchPredicateTest.BOB)), CompoundContactSearchPredicate.allOf(List.of(
+                        new ContactNameContainsKeywordsPredicate("an"),
+                        CompoundContactSearchPredicate.not(alice), example)).findCandidates(this.index));
+        Assertions.assertEquals(Optional.empty(), CompoundContactSearchPredicate.allOf(List.of(
+                new ContactNameContainsKeywordsPredicate("an"), CompoundContactSearchPredicate.not(alice)))
+                .findCandidates(this.index));
+    }
+
+    @Test
+    public void findCandidates_anyOf_unionsOperandsOnlyIfAllCanBeLookedUp() {
+        ContactSearchPredicate alice = new ContactNameContainsKeywordsPredicate("alice");
+        ContactSearchPredicate family = new ContactHasTagsPredicate(List.of(Set.of(Tag.of("family"))));
+        Assertions.assertEquals(Optional.of(Set.of(CompoundContactSearchPredicateTest.ALICE,
+                CompoundContactSearchPredicateTest.BOB)),
+                CompoundContactSearchPredicate.anyOf(List.of(alice, family)).findCandidates(this.index));
+        Assertions.assertEquals(Optional.empty(), CompoundContactSearchPredicate.anyOf(List.of(alice,
+                new ContactPhoneMatchesKeywordsPredicate("53"))).findCandidates(this.index));
+        Assertions.assertEquals(Optional.empty(),
+                CompoundContactSearchPredicate.not(alice).findCandidates(this.index));
+    }
+
+    @Test
+    public void filter_matchesSameContactsAsPredicate() {
+        ContactSearchPredicate tan = new ContactNameContainsKeywordsPredicate("tan");
+        ContactSearchPredicate friends = new ContactHasTagsPredicate(List.of(Set.of(Tag.of("friends"))));
+        ContactSearchPredicate phone = new ContactPhoneMatchesKeywordsPredicate("535");
+        List<ContactSearchPredicate> predicates = List.of(
+                CompoundContactSearchPredicate.allOf(List.of(tan, friends, phone)),
+                CompoundContactSearchPredicate.allOf(List.of(friends, CompoundContactSearchPredicate.not(tan))),
+                CompoundContactSearchPredicate.anyOf(List.of(phone, CompoundContactSearchPredicate.allOf(
+                        List.of(tan, CompoundContactSearchPredicate.not(friends))))),
+                CompoundContactSearchPredicate.not(CompoundContactSearchPredicate.anyOf(List.of(tan, phone))));
+        for (ContactSearchPredicate predicate : predicates) {
+            Predicate<Contact> filter = this.index.filter(predicate);
+            for (Contact contact : this.contacts) {
+                Assertions.assertEquals(predicate.test(contact), filter.test(contact), predicate + " " + contact);
+            }
+        }
+    }
+
+    @Test
+    public void equals() {
+        ContactSearchPredicate tan = new ContactNameContainsKeywordsPredicate("tan");
+        ContactSearchPredicate kurz = new ContactNameContainsKeywordsPredicate("kurz");
+        ContactSearchPredicate allOf = CompoundContactSearchPredicate.allOf(List.of(tan, kurz));
+
+        Assertions.assertTrue(allOf.equals(allOf));
+        Assertions.assertTrue(allOf.equals(CompoundContactSearchPredicate.allOf(List.of(tan, kurz))));
+        Assertions.assertFalse(allOf.equals(CompoundContactSearchPredicate.anyOf(List.of(tan, kurz))));
+        Assertions.assertFalse(allOf.equals(CompoundContactSearchPredicate.allOf(List.of(kurz, tan))));
+        Assertions.assertFalse(allOf.equals(tan));
+        Assertions.assertFalse(allOf.equals(null));
+    }
+}
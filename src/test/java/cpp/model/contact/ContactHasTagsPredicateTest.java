@@ -0,0 +1,67 @@
+package cpp.model.contact;
+
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import cpp.model.tag.Tag;
+import cpp.testutil.Assert;
+import cpp.testutil.ContactBuilder;
+
+public class ContactHasTagsPredicateTest {
+
+    private static final Set<Tag> FRIENDS_AND_OWES_MONEY = Set.of(Tag.of("friends"), Tag.of("owesMoney"));
+    private static final Set<Tag> FAMILY = Set.of(Tag.of("family"));
+
+    @Test
+    public void constructor_emptyGroup_throwsIllegalArgumentException() {
+        Assert.assertThrows(IllegalArgumentException.class, () -> new ContactHasTagsPredicate(List.of()));
+        Assert.assertThrows(IllegalArgumentException.class, () ->
+                new ContactHasTagsPredicate(List.of(ContactHasTagsPredicateTest.FAMILY, Set.of())));
+    }
+
+    @Test
+    public void test_allTagsOfAnyGroup_returnsTrue() {
+        ContactHasTagsPredicate predicate = new ContactHasTagsPredicate(List.of(
+                ContactHasTagsPredicateTest.FRIENDS_AND_OWES_MONEY, ContactHasTagsPredicateTest.FAMILY));
+
+        Assertions.assertTrue(predicate.test(new ContactBuilder().withTags("Friends", "owesmoney", "tutee").build()));
+        Assertions.assertTrue(predicate.test(new ContactBuilder().withTags("family").build()));
+    }
+
+    @Test
+    public void test_noCompleteGroup_returnsFalse() {
+        ContactHasTagsPredicate predicate = new ContactHasTagsPredicate(List.of(
+                ContactHasTagsPredicateTest.FRIENDS_AND_OWES_MONEY, ContactHasTagsPredicateTest.FAMILY));
+
+        Assertions.assertFalse(predicate.test(new ContactBuilder().withTags("friends").build()));
+        Assertions.assertFalse(predicate.test(new ContactBuilder().withTags().build()));
+    }
+
+    @Test
+    public void findCandidates_unionOfGroups() {
+        Contact alice = new ContactBuilder().withId("alice").withName("Alice").withTags("friends", "owesMoney").build();
+        Contact bob = new ContactBuilder().withId("bob").withName("Bob").withTags("friends").build();
+        Contact carl = new ContactBuilder().withId("carl").withName("Carl").withTags("family").build();
+        UniqueContactList contacts = new UniqueContactList();
+        contacts.setContacts(List.of(alice, bob, carl));
+
+        ContactHasTagsPredicate predicate = new ContactHasTagsPredicate(List.of(
+                ContactHasTagsPredicateTest.FRIENDS_AND_OWES_MONEY, ContactHasTagsPredicateTest.FAMILY));
+        Assertions.assertEquals(Set.of(alice, carl), predicate.findCandidates(contacts.getSearchIndex()).get());
+    }
+
+    @Test
+    public void equals() {
+        ContactHasTagsPredicate predicate = new ContactHasTagsPredicate(
+                List.of(ContactHasTagsPredicateTest.FAMILY));
+
+        Assertions.assertTrue(predicate.equals(predicate));
+        Assertions.assertTrue(predicate.equals(new ContactHasTagsPredicate(List.of(Set.of(Tag.of("Family"))))));
+        Assertions.assertFalse(predicate.equals(null));
+        Assertions.assertFalse(predicate.equals(new ContactHasTagsPredicate(
+                List.of(ContactHasTagsPredicateTest.FRIENDS_AND_OWES_MONEY))));
+    }
+}
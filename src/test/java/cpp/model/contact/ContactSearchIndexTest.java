@@ -0,0 +1,116 @@
+package cpp.model.contact;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import cpp.model.tag.Tag;
+import cpp.testutil.ContactBuilder;
+import cpp.testutil.TypicalContacts;
+
+public class ContactSearchIndexTest {
+
+    private final UniqueContactList contacts = new UniqueContactList();
+
+    @Test
+    public void findCandidates_includesEveryContactContainingSearchString() {
+        this.contacts.setContacts(TypicalContacts.getTypicalContacts());
+        ContactSearchIndex index = this.contacts.getSearchIndex();
+
+        for (String searchString : List.of("ali", "meier", "mei", "e p", "carl kurz", "zzz")) {
+            ContactNameContainsKeywordsPredicate predicate = new ContactNameContainsKeywordsPredicate(searchString);
+            Set<Contact> candidates = index.findCandidates(ContactSearchIndex.Field.NAME, searchString).get();
+            for (Contact contact : this.contacts) {
+                if (predicate.test(contact)) {
+                    Assertions.assertTrue(candidates.contains(contact), searchString + " " + contact);
+                }
+            }
+        }
+    }
+
+    @Test
+    public void findCandidates_shortSearchString_returnsEmptyOptional() {
+        this.contacts.setContacts(TypicalContacts.getTypicalContacts());
+        Assertions.assertEquals(Optional.empty(),
+                this.contacts.getSearchIndex().findCandidates(ContactSearchIndex.Field.NAME, "al"));
+    }
+
+    @Test
+    public void findCandidates_phoneAndEmail_searchesEachField() {
+        Contact alice = new ContactBuilder().withId("alice").withName("Alice").withPhone("94351253")
+                .withEmail("alice@example.com").build();
+        Contact bob = new ContactBuilder().withId("bob").withName("Bob").withPhone("98765432")
+                .withEmail("bob@example.com").build();
+        this.contacts.setContacts(List.of(alice, bob));
+        ContactSearchIndex index = this.contacts.getSearchIndex();
+
+        Assertions.assertEquals(Set.of(alice), index.findCandidates(ContactSearchIndex.Field.PHONE, "4351").get());
+        Assertions.assertEquals(Set.of(alice, bob),
+                index.findCandidates(ContactSearchIndex.Field.EMAIL, "example").get());
+        Assertions.assertEquals(Set.of(), index.findCandidates(ContactSearchIndex.Field.EMAIL, "alice1").get());
+        Assertions.assertEquals(Set.of(), index.findCandidates(ContactSearchIndex.Field.NAME, "example").get());
+    }
+
+    @Test
+    public void findCandidates_listChanged_indexFollows() {
+        Contact alice = new ContactBuilder().withId("alice").withName("Alice").build();
+        Contact editedAlice = new ContactBuilder(alice).withName("Alicia").build();
+        this.contacts.add(alice);
+        ContactSearchIndex index = this.contacts.getSearchIndex();
+        Assertions.assertEquals(Set.of(alice), index.findCandidates(ContactSearchIndex.Field.NAME, "alice").get());
+
+        this.contacts.setContact(alice, editedAlice);
+        Assertions.assertEquals(Set.of(), index.findCandidates(ContactSearchIndex.Field.NAME, "alice").get());
+        Assertions.assertEquals(Set.of(editedAlice),
+                index.findCandidates(ContactSearchIndex.Field.NAME, "alicia").get());
+
+        this.contacts.remove(editedAlice);
+        Assertions.assertEquals(Set.of(), index.findCandidates(ContactSearchIndex.Field.NAME, "ali").get());
+    }
+
+    @Test
+    public void findWithAllTags_intersectsTaggedContacts() {
+        Contact alice = new ContactBuilder().withId("alice").withName("Alice").withTags("friends", "owesMoney").build();
+        Contact bob = new ContactBuilder().withId("bob").withName("Bob").withTags("Friends").build();
+        Contact carl = new ContactBuilder().withId("carl").withName("Carl").withTags().build();
+        this.contacts.setContacts(List.of(alice, bob, carl));
+        ContactSearchIndex index = this.contacts.getSearchIndex();
+
+        Assertions.assertEquals(Set.of(alice, bob), index.findWithAllTags(Set.of(Tag.of("FRIENDS"))));
+        Assertions.assertEquals(Set.of(alice), index.findWithAllTags(Set.of(Tag.of("friends"), Tag.of("owesMoney"))));
+        Assertions.assertEquals(Set.of(), index.findWithAllTags(Set.of(Tag.of("friends"), Tag.of("family"))));
+
+        this.contacts.setContact(bob, new ContactBuilder(bob).withTags("family").build());
+        Assertions.assertEquals(Set.of(alice), index.findWithAllTags(Set.of(Tag.of("friends"))));
+    }
+
+    @Test
+    public void filter_matchesSameContactsAsPredicate() {
+        this.contacts.setContacts(TypicalContacts.getTypicalContacts());
+        ContactSearchIndex index = this.contacts.getSearchIndex();
+
+        for (String searchString : List.of("e", "ali", "ell", "meier", "ar ", "zzz")) {
+            ContactNameContainsKeywordsPredicate predicate = new ContactNameContainsKeywordsPredicate(searchString);
+            Predicate<Contact> filter = index.filter(predicate);
+            for (Contact contact : this.contacts) {
+                Assertions.assertEquals(predicate.test(contact), filter.test(contact), searchString + " " + contact);
+            }
+        }
+    }
+
+    @Test
+    public void filter_contactAddedAfterFilterCreated_matchesNewContact() {
+        this.contacts.setContacts(TypicalContacts.getTypicalContacts());
+        Predicate<Contact> filter = this.contacts.getSearchIndex()
+                .filter(new ContactNameContainsKeywordsPredicate("zed"));
+        Contact zed = new ContactBuilder().withId("zed").withName("Zed Tan").build();
+        Assertions.assertFalse(filter.test(zed));
+
+        this.contacts.add(zed);
+        Assertions.assertTrue(filter.test(zed));
+    }
+}
@@ -1,5 +1,6 @@
 package cpp.model.contact;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
@@ -13,6 +14,7 @@ import cpp.model.contact.exceptions.DuplicateContactException;
 import cpp.testutil.Assert;
 import cpp.testutil.ContactBuilder;
 import cpp.testutil.TypicalContacts;
+import javafx.collections.ListChangeListener;
 
 public class UniqueContactListTest {
 
@@ -45,6 +47,72 @@ public class UniqueContactListTest {
         Assertions.assertTrue(this.uniqueContactList.contains(editedAlice));
     }
 
+    @Test
+    public void contains_contactRemovedFromList_returnsFalse() {
+        this.uniqueContactList.add(TypicalContacts.ALICE);
+        this.uniqueContactList.remove(TypicalContacts.ALICE);
+        Assertions.assertFalse(this.uniqueContactList.contains(TypicalContacts.ALICE));
+    }
+
+    @Test
+    public void containsId_nullId_throwsNullPointerException() {
+        Assert.assertThrows(NullPointerException.class, () -> this.uniqueContactList.containsId(null));
+    }
+
+    @Test
+    public void containsId_tracksAddSetAndRemove() {
+        Assertions.assertFalse(this.uniqueContactList.containsId(TypicalContacts.ALICE.getId()));
+        this.uniqueContactList.add(TypicalContacts.ALICE);
+        Assertions.assertTrue(this.uniqueContactList.containsId(TypicalContacts.ALICE.getId()));
+
+        this.uniqueContactList.setContact(TypicalContacts.ALICE, TypicalContacts.BOB);
+        Assertions.assertFalse(this.uniqueContactList.containsId(TypicalContacts.ALICE.getId()));
+        Assertions.assertTrue(this.uniqueContactList.containsId(TypicalContacts.BOB.getId()));
+
+        this.uniqueContactList.remove(TypicalContacts.BOB);
+        Assertions.assertFalse(this.uniqueContactList.containsId(TypicalContacts.BOB.getId()));
+    }
+
+    @Test
+    public void containsId_afterSetContacts_reflectsReplacement() {
+        this.uniqueContactList.add(TypicalContacts.ALICE);
+        this.uniqueContactList.setContacts(Collections.singletonList(TypicalContacts.BOB));
+        Assertions.assertFalse(this.uniqueContactList.containsId(TypicalContacts.ALICE.getId()));
+        Assertions.assertTrue(this.uniqueContactList.containsId(TypicalContacts.BOB.getId()));
+    }
+
+    @Test
+    public void findById_tracksAddSetAndRemove() {
+        Assertions.assertNull(this.uniqueContactList.findById(TypicalContacts.ALICE.getId()));
+        this.uniqueContactList.add(TypicalContacts.ALICE);
+        Assertions.assertSame(TypicalContacts.ALICE, this.uniqueContactList.findById(TypicalContacts.ALICE.getId()));
+
+        Contact editedAlice = new ContactBuilder(TypicalContacts.ALICE).withAddress(CommandTestUtil.VALID_ADDRESS_BOB)
+                .build();
+        this.uniqueContactList.setContact(TypicalContacts.ALICE, editedAlice);
+        Assertions.assertSame(editedAlice, this.uniqueContactList.findById(TypicalContacts.ALICE.getId()));
+
+        this.uniqueContactList.remove(editedAlice);
+        Assertions.assertNull(this.uniqueContactList.findById(TypicalContacts.ALICE.getId()));
+    }
+
+    @Test
+    public void containsMultipleContactsWithName_tracksSameNameWithDifferentTags() {
+        Contact aliceWithTag = new ContactBuilder(TypicalContacts.ALICE).withId("alice-tagged")
+                .withTags(CommandTestUtil.VALID_TAG_HUSBAND).build();
+        Contact aliceWithoutTag = new ContactBuilder(TypicalContacts.ALICE).withId("alice-untagged")
+                .withTags().build();
+        ContactName name = TypicalContacts.ALICE.getName();
+        this.uniqueContactList.add(aliceWithTag);
+        Assertions.assertFalse(this.uniqueContactList.containsMultipleContactsWithName(name));
+
+        this.uniqueContactList.add(aliceWithoutTag);
+        Assertions.assertTrue(this.uniqueContactList.containsMultipleContactsWithName(name));
+
+        this.uniqueContactList.remove(aliceWithoutTag);
+        Assertions.assertFalse(this.uniqueContactList.containsMultipleContactsWithName(name));
+    }
+
     @Test
     public void add_nullContact_throwsNullPointerException() {
         Assert.assertThrows(NullPointerException.class, () -> this.uniqueContactList.add(null));
@@ -56,6 +124,13 @@ public class UniqueContactListTest {
         Assert.assertThrows(DuplicateContactException.class, () -> this.uniqueContactList.add(TypicalContacts.ALICE));
     }
 
+    @Test
+    public void add_contactWithSameId_throwsDuplicateContactException() {
+        this.uniqueContactList.add(TypicalContacts.ALICE);
+        Contact bobWithAliceId = new ContactBuilder(TypicalContacts.BOB).withId(TypicalContacts.ALICE.getId()).build();
+        Assert.assertThrows(DuplicateContactException.class, () -> this.uniqueContactList.add(bobWithAliceId));
+    }
+
     @Test
     public void setContact_nullTargetContact_throwsNullPointerException() {
         Assert.assertThrows(NullPointerException.class,
@@ -167,6 +242,24 @@ public class UniqueContactListTest {
                 () -> this.uniqueContactList.setContacts(listWithDuplicateContacts));
     }
 
+    @Test
+    public void setContacts_listWithDuplicateIds_throwsDuplicateContactException() {
+        Contact bobWithAliceId = new ContactBuilder(TypicalContacts.BOB).withId(TypicalContacts.ALICE.getId()).build();
+        List<Contact> listWithDuplicateIds = Arrays.asList(TypicalContacts.ALICE, bobWithAliceId);
+        Assert.assertThrows(DuplicateContactException.class,
+                () -> this.uniqueContactList.setContacts(listWithDuplicateIds));
+    }
+
+    @Test
+    public void remove_listenerSeesUpdatedIndexes() {
+        this.uniqueContactList.add(TypicalContacts.ALICE);
+        List<Boolean> containsIdDuringChange = new ArrayList<>();
+        this.uniqueContactList.asUnmodifiableObservableList().addListener((ListChangeListener<Contact>) change ->
+                containsIdDuringChange.add(this.uniqueContactList.containsId(TypicalContacts.ALICE.getId())));
+        this.uniqueContactList.remove(TypicalContacts.ALICE);
+        Assertions.assertEquals(List.of(false), containsIdDuringChange);
+    }
+
     @Test
     public void asUnmodifiableObservableList_modifyList_throwsUnsupportedOperationException() {
         Assert.assertThrows(UnsupportedOperationException.class,
@@ -40,4 +40,18 @@ public class TagTest {
         Assertions.assertEquals(lowerCaseTag.hashCode(), mixedCaseTag.hashCode());
     }
 
+    @Test
+    public void of_sameTagName_returnsSameInstance() {
+        Assertions.assertSame(Tag.of("friend"), Tag.of("friend"));
+        Assert.assertThrows(IllegalArgumentException.class, () -> Tag.of("not valid"));
+    }
+
+    @Test
+    public void of_differentCase_returnsFirstSeenInstance() {
+        Tag firstSeen = Tag.of("ofDifferentCaseTag");
+
+        Assertions.assertSame(firstSeen, Tag.of("OFDIFFERENTCASETAG"));
+        Assertions.assertEquals("ofDifferentCaseTag", Tag.of("ofdifferentcasetag").tagName);
+    }
+
 }
@@ -0,0 +1,42 @@
+package cpp.model.util;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import cpp.model.AddressBook;
+import cpp.model.classgroup.ClassGroup;
+import cpp.testutil.AddressBookBuilder;
+import cpp.testutil.ClassGroupBuilder;
+import cpp.testutil.TypicalContacts;
+
+public class ClassGroupUtilTest {
+
+    @Test
+    public void getContactsInClassGroup_resolvesMembersById() {
+        AddressBook addressBook = new AddressBookBuilder().withContact(TypicalContacts.ALICE)
+                .withContact(TypicalContacts.BOB).build();
+        ClassGroup classGroup = new ClassGroupBuilder().withContactIds(TypicalContacts.BOB.getId()).build();
+
+        Assertions.assertEquals(List.of(TypicalContacts.BOB),
+                ClassGroupUtil.getContactsInClassGroup(addressBook, classGroup));
+    }
+
+    @Test
+    public void getContactsInClassGroup_unknownContactId_skipsId() {
+        AddressBook addressBook = new AddressBookBuilder().withContact(TypicalContacts.ALICE).build();
+        ClassGroup classGroup = new ClassGroupBuilder()
+                .withContactIds(TypicalContacts.ALICE.getId(), "missing-id").build();
+
+        Assertions.assertEquals(List.of(TypicalContacts.ALICE),
+                ClassGroupUtil.getContactsInClassGroup(addressBook, classGroup));
+    }
+
+    @Test
+    public void getContactsInClassGroup_emptyClassGroup_returnsEmptyList() {
+        AddressBook addressBook = new AddressBookBuilder().withContact(TypicalContacts.ALICE).build();
+        Assertions.assertTrue(ClassGroupUtil.getContactsInClassGroup(addressBook,
+                new ClassGroupBuilder().withContactIds().build()).isEmpty());
+    }
+}
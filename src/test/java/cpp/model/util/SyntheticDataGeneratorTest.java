@@ -0,0 +1,97 @@
+package cpp.model.util;
+
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import cpp.model.AddressBook;
+import cpp.model.assignment.ContactAssignment;
+import cpp.model.classgroup.ClassGroup;
+import cpp.storage.JsonAddressBookStorage;
+
+public class SyntheticDataGeneratorTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void generate_sameSeed_sameAddressBook() {
+        SyntheticDataGenerator generator = new SyntheticDataGenerator(7).withCounts(30, 5, 3)
+                .withDensities(0.5, 0.5, 0.5);
+        Assertions.assertEquals(generator.generate(), generator.generate());
+        Assertions.assertEquals(generator.generate(), new SyntheticDataGenerator(7).withCounts(30, 5, 3)
+                .withDensities(0.5, 0.5, 0.5).generate());
+        Assertions.assertNotEquals(generator.generate(), new SyntheticDataGenerator(8).withCounts(30, 5, 3)
+                .withDensities(0.5, 0.5, 0.5).generate());
+    }
+
+    @Test
+    public void generate_counts_generatesEveryItem() {
+        AddressBook addressBook = new SyntheticDataGenerator(1).withCounts(40, 6, 4).generate();
+        Assertions.assertEquals(40, addressBook.getContactList().size());
+        Assertions.assertEquals(6, addressBook.getAssignmentList().size());
+        Assertions.assertEquals(4, addressBook.getClassGroupList().size());
+
+        int classGroupMembers = 0;
+        for (ClassGroup classGroup : addressBook.getClassGroupList()) {
+            classGroupMembers += classGroup.getContactIdSet().size();
+        }
+        Assertions.assertEquals(40, classGroupMembers);
+    }
+
+    @Test
+    public void generate_noCounts_emptyAddressBook() {
+        Assertions.assertEquals(new AddressBook(), new SyntheticDataGenerator(1).generate());
+    }
+
+    @Test
+    public void generate_fullDensities_everyPairGraded() {
+        AddressBook addressBook = new SyntheticDataGenerator(1).withCounts(10, 4, 2).withDensities(1, 1, 1)
+                .generate();
+        Assertions.assertEquals(40, addressBook.getContactAssignmentList().size());
+        for (ContactAssignment contactAssignment : addressBook.getContactAssignmentList()) {
+            Assertions.assertTrue(contactAssignment.isSubmitted());
+            Assertions.assertTrue(contactAssignment.isGraded());
+        }
+    }
+
+    @Test
+    public void generate_noSubmissions_onlyAllocated() {
+        AddressBook addressBook = new SyntheticDataGenerator(1).withCounts(10, 4, 2).withDensities(1, 0, 1)
+                .generate();
+        Assertions.assertEquals(40, addressBook.getContactAssignmentList().size());
+        for (ContactAssignment contactAssignment : addressBook.getContactAssignmentList()) {
+            Assertions.assertFalse(contactAssignment.isSubmitted());
+            Assertions.assertFalse(contactAssignment.isGraded());
+        }
+
+        Assertions.assertTrue(new SyntheticDataGenerator(1).withCounts(10, 4, 2).withDensities(0, 1, 1)
+                .generate().getContactAssignmentList().isEmpty());
+    }
+
+    @Test
+    public void withCounts_negativeCount_throwsIllegalArgumentException() {
+        Assertions.assertThrows(IllegalArgumentException.class, () ->
+                new SyntheticDataGenerator(1).withCounts(-1, 0, 0));
+    }
+
+    @Test
+    public void withDensities_outOfRange_throwsIllegalArgumentException() {
+        Assertions.assertThrows(IllegalArgumentException.class, () ->
+                new SyntheticDataGenerator(1).withDensities(1.5, 0, 0));
+        Assertions.assertThrows(IllegalArgumentException.class, () ->
+                new SyntheticDataGenerator(1).withDensities(0, -0.1, 0));
+    }
+
+    @Test
+    public void generate_savedAsJson_readsBackUnchanged() throws Exception {
+        AddressBook addressBook = new SyntheticDataGenerator(3).withCounts(50, 8, 5)
+                .withDensities(0.7, 0.6, 0.5).generate();
+        JsonAddressBookStorage storage = new JsonAddressBookStorage(this.testFolder.resolve("addressbook.json"));
+        storage.saveAddressBook(addressBook);
+
+        Assertions.assertEquals(addressBook, new AddressBook(storage.readAddressBook().get()));
+    }
+}
@@ -0,0 +1,50 @@
+package cpp.model.util;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Function;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import cpp.model.assignment.Assignment;
+import cpp.model.assignment.AssignmentName;
+import cpp.testutil.Assert;
+import cpp.testutil.AssignmentBuilder;
+import cpp.testutil.TypicalAssignments;
+
+public class UniquenessUtilTest {
+
+    @Test
+    public void findDuplicateKeys_nullArguments_throwsNullPointerException() {
+        Assert.assertThrows(NullPointerException.class, () -> UniquenessUtil.findDuplicateKeys(null,
+                Function.identity()));
+        Assert.assertThrows(NullPointerException.class, () -> UniquenessUtil.findDuplicateKeys(
+                Collections.emptyList(), null));
+    }
+
+    @Test
+    public void findDuplicateKeys_uniqueItems_returnsEmptyList() {
+        Assertions.assertEquals(Collections.emptyList(),
+                UniquenessUtil.findDuplicateKeys(Arrays.asList("a", "b", "c"), Function.identity()));
+        Assertions.assertEquals(Collections.emptyList(),
+                UniquenessUtil.findDuplicateKeys(Collections.emptyList(), Function.identity()));
+    }
+
+    @Test
+    public void findDuplicateKeys_multipleDuplicates_reportsEachKeyOnceInOrder() {
+        List<String> items = Arrays.asList("b", "a", "c", "a", "b", "a");
+        Assertions.assertEquals(Arrays.asList("a", "b"),
+                UniquenessUtil.findDuplicateKeys(items, Function.identity()));
+    }
+
+    @Test
+    public void findDuplicateKeys_extractedKey_usesKeyEquality() {
+        Assignment sameName = new AssignmentBuilder(TypicalAssignments.ASSIGNMENT_ONE).withId("other-id").build();
+        List<Assignment> assignments = Arrays.asList(TypicalAssignments.ASSIGNMENT_ONE, sameName,
+                TypicalAssignments.ASSIGNMENT_TWO);
+        List<AssignmentName> duplicates = UniquenessUtil.findDuplicateKeys(assignments, Assignment::getName);
+        Assertions.assertEquals(Collections.singletonList(TypicalAssignments.ASSIGNMENT_ONE.getName()), duplicates);
+    }
+}
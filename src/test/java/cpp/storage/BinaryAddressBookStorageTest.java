@@ -0,0 +1,167 @@
+package cpp.storage;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import cpp.commons.exceptions.DataLoadingException;
+import cpp.commons.util.FileUtil;
+import cpp.logic.parser.ParserUtil;
+import cpp.model.AddressBook;
+import cpp.model.ReadOnlyAddressBook;
+import cpp.model.assignment.ContactAssignment;
+import cpp.testutil.Assert;
+import cpp.testutil.TypicalAssignments;
+import cpp.testutil.TypicalClassGroups;
+import cpp.testutil.TypicalContacts;
+
+public class BinaryAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void readAddressBook_nullFilePath_throwsNullPointerException() {
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(this.testFolder.resolve("addressbook.bin"));
+        Assert.assertThrows(NullPointerException.class, () -> storage.readAddressBook(null));
+    }
+
+    @Test
+    public void read_missingFile_emptyResult() throws Exception {
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(this.testFolder.resolve("missing.bin"));
+        Assertions.assertFalse(storage.readAddressBook().isPresent());
+    }
+
+    @Test
+    public void readAndSaveAddressBook_allInOrder_success() throws Exception {
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(this.testFolder.resolve("addressbook.bin"));
+        AddressBook original = BinaryAddressBookStorageTest.getAddressBookWithEverything();
+
+        storage.saveAddressBook(original);
+        ReadOnlyAddressBook readBack = storage.readAddressBook().get();
+        Assertions.assertEquals(original, readBack);
+        ContactAssignment expected = original.getContactAssignmentList().get(0);
+        ContactAssignment actual = readBack.getContactAssignmentList().get(0);
+        Assertions.assertEquals(expected.getSubmissionDate(), actual.getSubmissionDate());
+        Assertions.assertEquals(expected.getGradingDate(), actual.getGradingDate());
+        Assertions.assertEquals(expected.getScore(), actual.getScore());
+
+        // Modify data, overwrite exiting file, and read back
+        original.removeContact(TypicalContacts.CARL);
+        storage.saveAddressBook(original);
+        Assertions.assertEquals(original, storage.readAddressBook().get());
+    }
+
+    @Test
+    public void saveAddressBook_smallerThanJson() throws Exception {
+        AddressBook addressBook = BinaryAddressBookStorageTest.getAddressBookWithEverything();
+        Path binaryPath = this.testFolder.resolve("addressbook.bin");
+        Path jsonPath = this.testFolder.resolve("addressbook.json");
+
+        new BinaryAddressBookStorage(binaryPath).saveAddressBook(addressBook);
+        new JsonAddressBookStorage(jsonPath).saveAddressBook(addressBook);
+
+        Assertions.assertTrue(Files.size(binaryPath) < Files.size(jsonPath));
+    }
+
+    @Test
+    public void readAddressBook_timeZoneChanged_sameInstantsAsJson() throws Exception {
+        Path binaryPath = this.testFolder.resolve("addressbook.bin");
+        Path jsonPath = this.testFolder.resolve("addressbook.json");
+        AddressBook original = BinaryAddressBookStorageTest.getAddressBookWithEverything();
+        ZoneId zone = ParserUtil.getDefaultZone();
+        try {
+            ParserUtil.setDefaultZone(ZoneOffset.ofHours(8));
+            new BinaryAddressBookStorage(binaryPath).saveAddressBook(original);
+            new JsonAddressBookStorage(jsonPath).saveAddressBook(original);
+            ParserUtil.setDefaultZone(ZoneOffset.ofHours(-5));
+
+            ReadOnlyAddressBook readBack = new BinaryAddressBookStorage(binaryPath).readAddressBook().get();
+            Assertions.assertEquals(new JsonAddressBookStorage(jsonPath).readAddressBook().get(), readBack);
+            Assertions.assertEquals(original.getContactAssignmentList().get(0).getSubmissionDate().minusHours(13),
+                    readBack.getContactAssignmentList().get(0).getSubmissionDate());
+        } finally {
+            ParserUtil.setDefaultZone(zone);
+        }
+    }
+
+    @Test
+    public void read_futureSubmissionDate_throwsDataLoadingException() throws Exception {
+        Path filePath = this.testFolder.resolve("addressbook.bin");
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(filePath);
+        AddressBook addressBook = TypicalContacts.getTypicalAddressBook();
+        LocalDateTime tomorrow = LocalDateTime.now(ParserUtil.getDefaultZone()).plusDays(1);
+        addressBook.addContactAssignment(new ContactAssignment(TypicalAssignments.ASSIGNMENT_ONE.getId(),
+                TypicalContacts.ALICE.getId(), true, tomorrow, false, null, 0));
+        storage.saveAddressBook(addressBook);
+
+        Assert.assertThrows(DataLoadingException.class, () -> storage.readAddressBook());
+    }
+
+    @Test
+    public void readAddressBook_jsonFile_migratesToBinary() throws Exception {
+        Path filePath = this.testFolder.resolve("addressbook.json");
+        AddressBook original = BinaryAddressBookStorageTest.getAddressBookWithEverything();
+        JournaledAddressBookStorage jsonStorage = new JournaledAddressBookStorage(filePath);
+        jsonStorage.saveAddressBook(original);
+        original.removeContact(TypicalContacts.CARL);
+        jsonStorage.saveAddressBook(original);
+        Assertions.assertTrue(Files.exists(AddressBookJournal.getJournalPath(filePath)));
+
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(filePath);
+        Assertions.assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+        Assertions.assertTrue(BinaryAddressBookFormat.isBinary(filePath));
+        Assertions.assertFalse(Files.exists(AddressBookJournal.getJournalPath(filePath)));
+        Assertions.assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+    }
+
+    @Test
+    public void read_notAddressBook_throwsDataLoadingException() throws Exception {
+        Path filePath = this.testFolder.resolve("addressbook.bin");
+        FileUtil.writeToFile(filePath, "not an address book");
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(filePath);
+        Assert.assertThrows(DataLoadingException.class, () -> storage.readAddressBook());
+        Assertions.assertEquals("not an address book", FileUtil.readFromFile(filePath));
+    }
+
+    @Test
+    public void read_truncatedFile_throwsDataLoadingException() throws Exception {
+        Path filePath = this.testFolder.resolve("addressbook.bin");
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(filePath);
+        storage.saveAddressBook(TypicalContacts.getTypicalAddressBook());
+
+        byte[] bytes = Files.readAllBytes(filePath);
+        Files.write(filePath, Arrays.copyOf(bytes, bytes.length / 2));
+        Assert.assertThrows(DataLoadingException.class, () -> storage.readAddressBook());
+    }
+
+    @Test
+    public void read_unknownContactReference_throwsDataLoadingException() throws Exception {
+        Path filePath = this.testFolder.resolve("addressbook.bin");
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(filePath);
+        AddressBook addressBook = TypicalContacts.getTypicalAddressBook();
+        addressBook.addContactAssignment(new ContactAssignment(TypicalAssignments.ASSIGNMENT_ONE.getId(),
+                "no-such-contact"));
+        storage.saveAddressBook(addressBook);
+
+        Assert.assertThrows(DataLoadingException.class, () -> storage.readAddressBook());
+    }
+
+    private static AddressBook getAddressBookWithEverything() {
+        AddressBook addressBook = TypicalContacts.getTypicalAddressBook();
+        LocalDateTime submissionDate = LocalDateTime.of(2025, 3, 1, 12, 30);
+        addressBook.addContactAssignment(new ContactAssignment(TypicalAssignments.ASSIGNMENT_ONE.getId(),
+                TypicalContacts.ALICE.getId(), true, submissionDate, true, submissionDate.plusDays(2), 87.5f));
+        addressBook.addContactAssignment(new ContactAssignment(TypicalAssignments.ASSIGNMENT_ONE.getId(),
+                TypicalContacts.BENSON.getId()));
+        addressBook.addClassGroup(TypicalClassGroups.CLASS_GROUP_THREE);
+        return addressBook;
+    }
+}
@@ -0,0 +1,272 @@
+package cpp.storage;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import cpp.commons.exceptions.DataLoadingException;
+import cpp.commons.util.FileUtil;
+import cpp.model.AddressBook;
+import cpp.model.AddressBookSnapshot;
+import cpp.model.ReadOnlyAddressBook;
+import cpp.model.assignment.ContactAssignment;
+import cpp.testutil.Assert;
+import cpp.testutil.TypicalAssignments;
+import cpp.testutil.TypicalContacts;
+
+public class JournaledAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private Path filePath;
+    private Path journalPath;
+
+    @BeforeEach
+    public void setUp() {
+        this.filePath = this.testFolder.resolve("TempAddressBook.json");
+        this.journalPath = AddressBookJournal.getJournalPath(this.filePath);
+    }
+
+    @Test
+    public void readAddressBook_missingFile_emptyResult() throws Exception {
+        Assertions.assertFalse(new JournaledAddressBookStorage(this.filePath).readAddressBook().isPresent());
+    }
+
+    @Test
+    public void saveAddressBook_firstSave_writesSnapshotOnly() throws Exception {
+        AddressBook original = TypicalContacts.getTypicalAddressBook();
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(this.filePath);
+
+        storage.saveAddressBook(original);
+
+        Assertions.assertTrue(Files.exists(this.filePath));
+        Assertions.assertFalse(Files.exists(this.journalPath));
+        Assertions.assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_changes_appendedToJournal() throws Exception {
+        AddressBook original = TypicalContacts.getTypicalAddressBook();
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(this.filePath);
+        storage.saveAddressBook(original);
+        String snapshot = FileUtil.readFromFile(this.filePath);
+
+        original.addContact(TypicalContacts.HOON);
+        original.removeContact(TypicalContacts.ALICE);
+        ContactAssignment contactAssignment = new ContactAssignment(TypicalAssignments.ASSIGNMENT_ONE.getId(),
+                TypicalContacts.BENSON.getId());
+        original.addContactAssignment(contactAssignment);
+        storage.saveAddressBook(original);
+
+        contactAssignment.markSubmitted(LocalDateTime.of(2025, 1, 1, 10, 0));
+        storage.saveAddressBook(original);
+
+        Assertions.assertEquals(snapshot, FileUtil.readFromFile(this.filePath));
+        Assertions.assertEquals(2, Files.readAllLines(this.journalPath).size());
+
+        ReadOnlyAddressBook readBack = new JournaledAddressBookStorage(this.filePath).readAddressBook().get();
+        Assertions.assertEquals(original, new AddressBook(readBack));
+        Assertions.assertTrue(readBack.getContactAssignmentList().get(0).isSubmitted());
+    }
+
+    @Test
+    public void saveAddressBook_noChanges_journalNotWritten() throws Exception {
+        AddressBook original = TypicalContacts.getTypicalAddressBook();
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(this.filePath);
+        storage.saveAddressBook(original);
+
+        storage.saveAddressBook(original);
+        storage.saveAddressBook(new AddressBook(original));
+
+        Assertions.assertFalse(Files.exists(this.journalPath));
+    }
+
+    @Test
+    public void saveAddressBook_snapshots_journalsOnlyModifiedRows() throws Exception {
+        AddressBook original = TypicalContacts.getTypicalAddressBook();
+        ContactAssignment contactAssignment = new ContactAssignment(TypicalAssignments.ASSIGNMENT_ONE.getId(),
+                TypicalContacts.BENSON.getId());
+        original.addContactAssignment(contactAssignment);
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(this.filePath);
+        storage.saveAddressBook(new AddressBookSnapshot(original));
+
+        storage.saveAddressBook(new AddressBookSnapshot(original));
+        Assertions.assertFalse(Files.exists(this.journalPath));
+
+        contactAssignment.markSubmitted(LocalDateTime.of(2025, 1, 1, 10, 0));
+        storage.saveAddressBook(new AddressBookSnapshot(original));
+        Assertions.assertEquals(1, Files.readAllLines(this.journalPath).size());
+        Assertions.assertTrue(new JournaledAddressBookStorage(this.filePath).readAddressBook().get()
+                .getContactAssignmentList().get(0).isSubmitted());
+    }
+
+    @Test
+    public void saveAddressBook_reorderedEntities_writesSnapshot() throws Exception {
+        AddressBook original = TypicalContacts.getTypicalAddressBook();
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(this.filePath);
+        storage.saveAddressBook(original);
+        original.addContact(TypicalContacts.HOON);
+        storage.saveAddressBook(original);
+        Assertions.assertTrue(Files.exists(this.journalPath));
+
+        AddressBook reordered = new AddressBook();
+        reordered.addContact(TypicalContacts.BENSON);
+        reordered.addContact(TypicalContacts.ALICE);
+        storage.saveAddressBook(reordered);
+
+        Assertions.assertFalse(Files.exists(this.journalPath));
+        Assertions.assertEquals(reordered, new AddressBook(storage.readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_contactAssignmentRemoved_appendedToJournal() throws Exception {
+        AddressBook original = TypicalContacts.getTypicalAddressBook();
+        original.addContactAssignment(new ContactAssignment(TypicalAssignments.ASSIGNMENT_ONE.getId(),
+                TypicalContacts.ALICE.getId()));
+        original.addContactAssignment(new ContactAssignment(TypicalAssignments.ASSIGNMENT_ONE.getId(),
+                TypicalContacts.BENSON.getId()));
+        original.addContactAssignment(new ContactAssignment(TypicalAssignments.ASSIGNMENT_ONE.getId(),
+                TypicalContacts.CARL.getId()));
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(this.filePath);
+        storage.saveAddressBook(original);
+        String snapshot = FileUtil.readFromFile(this.filePath);
+
+        // the last row takes the place of the removed one, which does not need a new snapshot
+        original.removeContactAssignment(original.getContactAssignmentList().get(0));
+        storage.saveAddressBook(original);
+
+        Assertions.assertEquals(snapshot, FileUtil.readFromFile(this.filePath));
+        Assertions.assertEquals(1, Files.readAllLines(this.journalPath).size());
+        Assertions.assertEquals(original,
+                new AddressBook(new JournaledAddressBookStorage(this.filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_crashBeforeJournalsDeleted_journalsSkipped() throws Exception {
+        AddressBook original = TypicalContacts.getTypicalAddressBook();
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(this.filePath) {
+            @Override
+            void discardJournals(Path filePath) throws IOException {
+                throw new IOException("Simulated crash after the snapshot was replaced");
+            }
+        };
+        storage.saveAddressBook(original);
+        original.addContact(TypicalContacts.HOON);
+        storage.saveAddressBook(original);
+
+        AddressBook reordered = new AddressBook();
+        reordered.addContact(TypicalContacts.BENSON);
+        reordered.addContact(TypicalContacts.ALICE);
+        storage.saveAddressBook(reordered);
+        Assertions.assertTrue(Files.exists(this.journalPath));
+
+        JournaledAddressBookStorage restarted = new JournaledAddressBookStorage(this.filePath);
+        Assertions.assertEquals(reordered, new AddressBook(restarted.readAddressBook().get()));
+        Assertions.assertFalse(Files.exists(this.journalPath));
+
+        reordered.addContact(TypicalContacts.CARL);
+        restarted.saveAddressBook(reordered);
+        Assertions.assertEquals(reordered, new AddressBook(new JournaledAddressBookStorage(this.filePath)
+                .readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_crashDuringCompaction_appliesBothJournals() throws Exception {
+        AddressBook original = TypicalContacts.getTypicalAddressBook();
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(this.filePath);
+        storage.saveAddressBook(original);
+        original.addContact(TypicalContacts.HOON);
+        storage.saveAddressBook(original);
+
+        // The journal is moved aside as a compaction starts, and the compaction never finishes.
+        Files.move(this.journalPath, AddressBookJournal.getCompactingPath(this.filePath));
+        JournaledAddressBookStorage restarted = new JournaledAddressBookStorage(this.filePath);
+        Assertions.assertEquals(original, new AddressBook(restarted.readAddressBook().get()));
+        Assertions.assertFalse(Files.exists(AddressBookJournal.getCompactingPath(this.filePath)));
+
+        original.addContact(TypicalContacts.IDA);
+        restarted.saveAddressBook(original);
+        Assertions.assertEquals(original, new AddressBook(new JournaledAddressBookStorage(this.filePath)
+                .readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_thresholdReached_compactsIntoSnapshot() throws Exception {
+        AddressBook original = TypicalContacts.getTypicalAddressBook();
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(this.filePath, 1);
+        storage.saveAddressBook(original);
+
+        original.addContact(TypicalContacts.HOON);
+        storage.saveAddressBook(original);
+        storage.awaitCompaction();
+
+        Assertions.assertFalse(Files.exists(this.journalPath));
+        Assertions.assertFalse(Files.exists(AddressBookJournal.getCompactingPath(this.filePath)));
+        Assertions.assertEquals(original, new AddressBook(new JsonAddressBookStorage(this.filePath)
+                .readAddressBook().get()));
+
+        original.addContact(TypicalContacts.IDA);
+        storage.saveAddressBook(original);
+        storage.awaitCompaction();
+        Assertions.assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_incompleteLastRecord_ignored() throws Exception {
+        AddressBook original = TypicalContacts.getTypicalAddressBook();
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(this.filePath);
+        storage.saveAddressBook(original);
+        original.addContact(TypicalContacts.HOON);
+        storage.saveAddressBook(original);
+
+        Files.writeString(this.journalPath, "{\"contacts\":[{\"id\"", StandardOpenOption.APPEND);
+
+        Assertions.assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_invalidRecord_throwsDataLoadingException() throws Exception {
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(this.filePath);
+        storage.saveAddressBook(TypicalContacts.getTypicalAddressBook());
+
+        Files.writeString(this.journalPath, "not a record\n");
+
+        Assert.assertThrows(DataLoadingException.class, () -> storage.readAddressBook());
+    }
+
+    @Test
+    public void readAddressBook_binaryFile_migratesToJson() throws Exception {
+        AddressBook original = TypicalContacts.getTypicalAddressBook();
+        new BinaryAddressBookStorage(this.filePath).saveAddressBook(original);
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(this.filePath);
+
+        Assertions.assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+        Assertions.assertFalse(BinaryAddressBookFormat.isBinary(this.filePath));
+        Assertions.assertEquals(original, new AddressBook(JsonAddressBookStream.read(this.filePath).get()));
+
+        original.removeContact(TypicalContacts.ALICE);
+        storage.saveAddressBook(original);
+        Assertions.assertEquals(original,
+                new AddressBook(new JournaledAddressBookStorage(this.filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_otherFile_writesSnapshot() throws Exception {
+        AddressBook original = TypicalContacts.getTypicalAddressBook();
+        Path otherPath = this.testFolder.resolve("Other.json");
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(this.filePath);
+
+        storage.saveAddressBook(original, otherPath);
+
+        Assertions.assertFalse(Files.exists(this.filePath));
+        Assertions.assertEquals(original, new AddressBook(storage.readAddressBook(otherPath).get()));
+    }
+}
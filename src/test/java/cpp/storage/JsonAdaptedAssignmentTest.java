@@ -6,6 +6,7 @@ import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
 import cpp.commons.exceptions.IllegalValueException;
+import cpp.model.assignment.Assignment;
 import cpp.model.assignment.AssignmentName;
 import cpp.testutil.Assert;
 import cpp.testutil.TypicalAssignments;
@@ -67,4 +68,18 @@ public class JsonAdaptedAssignmentTest {
         Assert.assertThrows(IllegalValueException.class, expectedMessage, json::toModelType);
     }
 
+    @Test
+    public void toModelType_archivedAssignment_returnsAssignment() throws Exception {
+        Assignment archived = TypicalAssignments.ASSIGNMENT_ONE.withArchived(true);
+        Assertions.assertEquals(archived, new JsonAdaptedAssignment(archived).toModelType());
+    }
+
+    @Test
+    public void toModelType_invalidArchived_throwsIllegalValueException() {
+        JsonAdaptedAssignment json = new JsonAdaptedAssignment(JsonAdaptedAssignmentTest.VALID_ID,
+                JsonAdaptedAssignmentTest.VALID_NAME, JsonAdaptedAssignmentTest.VALID_DEADLINE, "maybe");
+        String expectedMessage = String.format(JsonAdaptedAssignment.INVALID_ARCHIVED_MESSAGE, "maybe");
+        Assert.assertThrows(IllegalValueException.class, expectedMessage, json::toModelType);
+    }
+
 }
@@ -3,7 +3,6 @@ package cpp.storage;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
-import java.util.List;
 
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
@@ -89,7 +88,7 @@ public class JsonAddressBookStorageTest {
 
         // Modify data, overwrite exiting file, and read back
         original.addContact(TypicalContacts.HOON);
-        original.removeContact(TypicalContacts.ALICE, List.of());
+        original.removeContact(TypicalContacts.ALICE);
         jsonAddressBookStorage.saveAddressBook(original, filePath);
         readBack = jsonAddressBookStorage.readAddressBook(filePath).get();
         Assertions.assertEquals(original, new AddressBook(readBack));
@@ -0,0 +1,216 @@
+package cpp.storage;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import cpp.commons.exceptions.IllegalValueException;
+import cpp.commons.util.FileUtil;
+import cpp.commons.util.JsonUtil;
+import cpp.model.AddressBook;
+import cpp.model.assignment.ContactAssignment;
+import cpp.model.contact.Contact;
+import cpp.model.contact.Phone;
+import cpp.testutil.Assert;
+import cpp.testutil.ContactBuilder;
+import cpp.testutil.TypicalAssignments;
+import cpp.testutil.TypicalClassGroups;
+import cpp.testutil.TypicalContacts;
+
+public class JsonAddressBookStreamTest {
+
+    private static final Path TEST_DATA_FOLDER = Paths.get("src", "test", "data",
+            "JsonSerializableAddressBookTest");
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void read_missingFile_emptyResult() throws Exception {
+        Assertions.assertFalse(JsonAddressBookStream.read(this.testFolder.resolve("missing.json")).isPresent());
+    }
+
+    @Test
+    public void read_sameResultAsJsonSerializableAddressBook() throws Exception {
+        try (Stream<Path> files = Files.list(JsonAddressBookStreamTest.TEST_DATA_FOLDER)) {
+            for (Path file : (Iterable<Path>) files::iterator) {
+                JsonSerializableAddressBook jsonAdapted = JsonUtil.readJsonFile(file,
+                        JsonSerializableAddressBook.class).get();
+                AddressBook expected;
+                try {
+                    expected = jsonAdapted.toModelType();
+                } catch (IllegalValueException e) {
+                    Assert.assertThrows(IllegalValueException.class, e.getMessage(), () ->
+                            JsonAddressBookStream.read(file));
+                    continue;
+                }
+                Assertions.assertEquals(expected, JsonAddressBookStream.read(file).get(), file.toString());
+            }
+        }
+    }
+
+    @Test
+    public void read_referencesBeforeReferencedEntities_success() throws Exception {
+        Path filePath = this.testFolder.resolve("reordered.json");
+        FileUtil.writeToFile(filePath, "{"
+                + "\"classGroups\":[{\"id\":\"class\",\"name\":\"CS2103T\",\"contactIds\":[\"c1\"]}],"
+                + "\"contactAssignments\":[{\"assignmentId\":\"a1\",\"contactId\":\"c1\",\"isSubmitted\":\"false\","
+                + "\"isGraded\":\"false\",\"score\":\"0.0\"}],"
+                + "\"unknown\":{\"ignored\":[1,2]},"
+                + "\"assignments\":[{\"id\":\"a1\",\"name\":\"Assignment One\",\"deadline\":\"01-01-2030 23:59\"}],"
+                + "\"contacts\":[{\"id\":\"c1\",\"name\":\"Alice\",\"phone\":\"94351253\","
+                + "\"email\":\"alice@example.com\",\"address\":\"Jurong West\",\"tags\":[]}]}");
+
+        AddressBook addressBook = JsonAddressBookStream.read(filePath).get();
+
+        Assertions.assertEquals(1, addressBook.getContactAssignmentList().size());
+        Assertions.assertEquals(1, addressBook.getClassGroupsForContact("c1").size());
+    }
+
+    @Test
+    public void read_danglingReferences_sameReportAsJsonSerializableAddressBook() throws Exception {
+        AddressBook addressBook = TypicalContacts.getTypicalAddressBook();
+        addressBook.addContactAssignment(new ContactAssignment("missing-assignment", TypicalContacts.ALICE.getId()));
+        addressBook.addContactAssignment(new ContactAssignment(TypicalAssignments.ASSIGNMENT_ONE.getId(),
+                "missing-contact"));
+        Path filePath = this.testFolder.resolve("dangling.json");
+        JsonUtil.saveJsonFile(new JsonSerializableAddressBook(addressBook), filePath);
+
+        JsonSerializableAddressBook jsonAdapted = JsonUtil.readJsonFile(filePath,
+                JsonSerializableAddressBook.class).get();
+        IllegalValueException expected = Assertions.assertThrows(IllegalValueException.class,
+                jsonAdapted::toModelType);
+        Assert.assertThrows(IllegalValueException.class, expected.getMessage(), () ->
+                JsonAddressBookStream.read(filePath));
+        Assertions.assertTrue(expected.getMessage().contains("missing-assignment"));
+        Assertions.assertTrue(expected.getMessage().contains("missing-contact"));
+    }
+
+    @Test
+    public void read_severalBatches_sameResultAsJsonSerializableAddressBook() throws Exception {
+        List<JsonAdaptedContact> contacts = new ArrayList<>();
+        List<JsonAdaptedContactAssignment> contactAssignments = new ArrayList<>();
+        for (int i = 0; i < JsonAddressBookStream.BATCH_SIZE * 2 + 1; i++) {
+            contacts.add(new JsonAdaptedContact("contact-" + i, "Contact " + i, String.valueOf(80000000 + i),
+                    "contact" + i + "@example.com", "Block " + i, new ArrayList<>()));
+            contactAssignments.add(new JsonAdaptedContactAssignment(new ContactAssignment(
+                    TypicalAssignments.ASSIGNMENT_ONE.getId(), "contact-" + i)));
+        }
+        JsonSerializableAddressBook jsonAdapted = new JsonSerializableAddressBook(contacts,
+                List.of(new JsonAdaptedAssignment(TypicalAssignments.ASSIGNMENT_ONE)), contactAssignments,
+                new ArrayList<>());
+        Path filePath = this.testFolder.resolve("large.json");
+        JsonUtil.saveJsonFile(jsonAdapted, filePath);
+
+        AddressBook expected = jsonAdapted.toModelType();
+        AddressBook actual = JsonAddressBookStream.read(filePath).get();
+        Assertions.assertEquals(expected, actual);
+        Assertions.assertEquals(expected.getContactList(), actual.getContactList());
+        Assertions.assertEquals(expected.getContactAssignmentList(), actual.getContactAssignmentList());
+
+        // The first offending row is reported, even though a later batch has already been read.
+        contacts.set(JsonAddressBookStream.BATCH_SIZE + 1, new JsonAdaptedContact("bad-phone", "Bad Phone", "+65",
+                "bad@example.com", "Address", new ArrayList<>()));
+        contacts.set(contacts.size() - 1, new JsonAdaptedContact("bad-email", "Bad Email", "12345", "not an email",
+                "Address", new ArrayList<>()));
+        JsonUtil.saveJsonFile(new JsonSerializableAddressBook(contacts, new ArrayList<>(), new ArrayList<>(),
+                new ArrayList<>()), filePath);
+        Assert.assertThrows(IllegalValueException.class, Phone.MESSAGE_CONSTRAINTS, () ->
+                JsonAddressBookStream.read(filePath));
+    }
+
+    @Test
+    public void read_notAnObject_throwsIoException() throws Exception {
+        Path filePath = this.testFolder.resolve("array.json");
+        FileUtil.writeToFile(filePath, "[]");
+        Assert.assertThrows(IOException.class, () -> JsonAddressBookStream.read(filePath));
+    }
+
+    @Test
+    public void write_sameOutputAsJsonSerializableAddressBook() throws Exception {
+        AddressBook addressBook = TypicalContacts.getTypicalAddressBook();
+        addressBook.addContactAssignment(new ContactAssignment(TypicalAssignments.ASSIGNMENT_ONE.getId(),
+                TypicalContacts.ALICE.getId()));
+        addressBook.addClassGroup(TypicalClassGroups.CLASS_GROUP_THREE);
+        Path filePath = this.testFolder.resolve("written.json");
+
+        try (OutputStream out = Files.newOutputStream(filePath)) {
+            JsonAddressBookStream.write(addressBook, out);
+        }
+
+        Assertions.assertEquals(JsonUtil.toJsonString(new JsonSerializableAddressBook(addressBook)),
+                FileUtil.readFromFile(filePath));
+        Assertions.assertEquals(addressBook, JsonAddressBookStream.read(filePath).get());
+    }
+
+    @Test
+    public void readGeneration_writtenGeneration_returnsIt() throws Exception {
+        AddressBook addressBook = TypicalContacts.getTypicalAddressBook();
+        Path withGeneration = this.testFolder.resolve("withGeneration.json");
+        Path withoutGeneration = this.testFolder.resolve("withoutGeneration.json");
+        Path compacted = this.testFolder.resolve("compacted.json");
+
+        try (OutputStream out = Files.newOutputStream(withGeneration)) {
+            JsonAddressBookStream.write(addressBook, 42, out);
+        }
+        try (OutputStream out = Files.newOutputStream(withoutGeneration)) {
+            JsonAddressBookStream.write(addressBook, out);
+        }
+        try (OutputStream out = Files.newOutputStream(compacted)) {
+            JsonAddressBookStream.write(withGeneration, JournalChanges.of(Collections.emptyList()), 7, out);
+        }
+
+        Assertions.assertEquals(42, JsonAddressBookStream.readGeneration(withGeneration));
+        Assertions.assertEquals(0, JsonAddressBookStream.readGeneration(withoutGeneration));
+        Assertions.assertEquals(7, JsonAddressBookStream.readGeneration(compacted));
+        Assertions.assertEquals(0, JsonAddressBookStream.readGeneration(this.testFolder.resolve("missing.json")));
+        Assertions.assertEquals(addressBook, JsonAddressBookStream.read(withGeneration).get());
+        Assertions.assertEquals(addressBook, JsonAddressBookStream.read(compacted).get());
+    }
+
+    @Test
+    public void readAndWrite_journalChanges_sameResultAsApplyingRecordsInOrder() throws Exception {
+        AddressBook addressBook = new AddressBook();
+        addressBook.addContact(TypicalContacts.ALICE);
+        addressBook.addContact(TypicalContacts.BENSON);
+        addressBook.addContact(TypicalContacts.CARL);
+        Path filePath = this.testFolder.resolve("snapshot.json");
+        try (OutputStream out = Files.newOutputStream(filePath)) {
+            JsonAddressBookStream.write(addressBook, 1, out);
+        }
+
+        Contact editedBenson = new ContactBuilder(TypicalContacts.BENSON).withPhone("99999999").build();
+        List<JsonAdaptedJournalRecord> records = Arrays.asList(
+                new JsonAdaptedJournalRecord(1, Arrays.asList(new JsonAdaptedContact(editedBenson),
+                        new JsonAdaptedContact(TypicalContacts.HOON)),
+                        Collections.singletonList(TypicalContacts.ALICE.getId()),
+                        null, null, null, null, null, null),
+                new JsonAdaptedJournalRecord(1,
+                        Collections.singletonList(new JsonAdaptedContact(TypicalContacts.ALICE)),
+                        null, null, null, null, null, null, null));
+
+        // changed contacts are replaced in place, new and re-added contacts go to the end
+        List<Contact> expected = Arrays.asList(editedBenson, TypicalContacts.CARL, TypicalContacts.HOON,
+                TypicalContacts.ALICE);
+        Assertions.assertEquals(expected,
+                JsonAddressBookStream.read(filePath, JournalChanges.of(records)).get().getContactList());
+
+        Path compacted = this.testFolder.resolve("compacted.json");
+        try (OutputStream out = Files.newOutputStream(compacted)) {
+            JsonAddressBookStream.write(filePath, JournalChanges.of(records), 2, out);
+        }
+        Assertions.assertEquals(2, JsonAddressBookStream.readGeneration(compacted));
+        Assertions.assertEquals(expected, JsonAddressBookStream.read(compacted).get().getContactList());
+    }
+}
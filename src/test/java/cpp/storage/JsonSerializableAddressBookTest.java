@@ -2,6 +2,8 @@ package cpp.storage;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
 
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
@@ -9,7 +11,9 @@ import org.junit.jupiter.api.Test;
 import cpp.commons.exceptions.IllegalValueException;
 import cpp.commons.util.JsonUtil;
 import cpp.model.AddressBook;
+import cpp.model.assignment.ContactAssignment;
 import cpp.model.contact.Contact;
+import cpp.model.contact.Phone;
 import cpp.testutil.Assert;
 import cpp.testutil.ContactBuilder;
 import cpp.testutil.TypicalAssignments;
@@ -196,4 +200,64 @@ public class JsonSerializableAddressBookTest {
                 JsonSerializableAddressBook.MESSAGE_DUPLICATE_CONTACT_ASSIGNMENT,
                 dataFromFile::toModelType);
     }
+
+    @Test
+    public void toModelType_largeSections_sameResultAsSmallSections() throws Exception {
+        List<JsonAdaptedContact> contacts = JsonSerializableAddressBookTest.getContacts(
+                JsonSerializableAddressBook.PARALLEL_THRESHOLD * 4);
+        List<JsonAdaptedContactAssignment> contactAssignments = new ArrayList<>();
+        for (JsonAdaptedContact contact : contacts) {
+            contactAssignments.add(new JsonAdaptedContactAssignment(new ContactAssignment(
+                    TypicalAssignments.ASSIGNMENT_ONE.getId(), contact.toModelType().getId())));
+        }
+        List<JsonAdaptedAssignment> assignments = List.of(new JsonAdaptedAssignment(TypicalAssignments.ASSIGNMENT_ONE));
+
+        AddressBook expected = new AddressBook();
+        for (JsonAdaptedContact contact : contacts) {
+            expected.addContact(contact.toModelType());
+        }
+        expected.addAssignment(TypicalAssignments.ASSIGNMENT_ONE);
+        for (JsonAdaptedContactAssignment contactAssignment : contactAssignments) {
+            expected.addContactAssignment(contactAssignment.toModelType(expected));
+        }
+
+        AddressBook actual = new JsonSerializableAddressBook(contacts, assignments, contactAssignments,
+                new ArrayList<>()).toModelType();
+        Assertions.assertEquals(expected, actual);
+        Assertions.assertEquals(expected.getContactList(), actual.getContactList());
+    }
+
+    @Test
+    public void toModelType_largeSectionWithSeveralErrors_reportsFirstOffendingRow() throws Exception {
+        List<JsonAdaptedContact> contacts = JsonSerializableAddressBookTest.getContacts(
+                JsonSerializableAddressBook.PARALLEL_THRESHOLD * 4);
+        contacts.set(contacts.size() - 1, new JsonAdaptedContact("last", "Last Contact", "12345", "last@example.com",
+                "Address", new ArrayList<>()));
+        contacts.set(contacts.size() - 2, new JsonAdaptedContact("bad-email", "Bad Email", "12345", "not an email",
+                "Address", new ArrayList<>()));
+        contacts.set(contacts.size() / 2, contacts.get(0));
+        contacts.set(contacts.size() / 3, new JsonAdaptedContact("bad-phone", "Bad Phone", "+65", "bad@example.com",
+                "Address", new ArrayList<>()));
+
+        for (int i = 0; i < 10; i++) {
+            JsonSerializableAddressBook dataFromRows = new JsonSerializableAddressBook(contacts, new ArrayList<>(),
+                    new ArrayList<>(), new ArrayList<>());
+            Assert.assertThrows(IllegalValueException.class, Phone.MESSAGE_CONSTRAINTS, dataFromRows::toModelType);
+        }
+
+        contacts.set(contacts.size() / 3, contacts.get(1));
+        JsonSerializableAddressBook dataFromRows = new JsonSerializableAddressBook(contacts, new ArrayList<>(),
+                new ArrayList<>(), new ArrayList<>());
+        Assert.assertThrows(IllegalValueException.class, JsonSerializableAddressBook.MESSAGE_DUPLICATE_CONTACT,
+                dataFromRows::toModelType);
+    }
+
+    private static List<JsonAdaptedContact> getContacts(int count) {
+        List<JsonAdaptedContact> contacts = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            contacts.add(new JsonAdaptedContact("contact-" + i, "Contact " + i, String.valueOf(80000000 + i),
+                    "contact" + i + "@example.com", "Block " + i, List.of(new JsonAdaptedTag("friends"))));
+        }
+        return contacts;
+    }
 }
@@ -0,0 +1,94 @@
+package cpp.storage;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import cpp.commons.exceptions.IllegalValueException;
+import cpp.model.AddressBook;
+import cpp.model.assignment.ContactAssignment;
+import cpp.testutil.Assert;
+import cpp.testutil.TypicalAssignments;
+import cpp.testutil.TypicalContacts;
+
+public class ReferenceIntegrityReportTest {
+
+    private static final String ASSIGNMENT_ID = TypicalAssignments.ASSIGNMENT_ONE.getId();
+    private static final String CONTACT_ID = TypicalContacts.ALICE.getId();
+
+    @Test
+    public void check_allReferencesResolve_emptyReport() throws Exception {
+        ReferenceIntegrityReport report = ReferenceIntegrityReport.of(TypicalContacts.getTypicalAddressBook());
+
+        Assertions.assertTrue(report.checkContactAssignment(new JsonAdaptedContactAssignment(
+                new ContactAssignment(ReferenceIntegrityReportTest.ASSIGNMENT_ID,
+                        ReferenceIntegrityReportTest.CONTACT_ID))));
+        Assertions.assertTrue(report.checkClassGroup(new JsonAdaptedClassGroup("class", "CS2103T",
+                new String[] { ReferenceIntegrityReportTest.CONTACT_ID, TypicalContacts.BENSON.getId() })));
+        Assertions.assertTrue(report.isEmpty());
+        report.throwIfNotEmpty();
+    }
+
+    @Test
+    public void check_danglingReferences_listsEveryReference() {
+        ReferenceIntegrityReport report = ReferenceIntegrityReport.of(TypicalContacts.getTypicalAddressBook());
+
+        Assertions.assertTrue(report.checkContactAssignment(new JsonAdaptedContactAssignment(
+                new ContactAssignment(ReferenceIntegrityReportTest.ASSIGNMENT_ID,
+                        ReferenceIntegrityReportTest.CONTACT_ID))));
+        Assertions.assertFalse(report.checkContactAssignment(new JsonAdaptedContactAssignment(
+                new ContactAssignment("missing-assignment", "missing-contact"))));
+        Assertions.assertFalse(report.checkClassGroup(new JsonAdaptedClassGroup("class", "CS2103T",
+                new String[] { ReferenceIntegrityReportTest.CONTACT_ID, "missing-member" })));
+
+        List<ReferenceIntegrityReport.DanglingReference> danglingReferences = report.getDanglingReferences();
+        Assertions.assertEquals(3, danglingReferences.size());
+        Assertions.assertEquals("contactAssignments", danglingReferences.get(0).getSection());
+        Assertions.assertEquals(1, danglingReferences.get(0).getRow());
+        Assertions.assertEquals(String.format(JsonAdaptedContactAssignment.INVALID_ASSIGNMENT_ID_MESSAGE,
+                "missing-assignment"), danglingReferences.get(0).getMessage());
+        Assertions.assertEquals(String.format(JsonAdaptedContactAssignment.INVALID_CONTACT_ID_MESSAGE,
+                "missing-contact"), danglingReferences.get(1).getMessage());
+        Assertions.assertEquals("classGroups", danglingReferences.get(2).getSection());
+        Assertions.assertEquals(0, danglingReferences.get(2).getRow());
+        Assertions.assertEquals(String.format(JsonAdaptedContactAssignment.INVALID_CONTACT_ID_MESSAGE,
+                "missing-member"), danglingReferences.get(2).getMessage());
+
+        Assert.assertThrows(IllegalValueException.class, report.getMessage(), report::throwIfNotEmpty);
+    }
+
+    @Test
+    public void check_missingIds_leftToAdapter() {
+        ReferenceIntegrityReport report = ReferenceIntegrityReport.of(new AddressBook());
+
+        Assertions.assertTrue(report.checkContactAssignment(new JsonAdaptedContactAssignment(null, null,
+                "false", null, "false", null, "0")));
+        Assertions.assertTrue(report.checkClassGroup(new JsonAdaptedClassGroup("class", "CS2103T", null)));
+        Assertions.assertTrue(report.isEmpty());
+    }
+
+    @Test
+    public void toModelType_danglingReferences_reportsAllTogether() throws Exception {
+        AddressBook addressBook = TypicalContacts.getTypicalAddressBook();
+        addressBook.addContactAssignment(new ContactAssignment(ReferenceIntegrityReportTest.ASSIGNMENT_ID,
+                "missing-one"));
+        addressBook.addContactAssignment(new ContactAssignment(ReferenceIntegrityReportTest.ASSIGNMENT_ID,
+                ReferenceIntegrityReportTest.CONTACT_ID));
+        addressBook.addContactAssignment(new ContactAssignment(ReferenceIntegrityReportTest.ASSIGNMENT_ID,
+                "missing-two"));
+        JsonSerializableAddressBook jsonAdapted = new JsonSerializableAddressBook(addressBook);
+
+        ReferenceIntegrityReport expected = ReferenceIntegrityReport.of(TypicalContacts.getTypicalAddressBook());
+        jsonAdapted.getContactAssignments().forEach(expected::checkContactAssignment);
+        Assertions.assertEquals(2, expected.getDanglingReferences().size());
+        Assert.assertThrows(IllegalValueException.class, expected.getMessage(), jsonAdapted::toModelType);
+
+        List<JsonAdaptedContactAssignment> resolved = new ArrayList<>(jsonAdapted.getContactAssignments());
+        resolved.removeIf(contactAssignment -> contactAssignment.getContactId().startsWith("missing"));
+        Assertions.assertEquals(1, new JsonSerializableAddressBook(jsonAdapted.getContacts(),
+                jsonAdapted.getAssignments(), resolved, jsonAdapted.getClassGroups()).toModelType()
+                .getContactAssignmentList().size());
+    }
+}
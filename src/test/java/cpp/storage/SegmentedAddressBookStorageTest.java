@@ -0,0 +1,163 @@
+package cpp.storage;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashSet;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import cpp.commons.util.FileUtil;
+import cpp.model.AddressBook;
+import cpp.model.assignment.Assignment;
+import cpp.model.assignment.ContactAssignment;
+import cpp.model.assignment.exceptions.ContactAssignmentsNotLoadedException;
+import cpp.testutil.Assert;
+import cpp.testutil.TypicalAssignments;
+import cpp.testutil.TypicalContacts;
+
+public class SegmentedAddressBookStorageTest {
+
+    private static final Assignment ARCHIVED = TypicalAssignments.ASSIGNMENT_ONE.withArchived(true);
+
+    @TempDir
+    public Path testFolder;
+
+    private Path filePath;
+    private Path segmentPath;
+    private AddressBook addressBook;
+
+    @BeforeEach
+    public void setUp() {
+        this.filePath = this.testFolder.resolve("addressbook.json");
+        this.segmentPath = SegmentedAddressBookStorage.getSegmentDirectory(this.filePath)
+                .resolve(SegmentedAddressBookStorageTest.ARCHIVED.getId() + ".json");
+
+        this.addressBook = TypicalContacts.getTypicalAddressBook();
+        this.addressBook.addAssignment(TypicalAssignments.ASSIGNMENT_TWO);
+        this.addressBook.addContactAssignment(new ContactAssignment(SegmentedAddressBookStorageTest.ARCHIVED.getId(),
+                TypicalContacts.ALICE.getId()));
+        this.addressBook.addContactAssignment(new ContactAssignment(SegmentedAddressBookStorageTest.ARCHIVED.getId(),
+                TypicalContacts.BENSON.getId()));
+        this.addressBook.addContactAssignment(new ContactAssignment(TypicalAssignments.ASSIGNMENT_TWO.getId(),
+                TypicalContacts.ALICE.getId()));
+        this.addressBook.setAssignment(TypicalAssignments.ASSIGNMENT_ONE, SegmentedAddressBookStorageTest.ARCHIVED);
+    }
+
+    @Test
+    public void save_archivedAssignment_rowsMovedToSegment() throws Exception {
+        new SegmentedAddressBookStorage(new JsonAddressBookStorage(this.filePath)).saveAddressBook(this.addressBook);
+
+        Assertions.assertTrue(Files.exists(this.segmentPath));
+        AddressBook mainFile = (AddressBook) new JsonAddressBookStorage(this.filePath).readAddressBook().get();
+        Assertions.assertEquals(1, mainFile.getContactAssignmentList().size());
+        Assertions.assertTrue(mainFile.getContactAssignmentStore()
+                .getByAssignment(SegmentedAddressBookStorageTest.ARCHIVED.getId()).isEmpty());
+    }
+
+    @Test
+    public void read_archivedAssignment_rowsDeferredUntilLooked() throws Exception {
+        SegmentedAddressBookStorage storage = new SegmentedAddressBookStorage(
+                new JsonAddressBookStorage(this.filePath));
+        storage.saveAddressBook(this.addressBook);
+
+        AddressBook readBack = new AddressBook(storage.readAddressBook().get());
+        Assertions.assertEquals(1, readBack.getContactAssignmentList().size());
+        Assertions.assertTrue(readBack.getDeferredContactAssignments()
+                .contains(SegmentedAddressBookStorageTest.ARCHIVED.getId()));
+
+        Assertions.assertEquals(2, readBack.getContactAssignmentStore()
+                .getByAssignment(SegmentedAddressBookStorageTest.ARCHIVED.getId()).size());
+        Assertions.assertTrue(readBack.getDeferredContactAssignments().isEmpty());
+        // loaded rows are appended, so only their contents are compared
+        Assertions.assertEquals(new HashSet<>(this.addressBook.getContactAssignmentList()),
+                new HashSet<>(readBack.getContactAssignmentList()));
+    }
+
+    @Test
+    public void save_notLoaded_segmentKept() throws Exception {
+        SegmentedAddressBookStorage storage = new SegmentedAddressBookStorage(
+                new JsonAddressBookStorage(this.filePath));
+        storage.saveAddressBook(this.addressBook);
+
+        AddressBook readBack = new AddressBook(storage.readAddressBook().get());
+        readBack.removeContact(TypicalContacts.CARL);
+        storage.saveAddressBook(readBack);
+        Assertions.assertTrue(Files.exists(this.segmentPath));
+
+        AddressBook readAgain = new AddressBook(new SegmentedAddressBookStorage(
+                new JsonAddressBookStorage(this.filePath)).readAddressBook().get());
+        Assertions.assertEquals(2, readAgain.getContactAssignmentStore()
+                .getByAssignment(SegmentedAddressBookStorageTest.ARCHIVED.getId()).size());
+    }
+
+    @Test
+    public void read_unreadableSegment_rowsNotChangedAndSegmentKept() throws Exception {
+        SegmentedAddressBookStorage storage = new SegmentedAddressBookStorage(
+                new JsonAddressBookStorage(this.filePath));
+        storage.saveAddressBook(this.addressBook);
+        FileUtil.writeToFile(this.segmentPath, "not a segment");
+
+        AddressBook readBack = new AddressBook(storage.readAddressBook().get());
+        ContactAssignment newRow = new ContactAssignment(SegmentedAddressBookStorageTest.ARCHIVED.getId(),
+                TypicalContacts.CARL.getId());
+        Assert.assertThrows(ContactAssignmentsNotLoadedException.class, () -> readBack.addContactAssignment(newRow));
+        Assert.assertThrows(ContactAssignmentsNotLoadedException.class, () -> readBack.setAssignment(
+                SegmentedAddressBookStorageTest.ARCHIVED, TypicalAssignments.ASSIGNMENT_ONE));
+        Assertions.assertTrue(readBack.findAssignmentById(SegmentedAddressBookStorageTest.ARCHIVED.getId())
+                .isArchived());
+        storage.saveAddressBook(readBack);
+
+        Assertions.assertEquals("not a segment", FileUtil.readFromFile(this.segmentPath));
+    }
+
+    @Test
+    public void read_rowsInDataFileAndSegment_merged() throws Exception {
+        SegmentedAddressBookStorage storage = new SegmentedAddressBookStorage(
+                new JsonAddressBookStorage(this.filePath));
+        storage.saveAddressBook(this.addressBook);
+        // a crash after the segment was written but before the data file was leaves rows in both
+        new JsonAddressBookStorage(this.filePath).saveAddressBook(this.addressBook);
+
+        AddressBook readBack = new AddressBook(storage.readAddressBook().get());
+        Assertions.assertEquals(2, readBack.getContactAssignmentStore()
+                .getByAssignment(SegmentedAddressBookStorageTest.ARCHIVED.getId()).size());
+        storage.saveAddressBook(readBack);
+
+        AddressBook readAgain = new AddressBook(storage.readAddressBook().get());
+        Assertions.assertEquals(2, readAgain.getContactAssignmentStore()
+                .getByAssignment(SegmentedAddressBookStorageTest.ARCHIVED.getId()).size());
+        Assertions.assertEquals(1, new JsonAddressBookStorage(this.filePath).readAddressBook().get()
+                .getContactAssignmentList().size());
+    }
+
+    @Test
+    public void save_unarchived_rowsMovedBackAndSegmentDeleted() throws Exception {
+        SegmentedAddressBookStorage storage = new SegmentedAddressBookStorage(
+                new JsonAddressBookStorage(this.filePath));
+        storage.saveAddressBook(this.addressBook);
+
+        AddressBook readBack = new AddressBook(storage.readAddressBook().get());
+        readBack.setAssignment(SegmentedAddressBookStorageTest.ARCHIVED, TypicalAssignments.ASSIGNMENT_ONE);
+        storage.saveAddressBook(readBack);
+
+        Assertions.assertFalse(Files.exists(this.segmentPath));
+        Assertions.assertEquals(3, new JsonAddressBookStorage(this.filePath).readAddressBook().get()
+                .getContactAssignmentList().size());
+    }
+
+    @Test
+    public void save_deletedAssignment_segmentDeleted() throws Exception {
+        SegmentedAddressBookStorage storage = new SegmentedAddressBookStorage(
+                new JsonAddressBookStorage(this.filePath));
+        storage.saveAddressBook(this.addressBook);
+
+        AddressBook readBack = new AddressBook(storage.readAddressBook().get());
+        readBack.removeAssignment(SegmentedAddressBookStorageTest.ARCHIVED);
+        storage.saveAddressBook(readBack);
+
+        Assertions.assertFalse(Files.exists(this.segmentPath));
+    }
+}
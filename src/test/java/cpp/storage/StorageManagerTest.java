@@ -1,5 +1,6 @@
 package cpp.storage;
 
+import java.io.IOException;
 import java.nio.file.Path;
 
 import org.junit.jupiter.api.Assertions;
@@ -8,6 +9,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
 import cpp.commons.core.GuiSettings;
+import cpp.commons.core.StorageFormat;
 import cpp.model.AddressBook;
 import cpp.model.ReadOnlyAddressBook;
 import cpp.model.UserPrefs;
@@ -62,9 +64,62 @@ public class StorageManagerTest {
         Assertions.assertEquals(original, new AddressBook(retrieved));
     }
 
+    @Test
+    public void saveAddressBook_async_writtenAfterFlush() throws Exception {
+        StorageManager asyncStorageManager = new StorageManager(
+                new JsonAddressBookStorage(this.getTempFilePath("async")),
+                new JsonUserPrefsStorage(this.getTempFilePath("prefs")), true);
+        AddressBook original = TypicalContacts.getTypicalAddressBook();
+
+        asyncStorageManager.saveAddressBook(original);
+        original.addContact(TypicalContacts.HOON);
+        asyncStorageManager.saveAddressBook(original);
+        original.removeContact(TypicalContacts.ALICE);
+        asyncStorageManager.flushAddressBook();
+
+        AddressBook expected = TypicalContacts.getTypicalAddressBook();
+        expected.addContact(TypicalContacts.HOON);
+        Assertions.assertEquals(expected, new AddressBook(asyncStorageManager.readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_asyncFailure_reportedOnce() throws Exception {
+        IOException failure = new IOException("dummy IO exception");
+        JsonAddressBookStorage failingStorage = new JsonAddressBookStorage(this.getTempFilePath("failing")) {
+            @Override
+            public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+                throw failure;
+            }
+        };
+        StorageManager asyncStorageManager = new StorageManager(failingStorage,
+                new JsonUserPrefsStorage(this.getTempFilePath("prefs")), true);
+
+        asyncStorageManager.saveAddressBook(new AddressBook());
+        IOException thrown = Assertions.assertThrows(IOException.class, asyncStorageManager::flushAddressBook);
+        Assertions.assertSame(failure, thrown);
+        asyncStorageManager.flushAddressBook();
+    }
+
     @Test
     public void getAddressBookFilePath() {
         Assertions.assertNotNull(this.storageManager.getAddressBookFilePath());
     }
 
+    @Test
+    public void createAddressBookStorage_chosenFormat_writesThatFormat() throws Exception {
+        AddressBook original = TypicalContacts.getTypicalAddressBook();
+        UserPrefs userPrefs = new UserPrefs();
+        userPrefs.setAddressBookFilePath(this.getTempFilePath("addressbook.json"));
+
+        AddressBookStorage jsonStorage = StorageManager.createAddressBookStorage(userPrefs);
+        jsonStorage.saveAddressBook(original);
+        Assertions.assertEquals(userPrefs.getAddressBookFilePath(), jsonStorage.getAddressBookFilePath());
+        Assertions.assertFalse(BinaryAddressBookFormat.isBinary(userPrefs.getAddressBookFilePath()));
+
+        userPrefs.setAddressBookFormat(StorageFormat.BINARY);
+        AddressBookStorage binaryStorage = StorageManager.createAddressBookStorage(userPrefs);
+        Assertions.assertEquals(original, new AddressBook(binaryStorage.readAddressBook().get()));
+        Assertions.assertTrue(BinaryAddressBookFormat.isBinary(userPrefs.getAddressBookFilePath()));
+    }
+
 }
@@ -16,6 +16,7 @@ public class AssignmentBuilder {
     private String id;
     private AssignmentName name;
     private LocalDateTime deadline;
+    private boolean isArchived;
 
     /**
      * Creates an {@code AssignmentBuilder} with the default details.
@@ -34,6 +35,7 @@ public class AssignmentBuilder {
         this.id = assignmentToCopy.getId();
         this.name = assignmentToCopy.getName();
         this.deadline = assignmentToCopy.getDeadline();
+        this.isArchived = assignmentToCopy.isArchived();
     }
 
     /**
@@ -61,7 +63,15 @@ public class AssignmentBuilder {
         return this;
     }
 
+    /**
+     * Sets whether the {@code Assignment} that we are building is archived.
+     */
+    public AssignmentBuilder withArchived(boolean isArchived) {
+        this.isArchived = isArchived;
+        return this;
+    }
+
     public Assignment build() {
-        return new Assignment(this.id, this.name, this.deadline);
+        return new Assignment(this.id, this.name, this.deadline, this.isArchived);
     }
 }
@@ -174,6 +174,16 @@ public class ModelStub implements Model {
         throw new AssertionError("This method should not be called.");
     }
 
+    @Override
+    public void allocateContactToClassGroup(ClassGroup classGroup, Contact contact) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public void unallocateContactFromClassGroup(ClassGroup classGroup, Contact contact) {
+        throw new AssertionError("This method should not be called.");
+    }
+
     @Override
     public ObservableList<Assignment> getFilteredAssignmentList() {
         throw new AssertionError("This method should not be called.");